@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+plugins {
+    id("com.osmerion.java-base-conventions")
+    id("me.champeau.jmh")
+    java
+}
+
+jmh {
+    jmhVersion = buildDeps.versions.jmh
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+}
+
+dependencies {
+    jmhImplementation(project(":omittable-spring-core"))
+    jmhImplementation(project(":omittable-spring-webflux"))
+    jmhImplementation(project(":omittable-spring-webmvc"))
+
+    jmhImplementation(platform(buildDeps.spring.boot.dependencies))
+    jmhImplementation(buildDeps.spring.boot.starter.test)
+    jmhImplementation(buildDeps.spring.boot.starter.web)
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.convert;
+
+import com.osmerion.omittable.Omittable;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link OmittableConverter#convert(Object, TypeDescriptor, TypeDescriptor)}.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OmittableConverterBenchmark {
+
+    private static final TypeDescriptor OMITTABLE_STRING = omittableOf(ResolvableType.forClass(String.class));
+    private static final TypeDescriptor OMITTABLE_STRING_ARRAY = omittableOf(ResolvableType.forClass(String[].class));
+    private static final TypeDescriptor OMITTABLE_LONG = omittableOf(ResolvableType.forClass(Long.class));
+    private static final TypeDescriptor OMITTABLE_LIST_OF_LONG = omittableOf(ResolvableType.forClassWithGenerics(List.class, Long.class));
+
+    private static TypeDescriptor omittableOf(ResolvableType elementType) {
+        return new TypeDescriptor(ResolvableType.forClassWithGenerics(Omittable.class, elementType), Omittable.class, new Annotation[0]);
+    }
+
+    private OmittableConverter converter;
+
+    private Omittable<String> absent;
+    private Omittable<String> presentNull;
+    private Omittable<String> singleValue;
+    private Omittable<String[]> multiValue;
+
+    @Setup
+    public void setup() {
+        DefaultConversionService conversionService = new DefaultConversionService();
+        this.converter = new OmittableConverter(conversionService);
+        conversionService.addConverter(this.converter);
+
+        this.absent = Omittable.absent();
+        this.presentNull = Omittable.of(null);
+        this.singleValue = Omittable.of("123456789");
+        this.multiValue = Omittable.of(new String[] { "1", "2", "3", "4", "5", "6", "7", "8" });
+    }
+
+    @Benchmark
+    public Object absent() {
+        return this.converter.convert(this.absent, OMITTABLE_STRING, OMITTABLE_LONG);
+    }
+
+    @Benchmark
+    public Object presentNull() {
+        return this.converter.convert(this.presentNull, OMITTABLE_STRING, OMITTABLE_LONG);
+    }
+
+    @Benchmark
+    public Object presentSameType() {
+        return this.converter.convert(this.singleValue, OMITTABLE_STRING, OMITTABLE_STRING);
+    }
+
+    @Benchmark
+    public Object singleValue() {
+        return this.converter.convert(this.singleValue, OMITTABLE_STRING, OMITTABLE_LONG);
+    }
+
+    @Benchmark
+    public Object multiValue() {
+        return this.converter.convert(this.multiValue, OMITTABLE_STRING_ARRAY, OMITTABLE_LIST_OF_LONG);
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.patch;
+
+import com.osmerion.omittable.Omittable;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link OmittablePatchApplier#apply(Object, Object)}.
+ *
+ * <p>The {@code beanWrapper} benchmark applies the same patch reflectively using Spring's property accessors for
+ * comparison.</p>
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OmittablePatchApplierBenchmark {
+
+    public record UserPatch(Omittable<String> name, Omittable<String> email, Omittable<Integer> age, Omittable<String> zip) {}
+
+    public record User(String name, String email, int age, long zip) {}
+
+    public static final class UserEntity {
+
+        private String name;
+        private String email;
+        private int age;
+        private long zip;
+
+        public String getName() { return this.name; }
+        public void setName(String name) { this.name = name; }
+
+        public String getEmail() { return this.email; }
+        public void setEmail(String email) { this.email = email; }
+
+        public int getAge() { return this.age; }
+        public void setAge(int age) { this.age = age; }
+
+        public long getZip() { return this.zip; }
+        public void setZip(long zip) { this.zip = zip; }
+
+    }
+
+    private static final String[] PROPERTY_NAMES = { "name", "email", "age", "zip" };
+
+    private DefaultConversionService conversionService;
+
+    private OmittablePatchApplier applier;
+
+    private UserPatch patch;
+
+    private UserEntity entity;
+
+    private User user;
+
+    @Setup
+    public void setup() {
+        this.conversionService = new DefaultConversionService();
+        this.applier = new OmittablePatchApplier(this.conversionService);
+
+        this.patch = new UserPatch(Omittable.of("Jane"), Omittable.absent(), Omittable.of(42), Omittable.of("12345"));
+        this.entity = new UserEntity();
+        this.user = new User("John", "john@example.com", 41, 54321L);
+    }
+
+    @Benchmark
+    public Object bean() {
+        return this.applier.apply(this.patch, this.entity);
+    }
+
+    @Benchmark
+    public Object record() {
+        return this.applier.apply(this.patch, this.user);
+    }
+
+    @Benchmark
+    public Object beanWrapper() {
+        PropertyAccessor source = PropertyAccessorFactory.forDirectFieldAccess(this.patch);
+        BeanWrapper target = PropertyAccessorFactory.forBeanPropertyAccess(this.entity);
+        target.setConversionService(this.conversionService);
+
+        for (String name : PROPERTY_NAMES) {
+            if (source.getPropertyValue(name) instanceof Omittable.Present<?> present) target.setPropertyValue(name, present.value());
+        }
+
+        return this.entity;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link OmittableRequestParamMethodArgumentResolver#resolveName}.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OmittableRequestParamMethodArgumentResolverBenchmark {
+
+    private OmittableRequestParamMethodArgumentResolver resolver;
+    private MethodParameter parameter;
+
+    private ServletWebRequest absentRequest;
+    private ServletWebRequest emptyValueRequest;
+    private ServletWebRequest singleValueRequest;
+    private ServletWebRequest multiValueRequest;
+    private ServletWebRequest arraySuffixRequest;
+
+    @Setup
+    public void setup() throws Exception {
+        this.resolver = new OmittableRequestParamMethodArgumentResolver();
+        this.parameter = new MethodParameter(Handler.class.getDeclaredMethod("handle", Omittable.class), 0);
+
+        this.absentRequest = new ServletWebRequest(new MockHttpServletRequest());
+
+        MockHttpServletRequest emptyValueRequest = new MockHttpServletRequest();
+        emptyValueRequest.addParameter("userId", "");
+        this.emptyValueRequest = new ServletWebRequest(emptyValueRequest);
+
+        MockHttpServletRequest singleValueRequest = new MockHttpServletRequest();
+        singleValueRequest.addParameter("userId", "123");
+        this.singleValueRequest = new ServletWebRequest(singleValueRequest);
+
+        MockHttpServletRequest multiValueRequest = new MockHttpServletRequest();
+        multiValueRequest.addParameter("userId", "123", "456", "789");
+        this.multiValueRequest = new ServletWebRequest(multiValueRequest);
+
+        MockHttpServletRequest arraySuffixRequest = new MockHttpServletRequest();
+        arraySuffixRequest.addParameter("userId[]", "123", "456", "789");
+        this.arraySuffixRequest = new ServletWebRequest(arraySuffixRequest);
+    }
+
+    @Benchmark
+    public Object absent() {
+        return this.resolver.resolveName("userId", this.parameter, this.absentRequest);
+    }
+
+    @Benchmark
+    public Object emptyValue() {
+        return this.resolver.resolveName("userId", this.parameter, this.emptyValueRequest);
+    }
+
+    @Benchmark
+    public Object singleValue() {
+        return this.resolver.resolveName("userId", this.parameter, this.singleValueRequest);
+    }
+
+    @Benchmark
+    public Object multiValue() {
+        return this.resolver.resolveName("userId", this.parameter, this.multiValueRequest);
+    }
+
+    @Benchmark
+    public Object arraySuffix() {
+        return this.resolver.resolveName("userId", this.parameter, this.arraySuffixRequest);
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Handler {
+        void handle(@RequestParam(name = "userId") Omittable<String> userId) {}
+    }
+
+}
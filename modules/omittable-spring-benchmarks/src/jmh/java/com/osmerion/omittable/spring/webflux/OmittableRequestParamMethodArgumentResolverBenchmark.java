@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link OmittableRequestParamMethodArgumentResolver#resolveNamedValue}.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OmittableRequestParamMethodArgumentResolverBenchmark {
+
+    private OmittableRequestParamMethodArgumentResolver resolver;
+    private MethodParameter parameter;
+
+    private MockServerWebExchange absentExchange;
+    private MockServerWebExchange emptyValueExchange;
+    private MockServerWebExchange singleValueExchange;
+    private MockServerWebExchange multiValueExchange;
+    private MockServerWebExchange arraySuffixExchange;
+
+    @Setup
+    public void setup() throws Exception {
+        this.resolver = new OmittableRequestParamMethodArgumentResolver(null, ReactiveAdapterRegistry.getSharedInstance());
+        this.parameter = new MethodParameter(Handler.class.getDeclaredMethod("handle", Omittable.class), 0);
+
+        this.absentExchange = exchange("/");
+        this.emptyValueExchange = exchange("/?userId=");
+        this.singleValueExchange = exchange("/?userId=123");
+        this.multiValueExchange = exchange("/?userId=123&userId=456&userId=789");
+        this.arraySuffixExchange = exchange("/?userId[]=123&userId[]=456&userId[]=789");
+    }
+
+    private static MockServerWebExchange exchange(String uri) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri).build());
+
+        /* Query parameters are parsed lazily and cached by the request. Keep that out of the measurements. */
+        exchange.getRequest().getQueryParams();
+
+        return exchange;
+    }
+
+    @Benchmark
+    public Object absent() {
+        return this.resolver.resolveNamedValue("userId", this.parameter, this.absentExchange);
+    }
+
+    @Benchmark
+    public Object emptyValue() {
+        return this.resolver.resolveNamedValue("userId", this.parameter, this.emptyValueExchange);
+    }
+
+    @Benchmark
+    public Object singleValue() {
+        return this.resolver.resolveNamedValue("userId", this.parameter, this.singleValueExchange);
+    }
+
+    @Benchmark
+    public Object multiValue() {
+        return this.resolver.resolveNamedValue("userId", this.parameter, this.multiValueExchange);
+    }
+
+    @Benchmark
+    public Object arraySuffix() {
+        return this.resolver.resolveNamedValue("userId", this.parameter, this.arraySuffixExchange);
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Handler {
+        void handle(@RequestParam(name = "userId") Omittable<String> userId) {}
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+plugins {
+    id("com.osmerion.java-base-conventions")
+    id("com.osmerion.maven-publish-conventions")
+    `java-library`
+    `jvm-test-suite`
+}
+
+java {
+    withSourcesJar()
+    withJavadocJar()
+}
+
+testing {
+    suites {
+        named<JvmTestSuite>("test") {
+            useJUnitJupiter()
+
+            dependencies {
+                implementation(project())
+
+                implementation(platform(buildDeps.spring.boot.dependencies))
+                implementation(project(":omittable-spring-webflux"))
+                implementation(project(":omittable-spring-webmvc"))
+                implementation(libs.jackson.core)
+                implementation(libs.micrometer.core)
+                implementation(buildDeps.spring.boot.starter.test)
+                implementation(buildDeps.spring.boot.starter.validation)
+                implementation(buildDeps.spring.boot.starter.web)
+                implementation(buildDeps.spring.boot.starter.webflux)
+            }
+        }
+    }
+}
+
+publishing {
+    publications.register<MavenPublication>("mavenJava") {
+        from(components["java"])
+
+        pom {
+            description = "Spring Boot auto-configuration for Omittable types."
+        }
+    }
+}
+
+dependencies {
+    annotationProcessor(buildDeps.spring.boot.configuration.processor)
+
+    api(project(":omittable-spring-core"))
+    api(libs.spring.boot.autoconfigure)
+
+    compileOnly(project(":omittable-spring-webflux"))
+    compileOnly(project(":omittable-spring-webmvc"))
+    compileOnly(libs.jackson.core)
+    compileOnly(libs.jakarta.validation.api)
+    compileOnly(libs.micrometer.core)
+    compileOnly(libs.spring.boot.http.codec)
+    compileOnly(libs.spring.boot.http.converter)
+    compileOnly(libs.spring.boot.validation)
+    compileOnly(libs.spring.boot.webflux)
+    compileOnly(libs.spring.boot.webmvc)
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.autoconfigure;
+
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.MicrometerOmittableMetrics;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration Auto-configuration} for the components that
+ * are shared by the {@link com.osmerion.omittable.Omittable} integrations.
+ *
+ * <p>A {@link ValueParserRegistry} with the default parsers is registered, unless {@code omittable.value-parsers.enabled}
+ * is {@code false}. If a {@link MeterRegistry} is available, {@link OmittableMetrics} that record to it are registered,
+ * unless {@code omittable.metrics.enabled} is {@code false}.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.micrometer.metrics.autoconfigure.CompositeMeterRegistryAutoConfiguration")
+@EnableConfigurationProperties(OmittableProperties.class)
+public final class OmittableAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    ValueParserRegistry omittableValueParserRegistry(OmittableProperties properties) {
+        return properties.getValueParsers().isEnabled() ? ValueParserRegistry.withDefaults() : new ValueParserRegistry();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnBooleanProperty(name = "omittable.metrics.enabled", matchIfMissing = true)
+    static class MetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        OmittableMetrics omittableMetrics(MeterRegistry registry) {
+            return new MicrometerOmittableMetrics(registry);
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.autoconfigure;
+
+import com.osmerion.omittable.spring.core.convert.OmittableConverter;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.json.OmittableJsonBinder;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionService;
+
+/**
+ * Factory methods for the components that are configured the same way by all auto-configurations.
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+final class OmittableComponents {
+
+    /**
+     * Creates a new {@link OmittableConverter} that converts wrapped values using the given conversion service.
+     *
+     * @param conversionService the conversion service
+     * @param properties        the configuration properties
+     * @param parserRegistry    the registry of parsers
+     * @param metrics           the metrics to record to, if any
+     *
+     * @return  the new converter
+     */
+    static OmittableConverter converter(
+        ConversionService conversionService,
+        OmittableProperties properties,
+        ValueParserRegistry parserRegistry,
+        @Nullable OmittableMetrics metrics
+    ) {
+        OmittableConverter converter = new OmittableConverter(conversionService, parserRegistry, properties.getConverter().getCacheCapacity());
+        converter.setMetrics(metrics);
+
+        return converter;
+    }
+
+    /**
+     * Creates a new {@link OmittableJsonBinder} that converts values using the given conversion service.
+     *
+     * @param conversionService the conversion service
+     * @param properties        the configuration properties
+     * @param parserRegistry    the registry of parsers
+     * @param metrics           the metrics to record to, if any
+     *
+     * @return  the new binder
+     */
+    static OmittableJsonBinder jsonBinder(
+        ConversionService conversionService,
+        OmittableProperties properties,
+        ValueParserRegistry parserRegistry,
+        @Nullable OmittableMetrics metrics
+    ) {
+        return new OmittableJsonBinder(conversionService, converter(conversionService, properties, parserRegistry, metrics));
+    }
+
+    private OmittableComponents() {}
+
+}
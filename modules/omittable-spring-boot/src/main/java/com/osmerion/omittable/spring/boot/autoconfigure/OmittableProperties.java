@@ -0,0 +1,508 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.autoconfigure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the {@link com.osmerion.omittable.Omittable} integration.
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@ConfigurationProperties("omittable")
+public class OmittableProperties {
+
+    private final Converter converter = new Converter();
+
+    private final ValueParsers valueParsers = new ValueParsers();
+
+    private final Json json = new Json();
+
+    private final Metrics metrics = new Metrics();
+
+    private final Validation validation = new Validation();
+
+    private final Web web = new Web();
+
+    private final WebMvc webmvc = new WebMvc();
+
+    private final WebFlux webflux = new WebFlux();
+
+    /**
+     * Returns the properties of the {@code OmittableConverter}.
+     *
+     * @return  the properties of the {@code OmittableConverter}
+     *
+     * @since   2.1.0
+     */
+    public Converter getConverter() {
+        return this.converter;
+    }
+
+    /**
+     * Returns the properties of the value parsers.
+     *
+     * @return  the properties of the value parsers
+     *
+     * @since   2.1.0
+     */
+    public ValueParsers getValueParsers() {
+        return this.valueParsers;
+    }
+
+    /**
+     * Returns the properties of the JSON readers.
+     *
+     * @return  the properties of the JSON readers
+     *
+     * @since   2.1.0
+     */
+    public Json getJson() {
+        return this.json;
+    }
+
+    /**
+     * Returns the properties of the metrics.
+     *
+     * @return  the properties of the metrics
+     *
+     * @since   2.1.0
+     */
+    public Metrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Returns the properties of the Bean Validation integration.
+     *
+     * @return  the properties of the Bean Validation integration
+     *
+     * @since   2.1.0
+     */
+    public Validation getValidation() {
+        return this.validation;
+    }
+
+    /**
+     * Returns the properties of the request parameter resolvers.
+     *
+     * @return  the properties of the request parameter resolvers
+     *
+     * @since   2.1.0
+     */
+    public Web getWeb() {
+        return this.web;
+    }
+
+    /**
+     * Returns the properties specific to Spring Web MVC.
+     *
+     * @return  the properties specific to Spring Web MVC
+     *
+     * @since   2.1.0
+     */
+    public WebMvc getWebmvc() {
+        return this.webmvc;
+    }
+
+    /**
+     * Returns the properties specific to Spring WebFlux.
+     *
+     * @return  the properties specific to Spring WebFlux
+     *
+     * @since   2.1.0
+     */
+    public WebFlux getWebflux() {
+        return this.webflux;
+    }
+
+    /**
+     * Properties of the {@code OmittableConverter}.
+     *
+     * @since   2.1.0
+     */
+    public static class Converter {
+
+        /** The maximum number of target types to cache conversion plans for. */
+        private int cacheCapacity = 256;
+
+        /**
+         * Returns the maximum number of target types to cache conversion plans for.
+         *
+         * @return  the maximum number of target types to cache conversion plans for
+         *
+         * @since   2.1.0
+         */
+        public int getCacheCapacity() {
+            return this.cacheCapacity;
+        }
+
+        /**
+         * Sets the maximum number of target types to cache conversion plans for.
+         *
+         * @param cacheCapacity the maximum number of target types to cache conversion plans for
+         *
+         * @since   2.1.0
+         */
+        public void setCacheCapacity(int cacheCapacity) {
+            this.cacheCapacity = cacheCapacity;
+        }
+
+    }
+
+    /**
+     * Properties of the value parsers.
+     *
+     * @since   2.1.0
+     */
+    public static class ValueParsers {
+
+        /** Whether values of common types are parsed directly instead of being converted by the conversion service. */
+        private boolean enabled = true;
+
+        /**
+         * Returns whether values of common types are parsed directly.
+         *
+         * @return  whether values of common types are parsed directly
+         *
+         * @since   2.1.0
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether values of common types are parsed directly.
+         *
+         * @param enabled   whether values of common types are parsed directly
+         *
+         * @since   2.1.0
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+    }
+
+    /**
+     * Properties of the JSON readers.
+     *
+     * @since   2.1.0
+     */
+    public static class Json {
+
+        /** Whether request bodies with {@code Omittable} properties are read using the streaming JSON binder. */
+        private boolean enabled = true;
+
+        /**
+         * Returns whether request bodies with {@code Omittable} properties are read using the streaming JSON binder.
+         *
+         * @return  whether the streaming JSON binder is used
+         *
+         * @since   2.1.0
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether request bodies with {@code Omittable} properties are read using the streaming JSON binder.
+         *
+         * @param enabled   whether the streaming JSON binder is used
+         *
+         * @since   2.1.0
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+    }
+
+    /**
+     * Properties of the metrics.
+     *
+     * @since   2.1.0
+     */
+    public static class Metrics {
+
+        /** Whether resolutions, conversions, and plan caches are instrumented if a {@code MeterRegistry} is available. */
+        private boolean enabled = true;
+
+        /**
+         * Returns whether resolutions, conversions, and plan caches are instrumented.
+         *
+         * @return  whether metrics are recorded
+         *
+         * @since   2.1.0
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether resolutions, conversions, and plan caches are instrumented.
+         *
+         * @param enabled   whether metrics are recorded
+         *
+         * @since   2.1.0
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+    }
+
+    /**
+     * Properties of the Bean Validation integration.
+     *
+     * @since   2.1.0
+     */
+    public static class Validation {
+
+        /** Whether the {@code Omittable} value extractor is registered with the auto-configured validator. */
+        private boolean enabled = true;
+
+        /**
+         * Returns whether the {@code Omittable} value extractor is registered.
+         *
+         * @return  whether the value extractor is registered
+         *
+         * @since   2.1.0
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether the {@code Omittable} value extractor is registered.
+         *
+         * @param enabled   whether the value extractor is registered
+         *
+         * @since   2.1.0
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+    }
+
+    /**
+     * Properties of the request parameter resolvers.
+     *
+     * @since   2.1.0
+     */
+    public static class Web {
+
+        /** Whether the {@code Omittable} request parameter resolvers are registered ahead of Spring's resolvers. */
+        private boolean enabled = true;
+
+        /** Whether parameter values are converted by the resolvers directly instead of by the data binder. */
+        private boolean directConversion = true;
+
+        /** Whether model attributes with {@code Omittable} properties are bound by the {@code Omittable} binder. */
+        private boolean modelAttributes = true;
+
+        /** Whether {@code Omittable} headers, cookie values, path variables, and matrix variables are resolved. */
+        private boolean namedValues = true;
+
+        /**
+         * Returns whether the {@code Omittable} request parameter resolvers are registered.
+         *
+         * @return  whether the resolvers are registered
+         *
+         * @since   2.1.0
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether the {@code Omittable} request parameter resolvers are registered.
+         *
+         * @param enabled   whether the resolvers are registered
+         *
+         * @since   2.1.0
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Returns whether parameter values are converted by the resolvers directly.
+         *
+         * @return  whether parameter values are converted by the resolvers directly
+         *
+         * @since   2.1.0
+         */
+        public boolean isDirectConversion() {
+            return this.directConversion;
+        }
+
+        /**
+         * Sets whether parameter values are converted by the resolvers directly.
+         *
+         * @param directConversion  whether parameter values are converted by the resolvers directly
+         *
+         * @since   2.1.0
+         */
+        public void setDirectConversion(boolean directConversion) {
+            this.directConversion = directConversion;
+        }
+
+        /**
+         * Returns whether model attributes with {@code Omittable} properties are bound by the {@code Omittable} binder.
+         *
+         * @return  whether model attributes are bound by the {@code Omittable} binder
+         *
+         * @since   2.1.0
+         */
+        public boolean isModelAttributes() {
+            return this.modelAttributes;
+        }
+
+        /**
+         * Sets whether model attributes with {@code Omittable} properties are bound by the {@code Omittable} binder.
+         *
+         * @param modelAttributes   whether model attributes are bound by the {@code Omittable} binder
+         *
+         * @since   2.1.0
+         */
+        public void setModelAttributes(boolean modelAttributes) {
+            this.modelAttributes = modelAttributes;
+        }
+
+        /**
+         * Returns whether {@code Omittable} request headers, cookie values, path variables, and matrix variables are
+         * resolved by the {@code Omittable} resolvers.
+         *
+         * @return  whether the named value resolvers are registered
+         *
+         * @since   2.1.0
+         */
+        public boolean isNamedValues() {
+            return this.namedValues;
+        }
+
+        /**
+         * Sets whether {@code Omittable} request headers, cookie values, path variables, and matrix variables are
+         * resolved by the {@code Omittable} resolvers.
+         *
+         * @param namedValues   whether the named value resolvers are registered
+         *
+         * @since   2.1.0
+         */
+        public void setNamedValues(boolean namedValues) {
+            this.namedValues = namedValues;
+        }
+
+    }
+
+    /**
+     * Properties specific to Spring Web MVC.
+     *
+     * @since   2.1.0
+     */
+    public static class WebMvc {
+
+        /** Whether request parameters are resolved from the URI query string only, without reading form data. */
+        private boolean queryStringOnly;
+
+        /**
+         * Returns whether request parameters are resolved from the URI query string only.
+         *
+         * @return  whether request parameters are resolved from the URI query string only
+         *
+         * @since   2.1.0
+         */
+        public boolean isQueryStringOnly() {
+            return this.queryStringOnly;
+        }
+
+        /**
+         * Sets whether request parameters are resolved from the URI query string only.
+         *
+         * @param queryStringOnly   whether request parameters are resolved from the URI query string only
+         *
+         * @since   2.1.0
+         */
+        public void setQueryStringOnly(boolean queryStringOnly) {
+            this.queryStringOnly = queryStringOnly;
+        }
+
+    }
+
+    /**
+     * Properties specific to Spring WebFlux.
+     *
+     * @since   2.1.0
+     */
+    public static class WebFlux {
+
+        /** Whether request parameters are also resolved from form data and multipart data. */
+        private boolean formData;
+
+        /** Whether lazily resolved, reactive-wrapped {@code Omittable} parameters are supported. */
+        private boolean reactiveParameters = true;
+
+        /**
+         * Returns whether request parameters are also resolved from form data and multipart data.
+         *
+         * @return  whether request parameters are also resolved from form data and multipart data
+         *
+         * @since   2.1.0
+         */
+        public boolean isFormData() {
+            return this.formData;
+        }
+
+        /**
+         * Sets whether request parameters are also resolved from form data and multipart data.
+         *
+         * @param formData  whether request parameters are also resolved from form data and multipart data
+         *
+         * @since   2.1.0
+         */
+        public void setFormData(boolean formData) {
+            this.formData = formData;
+        }
+
+        /**
+         * Returns whether reactive-wrapped {@code Omittable} parameters are supported.
+         *
+         * @return  whether reactive-wrapped {@code Omittable} parameters are supported
+         *
+         * @since   2.1.0
+         */
+        public boolean isReactiveParameters() {
+            return this.reactiveParameters;
+        }
+
+        /**
+         * Sets whether reactive-wrapped {@code Omittable} parameters are supported.
+         *
+         * @param reactiveParameters    whether reactive-wrapped {@code Omittable} parameters are supported
+         *
+         * @since   2.1.0
+         */
+        public void setReactiveParameters(boolean reactiveParameters) {
+            this.reactiveParameters = reactiveParameters;
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.autoconfigure;
+
+import com.osmerion.omittable.spring.core.validation.OmittableValueExtractor;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.validation.autoconfigure.ValidationConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration Auto-configuration} for the
+ * {@link com.osmerion.omittable.Omittable} integration in Bean Validation.
+ *
+ * <p>An {@link OmittableValueExtractor} is registered with the auto-configured validator, unless
+ * {@code omittable.validation.enabled} is {@code false}. Thus, constraints on the type arguments of {@code Omittable}
+ * properties are validated against the wrapped value, and skipped for absent values.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfiguration(
+    after = OmittableAutoConfiguration.class,
+    beforeName = "org.springframework.boot.validation.autoconfigure.ValidationAutoConfiguration"
+)
+@ConditionalOnClass({ Validator.class, ValidationConfigurationCustomizer.class })
+@ConditionalOnBooleanProperty(name = "omittable.validation.enabled", matchIfMissing = true)
+public final class OmittableValidationAutoConfiguration {
+
+    @Bean
+    ValidationConfigurationCustomizer omittableValidationConfigurationCustomizer() {
+        return configuration -> configuration.addValueExtractor(new OmittableValueExtractor());
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.autoconfigure;
+
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import com.osmerion.omittable.spring.webflux.OmittableJsonDecoder;
+import com.osmerion.omittable.spring.webflux.OmittableRequestParamMethodArgumentResolver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.http.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.reactive.DispatcherHandler;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import tools.jackson.core.JsonParser;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration Auto-configuration} for the
+ * {@link com.osmerion.omittable.Omittable} integration in Spring WebFlux.
+ *
+ * <p>The following components are registered:</p>
+ *
+ * <ul>
+ * <li>An {@link com.osmerion.omittable.spring.core.convert.OmittableConverter OmittableConverter} in the WebFlux
+ * conversion service.</li>
+ * <li>An {@link OmittableRequestParamMethodArgumentResolver} (or an
+ * {@link com.osmerion.omittable.spring.webflux.OmittableRequestParamFormDataMethodArgumentResolver
+ * OmittableRequestParamFormDataMethodArgumentResolver} if {@code omittable.webflux.form-data} is {@code true}) that is
+ * consulted ahead of Spring's {@code RequestParamMethodArgumentResolver}, and a
+ * {@link com.osmerion.omittable.spring.webflux.ReactiveOmittableRequestParamMethodArgumentResolver
+ * ReactiveOmittableRequestParamMethodArgumentResolver}, unless {@code omittable.web.enabled} is {@code false}.</li>
+ * <li>{@code Omittable} resolvers for {@code @PathVariable}, {@code @MatrixVariable}, {@code @RequestHeader}, and
+ * {@code @CookieValue} parameters that are consulted ahead of the respective Spring resolvers, unless
+ * {@code omittable.web.enabled} or {@code omittable.web.named-values} is {@code false}.</li>
+ * <li>An {@link com.osmerion.omittable.spring.webflux.OmittableModelAttributeMethodArgumentResolver
+ * OmittableModelAttributeMethodArgumentResolver} that is consulted ahead of Spring's
+ * {@code ModelAttributeMethodArgumentResolver}, unless {@code omittable.web.enabled} or
+ * {@code omittable.web.model-attributes} is {@code false}.</li>
+ * <li>An {@link OmittableJsonDecoder} for request bodies with {@code Omittable} properties if
+ * {@code tools.jackson.core:jackson-core} is on the classpath, unless {@code omittable.json.enabled} is
+ * {@code false}.</li>
+ * </ul>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfiguration(after = OmittableAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass({ DispatcherHandler.class, OmittableRequestParamMethodArgumentResolver.class })
+public final class OmittableWebFluxAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBooleanProperty(name = "omittable.web.enabled", matchIfMissing = true)
+    static OmittableWebFluxResolverPostProcessor omittableWebFluxResolverPostProcessor(
+        ObjectProvider<OmittableProperties> properties,
+        ObjectProvider<ValueParserRegistry> parserRegistry,
+        ObjectProvider<OmittableMetrics> metrics
+    ) {
+        return new OmittableWebFluxResolverPostProcessor(properties, parserRegistry, metrics);
+    }
+
+    @Bean
+    WebFluxConfigurer omittableWebFluxConfigurer(
+        OmittableProperties properties,
+        ValueParserRegistry parserRegistry,
+        ObjectProvider<OmittableMetrics> metrics
+    ) {
+        return new WebFluxConfigurer() {
+
+            @Override
+            public void addFormatters(FormatterRegistry registry) {
+                if (registry instanceof ConversionService conversionService) {
+                    registry.addConverter(OmittableComponents.converter(conversionService, properties, parserRegistry, metrics.getIfAvailable()));
+                }
+            }
+
+        };
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({ JsonParser.class, CodecCustomizer.class })
+    @ConditionalOnBooleanProperty(name = "omittable.json.enabled", matchIfMissing = true)
+    static class JsonConfiguration {
+
+        @Bean
+        CodecCustomizer omittableJsonCodecCustomizer(
+            @Qualifier("webFluxConversionService") ObjectProvider<ConversionService> conversionService,
+            OmittableProperties properties,
+            ValueParserRegistry parserRegistry,
+            ObjectProvider<OmittableMetrics> metrics
+        ) {
+            return configurer -> configurer.customCodecs().registerWithDefaultConfig(new OmittableJsonDecoder(
+                OmittableComponents.jsonBinder(conversionService.getObject(), properties, parserRegistry, metrics.getIfAvailable())
+            ));
+        }
+
+    }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.autoconfigure;
+
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import com.osmerion.omittable.spring.webflux.OmittableCookieValueMethodArgumentResolver;
+import com.osmerion.omittable.spring.webflux.OmittableMatrixVariableMethodArgumentResolver;
+import com.osmerion.omittable.spring.webflux.OmittableModelAttributeMethodArgumentResolver;
+import com.osmerion.omittable.spring.webflux.OmittablePathVariableMethodArgumentResolver;
+import com.osmerion.omittable.spring.webflux.OmittableRequestHeaderMethodArgumentResolver;
+import com.osmerion.omittable.spring.webflux.OmittableRequestParamFormDataMethodArgumentResolver;
+import com.osmerion.omittable.spring.webflux.OmittableRequestParamMethodArgumentResolver;
+import com.osmerion.omittable.spring.webflux.ReactiveOmittableRequestParamMethodArgumentResolver;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+import org.springframework.web.reactive.result.method.annotation.CookieValueMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.MatrixVariableMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.ModelAttributeMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.PathVariableMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.RequestHeaderMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.reactive.result.method.annotation.RequestParamMethodArgumentResolver;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A {@link BeanPostProcessor} that registers the {@link com.osmerion.omittable.Omittable} request parameter resolvers
+ * with every WebFlux {@link RequestMappingHandlerAdapter}.
+ *
+ * <p>The resolvers are registered as custom resolvers before the adapter is initialized. Custom resolvers are consulted
+ * only after Spring's annotation-based resolvers, which claim every {@code @RequestParam} parameter, and WebFlux does
+ * not provide a way to change this order. Thus, the resolvers for {@code @RequestParam}, {@code @PathVariable},
+ * {@code @MatrixVariable}, {@code @ModelAttribute}, {@code @RequestHeader}, and {@code @CookieValue} parameters are
+ * moved directly ahead of the respective Spring resolver (e.g., the {@link OmittableRequestParamMethodArgumentResolver}
+ * ahead of the {@link RequestParamMethodArgumentResolver}) after the adapter is initialized. This is done for the
+ * resolvers of {@code @RequestMapping}, {@code @ModelAttribute}, and {@code @ExceptionHandler} methods.</p>
+ *
+ * <p>Since the resolver lists are not exposed by WebFlux, they are accessed reflectively. The required reflection hints
+ * are registered by {@link OmittableWebFluxRuntimeHints}. If the lists cannot be accessed, a warning is logged and the
+ * resolvers remain in their default position.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+final class OmittableWebFluxResolverPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    private static final Log LOGGER = LogFactory.getLog(OmittableWebFluxResolverPostProcessor.class);
+
+    private final ObjectProvider<OmittableProperties> properties;
+
+    private final ObjectProvider<ValueParserRegistry> parserRegistry;
+
+    private final ObjectProvider<OmittableMetrics> metrics;
+
+    private @Nullable ConfigurableBeanFactory beanFactory;
+
+    OmittableWebFluxResolverPostProcessor(
+        ObjectProvider<OmittableProperties> properties,
+        ObjectProvider<ValueParserRegistry> parserRegistry,
+        ObjectProvider<OmittableMetrics> metrics
+    ) {
+        this.properties = properties;
+        this.parserRegistry = parserRegistry;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = (beanFactory instanceof ConfigurableBeanFactory configurableBeanFactory) ? configurableBeanFactory : null;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RequestMappingHandlerAdapter adapter) registerResolvers(adapter);
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof RequestMappingHandlerAdapter adapter) reorderResolvers(adapter);
+        return bean;
+    }
+
+    private void registerResolvers(RequestMappingHandlerAdapter adapter) {
+        OmittableProperties properties = this.properties.getObject();
+        ValueParserRegistry parserRegistry = this.parserRegistry.getObject();
+        OmittableMetrics metrics = this.metrics.getIfAvailable();
+
+        ConversionService bindingConversionService = null;
+        if (adapter.getWebBindingInitializer() instanceof ConfigurableWebBindingInitializer initializer) {
+            bindingConversionService = initializer.getConversionService();
+        }
+
+        ConversionService conversionService = properties.getWeb().isDirectConversion() ? bindingConversionService : null;
+        ReactiveAdapterRegistry adapterRegistry = adapter.getReactiveAdapterRegistry();
+
+        ArgumentResolverConfigurer configurer = adapter.getArgumentResolverConfigurer();
+        if (configurer == null) {
+            configurer = new ArgumentResolverConfigurer();
+            adapter.setArgumentResolverConfigurer(configurer);
+        }
+
+        if (properties.getWebflux().isFormData()) {
+            OmittableRequestParamFormDataMethodArgumentResolver resolver = new OmittableRequestParamFormDataMethodArgumentResolver(this.beanFactory, adapterRegistry, conversionService, parserRegistry);
+            resolver.setMetrics(metrics);
+            configurer.addCustomResolver(resolver);
+        } else {
+            OmittableRequestParamMethodArgumentResolver resolver = new OmittableRequestParamMethodArgumentResolver(this.beanFactory, adapterRegistry, conversionService, parserRegistry);
+            resolver.setMetrics(metrics);
+            configurer.addCustomResolver(resolver);
+        }
+
+        if (properties.getWeb().isNamedValues()) {
+            OmittablePathVariableMethodArgumentResolver pathVariableResolver = new OmittablePathVariableMethodArgumentResolver(this.beanFactory, adapterRegistry, conversionService, parserRegistry);
+            pathVariableResolver.setMetrics(metrics);
+            configurer.addCustomResolver(pathVariableResolver);
+
+            OmittableMatrixVariableMethodArgumentResolver matrixVariableResolver = new OmittableMatrixVariableMethodArgumentResolver(this.beanFactory, adapterRegistry, conversionService, parserRegistry);
+            matrixVariableResolver.setMetrics(metrics);
+            configurer.addCustomResolver(matrixVariableResolver);
+
+            OmittableRequestHeaderMethodArgumentResolver requestHeaderResolver = new OmittableRequestHeaderMethodArgumentResolver(this.beanFactory, adapterRegistry, conversionService, parserRegistry);
+            requestHeaderResolver.setMetrics(metrics);
+            configurer.addCustomResolver(requestHeaderResolver);
+
+            OmittableCookieValueMethodArgumentResolver cookieValueResolver = new OmittableCookieValueMethodArgumentResolver(this.beanFactory, adapterRegistry, conversionService, parserRegistry);
+            cookieValueResolver.setMetrics(metrics);
+            configurer.addCustomResolver(cookieValueResolver);
+        }
+
+        /* Wrapped values and bound properties never reach the data binder, so these resolvers always convert them. */
+        ConversionService resolverConversionService = (bindingConversionService != null) ? bindingConversionService : DefaultConversionService.getSharedInstance();
+
+        if (properties.getWebflux().isReactiveParameters()) {
+            ReactiveOmittableRequestParamMethodArgumentResolver resolver = new ReactiveOmittableRequestParamMethodArgumentResolver(adapterRegistry, resolverConversionService, parserRegistry);
+            resolver.setMetrics(metrics);
+            configurer.addCustomResolver(resolver);
+        }
+
+        if (properties.getWeb().isModelAttributes()) {
+            configurer.addCustomResolver(new OmittableModelAttributeMethodArgumentResolver(resolverConversionService, parserRegistry));
+        }
+    }
+
+    private static void reorderResolvers(RequestMappingHandlerAdapter adapter) {
+        List<List<HandlerMethodArgumentResolver>> resolverLists;
+
+        try {
+            resolverLists = getResolverLists(adapter);
+        } catch (RuntimeException e) {
+            LOGGER.warn(
+                "Failed to register the Omittable resolvers ahead of Spring's resolvers. Omittable parameters that are " +
+                "claimed by Spring's resolvers are not resolved by the Omittable resolvers. Set " +
+                "'omittable.web.enabled' to 'false' and register the resolvers manually to avoid this.",
+                e
+            );
+
+            return;
+        }
+
+        for (List<HandlerMethodArgumentResolver> resolvers : resolverLists) {
+            reorderResolvers(resolvers);
+        }
+    }
+
+    private static void reorderResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        moveAhead(
+            resolvers,
+            it -> it instanceof OmittableRequestParamMethodArgumentResolver || it instanceof OmittableRequestParamFormDataMethodArgumentResolver,
+            it -> it instanceof RequestParamMethodArgumentResolver
+        );
+
+        moveAhead(resolvers, OmittablePathVariableMethodArgumentResolver.class::isInstance, PathVariableMethodArgumentResolver.class::isInstance);
+        moveAhead(resolvers, OmittableMatrixVariableMethodArgumentResolver.class::isInstance, MatrixVariableMethodArgumentResolver.class::isInstance);
+        moveAhead(resolvers, OmittableRequestHeaderMethodArgumentResolver.class::isInstance, RequestHeaderMethodArgumentResolver.class::isInstance);
+        moveAhead(resolvers, OmittableCookieValueMethodArgumentResolver.class::isInstance, CookieValueMethodArgumentResolver.class::isInstance);
+
+        moveAhead(
+            resolvers,
+            it -> it instanceof OmittableModelAttributeMethodArgumentResolver,
+            it -> it instanceof ModelAttributeMethodArgumentResolver
+        );
+    }
+
+    private static void moveAhead(
+        List<HandlerMethodArgumentResolver> resolvers,
+        Predicate<HandlerMethodArgumentResolver> omittableFilter,
+        Predicate<HandlerMethodArgumentResolver> springFilter
+    ) {
+        int omittableIndex = -1;
+        int springIndex = -1;
+
+        for (int index = 0; index < resolvers.size(); index++) {
+            HandlerMethodArgumentResolver resolver = resolvers.get(index);
+
+            if (omittableIndex == -1 && omittableFilter.test(resolver)) {
+                omittableIndex = index;
+            } else if (springIndex == -1 && springFilter.test(resolver)) {
+                springIndex = index;
+            }
+        }
+
+        if (omittableIndex == -1 || springIndex == -1 || omittableIndex < springIndex) return;
+
+        HandlerMethodArgumentResolver omittableResolver = resolvers.remove(omittableIndex);
+        resolvers.add(springIndex, omittableResolver);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<List<HandlerMethodArgumentResolver>> getResolverLists(RequestMappingHandlerAdapter adapter) {
+        Object methodResolver = getField(adapter, RequestMappingHandlerAdapter.class, OmittableWebFluxRuntimeHints.METHOD_RESOLVER_FIELD);
+        List<List<HandlerMethodArgumentResolver>> resolverLists = new ArrayList<>(OmittableWebFluxRuntimeHints.RESOLVER_LIST_FIELDS.size());
+
+        for (String name : OmittableWebFluxRuntimeHints.RESOLVER_LIST_FIELDS) {
+            resolverLists.add((List<HandlerMethodArgumentResolver>) getField(methodResolver, methodResolver.getClass(), name));
+        }
+
+        return resolverLists;
+    }
+
+    private static Object getField(Object target, Class<?> type, String name) {
+        Field field = ReflectionUtils.findField(type, name);
+        if (field == null) throw new IllegalStateException("Field not found: " + type.getName() + "." + name);
+
+        ReflectionUtils.makeAccessible(field);
+        Object value = ReflectionUtils.getField(field, target);
+        if (value == null) throw new IllegalStateException("Field not initialized: " + type.getName() + "." + name);
+
+        return value;
+    }
+
+}
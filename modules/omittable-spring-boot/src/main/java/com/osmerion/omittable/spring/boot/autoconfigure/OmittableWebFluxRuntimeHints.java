@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.autoconfigure;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * A {@link RuntimeHintsRegistrar} for the WebFlux internals that are accessed reflectively by the
+ * {@link OmittableWebFluxResolverPostProcessor} to reorder the argument resolvers.
+ *
+ * <p>This registrar is registered in {@code META-INF/spring/aot.factories} and thus applied automatically during AOT
+ * processing.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+final class OmittableWebFluxRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String REQUEST_MAPPING_HANDLER_ADAPTER_CLASS = "org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerAdapter";
+
+    static final String CONTROLLER_METHOD_RESOLVER_CLASS = "org.springframework.web.reactive.result.method.annotation.ControllerMethodResolver";
+
+    static final String METHOD_RESOLVER_FIELD = "methodResolver";
+
+    static final List<String> RESOLVER_LIST_FIELDS = List.of("modelAttributeResolvers", "requestMappingResolvers", "exceptionHandlerResolvers");
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        if (!ClassUtils.isPresent(REQUEST_MAPPING_HANDLER_ADAPTER_CLASS, classLoader)) return;
+
+        hints.reflection()
+            .registerType(TypeReference.of(REQUEST_MAPPING_HANDLER_ADAPTER_CLASS), builder -> builder.withField(METHOD_RESOLVER_FIELD))
+            .registerType(TypeReference.of(CONTROLLER_METHOD_RESOLVER_CLASS), builder -> {
+                for (String name : RESOLVER_LIST_FIELDS) builder.withField(name);
+            });
+    }
+
+}
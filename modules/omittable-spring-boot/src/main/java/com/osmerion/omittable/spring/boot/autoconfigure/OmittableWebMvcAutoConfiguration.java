@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.autoconfigure;
+
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import com.osmerion.omittable.spring.web.OmittableJsonHttpMessageConverter;
+import com.osmerion.omittable.spring.web.OmittableRequestParamMethodArgumentResolver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.core.JsonParser;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration Auto-configuration} for the
+ * {@link com.osmerion.omittable.Omittable} integration in Spring Web MVC.
+ *
+ * <p>The following components are registered:</p>
+ *
+ * <ul>
+ * <li>An {@link com.osmerion.omittable.spring.core.convert.OmittableConverter OmittableConverter} in the MVC
+ * conversion service.</li>
+ * <li>An {@link OmittableRequestParamMethodArgumentResolver} that is consulted ahead of Spring's
+ * {@code RequestParamMethodArgumentResolver}, unless {@code omittable.web.enabled} is {@code false}.</li>
+ * <li>{@code Omittable} resolvers for {@code @PathVariable}, {@code @MatrixVariable}, {@code @RequestHeader}, and
+ * {@code @CookieValue} parameters that are consulted ahead of the respective Spring resolvers, unless
+ * {@code omittable.web.enabled} or {@code omittable.web.named-values} is {@code false}.</li>
+ * <li>An {@link com.osmerion.omittable.spring.web.OmittableModelAttributeMethodArgumentResolver
+ * OmittableModelAttributeMethodArgumentResolver} that is consulted ahead of Spring's
+ * {@code ModelAttributeMethodProcessor}, unless {@code omittable.web.enabled} or
+ * {@code omittable.web.model-attributes} is {@code false}.</li>
+ * <li>An {@link OmittableJsonHttpMessageConverter} for request bodies with {@code Omittable} properties if
+ * {@code tools.jackson.core:jackson-core} is on the classpath, unless {@code omittable.json.enabled} is
+ * {@code false}.</li>
+ * </ul>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfiguration(after = OmittableAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass({ DispatcherServlet.class, OmittableRequestParamMethodArgumentResolver.class })
+public final class OmittableWebMvcAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBooleanProperty(name = "omittable.web.enabled", matchIfMissing = true)
+    static OmittableWebMvcResolverPostProcessor omittableWebMvcResolverPostProcessor(
+        ObjectProvider<OmittableProperties> properties,
+        ObjectProvider<ValueParserRegistry> parserRegistry,
+        ObjectProvider<OmittableMetrics> metrics
+    ) {
+        return new OmittableWebMvcResolverPostProcessor(properties, parserRegistry, metrics);
+    }
+
+    @Bean
+    WebMvcConfigurer omittableWebMvcConfigurer(
+        OmittableProperties properties,
+        ValueParserRegistry parserRegistry,
+        ObjectProvider<OmittableMetrics> metrics
+    ) {
+        return new WebMvcConfigurer() {
+
+            @Override
+            public void addFormatters(FormatterRegistry registry) {
+                if (registry instanceof ConversionService conversionService) {
+                    registry.addConverter(OmittableComponents.converter(conversionService, properties, parserRegistry, metrics.getIfAvailable()));
+                }
+            }
+
+        };
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({ JsonParser.class, ServerHttpMessageConvertersCustomizer.class })
+    @ConditionalOnBooleanProperty(name = "omittable.json.enabled", matchIfMissing = true)
+    static class JsonConfiguration {
+
+        @Bean
+        ServerHttpMessageConvertersCustomizer omittableJsonHttpMessageConvertersCustomizer(
+            @Qualifier("mvcConversionService") ObjectProvider<ConversionService> conversionService,
+            OmittableProperties properties,
+            ValueParserRegistry parserRegistry,
+            ObjectProvider<OmittableMetrics> metrics
+        ) {
+            return builder -> builder.addCustomConverter(new OmittableJsonHttpMessageConverter(
+                OmittableComponents.jsonBinder(conversionService.getObject(), properties, parserRegistry, metrics.getIfAvailable())
+            ));
+        }
+
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.autoconfigure;
+
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import com.osmerion.omittable.spring.web.OmittableCookieValueMethodArgumentResolver;
+import com.osmerion.omittable.spring.web.OmittableMatrixVariableMethodArgumentResolver;
+import com.osmerion.omittable.spring.web.OmittableModelAttributeMethodArgumentResolver;
+import com.osmerion.omittable.spring.web.OmittablePathVariableMethodArgumentResolver;
+import com.osmerion.omittable.spring.web.OmittableRequestHeaderMethodArgumentResolver;
+import com.osmerion.omittable.spring.web.OmittableRequestParamMethodArgumentResolver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.method.annotation.AbstractCookieValueMethodArgumentResolver;
+import org.springframework.web.method.annotation.ModelAttributeMethodProcessor;
+import org.springframework.web.method.annotation.RequestHeaderMethodArgumentResolver;
+import org.springframework.web.method.annotation.RequestParamMethodArgumentResolver;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.MatrixVariableMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.PathVariableMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link BeanPostProcessor} that registers the {@link com.osmerion.omittable.Omittable} argument resolvers with every
+ * {@link RequestMappingHandlerAdapter}.
+ *
+ * <p>Custom argument resolvers are consulted only after Spring's annotation-based resolvers, which claim every
+ * {@code @RequestParam}, {@code @PathVariable}, {@code @MatrixVariable}, {@code @ModelAttribute},
+ * {@code @RequestHeader}, and {@code @CookieValue} parameter. Thus, each resolver is inserted directly ahead of the
+ * respective Spring resolver (e.g., the {@link OmittableRequestParamMethodArgumentResolver} ahead of the
+ * {@link RequestParamMethodArgumentResolver}) instead. Resolvers of the same types that have been registered as custom
+ * resolvers are removed.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+final class OmittableWebMvcResolverPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<OmittableProperties> properties;
+
+    private final ObjectProvider<ValueParserRegistry> parserRegistry;
+
+    private final ObjectProvider<OmittableMetrics> metrics;
+
+    OmittableWebMvcResolverPostProcessor(
+        ObjectProvider<OmittableProperties> properties,
+        ObjectProvider<ValueParserRegistry> parserRegistry,
+        ObjectProvider<OmittableMetrics> metrics
+    ) {
+        this.properties = properties;
+        this.parserRegistry = parserRegistry;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof RequestMappingHandlerAdapter adapter) registerResolver(adapter);
+        return bean;
+    }
+
+    private void registerResolver(RequestMappingHandlerAdapter adapter) {
+        List<HandlerMethodArgumentResolver> resolvers = adapter.getArgumentResolvers();
+        if (resolvers == null) return;
+
+        OmittableProperties properties = this.properties.getObject();
+
+        ValueParserRegistry parserRegistry = this.parserRegistry.getObject();
+
+        ConversionService bindingConversionService = null;
+        if (adapter.getWebBindingInitializer() instanceof ConfigurableWebBindingInitializer initializer) {
+            bindingConversionService = initializer.getConversionService();
+        }
+
+        ConversionService conversionService = properties.getWeb().isDirectConversion() ? bindingConversionService : null;
+
+        OmittableMetrics metrics = this.metrics.getIfAvailable();
+        List<Insertion> insertions = new ArrayList<>();
+
+        OmittableRequestParamMethodArgumentResolver requestParamResolver = new OmittableRequestParamMethodArgumentResolver(conversionService, parserRegistry);
+        requestParamResolver.setQueryStringOnly(properties.getWebmvc().isQueryStringOnly());
+        requestParamResolver.setMetrics(metrics);
+        insertions.add(new Insertion(requestParamResolver, RequestParamMethodArgumentResolver.class));
+
+        if (properties.getWeb().isNamedValues()) {
+            OmittablePathVariableMethodArgumentResolver pathVariableResolver = new OmittablePathVariableMethodArgumentResolver(conversionService, parserRegistry);
+            pathVariableResolver.setMetrics(metrics);
+            insertions.add(new Insertion(pathVariableResolver, PathVariableMethodArgumentResolver.class));
+
+            OmittableMatrixVariableMethodArgumentResolver matrixVariableResolver = new OmittableMatrixVariableMethodArgumentResolver(conversionService, parserRegistry);
+            matrixVariableResolver.setMetrics(metrics);
+            insertions.add(new Insertion(matrixVariableResolver, MatrixVariableMethodArgumentResolver.class));
+
+            OmittableRequestHeaderMethodArgumentResolver requestHeaderResolver = new OmittableRequestHeaderMethodArgumentResolver(conversionService, parserRegistry);
+            requestHeaderResolver.setMetrics(metrics);
+            insertions.add(new Insertion(requestHeaderResolver, RequestHeaderMethodArgumentResolver.class));
+
+            OmittableCookieValueMethodArgumentResolver cookieValueResolver = new OmittableCookieValueMethodArgumentResolver(conversionService, parserRegistry);
+            cookieValueResolver.setMetrics(metrics);
+            insertions.add(new Insertion(cookieValueResolver, AbstractCookieValueMethodArgumentResolver.class));
+        }
+
+        if (properties.getWeb().isModelAttributes()) {
+            /* Bound properties never reach the data binder, so the binder always converts them itself. */
+            ConversionService modelConversionService = (bindingConversionService != null) ? bindingConversionService : DefaultConversionService.getSharedInstance();
+
+            OmittableModelAttributeMethodArgumentResolver modelAttributeResolver = new OmittableModelAttributeMethodArgumentResolver(modelConversionService, parserRegistry);
+            modelAttributeResolver.setQueryStringOnly(properties.getWebmvc().isQueryStringOnly());
+            insertions.add(new Insertion(modelAttributeResolver, ModelAttributeMethodProcessor.class));
+        }
+
+        List<HandlerMethodArgumentResolver> result = new ArrayList<>(resolvers.size() + insertions.size());
+        for (HandlerMethodArgumentResolver resolver : resolvers) {
+            if (isOmittableResolver(resolver)) continue;
+
+            for (Insertion insertion : insertions) {
+                if (!insertion.inserted && insertion.anchorType.isInstance(resolver)) {
+                    result.add(insertion.resolver);
+                    insertion.inserted = true;
+                }
+            }
+
+            result.add(resolver);
+        }
+
+        /* Resolvers without a matching Spring resolver are consulted first. */
+        int index = 0;
+        for (Insertion insertion : insertions) {
+            if (!insertion.inserted) result.add(index++, insertion.resolver);
+        }
+
+        adapter.setArgumentResolvers(result);
+    }
+
+    private static boolean isOmittableResolver(HandlerMethodArgumentResolver resolver) {
+        return resolver instanceof OmittableRequestParamMethodArgumentResolver
+            || resolver instanceof OmittablePathVariableMethodArgumentResolver
+            || resolver instanceof OmittableMatrixVariableMethodArgumentResolver
+            || resolver instanceof OmittableRequestHeaderMethodArgumentResolver
+            || resolver instanceof OmittableCookieValueMethodArgumentResolver
+            || resolver instanceof OmittableModelAttributeMethodArgumentResolver;
+    }
+
+    /**
+     * A resolver that is inserted directly ahead of the first resolver of the given anchor type.
+     */
+    private static final class Insertion {
+
+        private final HandlerMethodArgumentResolver resolver;
+
+        private final Class<?> anchorType;
+
+        private boolean inserted;
+
+        Insertion(HandlerMethodArgumentResolver resolver, Class<?> anchorType) {
+            this.resolver = resolver;
+            this.anchorType = anchorType;
+        }
+
+    }
+
+}
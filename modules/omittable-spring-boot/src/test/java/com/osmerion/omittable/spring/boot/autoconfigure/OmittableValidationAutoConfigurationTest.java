@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.autoconfigure;
+
+import com.osmerion.omittable.Omittable;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.validation.autoconfigure.ValidationAutoConfiguration;
+import org.springframework.boot.validation.autoconfigure.ValidationConfigurationCustomizer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittableValidationAutoConfiguration}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableValidationAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            OmittableAutoConfiguration.class,
+            OmittableValidationAutoConfiguration.class,
+            ValidationAutoConfiguration.class
+        ));
+
+    public record UserPatch(Omittable<@Size(max = 4) String> name) {}
+
+    @Test
+    public void testValueExtractor() {
+        this.contextRunner.run(context -> {
+            Validator validator = context.getBean(Validator.class);
+
+            assertThat(validator.validate(new UserPatch(Omittable.of("Jonathan")))).hasSize(1);
+            assertThat(validator.validate(new UserPatch(Omittable.of("Jane")))).isEmpty();
+            assertThat(validator.validate(new UserPatch(Omittable.absent()))).isEmpty();
+        });
+    }
+
+    @Test
+    public void testValueExtractor_Disabled() {
+        this.contextRunner.withPropertyValues("omittable.validation.enabled=false").run(context -> {
+            assertThat(context).doesNotHaveBean(ValidationConfigurationCustomizer.class);
+        });
+    }
+
+}
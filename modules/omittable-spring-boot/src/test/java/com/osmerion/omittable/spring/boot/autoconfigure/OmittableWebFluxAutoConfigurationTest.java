@@ -0,0 +1,260 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.autoconfigure;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.webflux.OmittableJsonDecoder;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.http.codec.autoconfigure.CodecsAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.validation.autoconfigure.ValidationAutoConfiguration;
+import org.springframework.boot.webflux.autoconfigure.WebFluxAutoConfiguration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.DecoderHttpMessageReader;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.ui.Model;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.MatrixVariable;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittableWebFluxAutoConfiguration}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableWebFluxAutoConfigurationTest {
+
+    private final ReactiveWebApplicationContextRunner contextRunner = new ReactiveWebApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            OmittableAutoConfiguration.class,
+            OmittableWebFluxAutoConfiguration.class,
+            CodecsAutoConfiguration.class,
+            WebFluxAutoConfiguration.class
+        ))
+        .withUserConfiguration(TestController.class);
+
+    private static final AutoConfigurations VALIDATION_CONFIGURATIONS = AutoConfigurations.of(
+        OmittableValidationAutoConfiguration.class,
+        ValidationAutoConfiguration.class
+    );
+
+    public record UserPatch(Omittable<String> name, Omittable<Long> age) {}
+
+    public record UserFilter(Omittable<String> name, Omittable<Long> age) {}
+
+    public record UserForm(Omittable<@Size(max = 4) String> name, Omittable<Long> age) {}
+
+    @RestController
+    public static class TestController {
+
+        @GetMapping("/users")
+        public String getUsers(@RequestParam("id") Omittable<Long> id) {
+            return (id instanceof Omittable.Present<Long> present) ? "id=" + (present.value() + 1) : "absent";
+        }
+
+        @GetMapping("/lazy-users")
+        public Mono<String> getLazyUsers(Mono<Omittable<Long>> id) {
+            return id.map(it -> (it instanceof Omittable.Present<Long> present) ? "id=" + (present.value() + 1) : "absent");
+        }
+
+        @GetMapping({ "/cars", "/cars/{car}" })
+        public String getCars(
+            @PathVariable("car") Omittable<String> car,
+            @MatrixVariable(name = "year", pathVar = "car") Omittable<Integer> year,
+            @RequestHeader("X-Version") Omittable<Long> version,
+            @CookieValue("session") Omittable<String> session
+        ) {
+            return describe(car) + "," + describe(year) + "," + describe(version) + "," + describe(session);
+        }
+
+        private static String describe(Omittable<?> omittable) {
+            return (omittable instanceof Omittable.Present<?> present) ? String.valueOf(present.value()) : "absent";
+        }
+
+        @GetMapping("/users/search")
+        public String searchUsers(@ModelAttribute UserFilter filter) {
+            return filter.toString();
+        }
+
+        @GetMapping("/users/valid")
+        public String validUsers(@Valid @ModelAttribute UserForm form) {
+            return form.toString();
+        }
+
+        @GetMapping("/users/validated")
+        public String validatedUsers(@Valid @ModelAttribute UserForm form, BindingResult result) {
+            return result.getFieldErrors().stream().map(FieldError::getField).sorted().toList().toString();
+        }
+
+        @PatchMapping("/users")
+        public String patchUser(@RequestBody UserPatch patch) {
+            return patch.toString();
+        }
+
+    }
+
+    @RestController
+    public static class RevisionController {
+
+        @ModelAttribute("revision")
+        public String revision(@RequestParam("rev") Omittable<Long> rev) {
+            return (rev instanceof Omittable.Present<Long> present) ? "rev=" + (present.value() + 1) : "absent";
+        }
+
+        @GetMapping("/revisions")
+        public String getRevision(Model model) {
+            return String.valueOf(model.getAttribute("revision"));
+        }
+
+    }
+
+    @Test
+    public void testRequestParam() {
+        this.contextRunner.run(context -> {
+            WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+
+            client.get().uri("/users?id=41").exchange().expectBody(String.class).isEqualTo("id=42");
+            client.get().uri("/users").exchange().expectBody(String.class).isEqualTo("absent");
+        });
+    }
+
+    @Test
+    public void testRequestParam_Invalid() {
+        this.contextRunner.run(context -> {
+            WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+
+            client.get().uri("/users?id=abc").exchange().expectStatus().isBadRequest();
+            client.get().uri("/lazy-users?id=abc").exchange().expectStatus().isBadRequest();
+        });
+    }
+
+    @Test
+    public void testRequestParam_InvalidWithoutDirectConversion() {
+        this.contextRunner.withPropertyValues("omittable.web.direct-conversion=false").run(context -> {
+            WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+
+            client.get().uri("/users?id=abc").exchange().expectStatus().isBadRequest();
+        });
+    }
+
+    @Test
+    public void testRequestParam_ModelAttributeMethod() {
+        this.contextRunner.withUserConfiguration(RevisionController.class).run(context -> {
+            WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+
+            client.get().uri("/revisions?rev=41").exchange().expectBody(String.class).isEqualTo("rev=42");
+            client.get().uri("/revisions").exchange().expectBody(String.class).isEqualTo("absent");
+        });
+    }
+
+    @Test
+    public void testRequestParam_FormData() {
+        this.contextRunner.withPropertyValues("omittable.webflux.form-data=true").run(context -> {
+            WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+
+            client.get().uri("/users?id=41").exchange().expectBody(String.class).isEqualTo("id=42");
+        });
+    }
+
+    @Test
+    public void testReactiveRequestParam() {
+        this.contextRunner.run(context -> {
+            WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+
+            client.get().uri("/lazy-users?id=41").exchange().expectBody(String.class).isEqualTo("id=42");
+            client.get().uri("/lazy-users").exchange().expectBody(String.class).isEqualTo("absent");
+        });
+    }
+
+    @Test
+    public void testModelAttribute() {
+        this.contextRunner.run(context -> {
+            WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+
+            client.get().uri("/users/search?age=42").exchange()
+                .expectBody(String.class).isEqualTo(new UserFilter(Omittable.absent(), Omittable.of(42L)).toString());
+        });
+    }
+
+    @Test
+    public void testModelAttribute_Valid() {
+        this.contextRunner.withConfiguration(VALIDATION_CONFIGURATIONS).run(context -> {
+            WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+
+            client.get().uri("/users/valid?name=Jane").exchange()
+                .expectBody(String.class).isEqualTo(new UserForm(Omittable.of("Jane"), Omittable.absent()).toString());
+
+            client.get().uri("/users/valid?name=Jonathan").exchange().expectStatus().isBadRequest();
+            client.get().uri("/users/valid?age=abc").exchange().expectStatus().isBadRequest();
+
+            client.get().uri("/users/validated?name=Jonathan&age=abc").exchange()
+                .expectBody(String.class).isEqualTo("[age, name]");
+        });
+    }
+
+    @Test
+    public void testNamedValues() {
+        this.contextRunner.run(context -> {
+            WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+
+            client.get().uri("/cars/vw;year=2012").header("X-Version", "3").cookie("session", "abc").exchange()
+                .expectBody(String.class).isEqualTo("vw,2012,3,abc");
+
+            client.get().uri("/cars").exchange()
+                .expectBody(String.class).isEqualTo("absent,absent,absent,absent");
+
+            client.get().uri("/cars/vw;year=abc").exchange().expectStatus().isBadRequest();
+            client.get().uri("/cars").header("X-Version", "abc").exchange().expectStatus().isBadRequest();
+        });
+    }
+
+    @Test
+    public void testRequestBody() {
+        this.contextRunner.run(context -> {
+            assertThat(context.getBean(ServerCodecConfigurer.class).getReaders())
+                .anyMatch(reader -> reader instanceof DecoderHttpMessageReader<?> decoderReader && decoderReader.getDecoder() instanceof OmittableJsonDecoder);
+
+            WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+
+            client.patch().uri("/users").contentType(MediaType.APPLICATION_JSON).bodyValue("{\"age\":null}").exchange()
+                .expectBody(String.class).isEqualTo(new UserPatch(Omittable.absent(), Omittable.of(null)).toString());
+        });
+    }
+
+    @Test
+    public void testDisabled() {
+        this.contextRunner.withPropertyValues("omittable.web.enabled=false").run(context -> {
+            assertThat(context).doesNotHaveBean(OmittableWebFluxResolverPostProcessor.class);
+        });
+    }
+
+}
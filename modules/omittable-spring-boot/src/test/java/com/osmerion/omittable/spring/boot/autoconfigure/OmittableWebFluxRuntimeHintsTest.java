@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.autoconfigure;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittableWebFluxRuntimeHints}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableWebFluxRuntimeHintsTest {
+
+    @Test
+    public void testRegisterHints() throws ClassNotFoundException {
+        RuntimeHints hints = new RuntimeHints();
+        new OmittableWebFluxRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onFieldAccess(OmittableWebFluxRuntimeHints.REQUEST_MAPPING_HANDLER_ADAPTER_CLASS, OmittableWebFluxRuntimeHints.METHOD_RESOLVER_FIELD)).accepts(hints);
+
+        for (String name : OmittableWebFluxRuntimeHints.RESOLVER_LIST_FIELDS) {
+            assertThat(RuntimeHintsPredicates.reflection().onFieldAccess(OmittableWebFluxRuntimeHints.CONTROLLER_METHOD_RESOLVER_CLASS, name)).accepts(hints);
+        }
+    }
+
+}
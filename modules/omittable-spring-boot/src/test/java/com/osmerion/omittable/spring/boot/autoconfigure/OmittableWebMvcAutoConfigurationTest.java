@@ -0,0 +1,350 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.autoconfigure;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.metrics.MicrometerOmittableMetrics;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import com.osmerion.omittable.spring.web.OmittableCookieValueMethodArgumentResolver;
+import com.osmerion.omittable.spring.web.OmittableJsonHttpMessageConverter;
+import com.osmerion.omittable.spring.web.OmittableMatrixVariableMethodArgumentResolver;
+import com.osmerion.omittable.spring.web.OmittableModelAttributeMethodArgumentResolver;
+import com.osmerion.omittable.spring.web.OmittablePathVariableMethodArgumentResolver;
+import com.osmerion.omittable.spring.web.OmittableRequestHeaderMethodArgumentResolver;
+import com.osmerion.omittable.spring.web.OmittableRequestParamMethodArgumentResolver;
+import jakarta.servlet.http.Cookie;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.http.converter.autoconfigure.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.validation.autoconfigure.ValidationAutoConfiguration;
+import org.springframework.boot.webmvc.autoconfigure.WebMvcAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.MatrixVariable;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.annotation.AbstractCookieValueMethodArgumentResolver;
+import org.springframework.web.method.annotation.ModelAttributeMethodProcessor;
+import org.springframework.web.method.annotation.RequestHeaderMethodArgumentResolver;
+import org.springframework.web.method.annotation.RequestParamMethodArgumentResolver;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.MatrixVariableMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.PathVariableMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link OmittableWebMvcAutoConfiguration}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableWebMvcAutoConfigurationTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            OmittableAutoConfiguration.class,
+            OmittableWebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            WebMvcAutoConfiguration.class
+        ))
+        .withUserConfiguration(TestController.class);
+
+    private static final AutoConfigurations VALIDATION_CONFIGURATIONS = AutoConfigurations.of(
+        OmittableValidationAutoConfiguration.class,
+        ValidationAutoConfiguration.class
+    );
+
+    public record UserPatch(Omittable<String> name, Omittable<Long> age) {}
+
+    public record UserFilter(Omittable<String> name, Omittable<Long> age) {}
+
+    public record UserForm(Omittable<@Size(max = 4) String> name, Omittable<Long> age) {}
+
+    @RestController
+    public static class TestController {
+
+        @GetMapping("/users")
+        public String getUsers(@RequestParam("id") Omittable<Long> id) {
+            return (id instanceof Omittable.Present<Long> present) ? "id=" + (present.value() + 1) : "absent";
+        }
+
+        @GetMapping({ "/cars", "/cars/{car}" })
+        public String getCars(
+            @PathVariable("car") Omittable<String> car,
+            @MatrixVariable(name = "year", pathVar = "car") Omittable<Integer> year,
+            @RequestHeader("X-Version") Omittable<Long> version,
+            @CookieValue("session") Omittable<String> session
+        ) {
+            return describe(car) + "," + describe(year) + "," + describe(version) + "," + describe(session);
+        }
+
+        private static String describe(Omittable<?> omittable) {
+            return (omittable instanceof Omittable.Present<?> present) ? String.valueOf(present.value()) : "absent";
+        }
+
+        @GetMapping("/users/search")
+        public String searchUsers(@ModelAttribute UserFilter filter) {
+            return filter.toString();
+        }
+
+        @GetMapping("/users/valid")
+        public String validUsers(@Valid @ModelAttribute UserForm form) {
+            return form.toString();
+        }
+
+        @GetMapping("/users/validated")
+        public String validatedUsers(@Valid @ModelAttribute UserForm form, BindingResult result) {
+            return result.getFieldErrors().stream().map(FieldError::getField).sorted().toList().toString();
+        }
+
+        @PatchMapping("/users")
+        public String patchUser(@RequestBody UserPatch patch) {
+            return patch.toString();
+        }
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    public static class MeterRegistryConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+    @Test
+    public void testResolverOrder() {
+        this.contextRunner.run(context -> {
+            List<HandlerMethodArgumentResolver> resolvers = context.getBean(RequestMappingHandlerAdapter.class).getArgumentResolvers();
+            assertThat(resolvers).isNotNull();
+
+            int omittableIndex = indexOf(resolvers, OmittableRequestParamMethodArgumentResolver.class);
+            int requestParamIndex = indexOf(resolvers, RequestParamMethodArgumentResolver.class);
+
+            assertThat(omittableIndex).isNotNegative().isLessThan(requestParamIndex);
+            assertThat(resolvers).filteredOn(OmittableRequestParamMethodArgumentResolver.class::isInstance).hasSize(1);
+        });
+    }
+
+    @Test
+    public void testResolverOrder_Disabled() {
+        this.contextRunner.withPropertyValues("omittable.web.enabled=false").run(context -> {
+            List<HandlerMethodArgumentResolver> resolvers = context.getBean(RequestMappingHandlerAdapter.class).getArgumentResolvers();
+
+            assertThat(resolvers).noneMatch(OmittableRequestParamMethodArgumentResolver.class::isInstance);
+        });
+    }
+
+    @Test
+    public void testModelAttribute() {
+        this.contextRunner.run(context -> {
+            List<HandlerMethodArgumentResolver> resolvers = context.getBean(RequestMappingHandlerAdapter.class).getArgumentResolvers();
+            assertThat(resolvers).isNotNull();
+
+            int omittableIndex = indexOf(resolvers, OmittableModelAttributeMethodArgumentResolver.class);
+            int modelAttributeIndex = indexOf(resolvers, ModelAttributeMethodProcessor.class);
+
+            assertThat(omittableIndex).isNotNegative().isLessThan(modelAttributeIndex);
+
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+            mockMvc.perform(get("/users/search").queryParam("age", "42"))
+                .andExpect(content().string(new UserFilter(Omittable.absent(), Omittable.of(42L)).toString()));
+        });
+    }
+
+    @Test
+    public void testModelAttribute_Valid() {
+        this.contextRunner.withConfiguration(VALIDATION_CONFIGURATIONS).run(context -> {
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+            mockMvc.perform(get("/users/valid").queryParam("name", "Jane"))
+                .andExpect(content().string(new UserForm(Omittable.of("Jane"), Omittable.absent()).toString()));
+
+            mockMvc.perform(get("/users/valid").queryParam("name", "Jonathan")).andExpect(status().isBadRequest());
+            mockMvc.perform(get("/users/valid").queryParam("age", "abc")).andExpect(status().isBadRequest());
+
+            mockMvc.perform(get("/users/validated").queryParam("name", "Jonathan").queryParam("age", "abc"))
+                .andExpect(content().string("[age, name]"));
+        });
+    }
+
+    @Test
+    public void testModelAttribute_Disabled() {
+        this.contextRunner.withPropertyValues("omittable.web.model-attributes=false").run(context -> {
+            List<HandlerMethodArgumentResolver> resolvers = context.getBean(RequestMappingHandlerAdapter.class).getArgumentResolvers();
+
+            assertThat(resolvers).noneMatch(OmittableModelAttributeMethodArgumentResolver.class::isInstance);
+        });
+    }
+
+    @Test
+    public void testNamedValues() {
+        this.contextRunner.run(context -> {
+            List<HandlerMethodArgumentResolver> resolvers = context.getBean(RequestMappingHandlerAdapter.class).getArgumentResolvers();
+            assertThat(resolvers).isNotNull();
+
+            assertThat(indexOf(resolvers, OmittablePathVariableMethodArgumentResolver.class)).isNotNegative().isLessThan(indexOf(resolvers, PathVariableMethodArgumentResolver.class));
+            assertThat(indexOf(resolvers, OmittableMatrixVariableMethodArgumentResolver.class)).isNotNegative().isLessThan(indexOf(resolvers, MatrixVariableMethodArgumentResolver.class));
+            assertThat(indexOf(resolvers, OmittableRequestHeaderMethodArgumentResolver.class)).isNotNegative().isLessThan(indexOf(resolvers, RequestHeaderMethodArgumentResolver.class));
+            assertThat(indexOf(resolvers, OmittableCookieValueMethodArgumentResolver.class)).isNotNegative().isLessThan(indexOf(resolvers, AbstractCookieValueMethodArgumentResolver.class));
+
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+            mockMvc.perform(get("/cars/vw;year=2012").header("X-Version", "3").cookie(new Cookie("session", "abc")))
+                .andExpect(content().string("vw,2012,3,abc"));
+
+            mockMvc.perform(get("/cars"))
+                .andExpect(content().string("absent,absent,absent,absent"));
+
+            mockMvc.perform(get("/cars/vw;year=abc")).andExpect(status().isBadRequest());
+            mockMvc.perform(get("/cars").header("X-Version", "abc")).andExpect(status().isBadRequest());
+        });
+    }
+
+    @Test
+    public void testNamedValues_Disabled() {
+        this.contextRunner.withPropertyValues("omittable.web.named-values=false").run(context -> {
+            List<HandlerMethodArgumentResolver> resolvers = context.getBean(RequestMappingHandlerAdapter.class).getArgumentResolvers();
+
+            assertThat(resolvers).noneMatch(OmittablePathVariableMethodArgumentResolver.class::isInstance)
+                .noneMatch(OmittableMatrixVariableMethodArgumentResolver.class::isInstance)
+                .noneMatch(OmittableRequestHeaderMethodArgumentResolver.class::isInstance)
+                .noneMatch(OmittableCookieValueMethodArgumentResolver.class::isInstance)
+                .anyMatch(OmittableRequestParamMethodArgumentResolver.class::isInstance);
+        });
+    }
+
+    @Test
+    public void testConversionService() {
+        this.contextRunner.run(context -> {
+            ConversionService conversionService = context.getBean("mvcConversionService", ConversionService.class);
+
+            Object result = conversionService.convert(
+                Omittable.of("42"),
+                new TypeDescriptor(ResolvableType.forClassWithGenerics(Omittable.class, String.class), null, null),
+                new TypeDescriptor(ResolvableType.forClassWithGenerics(Omittable.class, Long.class), null, null)
+            );
+
+            assertThat(result).isEqualTo(Omittable.of(42L));
+        });
+    }
+
+    @Test
+    public void testRequestParam() {
+        this.contextRunner.run(context -> {
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+            mockMvc.perform(get("/users").queryParam("id", "41")).andExpect(content().string("id=42"));
+            mockMvc.perform(get("/users")).andExpect(content().string("absent"));
+        });
+    }
+
+    @Test
+    public void testRequestParam_Invalid() {
+        this.contextRunner.run(context -> {
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+            mockMvc.perform(get("/users").queryParam("id", "abc")).andExpect(status().isBadRequest());
+        });
+    }
+
+    @Test
+    public void testRequestParam_InvalidWithoutDirectConversion() {
+        this.contextRunner.withPropertyValues("omittable.web.direct-conversion=false").run(context -> {
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+            mockMvc.perform(get("/users").queryParam("id", "abc")).andExpect(status().isBadRequest());
+        });
+    }
+
+    @Test
+    public void testRequestBody() {
+        this.contextRunner.run(context -> {
+            assertThat(context.getBean(RequestMappingHandlerAdapter.class).getMessageConverters())
+                .anyMatch(OmittableJsonHttpMessageConverter.class::isInstance);
+
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+            mockMvc.perform(patch("/users").contentType(MediaType.APPLICATION_JSON).content("{\"age\":null}"))
+                .andExpect(content().string(new UserPatch(Omittable.absent(), Omittable.of(null)).toString()));
+        });
+    }
+
+    @Test
+    public void testRequestBody_Disabled() {
+        this.contextRunner.withPropertyValues("omittable.json.enabled=false").run(context -> {
+            assertThat(context.getBean(RequestMappingHandlerAdapter.class).getMessageConverters())
+                .noneMatch(OmittableJsonHttpMessageConverter.class::isInstance);
+        });
+    }
+
+    @Test
+    public void testMetrics() {
+        this.contextRunner.withUserConfiguration(MeterRegistryConfiguration.class).run(context -> {
+            assertThat(context).hasSingleBean(OmittableMetrics.class);
+
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+            mockMvc.perform(get("/users").queryParam("id", "41"));
+
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            assertThat(registry.get(MicrometerOmittableMetrics.RESOLUTION_TIMER).timer().count()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    public void testMetrics_Disabled() {
+        this.contextRunner.withUserConfiguration(MeterRegistryConfiguration.class).withPropertyValues("omittable.metrics.enabled=false").run(context -> {
+            assertThat(context).doesNotHaveBean(OmittableMetrics.class);
+        });
+    }
+
+    private static int indexOf(List<HandlerMethodArgumentResolver> resolvers, Class<?> type) {
+        for (int index = 0; index < resolvers.size(); index++) {
+            if (type.isInstance(resolvers.get(index))) return index;
+        }
+
+        return -1;
+    }
+
+}
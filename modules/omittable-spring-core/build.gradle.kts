@@ -17,6 +17,7 @@ plugins {
     id("com.osmerion.java-base-conventions")
     id("com.osmerion.maven-publish-conventions")
     `java-library`
+    `java-test-fixtures`
     `jvm-test-suite`
 }
 
@@ -35,13 +36,22 @@ testing {
 
                 implementation(platform(buildDeps.spring.boot.dependencies))
                 implementation(buildDeps.mockito.core)
+                implementation(libs.jackson.core)
+                implementation(libs.micrometer.core)
                 implementation(buildDeps.spring.boot.starter.test)
+                implementation(buildDeps.spring.boot.starter.validation)
                 implementation(buildDeps.spring.boot.starter.web)
             }
         }
     }
 }
 
+/* The test fixtures are shared by the tests of the other modules and are not published. */
+(components["java"] as AdhocComponentWithVariants).apply {
+    withVariantsFromConfiguration(configurations.testFixturesApiElements.get()) { skip() }
+    withVariantsFromConfiguration(configurations.testFixturesRuntimeElements.get()) { skip() }
+}
+
 publishing {
     publications.register<MavenPublication>("mavenJava") {
         from(components["java"])
@@ -56,4 +66,12 @@ dependencies {
     api(libs.jspecify)
     api(libs.omittable)
     api(libs.spring.core)
+
+    compileOnly(libs.jackson.core)
+    compileOnly(libs.jakarta.validation.api)
+    compileOnly(libs.micrometer.core)
+    compileOnly(libs.spring.context)
+
+    testFixturesImplementation(platform(buildDeps.spring.boot.dependencies))
+    testFixturesImplementation(buildDeps.spring.boot.starter.test)
 }
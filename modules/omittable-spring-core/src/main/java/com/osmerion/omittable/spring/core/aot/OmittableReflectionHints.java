@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.aot;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.introspect.OmittablePropertyIntrospector;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Utilities for registering the reflection hints that are required to work with {@link Omittable} types in native
+ * images.
+ *
+ * <p>The {@link com.osmerion.omittable.spring.core.json.OmittableJsonBinder}, the
+ * {@link com.osmerion.omittable.spring.core.patch.OmittablePatchApplier}, and the
+ * {@link com.osmerion.omittable.spring.core.patch.CompactPatchLayout} introspect the constructors, record components,
+ * and public accessors of the classes they work with. Values wrapped in an {@code Omittable} may be converted by the
+ * {@link org.springframework.core.convert.ConversionService} using public factory methods and constructors. Types that
+ * are used this way but are not discovered during AOT processing should be registered from a custom
+ * {@link org.springframework.aot.hint.RuntimeHintsRegistrar}.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableReflectionHints {
+
+    /**
+     * Registers the reflection hints that are required to work with instances of the given {@code Omittable} type.
+     *
+     * <p>Hints are registered for the wrapped type (or its element type, if it is an array or collection type) and,
+     * recursively, for the wrapped types of its {@code Omittable} properties. Types from the {@code java} packages are
+     * skipped.</p>
+     *
+     * @param hints the hints to register with
+     * @param type  the {@code Omittable} type
+     *
+     * @throws IllegalArgumentException if the given type is not an {@code Omittable} type
+     *
+     * @since   2.1.0
+     */
+    public static void registerOmittableType(ReflectionHints hints, ResolvableType type) {
+        if (type.toClass() != Omittable.class) throw new IllegalArgumentException("Not an Omittable type: " + type);
+        registerValueType(hints, type.getGeneric(), new HashSet<>());
+    }
+
+    /**
+     * Registers the reflection hints that are required to bind, patch, or pack instances of the given class.
+     *
+     * <p>Hints are registered for the constructors and public methods of the class and, recursively, for the wrapped
+     * types of its {@code Omittable} properties.</p>
+     *
+     * @param hints the hints to register with
+     * @param type  the class
+     *
+     * @since   2.1.0
+     */
+    public static void registerBindingType(ReflectionHints hints, Class<?> type) {
+        registerClass(hints, type, new HashSet<>());
+    }
+
+    private static void registerValueType(ReflectionHints hints, ResolvableType type, Set<Class<?>> visited) {
+        if (type.isArray()) {
+            registerValueType(hints, type.getComponentType(), visited);
+        } else if (type.asCollection() != ResolvableType.NONE) {
+            registerValueType(hints, type.asCollection().getGeneric(), visited);
+        } else {
+            Class<?> cls = type.resolve();
+            if (cls != null) registerClass(hints, cls, visited);
+        }
+    }
+
+    private static void registerClass(ReflectionHints hints, Class<?> type, Set<Class<?>> visited) {
+        if (type.isPrimitive() || type.isArray() || type == Omittable.class || type.getName().startsWith("java.")) return;
+        if (!visited.add(type)) return;
+
+        hints.registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        if (type.isEnum()) return;
+
+        /* Descend into the wrapped types of Omittable properties. */
+        for (Method getter : OmittablePropertyIntrospector.findOmittableGetters(type).values()) {
+            registerValueType(hints, ResolvableType.forMethodReturnType(getter).getGeneric(), visited);
+        }
+
+        if (!type.isRecord()) {
+            for (Method setter : OmittablePropertyIntrospector.findSetters(type).values()) {
+                if (setter.getParameterTypes()[0] == Omittable.class) {
+                    registerValueType(hints, ResolvableType.forMethodParameter(setter, 0).getGeneric(), visited);
+                }
+            }
+        }
+    }
+
+    private OmittableReflectionHints() {}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.aot;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * A {@link RuntimeHintsRegistrar} for the {@link Omittable} types.
+ *
+ * <p>This registrar is registered in {@code META-INF/spring/aot.factories} and thus applied automatically during AOT
+ * processing.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+final class OmittableRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        hints.reflection()
+            .registerType(Omittable.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+            .registerType(Omittable.Absent.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+            .registerType(Omittable.Present.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+
+}
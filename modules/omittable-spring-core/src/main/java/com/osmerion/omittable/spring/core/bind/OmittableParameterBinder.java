@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.bind;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.OmittableValueConverter;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Binds request parameters (e.g., query parameters and form data) to objects with {@link Omittable} properties.
+ *
+ * <p>The binder is intended for partial updates and filters that are submitted as request parameters. A property
+ * without a matching parameter is bound as {@link Omittable#absent()}, while a property with a matching parameter is
+ * bound as a present value, even if the parameter is empty. A parameter matches a property if its name is either the
+ * name of the property or the name of the property followed by {@code []}.</p>
+ *
+ * <p>Records are bound using their canonical constructor. Other classes are bound using their no-arg constructor and
+ * their public setters. The information required to bind a class, including the converters for its {@code Omittable}
+ * properties, is computed once per class. Values are converted to the declared type of {@code Omittable} properties
+ * using an {@link OmittableValueConverter}, and to the declared type of other properties using the
+ * {@link ConversionService}. Unknown parameters are ignored.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableParameterBinder {
+
+    private final ConversionService conversionService;
+
+    private final ValueParserRegistry parserRegistry;
+
+    private final Map<Class<?>, ParameterBindingPlan> bindingPlans = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link OmittableParameterBinder}.
+     *
+     * @param conversionService the conversion service to use for converting values
+     *
+     * @since   2.1.0
+     */
+    public OmittableParameterBinder(ConversionService conversionService) {
+        this(conversionService, ValueParserRegistry.getSharedInstance());
+    }
+
+    /**
+     * Creates a new {@link OmittableParameterBinder}.
+     *
+     * @param conversionService the conversion service to use for converting values
+     * @param parserRegistry    the registry of parsers to use for parsing the values of {@code Omittable} properties
+     *
+     * @since   2.1.0
+     */
+    public OmittableParameterBinder(ConversionService conversionService, ValueParserRegistry parserRegistry) {
+        this.conversionService = conversionService;
+        this.parserRegistry = parserRegistry;
+    }
+
+    /**
+     * Returns whether instances of the given class can be bound by this binder.
+     *
+     * <p>Only classes with at least one {@link Omittable} property are considered bindable to avoid taking over the
+     * binding of unrelated classes.</p>
+     *
+     * @param type  the class to check
+     *
+     * @return  whether instances of the class can be bound
+     *
+     * @since   2.1.0
+     */
+    public boolean canBind(Class<?> type) {
+        ParameterBindingPlan plan = getBindingPlan(type);
+        return plan.isSupported() && plan.hasOmittableProperties();
+    }
+
+    /**
+     * Binds the given request parameters to a new instance of the given class.
+     *
+     * <p>The given function is queried for the raw values of the parameter with a given name. It is expected to return
+     * either a {@code String}, a {@code String[]}, or a {@code List} of strings, or {@code null} if there is no such
+     * parameter.</p>
+     *
+     * @param <T>               the type of the object
+     * @param type              the class of the object
+     * @param parameterValues   a function that returns the raw values of the parameter with the given name
+     *
+     * @return  the bound object
+     *
+     * @throws IllegalArgumentException if instances of the class cannot be bound
+     * @throws org.springframework.core.convert.ConversionException if a value cannot be converted
+     *
+     * @since   2.1.0
+     */
+    public <T> T bind(Class<T> type, Function<String, ? extends @Nullable Object> parameterValues) {
+        return bind(type, parameterValues, (name, rawValue, e) -> { throw e; });
+    }
+
+    /**
+     * Binds the given request parameters to a new instance of the given class.
+     *
+     * <p>The given function is queried for the raw values of the parameter with a given name. It is expected to return
+     * either a {@code String}, a {@code String[]}, or a {@code List} of strings, or {@code null} if there is no such
+     * parameter.</p>
+     *
+     * <p>If the value of a property cannot be converted, the failure is reported to the given handler. If the handler
+     * returns normally, the property is bound as if there was no parameter for it (i.e., {@code Omittable} properties
+     * are bound as {@link Omittable#absent()}), and binding continues with the next property.</p>
+     *
+     * @param <T>               the type of the object
+     * @param type              the class of the object
+     * @param parameterValues   a function that returns the raw values of the parameter with the given name
+     * @param failureHandler    the handler for conversion failures
+     *
+     * @return  the bound object
+     *
+     * @throws IllegalArgumentException if instances of the class cannot be bound
+     * @throws org.springframework.core.convert.ConversionException if a converter required to bind a property is
+     *                                                              missing
+     *
+     * @since   2.1.0
+     */
+    public <T> T bind(Class<T> type, Function<String, ? extends @Nullable Object> parameterValues, ConversionFailureHandler failureHandler) {
+        ParameterBindingPlan plan = getBindingPlan(type);
+        if (!plan.isSupported()) throw new IllegalArgumentException("Cannot bind request parameters to " + type.getName());
+
+        return type.cast(plan.bind(parameterValues, failureHandler));
+    }
+
+    private ParameterBindingPlan getBindingPlan(Class<?> type) {
+        ParameterBindingPlan plan = this.bindingPlans.get(type);
+        if (plan == null) plan = this.bindingPlans.computeIfAbsent(type, it -> ParameterBindingPlan.create(it, this.conversionService, this.parserRegistry));
+
+        return plan;
+    }
+
+    /**
+     * A handler for values that cannot be converted to the declared type of a property.
+     *
+     * @since   2.1.0
+     */
+    @FunctionalInterface
+    public interface ConversionFailureHandler {
+
+        /**
+         * Handles the failure to convert the value of the property with the given name.
+         *
+         * @param name      the name of the property
+         * @param rawValue  the raw value of the request parameter
+         * @param exception the exception that caused the failure
+         *
+         * @since   2.1.0
+         */
+        void handleConversionFailure(String name, Object rawValue, ConversionFailedException exception);
+
+    }
+
+}
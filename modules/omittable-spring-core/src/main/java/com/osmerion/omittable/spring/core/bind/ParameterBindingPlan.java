@@ -0,0 +1,305 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.bind;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.OmittableValueConverter;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.introspect.OmittablePropertyIntrospector;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The information required to bind request parameters to an instance of a class that is computed once per class.
+ *
+ * <p>Records are instantiated using their canonical constructor. Other classes are instantiated using their no-arg
+ * constructor, and their properties are set using their public setters.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+final class ParameterBindingPlan {
+
+    /** The plan for classes that cannot be bound. */
+    static final ParameterBindingPlan UNSUPPORTED = new ParameterBindingPlan(new Property[0], null, false, false);
+
+    private static final TypeDescriptor STRING_TYPE = TypeDescriptor.valueOf(String.class);
+
+    /** A marker for values that are missing or could not be converted. */
+    private static final Object NO_VALUE = new Object();
+
+    private final Property[] properties;
+
+    private final @Nullable MethodHandle constructor;
+
+    private final boolean isRecord;
+
+    private final boolean hasOmittableProperties;
+
+    private ParameterBindingPlan(Property[] properties, @Nullable MethodHandle constructor, boolean isRecord, boolean hasOmittableProperties) {
+        this.properties = properties;
+        this.constructor = constructor;
+        this.isRecord = isRecord;
+        this.hasOmittableProperties = hasOmittableProperties;
+    }
+
+    /**
+     * Creates the binding plan for the given class, or returns {@link #UNSUPPORTED} if instances of the class cannot be
+     * bound from request parameters.
+     *
+     * @param type              the class to create the plan for
+     * @param conversionService the conversion service to use for converting values
+     * @param parserRegistry    the registry of parsers to use for parsing values of {@code Omittable} properties
+     *
+     * @return  the binding plan for the class
+     */
+    static ParameterBindingPlan create(Class<?> type, ConversionService conversionService, ValueParserRegistry parserRegistry) {
+        if (!OmittablePropertyIntrospector.isBindable(type)) return UNSUPPORTED;
+
+        try {
+            return type.isRecord() ? createForRecord(type, conversionService, parserRegistry) : createForBean(type, conversionService, parserRegistry);
+        } catch (IllegalAccessException e) {
+            return UNSUPPORTED;
+        }
+    }
+
+    private static ParameterBindingPlan createForRecord(Class<?> type, ConversionService conversionService, ValueParserRegistry parserRegistry) throws IllegalAccessException {
+        RecordComponent[] components = type.getRecordComponents();
+
+        Constructor<?> constructor;
+        try {
+            constructor = OmittablePropertyIntrospector.getCanonicalConstructor(type);
+        } catch (NoSuchMethodException e) {
+            return UNSUPPORTED;
+        }
+
+        Property[] properties = new Property[components.length];
+        boolean hasOmittableProperties = false;
+
+        for (int index = 0; index < components.length; index++) {
+            TypeDescriptor propertyType = new TypeDescriptor(MethodParameter.forExecutable(constructor, index));
+            properties[index] = Property.create(components[index].getName(), propertyType, null, conversionService, parserRegistry);
+            hasOmittableProperties |= properties[index].isOmittable();
+        }
+
+        MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+            .asSpreader(Object[].class, components.length)
+            .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return new ParameterBindingPlan(properties, handle, true, hasOmittableProperties);
+    }
+
+    private static ParameterBindingPlan createForBean(Class<?> type, ConversionService conversionService, ValueParserRegistry parserRegistry) throws IllegalAccessException {
+        Constructor<?> constructor;
+        try {
+            constructor = ReflectionUtils.accessibleConstructor(type);
+        } catch (NoSuchMethodException e) {
+            return UNSUPPORTED;
+        }
+
+        Map<String, Method> setters = OmittablePropertyIntrospector.findSetters(type);
+        List<Property> properties = new ArrayList<>(setters.size());
+        boolean hasOmittableProperties = false;
+
+        for (Map.Entry<String, Method> entry : setters.entrySet()) {
+            Method method = entry.getValue();
+            ReflectionUtils.makeAccessible(method);
+
+            MethodHandle setter = MethodHandles.lookup().unreflect(method)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+            TypeDescriptor propertyType = new TypeDescriptor(MethodParameter.forExecutable(method, 0));
+
+            Property property = Property.create(entry.getKey(), propertyType, setter, conversionService, parserRegistry);
+            properties.add(property);
+            hasOmittableProperties |= property.isOmittable();
+        }
+
+        if (properties.isEmpty()) return UNSUPPORTED;
+
+        MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+            .asType(MethodType.methodType(Object.class));
+
+        return new ParameterBindingPlan(properties.toArray(new Property[0]), handle, false, hasOmittableProperties);
+    }
+
+    /**
+     * Returns whether instances of the class can be bound.
+     *
+     * @return  whether instances of the class can be bound
+     */
+    boolean isSupported() {
+        return this.constructor != null;
+    }
+
+    /**
+     * Returns whether the class has at least one property of type {@link Omittable}.
+     *
+     * @return  whether the class has at least one {@code Omittable} property
+     */
+    boolean hasOmittableProperties() {
+        return this.hasOmittableProperties;
+    }
+
+    /**
+     * Creates an instance of the class and binds the given parameter values to its properties.
+     *
+     * <p>If the value of a property cannot be converted, the failure is reported to the given handler, and the property
+     * is bound as if there was no parameter for it.</p>
+     *
+     * @param parameterValues   a function that returns the raw values of the parameter with the given name, or
+     *                          {@code null} if there is no such parameter
+     * @param failureHandler    the handler for conversion failures
+     *
+     * @return  the new instance
+     */
+    Object bind(Function<String, ? extends @Nullable Object> parameterValues, OmittableParameterBinder.ConversionFailureHandler failureHandler) {
+        MethodHandle constructor = this.constructor;
+        if (constructor == null) throw new IllegalStateException("Unsupported binding plan");
+
+        try {
+            if (this.isRecord) {
+                @Nullable Object[] values = new Object[this.properties.length];
+                for (int index = 0; index < this.properties.length; index++) {
+                    Property property = this.properties[index];
+                    Object rawValue = property.lookup(parameterValues);
+                    Object value = (rawValue != null) ? property.convert(rawValue, failureHandler) : NO_VALUE;
+
+                    values[index] = (value != NO_VALUE) ? value : property.defaultValue();
+                }
+
+                return (Object) constructor.invokeExact(values);
+            }
+
+            Object instance = (Object) constructor.invokeExact();
+
+            for (Property property : this.properties) {
+                Object rawValue = property.lookup(parameterValues);
+                Object value = (rawValue != null) ? property.convert(rawValue, failureHandler) : NO_VALUE;
+
+                /* Omittable properties without (valid) parameters are explicitly set to absent. Other properties keep their initial value. */
+                if (value != NO_VALUE) {
+                    property.set(instance, value);
+                } else if (property.isOmittable()) {
+                    property.set(instance, Omittable.absent());
+                }
+            }
+
+            return instance;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to instantiate bound object", t);
+        }
+    }
+
+    /**
+     * A bindable property.
+     *
+     * @param name              the name of the request parameter
+     * @param arrayName         the alternative name of the request parameter using the {@code []} suffix convention
+     * @param type              the declared type of the property
+     * @param converter         the converter for the values of {@code Omittable} properties, or {@code null} for other
+     *                          properties
+     * @param conversionService the conversion service to use for converting the values of other properties
+     * @param defaultValue      the value of the property if there is no parameter for it
+     * @param setter            the setter for the property, or {@code null} if the property is set using a constructor
+     */
+    private record Property(
+        String name,
+        String arrayName,
+        TypeDescriptor type,
+        @Nullable OmittableValueConverter converter,
+        ConversionService conversionService,
+        @Nullable Object defaultValue,
+        @Nullable MethodHandle setter
+    ) {
+
+        static Property create(
+            String name,
+            TypeDescriptor type,
+            @Nullable MethodHandle setter,
+            ConversionService conversionService,
+            ValueParserRegistry parserRegistry
+        ) {
+            Class<?> rawType = type.getType();
+
+            OmittableValueConverter converter = null;
+            Object defaultValue = null;
+
+            if (rawType == Omittable.class) {
+                converter = OmittableValueConverter.create(conversionService, parserRegistry, type);
+                defaultValue = Omittable.absent();
+            } else if (rawType.isPrimitive()) {
+                defaultValue = Array.get(Array.newInstance(rawType, 1), 0);
+            }
+
+            return new Property(name, name + "[]", type, converter, conversionService, defaultValue, setter);
+        }
+
+        boolean isOmittable() {
+            return this.converter != null;
+        }
+
+        @Nullable Object lookup(Function<String, ? extends @Nullable Object> parameterValues) {
+            Object value = parameterValues.apply(this.name);
+            if (value == null) value = parameterValues.apply(this.arrayName);
+
+            /* Single values are bound as-is, consistent with the request parameter resolvers. */
+            if (value instanceof String[] array && array.length == 1) return array[0];
+            if (value instanceof List<?> list && list.size() == 1) return list.get(0);
+
+            return value;
+        }
+
+        /** Converts the given value, or returns {@link #NO_VALUE} if the conversion failed. */
+        @Nullable Object convert(Object rawValue, OmittableParameterBinder.ConversionFailureHandler failureHandler) {
+            try {
+                if (this.converter != null) return this.converter.convert(rawValue);
+
+                TypeDescriptor sourceType = (rawValue instanceof String) ? STRING_TYPE : TypeDescriptor.forObject(rawValue);
+                return this.conversionService.convert(rawValue, sourceType, this.type);
+            } catch (ConversionFailedException e) {
+                failureHandler.handleConversionFailure(this.name, rawValue, e);
+                return NO_VALUE;
+            }
+        }
+
+        void set(Object instance, @Nullable Object value) throws Throwable {
+            MethodHandle setter = this.setter;
+            if (setter != null) setter.invokeExact(instance, value);
+        }
+
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.cache;
+
+import com.osmerion.omittable.Omittable;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * The value that is stored in a cache in place of {@link Omittable#absent()}.
+ *
+ * <p>Unlike the absent {@code Omittable} itself, the sentinel is serializable and is resolved to the shared instance
+ * when it is deserialized.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+final class AbsentValue implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    static final AbsentValue INSTANCE = new AbsentValue();
+
+    private AbsentValue() {}
+
+    @Serial
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String toString() {
+        return "Omittable.absent()";
+    }
+
+}
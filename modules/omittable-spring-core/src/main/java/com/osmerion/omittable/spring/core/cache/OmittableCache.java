@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.cache;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Cache} decorator that stores {@link Omittable#absent()} values as a shared, serializable sentinel.
+ *
+ * <p>Absent values are replaced by the sentinel when they are stored in the target cache, and the sentinel is replaced
+ * by {@code Omittable.absent()} when it is read from the target cache. Thus, methods that return an absent
+ * {@code Omittable} can be cached in caches that serialize their values (e.g., distributed caches), and absent values
+ * read from the cache are identical to {@code Omittable.absent()}. Reading an absent value does not allocate. All other
+ * values are stored as-is.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableCache implements Cache {
+
+    private static final ValueWrapper ABSENT_WRAPPER = new SimpleValueWrapper(Omittable.absent());
+
+    private final Cache targetCache;
+
+    /**
+     * Creates a new {@link OmittableCache}.
+     *
+     * @param targetCache   the cache to decorate
+     *
+     * @since   2.1.0
+     */
+    public OmittableCache(Cache targetCache) {
+        this.targetCache = targetCache;
+    }
+
+    /**
+     * Returns the decorated cache.
+     *
+     * @return  the decorated cache
+     *
+     * @since   2.1.0
+     */
+    public Cache getTargetCache() {
+        return this.targetCache;
+    }
+
+    @Override
+    public String getName() {
+        return this.targetCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this.targetCache.getNativeCache();
+    }
+
+    @Override
+    public @Nullable ValueWrapper get(Object key) {
+        return fromStoreValueWrapper(this.targetCache.get(key));
+    }
+
+    @Override
+    public <T> @Nullable T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = this.targetCache.get(key);
+        if (wrapper == null) return null;
+
+        Object value = fromStoreValue(wrapper.get());
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+
+        @SuppressWarnings("unchecked")
+        T result = (T) value;
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+        return (T) fromStoreValue(this.targetCache.get(key, () -> toStoreValue(valueLoader.call())));
+    }
+
+    @Override
+    public @Nullable CompletableFuture<?> retrieve(Object key) {
+        CompletableFuture<?> future = this.targetCache.retrieve(key);
+        if (future == null) return null;
+
+        return future.thenApply(value -> (value instanceof ValueWrapper wrapper) ? fromStoreValueWrapper(wrapper) : fromStoreValue(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        CompletableFuture<Object> future = this.targetCache.retrieve(key, () -> valueLoader.get().thenApply(OmittableCache::toStoreValue));
+        return (CompletableFuture<T>) future.thenApply(OmittableCache::fromStoreValue);
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        this.targetCache.put(key, toStoreValue(value));
+    }
+
+    @Override
+    public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        return fromStoreValueWrapper(this.targetCache.putIfAbsent(key, toStoreValue(value)));
+    }
+
+    @Override
+    public void evict(Object key) {
+        this.targetCache.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return this.targetCache.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        this.targetCache.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return this.targetCache.invalidate();
+    }
+
+    private static @Nullable Object toStoreValue(@Nullable Object value) {
+        return (value instanceof Omittable.Absent) ? AbsentValue.INSTANCE : value;
+    }
+
+    private static @Nullable Object fromStoreValue(@Nullable Object storeValue) {
+        return (storeValue == AbsentValue.INSTANCE) ? Omittable.absent() : storeValue;
+    }
+
+    private static @Nullable ValueWrapper fromStoreValueWrapper(@Nullable ValueWrapper wrapper) {
+        return (wrapper != null && wrapper.get() == AbsentValue.INSTANCE) ? ABSENT_WRAPPER : wrapper;
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.cache;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link CacheManager} decorator that decorates the caches of the target cache manager with an
+ * {@link OmittableCache}.
+ *
+ * <p>The decorator of a cache is created once per cache and reused for subsequent lookups.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableCacheManager implements CacheManager {
+
+    private final CacheManager targetCacheManager;
+
+    private final Map<String, OmittableCache> caches = new ConcurrentHashMap<>(16);
+
+    /**
+     * Creates a new {@link OmittableCacheManager}.
+     *
+     * @param targetCacheManager    the cache manager to decorate
+     *
+     * @since   2.1.0
+     */
+    public OmittableCacheManager(CacheManager targetCacheManager) {
+        this.targetCacheManager = targetCacheManager;
+    }
+
+    @Override
+    public @Nullable Cache getCache(String name) {
+        OmittableCache cache = this.caches.get(name);
+        if (cache != null) return cache;
+
+        Cache targetCache = this.targetCacheManager.getCache(name);
+        if (targetCache == null) return null;
+
+        return this.caches.computeIfAbsent(name, it -> new OmittableCache(targetCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return this.targetCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void resetCaches() {
+        this.targetCacheManager.resetCaches();
+        this.caches.clear();
+    }
+
+}
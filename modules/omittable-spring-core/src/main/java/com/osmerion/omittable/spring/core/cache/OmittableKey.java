@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.cache;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A cache key for the arguments of a method with {@link Omittable} parameters.
+ *
+ * <p>Instead of the {@code Omittable} arguments themselves, keys store their wrapped values together with two bitmasks
+ * that record which arguments were present and which were absent. Thus, absent arguments, present {@code null}
+ * arguments, present arguments, and plain arguments with the same value are all distinct, and keys do not depend on the
+ * {@code equals} implementation or on the serializability of {@code Omittable}. Array values are compared by their
+ * contents. The hash code is computed once, when the key is created.</p>
+ *
+ * <p>Keys are created by an {@link OmittableKeyGenerator}.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableKey implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** The key for a single absent argument. */
+    static final OmittableKey ABSENT = new OmittableKey(new Object[] { null }, 0L, 1L);
+
+    /** The key for a single present {@code null} argument. */
+    static final OmittableKey PRESENT_NULL = new OmittableKey(new Object[] { null }, 1L, 0L);
+
+    private final @Nullable Object[] values;
+
+    private final long presentMask;
+
+    private final long absentMask;
+
+    private final transient int hash;
+
+    OmittableKey(@Nullable Object[] values, long presentMask, long absentMask) {
+        this.values = values;
+        this.presentMask = presentMask;
+        this.absentMask = absentMask;
+        this.hash = computeHash(values, presentMask, absentMask);
+    }
+
+    private static int computeHash(@Nullable Object[] values, long presentMask, long absentMask) {
+        int hash = Arrays.deepHashCode(values);
+        hash = 31 * hash + Long.hashCode(presentMask);
+        hash = 31 * hash + Long.hashCode(absentMask);
+
+        return hash;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        return (this == other || (other instanceof OmittableKey that
+            && this.hash == that.hash
+            && this.presentMask == that.presentMask
+            && this.absentMask == that.absentMask
+            && Arrays.deepEquals(this.values, that.values)));
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(getClass().getSimpleName()).append(" [");
+
+        for (int index = 0; index < this.values.length; index++) {
+            if (index > 0) builder.append(", ");
+
+            long bit = 1L << index;
+            if ((this.absentMask & bit) != 0) {
+                builder.append("<absent>");
+            } else {
+                Object value = this.values[index];
+                String text = (value instanceof Object[] array) ? Arrays.deepToString(array) : String.valueOf(value);
+
+                builder.append(((this.presentMask & bit) != 0) ? "<" + text + ">" : text);
+            }
+        }
+
+        return builder.append(']').toString();
+    }
+
+    @Serial
+    private Object readResolve() {
+        /* The hash code of the values is not stable across JVMs. */
+        return new OmittableKey(this.values, this.presentMask, this.absentMask);
+    }
+
+}
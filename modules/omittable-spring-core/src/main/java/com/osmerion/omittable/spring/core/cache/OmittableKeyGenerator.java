@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.cache;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+
+import java.lang.reflect.Method;
+
+/**
+ * A {@link KeyGenerator} for methods with {@link Omittable} parameters.
+ *
+ * <p>Keys are generated like by Spring's {@link SimpleKeyGenerator}, except that arguments that are {@code Omittable}
+ * are represented by an {@link OmittableKey}. Thus, absent arguments, present {@code null} arguments, and present
+ * arguments are distinct, regardless of the {@code equals} implementation of {@code Omittable}:</p>
+ *
+ * <ul>
+ * <li>Methods without arguments use {@link SimpleKey#EMPTY}.</li>
+ * <li>Methods with a single argument that is neither an {@code Omittable} nor an array use the argument itself.</li>
+ * <li>Methods with a single absent or present {@code null} argument use a shared key, and no key is allocated.</li>
+ * <li>Methods with arguments that are {@code Omittable} use an {@code OmittableKey}.</li>
+ * <li>Other methods use a {@link SimpleKey}.</li>
+ * </ul>
+ *
+ * <p>The presence of arguments is stored in bitmasks. For methods with more than 64 parameters, the remaining
+ * {@code Omittable} arguments are stored as-is.</p>
+ *
+ * <p>This class requires {@code org.springframework:spring-context} to be on the classpath.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableKeyGenerator implements KeyGenerator {
+
+    /**
+     * Creates a new {@link OmittableKeyGenerator}.
+     *
+     * @since   2.1.0
+     */
+    public OmittableKeyGenerator() {}
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public Object generate(Object target, Method method, @Nullable Object... params) {
+        return generateKey(params);
+    }
+
+    /**
+     * Generates a key for the given arguments.
+     *
+     * @param params    the arguments
+     *
+     * @return  the generated key
+     *
+     * @since   2.1.0
+     */
+    public static Object generateKey(@Nullable Object... params) {
+        if (params.length == 0) return SimpleKey.EMPTY;
+
+        if (params.length == 1) {
+            Object param = params[0];
+
+            if (param instanceof Omittable.Absent) return OmittableKey.ABSENT;
+            if (param instanceof Omittable.Present<?> present) {
+                Object value = present.value();
+                return (value != null) ? new OmittableKey(new Object[] { value }, 1L, 0L) : OmittableKey.PRESENT_NULL;
+            }
+
+            if (param != null && !param.getClass().isArray()) return param;
+            return new SimpleKey(params);
+        }
+
+        Object[] values = null;
+        long presentMask = 0L;
+        long absentMask = 0L;
+
+        int length = Math.min(params.length, Long.SIZE);
+        for (int index = 0; index < length; index++) {
+            Object param = params[index];
+
+            if (param instanceof Omittable.Absent) {
+                if (values == null) values = params.clone();
+                values[index] = null;
+                absentMask |= 1L << index;
+            } else if (param instanceof Omittable.Present<?> present) {
+                if (values == null) values = params.clone();
+                values[index] = present.value();
+                presentMask |= 1L << index;
+            }
+        }
+
+        /* Arguments beyond the bitmasks are stored as-is. */
+        return (values != null) ? new OmittableKey(values, presentMask, absentMask) : new SimpleKey(params);
+    }
+
+}
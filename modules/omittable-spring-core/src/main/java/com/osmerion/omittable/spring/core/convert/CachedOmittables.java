@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.convert;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Provides shared {@link Omittable} instances for frequently used present values.
+ *
+ * <p>{@link #of(Object)} is a drop-in replacement for {@link Omittable#of(Object)} that returns a preallocated instance
+ * instead of allocating a new one for the following values:</p>
+ *
+ * <ul>
+ * <li>{@code null},</li>
+ * <li>{@link Boolean#TRUE} and {@link Boolean#FALSE},</li>
+ * <li>{@link Integer} and {@link Long} values between {@code -128} and {@code 127} (inclusive),</li>
+ * <li>the empty {@link String}, and</li>
+ * <li>enum constants.</li>
+ * </ul>
+ *
+ * <p>This relies on {@code Omittable} instances being immutable values that are compared by equality.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class CachedOmittables {
+
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+
+    private static final Omittable<?> NULL = Omittable.of(null);
+    private static final Omittable<?> TRUE = Omittable.of(Boolean.TRUE);
+    private static final Omittable<?> FALSE = Omittable.of(Boolean.FALSE);
+    private static final Omittable<?> EMPTY_STRING = Omittable.of("");
+
+    private static final Omittable<?>[] INTEGERS = new Omittable<?>[HIGH - LOW + 1];
+    private static final Omittable<?>[] LONGS = new Omittable<?>[HIGH - LOW + 1];
+
+    static {
+        for (int i = 0; i < INTEGERS.length; i++) {
+            INTEGERS[i] = Omittable.of(LOW + i);
+            LONGS[i] = Omittable.of((long) (LOW + i));
+        }
+    }
+
+    private static final ClassValue<Omittable<?>[]> ENUM_CONSTANTS = new ClassValue<>() {
+
+        @Override
+        protected Omittable<?>[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Omittable<?>[] omittables = new Omittable<?>[constants.length];
+            for (int i = 0; i < constants.length; i++) omittables[i] = Omittable.of(constants[i]);
+
+            return omittables;
+        }
+
+    };
+
+    /**
+     * Returns a present {@link Omittable} with the given value.
+     *
+     * <p>The returned instance may be shared.</p>
+     *
+     * @param <T>   the type of the value
+     * @param value the value
+     *
+     * @return  a present {@code Omittable} with the given value
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Omittable<T> of(@Nullable T value) {
+        if (value == null) return (Omittable<T>) NULL;
+
+        Class<?> type = value.getClass();
+        if (type == Boolean.class) {
+            return (Omittable<T>) ((Boolean) value ? TRUE : FALSE);
+        } else if (type == Integer.class) {
+            int i = (Integer) value;
+            if (LOW <= i && i <= HIGH) return (Omittable<T>) INTEGERS[i - LOW];
+        } else if (type == Long.class) {
+            long l = (Long) value;
+            if (LOW <= l && l <= HIGH) return (Omittable<T>) LONGS[(int) l - LOW];
+        } else if (type == String.class) {
+            if (((String) value).isEmpty()) return (Omittable<T>) EMPTY_STRING;
+        } else if (value instanceof Enum<?> constant) {
+            return (Omittable<T>) ENUM_CONSTANTS.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
+
+        return Omittable.of(value);
+    }
+
+    private CachedOmittables() {}
+
+}
@@ -16,25 +16,50 @@
 package com.osmerion.omittable.spring.core.convert;
 
 import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
 import org.jspecify.annotations.Nullable;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.util.ConcurrentLruCache;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A {@link GenericConverter} that can convert between different generic types of {@link Omittable} by converting the
  * wrapped value (if necessary).
  *
+ * <p>Wrapped {@link String} values, {@code String[]} values, and collections are converted using an
+ * {@link OmittableValueConverter}. Thus, parsers from a {@link ValueParserRegistry} are used where possible, and arrays
+ * and collections are converted element by element. Wrapped values that are already instances of the target type are
+ * not converted again. For collections, this requires all elements to be instances of the target element type.</p>
+ *
+ * <p>Conversions may be instrumented by {@link #setMetrics(OmittableMetrics) configuring} {@link OmittableMetrics}.</p>
+ *
  * @since   0.5.0
  *
  * @author  Leon Linhart
  */
 public final class OmittableConverter implements GenericConverter {
 
+    private static final int DEFAULT_CACHE_CAPACITY = 256;
+
+    private static final String CACHE_NAME = "omittable-converter";
+
     private final ConversionService conversionService;
 
+    private final ValueParserRegistry parserRegistry;
+
+    private final ConcurrentLruCache<TypeDescriptor, TargetConversionPlans> conversionPlans;
+
+    private @Nullable OmittableMetrics metrics;
+
+    private OmittableMetrics.@Nullable CacheRecorder cacheRecorder;
+
     /**
      * Creates a new {@link OmittableConverter}.
      *
@@ -43,7 +68,60 @@ public final class OmittableConverter implements GenericConverter {
      * @since   0.5.0
      */
     public OmittableConverter(ConversionService conversionService) {
+        this(conversionService, DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link OmittableConverter}.
+     *
+     * <p>The converter caches a conversion plan for each combination of runtime type of a wrapped source value and
+     * target type. The plans of at most {@code cacheCapacity} target types are retained. The plans of the least recently
+     * used target types are evicted first.</p>
+     *
+     * @param conversionService the conversion service to use for converting the wrapped values
+     * @param cacheCapacity     the maximum number of target types to cache conversion plans for
+     *
+     * @throws IllegalArgumentException if {@code cacheCapacity} is negative
+     *
+     * @since   2.1.0
+     */
+    public OmittableConverter(ConversionService conversionService, int cacheCapacity) {
+        this(conversionService, ValueParserRegistry.getSharedInstance(), cacheCapacity);
+    }
+
+    /**
+     * Creates a new {@link OmittableConverter}.
+     *
+     * @param conversionService the conversion service to use for converting the wrapped values
+     * @param parserRegistry    the registry of parsers to use for parsing wrapped {@code String} values
+     * @param cacheCapacity     the maximum number of target types to cache conversion plans for
+     *
+     * @throws IllegalArgumentException if {@code cacheCapacity} is negative
+     *
+     * @since   2.1.0
+     */
+    public OmittableConverter(ConversionService conversionService, ValueParserRegistry parserRegistry, int cacheCapacity) {
         this.conversionService = conversionService;
+        this.parserRegistry = parserRegistry;
+        this.conversionPlans = new ConcurrentLruCache<>(cacheCapacity, TargetConversionPlans::new);
+    }
+
+    /**
+     * Sets the metrics to record conversions and accesses to the conversion plan cache with.
+     *
+     * <p>Conversions are timed per target type. Conversions of absent values, {@code null} values, and values that do
+     * not need to be converted are not recorded. This property should be configured before the converter is used.</p>
+     *
+     * @param metrics   the metrics to record to, or {@code null} to disable recording
+     *
+     * @since   2.1.0
+     */
+    public void setMetrics(@Nullable OmittableMetrics metrics) {
+        this.metrics = metrics;
+        this.cacheRecorder = (metrics != null) ? metrics.cache(CACHE_NAME) : null;
+
+        /* Cached plans hold recorders of the previous metrics. */
+        this.conversionPlans.clear();
     }
 
     @Override
@@ -59,24 +137,163 @@ public final class OmittableConverter implements GenericConverter {
         /* Nothing to do. Type-erasure got us covered. */
         if (source instanceof Omittable.Absent) return source;
 
-        if (source instanceof Omittable.Present<?> present && sourceType.getResolvableType().hasGenerics() && targetType.getResolvableType().hasGenerics()) {
+        if (source instanceof Omittable.Present<?> present && sourceType.getResolvableType().hasGenerics()) {
             Object sourceValue = present.value();
 
             /* Type-erasure got us covered again. */
             if (sourceValue == null) return targetType.getType().cast(source);
 
-            /* A non-null value actually has to be converted. */
-            TypeDescriptor sourceGenericType = TypeDescriptor.valueOf(sourceValue.getClass());
-            Object targetValue = this.conversionService.convert(present.value(), sourceGenericType, new GenericTypeDescriptor(targetType));
-            return Omittable.of(targetValue);
+            OmittableMetrics.CacheRecorder cacheRecorder = this.cacheRecorder;
+            if (cacheRecorder != null) cacheRecorder.recordAccess();
+
+            ConversionPlan plan = this.conversionPlans.get(targetType).get(sourceValue.getClass());
+            if (plan.targetElementType == null) return source;
+            if (plan.collectionElementType != null && containsOnly((Collection<?>) sourceValue, plan.collectionElementType)) return source;
+
+            OmittableMetrics.ConversionRecorder recorder = plan.recorder;
+            if (recorder == null) return convertValue(plan, sourceValue, plan.targetElementType);
+
+            long start = System.nanoTime();
+            try {
+                Object result = convertValue(plan, sourceValue, plan.targetElementType);
+                recorder.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (RuntimeException e) {
+                recorder.recordFailure(System.nanoTime() - start, e);
+                throw e;
+            }
         }
 
         return source;
     }
 
-    private static class GenericTypeDescriptor extends TypeDescriptor {
+    private static boolean containsOnly(Collection<?> collection, Class<?> elementType) {
+        for (Object element : collection) {
+            if (element != null && !elementType.isInstance(element)) return false;
+        }
+
+        return true;
+    }
+
+    private Object convertValue(ConversionPlan plan, Object sourceValue, TypeDescriptor targetElementType) {
+        if (plan.valueConverter != null) return plan.valueConverter.convert(sourceValue, plan.sourceElementType);
+
+        /* A non-null value actually has to be converted. */
+        Object targetValue = this.conversionService.convert(sourceValue, plan.sourceElementType, targetElementType);
+        return CachedOmittables.of(targetValue);
+    }
+
+    /**
+     * The conversion plans for a target type, keyed by the runtime type of the wrapped source value.
+     *
+     * <p>Looking up the plans by target type first avoids allocating a composite key for every conversion.</p>
+     */
+    private final class TargetConversionPlans {
+
+        private final TypeDescriptor targetType;
+
+        private final Map<Class<?>, ConversionPlan> plans = new ConcurrentHashMap<>();
+
+        TargetConversionPlans(TypeDescriptor targetType) {
+            this.targetType = targetType;
+        }
+
+        ConversionPlan get(Class<?> sourceValueType) {
+            ConversionPlan plan = this.plans.get(sourceValueType);
+            if (plan != null) return plan;
+
+            return this.plans.computeIfAbsent(sourceValueType, type -> createConversionPlan(type, this.targetType));
+        }
+
+    }
+
+    /**
+     * The resolved type information required to convert the wrapped value of an {@link Omittable} of a given runtime
+     * type to a given target type.
+     *
+     * <p>Reusing the same {@link TypeDescriptor} instances for every conversion also lets the conversion service
+     * resolve cached converters by identity.</p>
+     *
+     * @param sourceElementType the type descriptor of the wrapped source value
+     * @param targetElementType the type descriptor of the wrapped target value, or {@code null} if the wrapped value
+     *                          does not have to be converted (i.e. if the target type is not generic, or if the
+     *                          wrapped value is already an instance of the target type)
+     * @param collectionElementType the type of the elements of the target collection type if the wrapped collection
+     *                              does not have to be converted if all its elements are instances of this type, or
+     *                              {@code null}
+     * @param valueConverter    the converter to use for wrapped {@code String}, {@code String[]}, and collection
+     *                          values, or {@code null} if the value has to be converted by the conversion service
+     * @param recorder          the recorder for conversions to the target type, or {@code null} if conversions are
+     *                          not recorded
+     */
+    private record ConversionPlan(
+        TypeDescriptor sourceElementType,
+        @Nullable TypeDescriptor targetElementType,
+        @Nullable Class<?> collectionElementType,
+        @Nullable OmittableValueConverter valueConverter,
+        OmittableMetrics.@Nullable ConversionRecorder recorder
+    ) {}
+
+    private ConversionPlan createConversionPlan(Class<?> sourceValueType, TypeDescriptor targetType) {
+        OmittableMetrics.CacheRecorder cacheRecorder = this.cacheRecorder;
+        if (cacheRecorder != null) cacheRecorder.recordMiss();
+
+        TypeDescriptor sourceElementType = TypeDescriptor.valueOf(sourceValueType);
+        if (!targetType.getResolvableType().hasGenerics()) return new ConversionPlan(sourceElementType, null, null, null, null);
+
+        TypeDescriptor targetElementType = new GenericTypeDescriptor(targetType);
+        ResolvableType targetValueType = targetElementType.getResolvableType();
+
+        /* Values that are already instances of the target type are passed through. */
+        if (isInstanceOf(sourceValueType, targetValueType)) return new ConversionPlan(sourceElementType, null, null, null, null);
+
+        Class<?> collectionElementType = getCollectionElementType(sourceValueType, targetValueType);
+        OmittableValueConverter valueConverter = null;
+
+        if (sourceValueType == String.class || sourceValueType == String[].class || Collection.class.isAssignableFrom(sourceValueType)) {
+            valueConverter = OmittableValueConverter.forElementType(this.conversionService, this.parserRegistry, targetElementType);
+        }
+
+        OmittableMetrics metrics = this.metrics;
+        OmittableMetrics.ConversionRecorder recorder = (metrics != null) ? metrics.conversion(targetType) : null;
+
+        return new ConversionPlan(sourceElementType, targetElementType, collectionElementType, valueConverter, recorder);
+    }
+
+    /**
+     * Returns whether every value of the given runtime type is an instance of the given target type, including its
+     * generics.
+     */
+    private static boolean isInstanceOf(Class<?> sourceValueType, ResolvableType targetValueType) {
+        Class<?> targetClass = targetValueType.resolve();
+        if (targetClass == null || !targetClass.isAssignableFrom(sourceValueType)) return false;
+
+        /* The generics of a value cannot be checked based on its runtime type alone. */
+        if (targetValueType.hasGenerics()) return false;
+
+        ResolvableType componentType = targetValueType;
+        while (componentType.isArray()) componentType = componentType.getComponentType();
+
+        return !componentType.hasGenerics();
+    }
+
+    /**
+     * Returns the element type that all elements of a collection of the given runtime type must be instances of for
+     * the collection to be an instance of the given target type, or {@code null} if this cannot be determined.
+     */
+    private static @Nullable Class<?> getCollectionElementType(Class<?> sourceValueType, ResolvableType targetValueType) {
+        Class<?> targetClass = targetValueType.resolve();
+        if (targetClass == null || !Collection.class.isAssignableFrom(targetClass) || !targetClass.isAssignableFrom(sourceValueType)) return null;
+
+        ResolvableType elementType = targetValueType.asCollection().getGeneric();
+        if (elementType.hasGenerics() || elementType.isArray()) return null;
+
+        return elementType.resolve();
+    }
+
+    static final class GenericTypeDescriptor extends TypeDescriptor {
 
-        public GenericTypeDescriptor(TypeDescriptor typeDescriptor) {
+        GenericTypeDescriptor(TypeDescriptor typeDescriptor) {
             super(typeDescriptor.getResolvableType().getGeneric(), null, typeDescriptor.getAnnotations());
         }
 
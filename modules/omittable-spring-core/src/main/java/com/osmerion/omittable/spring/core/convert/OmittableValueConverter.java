@@ -0,0 +1,286 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.convert;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Wraps raw values in an {@link Omittable} of a fixed target type, converting them to the type of the wrapped value if
+ * necessary.
+ *
+ * <p>All type information required for conversion is resolved once when the converter is created. Instances are
+ * thread-safe and intended to be reused for every conversion to the same target type, for example by caching one
+ * instance per handler method parameter.</p>
+ *
+ * <p>{@link String} values are parsed using the {@link ValueParser parser} for the element type from a
+ * {@link ValueParserRegistry}, if any. Values that cannot be parsed this way are converted using the
+ * {@link ConversionService}.</p>
+ *
+ * <p>If the wrapped type is an array or a collection type that is supported by {@link CollectionFactory} (such as
+ * {@code List<T>} or {@code Set<T>}), {@code String} values, {@code String[]} values, and collections are converted
+ * element by element directly into a target array or collection of the required size. A single {@code String} value
+ * is split at commas and each element is trimmed, consistent with Spring's default conversion of delimited strings.
+ * </p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableValueConverter {
+
+    private static final TypeDescriptor STRING_TYPE = TypeDescriptor.valueOf(String.class);
+    private static final TypeDescriptor STRING_ARRAY_TYPE = TypeDescriptor.valueOf(String[].class);
+
+    /**
+     * Creates a new {@link OmittableValueConverter} for the given {@link Omittable} target type.
+     *
+     * @param conversionService the conversion service to use for converting the wrapped values
+     * @param targetType        the type descriptor of the target {@code Omittable} type
+     *
+     * @return  the new converter
+     *
+     * @since   2.1.0
+     */
+    public static OmittableValueConverter create(ConversionService conversionService, TypeDescriptor targetType) {
+        return create(conversionService, ValueParserRegistry.getSharedInstance(), targetType);
+    }
+
+    /**
+     * Creates a new {@link OmittableValueConverter} for the given {@link Omittable} target type.
+     *
+     * @param conversionService the conversion service to use for converting the wrapped values
+     * @param parserRegistry    the registry of parsers to use for parsing {@code String} values
+     * @param targetType        the type descriptor of the target {@code Omittable} type
+     *
+     * @return  the new converter
+     *
+     * @since   2.1.0
+     */
+    public static OmittableValueConverter create(
+        ConversionService conversionService,
+        ValueParserRegistry parserRegistry,
+        TypeDescriptor targetType
+    ) {
+        return forElementType(conversionService, parserRegistry, new OmittableConverter.GenericTypeDescriptor(targetType));
+    }
+
+    static OmittableValueConverter forElementType(
+        ConversionService conversionService,
+        ValueParserRegistry parserRegistry,
+        TypeDescriptor elementType
+    ) {
+        return new OmittableValueConverter(
+            conversionService,
+            elementType,
+            parserRegistry.getParser(elementType),
+            MultiValueTarget.create(parserRegistry, elementType)
+        );
+    }
+
+    private final ConversionService conversionService;
+
+    private final TypeDescriptor elementType;
+
+    private final @Nullable ValueParser<?> parser;
+
+    private final @Nullable MultiValueTarget multiValueTarget;
+
+    private OmittableValueConverter(
+        ConversionService conversionService,
+        TypeDescriptor elementType,
+        @Nullable ValueParser<?> parser,
+        @Nullable MultiValueTarget multiValueTarget
+    ) {
+        this.conversionService = conversionService;
+        this.elementType = elementType;
+        this.parser = parser;
+        this.multiValueTarget = multiValueTarget;
+    }
+
+    /**
+     * Returns the type descriptor of the values wrapped by the {@link Omittable Omittables} returned by this converter.
+     *
+     * @return  the type descriptor of the wrapped values
+     *
+     * @since   2.1.0
+     */
+    public TypeDescriptor getElementType() {
+        return this.elementType;
+    }
+
+    /**
+     * Converts the given raw value to the element type of this converter and wraps it in an {@link Omittable}.
+     *
+     * @param value the raw value to convert
+     *
+     * @return  a present {@code Omittable} wrapping the converted value
+     *
+     * @since   2.1.0
+     */
+    public Omittable<?> convert(@Nullable Object value) {
+        if (value == null) return CachedOmittables.of(null);
+        return convert(value, null);
+    }
+
+    Omittable<?> convert(Object value, @Nullable TypeDescriptor sourceType) {
+        if (this.multiValueTarget != null) {
+            Object targetValue = this.multiValueTarget.convert(this.conversionService, value);
+            if (targetValue != null) return CachedOmittables.of(targetValue);
+        } else if (this.parser != null && value instanceof String text) {
+            Object parsedValue = this.parser.parse(text);
+            if (parsedValue != null) return CachedOmittables.of(parsedValue);
+        }
+
+        /* The source type is only resolved if the conversion service is actually needed. */
+        if (sourceType == null) sourceType = typeOf(value);
+        return CachedOmittables.of(this.conversionService.convert(value, sourceType, this.elementType));
+    }
+
+    private static TypeDescriptor typeOf(Object value) {
+        if (value instanceof String) return STRING_TYPE;
+        if (value instanceof String[]) return STRING_ARRAY_TYPE;
+
+        return TypeDescriptor.forObject(value);
+    }
+
+    /**
+     * An array or collection type whose elements are converted individually.
+     *
+     * @param containerType     the array or collection type
+     * @param componentClass    the type of the elements
+     * @param componentType     the type descriptor of the elements, or {@code null} if elements are used as-is
+     * @param componentParser   the parser for the elements, if any
+     */
+    private record MultiValueTarget(
+        Class<?> containerType,
+        Class<?> componentClass,
+        @Nullable TypeDescriptor componentType,
+        @Nullable ValueParser<?> componentParser
+    ) {
+
+        static @Nullable MultiValueTarget create(ValueParserRegistry parserRegistry, TypeDescriptor elementType) {
+            if (!elementType.isArray() && !elementType.isCollection()) return null;
+
+            TypeDescriptor componentType = elementType.getElementTypeDescriptor();
+            Class<?> componentClass = (componentType != null) ? componentType.getType() : Object.class;
+
+            if (elementType.isCollection()) {
+                try {
+                    CollectionFactory.createCollection(elementType.getType(), componentClass, 0);
+                } catch (IllegalArgumentException e) {
+                    /* Leave unsupported collection types to the conversion service. */
+                    return null;
+                }
+            }
+
+            /* Strings are used as-is. This matches the conversion service bypassing no-op conversions. */
+            if (componentType != null && componentType.getType() == String.class) componentType = null;
+
+            ValueParser<?> componentParser = (componentType != null) ? parserRegistry.getParser(componentType) : null;
+            return new MultiValueTarget(elementType.getType(), componentClass, componentType, componentParser);
+        }
+
+        /**
+         * Converts the given value, or returns {@code null} if the value is not a {@code String}, {@code String[]}, or
+         * collection.
+         */
+        @Nullable Object convert(ConversionService conversionService, Object value) {
+            if (value instanceof String text) {
+                if (text.isEmpty()) return newContainer(0);
+
+                int size = 1;
+                for (int i = text.indexOf(','); i != -1; i = text.indexOf(',', i + 1)) size++;
+
+                Object container = newContainer(size);
+                int start = 0;
+
+                for (int index = 0; index < size; index++) {
+                    int end = text.indexOf(',', start);
+                    if (end == -1) end = text.length();
+
+                    set(container, index, convertComponent(conversionService, text.substring(start, end).trim()));
+                    start = end + 1;
+                }
+
+                return container;
+            } else if (value instanceof String[] values) {
+                if (this.componentType == null && this.containerType == String[].class) return values;
+
+                Object container = newContainer(values.length);
+                for (int index = 0; index < values.length; index++) set(container, index, convertComponent(conversionService, values[index]));
+
+                return container;
+            } else if (value instanceof List<?> values && value instanceof RandomAccess) {
+                /* Indexed access avoids allocating an iterator for the common case of request parameter lists. */
+                Object container = newContainer(values.size());
+                for (int index = 0; index < values.size(); index++) set(container, index, convertComponent(conversionService, values.get(index)));
+
+                return container;
+            } else if (value instanceof Collection<?> values) {
+                Object container = newContainer(values.size());
+                int index = 0;
+
+                for (Object element : values) set(container, index++, convertComponent(conversionService, element));
+
+                return container;
+            }
+
+            return null;
+        }
+
+        private @Nullable Object convertComponent(ConversionService conversionService, @Nullable Object element) {
+            if (element == null || this.componentType == null) return element;
+
+            if (element instanceof String text) {
+                if (this.componentParser != null) {
+                    Object parsedValue = this.componentParser.parse(text);
+                    if (parsedValue != null) return parsedValue;
+                }
+
+                return conversionService.convert(text, STRING_TYPE, this.componentType);
+            }
+
+            return conversionService.convert(element, TypeDescriptor.forObject(element), this.componentType);
+        }
+
+        private Object newContainer(int size) {
+            if (this.containerType.isArray()) return Array.newInstance(this.componentClass, size);
+            return CollectionFactory.createCollection(this.containerType, this.componentClass, size);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void set(Object container, int index, @Nullable Object element) {
+            if (container instanceof Collection<?> collection) {
+                ((Collection<Object>) collection).add(element);
+            } else if (container instanceof Object[] array) {
+                array[index] = element;
+            } else {
+                Array.set(container, index, element);
+            }
+        }
+
+    }
+
+}
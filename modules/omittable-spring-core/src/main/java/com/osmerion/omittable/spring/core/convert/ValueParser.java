@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.convert;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A parser that converts text directly into a value of a specific type without going through a
+ * {@link org.springframework.core.convert.ConversionService ConversionService}.
+ *
+ * <p>Parsers are fast paths. A parser should only handle the canonical textual representation of a type and must
+ * produce the same result as the regular conversion would for that input. Any other input is rejected by returning
+ * {@code null}, in which case the regular conversion is used instead.</p>
+ *
+ * @param <T>   the type of the parsed values
+ *
+ * @see ValueParserRegistry
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@FunctionalInterface
+public interface ValueParser<T> {
+
+    /**
+     * Parses the given text.
+     *
+     * @param text  the text to parse
+     *
+     * @return  the parsed value, or {@code null} if the text is not supported by this parser
+     *
+     * @since   2.1.0
+     */
+    @Nullable T parse(String text);
+
+}
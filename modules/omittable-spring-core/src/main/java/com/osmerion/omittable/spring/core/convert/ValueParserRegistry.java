@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.convert;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.lang.annotation.Annotation;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of {@link ValueParser parsers} that are used to convert text into values of common types without going
+ * through a {@link org.springframework.core.convert.ConversionService ConversionService}.
+ *
+ * <p>The {@link #withDefaults() default registry} contains parsers for {@link Integer}, {@link Long}, {@link Boolean},
+ * {@link UUID}, {@link Instant}, {@link LocalDate}, and enum types. These parsers only accept the canonical textual
+ * representation of their type (e.g. decimal numbers, {@code true} and {@code false}, and ISO-8601 dates) and reject
+ * any other input so that it is handled by the regular conversion instead.</p>
+ *
+ * <p>Parsers are never used for types that are annotated with a formatting annotation from the
+ * {@code org.springframework.format.annotation} package (such as {@code @DateTimeFormat}) since those may change how
+ * the text has to be interpreted.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class ValueParserRegistry {
+
+    private static final String FORMAT_ANNOTATION_PACKAGE = "org.springframework.format.annotation.";
+
+    private static final ClassValue<ValueParser<?>> ENUM_PARSERS = new ClassValue<>() {
+
+        @Override
+        protected ValueParser<?> computeValue(Class<?> type) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) constants.put(((Enum<?>) constant).name(), constant);
+
+            return constants::get;
+        }
+
+    };
+
+    private static volatile @Nullable ValueParserRegistry sharedInstance;
+
+    /**
+     * Returns a shared registry instance with the default parsers, lazily building it once needed.
+     *
+     * <p><b>Note:</b> Modifications to the shared registry affect every converter that uses it. If additional parsers
+     * are required, a dedicated registry should be created instead.</p>
+     *
+     * @return  the shared registry instance
+     *
+     * @since   2.1.0
+     */
+    public static ValueParserRegistry getSharedInstance() {
+        ValueParserRegistry registry = sharedInstance;
+        if (registry == null) {
+            synchronized (ValueParserRegistry.class) {
+                registry = sharedInstance;
+                if (registry == null) {
+                    registry = withDefaults();
+                    sharedInstance = registry;
+                }
+            }
+        }
+
+        return registry;
+    }
+
+    /**
+     * Creates a new registry with the default parsers.
+     *
+     * @return  the new registry
+     *
+     * @since   2.1.0
+     */
+    public static ValueParserRegistry withDefaults() {
+        ValueParserRegistry registry = new ValueParserRegistry();
+        registry.addParser(Integer.class, ValueParserRegistry::parseInteger);
+        registry.addParser(Long.class, ValueParserRegistry::parseLong);
+        registry.addParser(Boolean.class, ValueParserRegistry::parseBoolean);
+        registry.addParser(UUID.class, ValueParserRegistry::parseUUID);
+        registry.addParser(Instant.class, ValueParserRegistry::parseInstant);
+        registry.addParser(LocalDate.class, ValueParserRegistry::parseLocalDate);
+        registry.addEnumParsers();
+
+        return registry;
+    }
+
+    private final Map<Class<?>, ValueParser<?>> parsers = new ConcurrentHashMap<>();
+
+    private volatile boolean enumParsers;
+
+    /**
+     * Creates a new empty registry.
+     *
+     * @since   2.1.0
+     */
+    public ValueParserRegistry() {}
+
+    /**
+     * Registers a parser for the given type, replacing any previously registered parser for that type.
+     *
+     * @param <T>       the type of the parsed values
+     * @param type      the type for which to register the parser
+     * @param parser    the parser
+     *
+     * @since   2.1.0
+     */
+    public <T> void addParser(Class<T> type, ValueParser<? extends T> parser) {
+        this.parsers.put(type, parser);
+    }
+
+    /**
+     * Enables parsers for enum types that do not have an explicitly registered parser.
+     *
+     * <p>These parsers resolve enum constants by their exact {@link Enum#name() name}.</p>
+     *
+     * @since   2.1.0
+     */
+    public void addEnumParsers() {
+        this.enumParsers = true;
+    }
+
+    /**
+     * Returns the parser for the given type, if any.
+     *
+     * @param type  the type descriptor of the values to parse
+     *
+     * @return  the parser for the given type, or {@code null} if values of the type have to be converted using the
+     *          regular conversion
+     *
+     * @since   2.1.0
+     */
+    public @Nullable ValueParser<?> getParser(TypeDescriptor type) {
+        for (Annotation annotation : type.getAnnotations()) {
+            if (annotation.annotationType().getName().startsWith(FORMAT_ANNOTATION_PACKAGE)) return null;
+        }
+
+        Class<?> clazz = type.getType();
+        ValueParser<?> parser = this.parsers.get(clazz);
+        if (parser == null && this.enumParsers && clazz.isEnum()) parser = ENUM_PARSERS.get(clazz);
+
+        return parser;
+    }
+
+    private static boolean isDecimal(String text, int maxDigits) {
+        int length = text.length();
+        int start = (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) ? 1 : 0;
+        if (length == start || length - start > maxDigits) return false;
+
+        for (int i = start; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+
+        return true;
+    }
+
+    private static @Nullable Integer parseInteger(String text) {
+        if (!isDecimal(text, 10)) return null;
+
+        try {
+            return Integer.valueOf(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable Long parseLong(String text) {
+        if (!isDecimal(text, 19)) return null;
+
+        try {
+            return Long.valueOf(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable Boolean parseBoolean(String text) {
+        if ("true".equals(text)) return Boolean.TRUE;
+        if ("false".equals(text)) return Boolean.FALSE;
+
+        return null;
+    }
+
+    private static @Nullable UUID parseUUID(String text) {
+        if (text.length() != 36 || text.charAt(8) != '-' || text.charAt(13) != '-' || text.charAt(18) != '-' || text.charAt(23) != '-') return null;
+
+        try {
+            return UUID.fromString(text);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable Instant parseInstant(String text) {
+        /* Leave epoch milliseconds and RFC-1123 timestamps to the regular conversion. */
+        if (text.length() < 20 || text.charAt(4) != '-' || text.charAt(10) != 'T') return null;
+
+        try {
+            return Instant.parse(text);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable LocalDate parseLocalDate(String text) {
+        if (text.length() != 10 || text.charAt(4) != '-' || text.charAt(7) != '-') return null;
+
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.introspect;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Utilities for discovering the properties of classes that are bound, patched, or inspected by this library.
+ *
+ * <p>The properties of records are their components. The properties of other classes are defined by their public
+ * getters and setters. Since the order of {@link Class#getMethods()} is unspecified, the properties of such classes are
+ * discovered in the order of the names of their accessors.</p>
+ *
+ * <p>This class is shared by the modules of this library so that all of them discover the same properties.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittablePropertyIntrospector {
+
+    private static final Comparator<Method> BY_NAME = Comparator.comparing(Method::getName);
+
+    /**
+     * Returns whether instances of the given class may be bound property by property.
+     *
+     * <p>Primitive types, arrays, interfaces, abstract classes, simple value types, collections, maps, and
+     * {@link Omittable} itself are not bindable.</p>
+     *
+     * @param type  the class
+     *
+     * @return  whether instances of the class may be bound property by property
+     *
+     * @since   2.1.0
+     */
+    public static boolean isBindable(Class<?> type) {
+        return !(type.isPrimitive() || type.isArray() || type.isInterface() || Modifier.isAbstract(type.getModifiers())
+            || ClassUtils.isSimpleValueType(type) || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)
+            || type == Omittable.class);
+    }
+
+    /**
+     * Returns the accessible canonical constructor of the given record class.
+     *
+     * @param <T>   the type of the record
+     * @param type  the record class
+     *
+     * @return  the canonical constructor
+     *
+     * @throws NoSuchMethodException    if the class does not have an accessible canonical constructor
+     *
+     * @since   2.1.0
+     */
+    public static <T> Constructor<T> getCanonicalConstructor(Class<T> type) throws NoSuchMethodException {
+        RecordComponent[] components = type.getRecordComponents();
+        if (components == null) throw new NoSuchMethodException(type.getName() + " is not a record");
+
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        for (int index = 0; index < components.length; index++) parameterTypes[index] = components[index].getType();
+
+        return ReflectionUtils.accessibleConstructor(type, parameterTypes);
+    }
+
+    /**
+     * Returns the getters of the properties of the given class keyed by the names of the properties.
+     *
+     * <p>The getters of records are the accessors of their components in declaration order. The getters of other
+     * classes are their public instance methods without parameters that are named {@code getX}, or {@code isX} if they
+     * return a {@code boolean}. If a property has both kinds of getters, the {@code getX} method is used.</p>
+     *
+     * @param type  the class
+     *
+     * @return  the getters of the properties of the class
+     *
+     * @since   2.1.0
+     */
+    public static Map<String, Method> findGetters(Class<?> type) {
+        Map<String, Method> getters = new LinkedHashMap<>();
+
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) getters.put(component.getName(), component.getAccessor());
+            return getters;
+        }
+
+        for (Method method : sortedPublicMethods(type)) {
+            if (method.getParameterCount() != 0 || method.getReturnType() == void.class) continue;
+
+            String name = method.getName();
+            if (name.length() > 3 && name.startsWith("get")) {
+                getters.putIfAbsent(StringUtils.uncapitalizeAsProperty(name.substring(3)), method);
+            } else if (name.length() > 2 && name.startsWith("is") && method.getReturnType() == boolean.class) {
+                getters.putIfAbsent(StringUtils.uncapitalizeAsProperty(name.substring(2)), method);
+            }
+        }
+
+        return getters;
+    }
+
+    /**
+     * Returns the getters of the {@link Omittable} properties of the given class keyed by the names of the properties.
+     *
+     * @param type  the class
+     *
+     * @return  the getters of the {@code Omittable} properties of the class
+     *
+     * @see #findGetters(Class)
+     *
+     * @since   2.1.0
+     */
+    public static Map<String, Method> findOmittableGetters(Class<?> type) {
+        Map<String, Method> getters = findGetters(type);
+        getters.values().removeIf(getter -> getter.getReturnType() != Omittable.class);
+
+        return getters;
+    }
+
+    /**
+     * Returns the setters of the properties of the given class keyed by the names of the properties.
+     *
+     * <p>Setters are public instance methods with a single parameter and without a return value that are named
+     * {@code setX}. If a setter is overloaded, exactly one overload is used for the property: setters that take an
+     * {@link Omittable} are preferred, followed by setters whose parameter type matches the return type of the getter
+     * of the property. Other overloads are ordered by the name of their parameter type.</p>
+     *
+     * @param type  the class
+     *
+     * @return  the setters of the properties of the class
+     *
+     * @since   2.1.0
+     */
+    public static Map<String, Method> findSetters(Class<?> type) {
+        Map<String, Method> setters = new LinkedHashMap<>();
+
+        for (Method method : sortedPublicMethods(type)) {
+            if (method.getParameterCount() != 1 || method.getReturnType() != void.class) continue;
+            if (method.getName().length() <= 3 || !method.getName().startsWith("set")) continue;
+
+            setters.merge(StringUtils.uncapitalizeAsProperty(method.getName().substring(3)), method, (a, b) -> selectSetter(type, a, b));
+        }
+
+        return setters;
+    }
+
+    private static Method selectSetter(Class<?> type, Method a, Method b) {
+        Class<?> aType = a.getParameterTypes()[0];
+        Class<?> bType = b.getParameterTypes()[0];
+        if ((aType == Omittable.class) != (bType == Omittable.class)) return (aType == Omittable.class) ? a : b;
+
+        Class<?> getterType = getGetterType(type, a.getName().substring(3));
+        if (getterType != null && (aType == getterType) != (bType == getterType)) return (aType == getterType) ? a : b;
+
+        return (aType.getName().compareTo(bType.getName()) <= 0) ? a : b;
+    }
+
+    private static @Nullable Class<?> getGetterType(Class<?> type, String suffix) {
+        Method getter = ClassUtils.getMethodIfAvailable(type, "get" + suffix);
+        if (getter == null) getter = ClassUtils.getMethodIfAvailable(type, "is" + suffix);
+
+        return (getter != null) ? getter.getReturnType() : null;
+    }
+
+    /* Returns the public instance methods of the given class that are not declared by Object, ordered by name. */
+    private static Method[] sortedPublicMethods(Class<?> type) {
+        Method[] methods = Arrays.stream(type.getMethods())
+            .filter(method -> !Modifier.isStatic(method.getModifiers()) && !method.isBridge() && method.getDeclaringClass() != Object.class)
+            .toArray(Method[]::new);
+
+        Arrays.sort(methods, BY_NAME);
+        return methods;
+    }
+
+    private OmittablePropertyIntrospector() {}
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.json;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.introspect.OmittablePropertyIntrospector;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The information required to bind a JSON object to an instance of a class that is computed once per class.
+ *
+ * <p>Records are instantiated using their canonical constructor. Other classes are instantiated using their no-arg
+ * constructor, and their properties are set using their public setters.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+final class BindingPlan {
+
+    /** The plan for classes that cannot be bound. */
+    static final BindingPlan UNSUPPORTED = new BindingPlan(Map.of(), new Property[0], new Object[0], null, false, false);
+
+    private final Map<String, Property> properties;
+
+    private final Property[] indexedProperties;
+
+    private final @Nullable Object[] defaultValues;
+
+    private final @Nullable MethodHandle constructor;
+
+    private final boolean isRecord;
+
+    private final boolean hasOmittableProperties;
+
+    private BindingPlan(
+        Map<String, Property> properties,
+        Property[] indexedProperties,
+        @Nullable Object[] defaultValues,
+        @Nullable MethodHandle constructor,
+        boolean isRecord,
+        boolean hasOmittableProperties
+    ) {
+        this.properties = properties;
+        this.indexedProperties = indexedProperties;
+        this.defaultValues = defaultValues;
+        this.constructor = constructor;
+        this.isRecord = isRecord;
+        this.hasOmittableProperties = hasOmittableProperties;
+    }
+
+    /**
+     * Creates the binding plan for the given class, or returns {@link #UNSUPPORTED} if instances of the class cannot be
+     * bound from JSON objects.
+     *
+     * @param type  the class to create the plan for
+     *
+     * @return  the binding plan for the class
+     */
+    static BindingPlan create(Class<?> type) {
+        if (!OmittablePropertyIntrospector.isBindable(type)) return UNSUPPORTED;
+
+        try {
+            return type.isRecord() ? createForRecord(type) : createForBean(type);
+        } catch (IllegalAccessException e) {
+            return UNSUPPORTED;
+        }
+    }
+
+    private static BindingPlan createForRecord(Class<?> type) throws IllegalAccessException {
+        RecordComponent[] components = type.getRecordComponents();
+
+        Constructor<?> constructor;
+        try {
+            constructor = OmittablePropertyIntrospector.getCanonicalConstructor(type);
+        } catch (NoSuchMethodException e) {
+            return UNSUPPORTED;
+        }
+
+        Map<String, Property> properties = new HashMap<>();
+        Property[] indexedProperties = new Property[components.length];
+        Object[] defaultValues = new Object[components.length];
+        boolean hasOmittableProperties = false;
+
+        for (int index = 0; index < components.length; index++) {
+            Property property = new Property(index, new TypeDescriptor(MethodParameter.forExecutable(constructor, index)), null);
+            properties.put(components[index].getName(), property);
+            indexedProperties[index] = property;
+            defaultValues[index] = property.defaultValue();
+            hasOmittableProperties |= property.isOmittable();
+        }
+
+        MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+            .asSpreader(Object[].class, components.length)
+            .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return new BindingPlan(Map.copyOf(properties), indexedProperties, defaultValues, handle, true, hasOmittableProperties);
+    }
+
+    private static BindingPlan createForBean(Class<?> type) throws IllegalAccessException {
+        Constructor<?> constructor;
+        try {
+            constructor = ReflectionUtils.accessibleConstructor(type);
+        } catch (NoSuchMethodException e) {
+            return UNSUPPORTED;
+        }
+
+        Map<String, Method> setters = OmittablePropertyIntrospector.findSetters(type);
+        if (setters.isEmpty()) return UNSUPPORTED;
+
+        Map<String, Property> properties = new HashMap<>();
+        Property[] indexedProperties = new Property[setters.size()];
+        Object[] defaultValues = new Object[setters.size()];
+        boolean hasOmittableProperties = false;
+
+        int index = 0;
+        for (Map.Entry<String, Method> entry : setters.entrySet()) {
+            Method setter = entry.getValue();
+            ReflectionUtils.makeAccessible(setter);
+
+            MethodHandle handle = MethodHandles.lookup().unreflect(setter)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+            Property property = new Property(index, new TypeDescriptor(MethodParameter.forExecutable(setter, 0)), handle);
+            properties.put(entry.getKey(), property);
+            indexedProperties[index] = property;
+            defaultValues[index] = property.defaultValue();
+            hasOmittableProperties |= property.isOmittable();
+            index++;
+        }
+
+        MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+            .asType(MethodType.methodType(Object.class));
+
+        return new BindingPlan(Map.copyOf(properties), indexedProperties, defaultValues, handle, false, hasOmittableProperties);
+    }
+
+    /**
+     * Returns whether instances of the class can be bound.
+     *
+     * @return  whether instances of the class can be bound
+     */
+    boolean isSupported() {
+        return this.constructor != null;
+    }
+
+    /**
+     * Returns whether the class has at least one property of type {@link Omittable}.
+     *
+     * @return  whether the class has at least one {@code Omittable} property
+     */
+    boolean hasOmittableProperties() {
+        return this.hasOmittableProperties;
+    }
+
+    /**
+     * Returns the property with the given JSON name, or {@code null} if the class does not have such a property.
+     *
+     * @param name  the name of the property
+     *
+     * @return  the property, or {@code null}
+     */
+    @Nullable Property getProperty(String name) {
+        return this.properties.get(name);
+    }
+
+    /**
+     * Returns a new array of property values that is initialized with the default values of all properties.
+     *
+     * @return  a new array of property values
+     */
+    @Nullable Object[] newValues() {
+        return this.defaultValues.clone();
+    }
+
+    /**
+     * Creates an instance of the class from the given property values.
+     *
+     * @param values    the values of the properties
+     * @param present   whether a value was bound for each property
+     *
+     * @return  the new instance
+     */
+    Object instantiate(@Nullable Object[] values, boolean[] present) {
+        MethodHandle constructor = this.constructor;
+        if (constructor == null) throw new IllegalStateException("Unsupported binding plan");
+
+        try {
+            if (this.isRecord) return (Object) constructor.invokeExact(values);
+
+            Object instance = (Object) constructor.invokeExact();
+
+            for (int index = 0; index < this.indexedProperties.length; index++) {
+                Property property = this.indexedProperties[index];
+
+                /* Omittable properties that were not bound are explicitly set to absent. Other properties keep their initial value. */
+                if (present[index] || property.isOmittable()) {
+                    MethodHandle setter = property.setter();
+                    if (setter != null) setter.invokeExact(instance, values[index]);
+                }
+            }
+
+            return instance;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to instantiate bound object", t);
+        }
+    }
+
+    /**
+     * A bindable property.
+     *
+     * @param index     the index of the property's value
+     * @param type      the declared type of the property
+     * @param valueType the type of the JSON value of the property (i.e. the wrapped type for {@code Omittable}
+     *                  properties), or {@code null} if unknown
+     * @param setter    the setter for the property, or {@code null} if the property is set using a constructor
+     */
+    record Property(int index, TypeDescriptor type, @Nullable TypeDescriptor valueType, @Nullable MethodHandle setter) {
+
+        Property(int index, TypeDescriptor type, @Nullable MethodHandle setter) {
+            this(index, type, valueTypeOf(type), setter);
+        }
+
+        private static @Nullable TypeDescriptor valueTypeOf(TypeDescriptor type) {
+            if (type.getType() != Omittable.class) return type;
+            if (!type.getResolvableType().hasGenerics()) return null;
+
+            return new TypeDescriptor(type.getResolvableType().getGeneric(), null, type.getAnnotations());
+        }
+
+        boolean isOmittable() {
+            return this.type.getType() == Omittable.class;
+        }
+
+        @Nullable Object defaultValue() {
+            if (isOmittable()) return Omittable.absent();
+
+            Class<?> rawType = this.type.getType();
+            return rawType.isPrimitive() ? Array.get(Array.newInstance(rawType, 1), 0) : null;
+        }
+
+    }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.json;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.CachedOmittables;
+import com.osmerion.omittable.spring.core.convert.OmittableConverter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.exc.StreamReadException;
+
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds JSON objects directly from a stream of tokens to objects with {@link Omittable} properties.
+ *
+ * <p>The binder is intended for partial updates (e.g., {@code PATCH} requests). A property that is missing from a JSON
+ * object is bound as {@link Omittable#absent()}, while a property with an explicit {@code null} value is bound as a
+ * present {@code null}. Since the tokens are bound as they are read, no intermediate tree or map representation of the
+ * JSON object is required to tell the two cases apart.</p>
+ *
+ * <p>Records are bound using their canonical constructor. Other classes are bound using their no-arg constructor and
+ * their public setters. The information required to bind a class is computed once per class. Values are converted
+ * to the declared type of {@code Omittable} properties using an {@link OmittableConverter}, and to the declared type
+ * of other properties using the {@link ConversionService}. Nested objects are bound recursively. Unknown properties
+ * are ignored.</p>
+ *
+ * <p>This class requires {@code tools.jackson.core:jackson-core} to be on the classpath.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableJsonBinder {
+
+    private static final TypeDescriptor OMITTABLE_OBJECT_TYPE = new TypeDescriptor(
+        ResolvableType.forClassWithGenerics(Omittable.class, Object.class),
+        Omittable.class,
+        new Annotation[0]
+    );
+
+    private final ConversionService conversionService;
+
+    private final OmittableConverter omittableConverter;
+
+    private final Map<Class<?>, BindingPlan> bindingPlans = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link OmittableJsonBinder}.
+     *
+     * @param conversionService the conversion service to use for converting values
+     *
+     * @since   2.1.0
+     */
+    public OmittableJsonBinder(ConversionService conversionService) {
+        this(conversionService, new OmittableConverter(conversionService));
+    }
+
+    /**
+     * Creates a new {@link OmittableJsonBinder}.
+     *
+     * @param conversionService     the conversion service to use for converting the values of non-{@code Omittable}
+     *                              properties
+     * @param omittableConverter    the converter to use for converting the values of {@code Omittable} properties
+     *
+     * @since   2.1.0
+     */
+    public OmittableJsonBinder(ConversionService conversionService, OmittableConverter omittableConverter) {
+        this.conversionService = conversionService;
+        this.omittableConverter = omittableConverter;
+    }
+
+    /**
+     * Returns whether instances of the given class can be bound by this binder.
+     *
+     * <p>Only classes with at least one {@link Omittable} property are considered bindable to avoid taking over the
+     * binding of unrelated classes.</p>
+     *
+     * @param type  the class to check
+     *
+     * @return  whether instances of the class can be bound
+     *
+     * @since   2.1.0
+     */
+    public boolean canBind(Class<?> type) {
+        BindingPlan plan = getBindingPlan(type);
+        return plan.isSupported() && plan.hasOmittableProperties();
+    }
+
+    /**
+     * Binds the next JSON object from the given parser to a new instance of the given class.
+     *
+     * <p>If the parser is not positioned at the start of an object, the next token is read first.</p>
+     *
+     * @param <T>       the type of the object
+     * @param parser    the parser to read from
+     * @param type      the class of the object
+     *
+     * @return  the bound object
+     *
+     * @throws IllegalArgumentException if instances of the class cannot be bound
+     * @throws JacksonException         if the JSON input is malformed or is not an object
+     *
+     * @since   2.1.0
+     */
+    public <T> T bind(JsonParser parser, Class<T> type) {
+        BindingPlan plan = getBindingPlan(type);
+        if (!plan.isSupported()) throw new IllegalArgumentException("Cannot bind JSON objects to " + type.getName());
+
+        JsonToken token = parser.currentToken();
+        if (token != JsonToken.START_OBJECT) token = parser.nextToken();
+        if (token != JsonToken.START_OBJECT) throw new StreamReadException(parser, "Expected a JSON object but found: " + token);
+
+        return type.cast(readObject(parser, plan));
+    }
+
+    private BindingPlan getBindingPlan(Class<?> type) {
+        BindingPlan plan = this.bindingPlans.get(type);
+        if (plan == null) plan = this.bindingPlans.computeIfAbsent(type, BindingPlan::create);
+
+        return plan;
+    }
+
+    private Object readObject(JsonParser parser, BindingPlan plan) {
+        @Nullable Object[] values = plan.newValues();
+        boolean[] present = new boolean[values.length];
+
+        String name;
+        while ((name = parser.nextName()) != null) {
+            BindingPlan.Property property = plan.getProperty(name);
+            JsonToken token = parser.nextToken();
+
+            if (property == null) {
+                parser.skipChildren();
+                continue;
+            }
+
+            values[property.index()] = readProperty(parser, token, property);
+            present[property.index()] = true;
+        }
+
+        if (!parser.hasToken(JsonToken.END_OBJECT)) throw unexpectedEndOfInput(parser);
+        return plan.instantiate(values, present);
+    }
+
+    private @Nullable Object readProperty(JsonParser parser, @Nullable JsonToken token, BindingPlan.Property property) {
+        TypeDescriptor type = property.type();
+
+        if (property.isOmittable()) {
+            if (token == JsonToken.VALUE_NULL) return CachedOmittables.of(null);
+
+            Object value = readValue(parser, token, property.valueType());
+            return this.omittableConverter.convert(CachedOmittables.of(value), OMITTABLE_OBJECT_TYPE, type);
+        }
+
+        Object value = readValue(parser, token, type);
+        if (value == null) return property.defaultValue();
+
+        return this.conversionService.convert(value, TypeDescriptor.valueOf(value.getClass()), type);
+    }
+
+    private @Nullable Object readValue(JsonParser parser, @Nullable JsonToken token, @Nullable TypeDescriptor type) {
+        /* The parser returns null at the end of the input, or NOT_AVAILABLE if it is non-blocking and starved. */
+        if (token == null || token == JsonToken.NOT_AVAILABLE) throw unexpectedEndOfInput(parser);
+
+        switch (token) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                return parser.getString();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+                /* Avoid the loss of precision caused by going through a double. */
+                return (type != null && type.getType() == BigDecimal.class) ? parser.getDecimalValue() : parser.getNumberValue();
+            case START_ARRAY:
+                return readArray(parser, (type != null) ? type.getElementTypeDescriptor() : null);
+            case START_OBJECT:
+                return readNestedObject(parser, type);
+            default:
+                throw new StreamReadException(parser, "Unexpected token: " + token);
+        }
+    }
+
+    private List<@Nullable Object> readArray(JsonParser parser, @Nullable TypeDescriptor elementType) {
+        List<@Nullable Object> values = new ArrayList<>();
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            values.add(readValue(parser, token, elementType));
+        }
+
+        return values;
+    }
+
+    private Object readNestedObject(JsonParser parser, @Nullable TypeDescriptor type) {
+        if (type != null && type.getType() != Object.class) {
+            BindingPlan plan = getBindingPlan(type.getType());
+            if (plan.isSupported()) return readObject(parser, plan);
+        }
+
+        TypeDescriptor valueType = (type != null && type.isMap()) ? type.getMapValueTypeDescriptor() : null;
+        Map<String, @Nullable Object> values = new LinkedHashMap<>();
+
+        String name;
+        while ((name = parser.nextName()) != null) {
+            values.put(name, readValue(parser, parser.nextToken(), valueType));
+        }
+
+        if (!parser.hasToken(JsonToken.END_OBJECT)) throw unexpectedEndOfInput(parser);
+        return values;
+    }
+
+    private static StreamReadException unexpectedEndOfInput(JsonParser parser) {
+        return new StreamReadException(parser, "Unexpected end of input");
+    }
+
+}
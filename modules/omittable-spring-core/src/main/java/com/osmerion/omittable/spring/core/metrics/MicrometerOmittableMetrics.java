@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.metrics;
+
+import com.osmerion.omittable.Omittable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link OmittableMetrics} implementation that records to a Micrometer {@link MeterRegistry}.
+ *
+ * <p>The following meters are registered:</p>
+ *
+ * <ul>
+ *     <li>{@value #RESOLUTION_TIMER} - a timer for the resolution of handler method parameters, tagged by
+ *     {@code method} and {@code parameter},</li>
+ *     <li>{@value #RESOLUTION_OUTCOME_COUNTER} - a counter for the resolved values, tagged by {@code method},
+ *     {@code parameter}, and {@code outcome} ({@code absent}, {@code present}, or {@code null}),</li>
+ *     <li>{@value #RESOLUTION_FAILURE_COUNTER} - a counter for failed resolutions, tagged by {@code method},
+ *     {@code parameter}, and {@code exception},</li>
+ *     <li>{@value #CONVERSION_TIMER} - a timer for conversions, tagged by {@code target},</li>
+ *     <li>{@value #CONVERSION_FAILURE_COUNTER} - a counter for failed conversions, tagged by {@code target} and
+ *     {@code exception},</li>
+ *     <li>{@value #CACHE_ACCESS_COUNTER} and {@value #CACHE_MISS_COUNTER} - counters for the accesses to and misses of
+ *     plan caches, tagged by {@code cache}, and</li>
+ *     <li>{@value #CACHE_HIT_RATIO_GAUGE} - the ratio of accesses to plan caches that did not miss, tagged by
+ *     {@code cache}.</li>
+ * </ul>
+ *
+ * <p>This class requires {@code io.micrometer:micrometer-core} to be on the classpath.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class MicrometerOmittableMetrics implements OmittableMetrics {
+
+    /**
+     * The name of the timer for the resolution of handler method parameters.
+     *
+     * @since   2.1.0
+     */
+    public static final String RESOLUTION_TIMER = "omittable.resolution";
+
+    /**
+     * The name of the counter for the outcomes of the resolution of handler method parameters.
+     *
+     * @since   2.1.0
+     */
+    public static final String RESOLUTION_OUTCOME_COUNTER = "omittable.resolution.outcomes";
+
+    /**
+     * The name of the counter for failed resolutions of handler method parameters.
+     *
+     * @since   2.1.0
+     */
+    public static final String RESOLUTION_FAILURE_COUNTER = "omittable.resolution.failures";
+
+    /**
+     * The name of the timer for conversions.
+     *
+     * @since   2.1.0
+     */
+    public static final String CONVERSION_TIMER = "omittable.conversion";
+
+    /**
+     * The name of the counter for failed conversions.
+     *
+     * @since   2.1.0
+     */
+    public static final String CONVERSION_FAILURE_COUNTER = "omittable.conversion.failures";
+
+    /**
+     * The name of the counter for the accesses to plan caches.
+     *
+     * @since   2.1.0
+     */
+    public static final String CACHE_ACCESS_COUNTER = "omittable.plan.cache.accesses";
+
+    /**
+     * The name of the counter for the misses of plan caches.
+     *
+     * @since   2.1.0
+     */
+    public static final String CACHE_MISS_COUNTER = "omittable.plan.cache.misses";
+
+    /**
+     * The name of the gauge for the hit ratio of plan caches.
+     *
+     * @since   2.1.0
+     */
+    public static final String CACHE_HIT_RATIO_GAUGE = "omittable.plan.cache.hit.ratio";
+
+    private final MeterRegistry registry;
+
+    private final Map<String, CacheRecorder> cacheRecorders = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link MicrometerOmittableMetrics} instance.
+     *
+     * @param registry  the registry to register the meters with
+     *
+     * @since   2.1.0
+     */
+    public MicrometerOmittableMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public ResolutionRecorder resolution(MethodParameter parameter, String name) {
+        Tags tags = Tags.of(
+            "method", parameter.getDeclaringClass().getSimpleName() + "#" + parameter.getExecutable().getName(),
+            "parameter", name
+        );
+
+        return new MicrometerResolutionRecorder(this.registry, tags);
+    }
+
+    @Override
+    public ConversionRecorder conversion(TypeDescriptor targetType) {
+        return new MicrometerConversionRecorder(this.registry, Tags.of("target", targetType.getResolvableType().toString()));
+    }
+
+    @Override
+    public CacheRecorder cache(String name) {
+        /* Recorders are shared so that multiple components using the same cache name do not compete for the meters. */
+        return this.cacheRecorders.computeIfAbsent(name, it -> new MicrometerCacheRecorder(this.registry, Tags.of("cache", it)));
+    }
+
+    private static String exceptionTag(Throwable failure) {
+        return failure.getClass().getSimpleName();
+    }
+
+    private static final class MicrometerResolutionRecorder implements ResolutionRecorder {
+
+        private final MeterRegistry registry;
+
+        private final Tags tags;
+
+        private final Timer timer;
+
+        private final Counter absent;
+
+        private final Counter present;
+
+        private final Counter presentNull;
+
+        MicrometerResolutionRecorder(MeterRegistry registry, Tags tags) {
+            this.registry = registry;
+            this.tags = tags;
+            this.timer = Timer.builder(RESOLUTION_TIMER).tags(tags).register(registry);
+            this.absent = Counter.builder(RESOLUTION_OUTCOME_COUNTER).tags(tags).tag("outcome", "absent").register(registry);
+            this.present = Counter.builder(RESOLUTION_OUTCOME_COUNTER).tags(tags).tag("outcome", "present").register(registry);
+            this.presentNull = Counter.builder(RESOLUTION_OUTCOME_COUNTER).tags(tags).tag("outcome", "null").register(registry);
+        }
+
+        @Override
+        public void recordSuccess(long durationNanos, Omittable<?> result) {
+            this.timer.record(durationNanos, TimeUnit.NANOSECONDS);
+
+            if (result instanceof Omittable.Present<?> value) {
+                (value.value() != null ? this.present : this.presentNull).increment();
+            } else {
+                this.absent.increment();
+            }
+        }
+
+        @Override
+        public void recordFailure(long durationNanos, Throwable failure) {
+            this.timer.record(durationNanos, TimeUnit.NANOSECONDS);
+
+            /* Failures are expected to be rare. Thus, looking up the counter for each failure is acceptable. */
+            Counter.builder(RESOLUTION_FAILURE_COUNTER)
+                .tags(this.tags)
+                .tag("exception", exceptionTag(failure))
+                .register(this.registry)
+                .increment();
+        }
+
+    }
+
+    private static final class MicrometerConversionRecorder implements ConversionRecorder {
+
+        private final MeterRegistry registry;
+
+        private final Tags tags;
+
+        private final Timer timer;
+
+        MicrometerConversionRecorder(MeterRegistry registry, Tags tags) {
+            this.registry = registry;
+            this.tags = tags;
+            this.timer = Timer.builder(CONVERSION_TIMER).tags(tags).register(registry);
+        }
+
+        @Override
+        public void recordSuccess(long durationNanos) {
+            this.timer.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void recordFailure(long durationNanos, Throwable failure) {
+            this.timer.record(durationNanos, TimeUnit.NANOSECONDS);
+
+            Counter.builder(CONVERSION_FAILURE_COUNTER)
+                .tags(this.tags)
+                .tag("exception", exceptionTag(failure))
+                .register(this.registry)
+                .increment();
+        }
+
+    }
+
+    private static final class MicrometerCacheRecorder implements CacheRecorder {
+
+        private final LongAdder accesses = new LongAdder();
+
+        private final LongAdder misses = new LongAdder();
+
+        MicrometerCacheRecorder(MeterRegistry registry, Tags tags) {
+            FunctionCounter.builder(CACHE_ACCESS_COUNTER, this.accesses, LongAdder::doubleValue).tags(tags).register(registry);
+            FunctionCounter.builder(CACHE_MISS_COUNTER, this.misses, LongAdder::doubleValue).tags(tags).register(registry);
+            Gauge.builder(CACHE_HIT_RATIO_GAUGE, this, MicrometerCacheRecorder::hitRatio).tags(tags).strongReference(true).register(registry);
+        }
+
+        private double hitRatio() {
+            long accesses = this.accesses.sum();
+            return (accesses != 0) ? 1.0D - (double) this.misses.sum() / accesses : Double.NaN;
+        }
+
+        @Override
+        public void recordAccess() {
+            this.accesses.increment();
+        }
+
+        @Override
+        public void recordMiss() {
+            this.misses.increment();
+        }
+
+    }
+
+}
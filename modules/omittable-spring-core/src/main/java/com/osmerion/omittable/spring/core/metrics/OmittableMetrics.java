@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.metrics;
+
+import com.osmerion.omittable.Omittable;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.TypeDescriptor;
+
+/**
+ * An instrumentation surface for the resolution and conversion of {@link Omittable} values.
+ *
+ * <p>Components that support instrumentation request a recorder for each parameter, target type, or cache once and
+ * reuse it for every subsequent operation. Recording is skipped entirely if no {@code OmittableMetrics} are configured
+ * for a component, so that instrumentation has no overhead unless it is enabled.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ *
+ * @see MicrometerOmittableMetrics
+ */
+public interface OmittableMetrics {
+
+    /**
+     * Returns a recorder for the resolution of the given handler method parameter.
+     *
+     * @param parameter the handler method parameter
+     * @param name      the name of the resolved value (e.g., the name of the request parameter)
+     *
+     * @return  a recorder for the resolution of the parameter
+     *
+     * @since   2.1.0
+     */
+    ResolutionRecorder resolution(MethodParameter parameter, String name);
+
+    /**
+     * Returns a recorder for conversions to the given target type.
+     *
+     * @param targetType    the target type of the conversions
+     *
+     * @return  a recorder for conversions to the target type
+     *
+     * @since   2.1.0
+     */
+    ConversionRecorder conversion(TypeDescriptor targetType);
+
+    /**
+     * Returns a recorder for the accesses to a plan cache with the given name.
+     *
+     * @param name  the name of the cache
+     *
+     * @return  a recorder for the accesses to the cache
+     *
+     * @since   2.1.0
+     */
+    CacheRecorder cache(String name);
+
+    /**
+     * A recorder for the resolution of a single handler method parameter.
+     *
+     * @since   2.1.0
+     */
+    interface ResolutionRecorder {
+
+        /**
+         * Records a successful resolution.
+         *
+         * @param durationNanos the duration of the resolution in nanoseconds
+         * @param result        the resolved value
+         *
+         * @since   2.1.0
+         */
+        void recordSuccess(long durationNanos, Omittable<?> result);
+
+        /**
+         * Records a failed resolution.
+         *
+         * @param durationNanos the duration of the resolution in nanoseconds
+         * @param failure       the cause of the failure
+         *
+         * @since   2.1.0
+         */
+        void recordFailure(long durationNanos, Throwable failure);
+
+    }
+
+    /**
+     * A recorder for conversions to a single target type.
+     *
+     * @since   2.1.0
+     */
+    interface ConversionRecorder {
+
+        /**
+         * Records a successful conversion.
+         *
+         * @param durationNanos the duration of the conversion in nanoseconds
+         *
+         * @since   2.1.0
+         */
+        void recordSuccess(long durationNanos);
+
+        /**
+         * Records a failed conversion.
+         *
+         * @param durationNanos the duration of the conversion in nanoseconds
+         * @param failure       the cause of the failure
+         *
+         * @since   2.1.0
+         */
+        void recordFailure(long durationNanos, Throwable failure);
+
+    }
+
+    /**
+     * A recorder for the accesses to a single plan cache.
+     *
+     * @since   2.1.0
+     */
+    interface CacheRecorder {
+
+        /**
+         * Records an access to the cache.
+         *
+         * @since   2.1.0
+         */
+        void recordAccess();
+
+        /**
+         * Records a cache miss, i.e., an access that required a new plan to be computed.
+         *
+         * @since   2.1.0
+         */
+        void recordMiss();
+
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.patch;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.CachedOmittables;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compact representation of an instance of a class with {@link Omittable} properties.
+ *
+ * <p>Instead of one {@code Omittable} instance per property, the presence of all {@code Omittable} properties is stored
+ * in two bitmasks: one for present properties and one for present properties with a {@code null} value. Only the
+ * non-{@code null} values of present properties are stored in a dense array, alongside the values of the other
+ * properties of the class. This is considerably smaller than the original instance for classes with many
+ * {@code Omittable} properties (e.g., when many partial updates are held in memory during bulk imports).</p>
+ *
+ * <p>Compact representations are created using {@link CompactPatchLayout#pack(Object)} and can be converted back using
+ * {@link #unpack()} without loss of information.</p>
+ *
+ * @param <T>   the type of the represented instance
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class CompactPatch<T> {
+
+    private final CompactPatchLayout<T> layout;
+
+    private final long presentMask;
+
+    private final long nullMask;
+
+    private final @Nullable Object[] values;
+
+    CompactPatch(CompactPatchLayout<T> layout, long presentMask, long nullMask, @Nullable Object[] values) {
+        this.layout = layout;
+        this.presentMask = presentMask;
+        this.nullMask = nullMask;
+        this.values = values;
+    }
+
+    /**
+     * Returns the layout of this representation.
+     *
+     * @return  the layout of this representation
+     *
+     * @since   2.1.0
+     */
+    public CompactPatchLayout<T> getLayout() {
+        return this.layout;
+    }
+
+    /**
+     * Returns the bitmask of present properties.
+     *
+     * <p>Bit {@code i} is set if, and only if, the {@code Omittable} property with index {@code i} is present.</p>
+     *
+     * @return  the bitmask of present properties
+     *
+     * @see CompactPatchLayout#indexOf(String)
+     *
+     * @since   2.1.0
+     */
+    public long getPresentMask() {
+        return this.presentMask;
+    }
+
+    /**
+     * Returns the bitmask of present properties with a {@code null} value.
+     *
+     * <p>Bit {@code i} is set if, and only if, the {@code Omittable} property with index {@code i} is present and
+     * {@code null}.</p>
+     *
+     * @return  the bitmask of {@code null} properties
+     *
+     * @see CompactPatchLayout#indexOf(String)
+     *
+     * @since   2.1.0
+     */
+    public long getNullMask() {
+        return this.nullMask;
+    }
+
+    /**
+     * Returns the {@code Omittable} property with the given index.
+     *
+     * @param index the index of the property
+     *
+     * @return  the property
+     *
+     * @throws IndexOutOfBoundsException    if the index is out of bounds
+     *
+     * @since   2.1.0
+     */
+    public Omittable<?> get(int index) {
+        if (index < 0 || index >= this.layout.omittablePropertyCount()) throw new IndexOutOfBoundsException(index);
+
+        long bit = 1L << index;
+        if ((this.presentMask & bit) == 0L) return Omittable.absent();
+        if ((this.nullMask & bit) != 0L) return CachedOmittables.of(null);
+
+        return CachedOmittables.of(this.values[this.layout.valueIndex(this.presentMask, this.nullMask, index)]);
+    }
+
+    /**
+     * Returns the {@code Omittable} property with the given name.
+     *
+     * @param name  the name of the property
+     *
+     * @return  the property
+     *
+     * @throws IllegalArgumentException if the represented class does not have an {@code Omittable} property with the
+     *                                  given name
+     *
+     * @since   2.1.0
+     */
+    public Omittable<?> get(String name) {
+        return get(this.layout.indexOf(name));
+    }
+
+    /**
+     * Returns whether the {@code Omittable} property with the given index is present.
+     *
+     * @param index the index of the property
+     *
+     * @return  whether the property is present
+     *
+     * @throws IndexOutOfBoundsException    if the index is out of bounds
+     *
+     * @since   2.1.0
+     */
+    public boolean isPresent(int index) {
+        if (index < 0 || index >= this.layout.omittablePropertyCount()) throw new IndexOutOfBoundsException(index);
+        return (this.presentMask & (1L << index)) != 0L;
+    }
+
+    /**
+     * Creates an instance of the represented class from this representation.
+     *
+     * @return  the new instance
+     *
+     * @since   2.1.0
+     */
+    public T unpack() {
+        return this.layout.unpack(this);
+    }
+
+    @Nullable Object getPlainValue(int slot) {
+        return this.values[slot];
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        return (this == other || (other instanceof CompactPatch<?> that
+            && this.layout == that.layout
+            && this.presentMask == that.presentMask
+            && this.nullMask == that.nullMask
+            && Arrays.equals(this.values, that.values)));
+    }
+
+    @Override
+    public int hashCode() {
+        int result = this.layout.hashCode();
+        result = 31 * result + Long.hashCode(this.presentMask);
+        result = 31 * result + Long.hashCode(this.nullMask);
+        result = 31 * result + Arrays.hashCode(this.values);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        List<String> names = this.layout.getOmittablePropertyNames();
+        StringBuilder builder = new StringBuilder("CompactPatch[");
+
+        for (int index = 0; index < names.size(); index++) {
+            if (index > 0) builder.append(", ");
+            builder.append(names.get(index)).append('=').append(get(index));
+        }
+
+        return builder.append(']').toString();
+    }
+
+}
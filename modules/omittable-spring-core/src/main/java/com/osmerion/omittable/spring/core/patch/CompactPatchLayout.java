@@ -0,0 +1,393 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.patch;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.introspect.OmittablePropertyIntrospector;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The layout of the {@link CompactPatch compact representation} of instances of a class with {@link Omittable}
+ * properties.
+ *
+ * <p>The {@code Omittable} properties of the class are numbered from {@code 0}. The properties of records are numbered
+ * in declaration order, and the properties of other classes are numbered in the order of their names. Since the
+ * presence of the properties is stored in a {@code long} bitmask, a class may have at most 64 {@code Omittable}
+ * properties.</p>
+ *
+ * <p>Records are read using their accessors and created using their canonical constructor. Other classes are read
+ * using their public getters and created using their no-arg constructor and their public setters. Only properties with
+ * both a getter and a setter are taken into account for such classes. Other properties of a class (that are not
+ * {@code Omittable}) are stored as-is, such that {@link #pack(Object) packing} and {@link #unpack(CompactPatch)
+ * unpacking} an instance is lossless.</p>
+ *
+ * <p>The layout of a class is computed once and shared.</p>
+ *
+ * @param <T>   the type of the instances
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class CompactPatchLayout<T> {
+
+    private static final int MAX_OMITTABLE_PROPERTIES = Long.SIZE;
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<CompactPatchLayout<?>> LAYOUTS = new ClassValue<>() {
+
+        @Override
+        protected CompactPatchLayout<?> computeValue(Class<?> type) {
+            return create(type);
+        }
+
+    };
+
+    /**
+     * Returns the layout for instances of the given class.
+     *
+     * @param <T>   the type of the instances
+     * @param type  the class of the instances
+     *
+     * @return  the layout for instances of the class
+     *
+     * @throws IllegalArgumentException if the class does not have {@code Omittable} properties or has more than 64 of
+     *                                  them, or if instances of the class cannot be created
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompactPatchLayout<T> of(Class<T> type) {
+        return (CompactPatchLayout<T>) LAYOUTS.get(type);
+    }
+
+    private final Class<T> type;
+
+    private final Property[] properties;
+
+    private final String[] omittableNames;
+
+    private final Map<String, Integer> omittableIndices;
+
+    private final int plainPropertyCount;
+
+    private final MethodHandle constructor;
+
+    private final boolean isRecord;
+
+    private CompactPatchLayout(Class<T> type, Property[] properties, MethodHandle constructor, boolean isRecord) {
+        this.type = type;
+        this.properties = properties;
+        this.constructor = constructor;
+        this.isRecord = isRecord;
+
+        List<String> omittableNames = new ArrayList<>();
+        Map<String, Integer> omittableIndices = new HashMap<>();
+        int plainPropertyCount = 0;
+
+        for (Property property : properties) {
+            if (property.bit() >= 0) {
+                omittableIndices.put(property.name(), property.bit());
+                omittableNames.add(property.name());
+            } else {
+                plainPropertyCount++;
+            }
+        }
+
+        this.omittableNames = omittableNames.toArray(new String[0]);
+        this.omittableIndices = Map.copyOf(omittableIndices);
+        this.plainPropertyCount = plainPropertyCount;
+    }
+
+    private static <T> CompactPatchLayout<T> create(Class<T> type) {
+        try {
+            return type.isRecord() ? createForRecord(type) : createForBean(type);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access " + type.getName(), e);
+        }
+    }
+
+    private static <T> CompactPatchLayout<T> createForRecord(Class<T> type) throws IllegalAccessException {
+        RecordComponent[] components = type.getRecordComponents();
+
+        Constructor<T> constructor;
+        try {
+            constructor = OmittablePropertyIntrospector.getCanonicalConstructor(type);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(type.getName() + " does not have an accessible canonical constructor", e);
+        }
+
+        List<Property> properties = new ArrayList<>(components.length);
+        int bit = 0, slot = 0;
+
+        for (RecordComponent component : components) {
+            boolean isOmittable = component.getType() == Omittable.class;
+            properties.add(createProperty(component.getName(), component.getAccessor(), null, isOmittable ? bit++ : -1, isOmittable ? -1 : slot++));
+        }
+
+        MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+            .asSpreader(Object[].class, components.length)
+            .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return createLayout(type, properties, handle, true);
+    }
+
+    private static <T> CompactPatchLayout<T> createForBean(Class<T> type) throws IllegalAccessException {
+        Constructor<T> constructor;
+        try {
+            constructor = ReflectionUtils.accessibleConstructor(type);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(type.getName() + " does not have an accessible no-arg constructor", e);
+        }
+
+        Map<String, Method> getters = OmittablePropertyIntrospector.findGetters(type);
+
+        List<String> names = new ArrayList<>(getters.keySet());
+        names.sort(Comparator.naturalOrder());
+
+        List<Property> properties = new ArrayList<>(names.size());
+        int bit = 0, slot = 0;
+
+        for (String name : names) {
+            Method getter = getters.get(name);
+            Method setter = findSetter(type, getter);
+            if (setter == null) continue;
+
+            boolean isOmittable = getter.getReturnType() == Omittable.class;
+            properties.add(createProperty(name, getter, setter, isOmittable ? bit++ : -1, isOmittable ? -1 : slot++));
+        }
+
+        MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+            .asType(MethodType.methodType(Object.class));
+
+        return createLayout(type, properties, handle, false);
+    }
+
+    /* Finds the setter of the property with the given getter that accepts the type returned by the getter. */
+    private static @Nullable Method findSetter(Class<?> type, Method getter) {
+        String suffix = getter.getName().substring(getter.getName().startsWith("is") ? 2 : 3);
+
+        Method setter = ClassUtils.getMethodIfAvailable(type, "set" + suffix, getter.getReturnType());
+        return (setter != null && !Modifier.isStatic(setter.getModifiers())) ? setter : null;
+    }
+
+    private static Property createProperty(String name, Method getter, @Nullable Method setter, int bit, int slot) throws IllegalAccessException {
+        ReflectionUtils.makeAccessible(getter);
+        MethodHandle getterHandle = MethodHandles.lookup().unreflect(getter).asType(GETTER_TYPE);
+
+        MethodHandle setterHandle = null;
+        if (setter != null) {
+            ReflectionUtils.makeAccessible(setter);
+            setterHandle = MethodHandles.lookup().unreflect(setter).asType(SETTER_TYPE);
+        }
+
+        return new Property(name, getterHandle, setterHandle, bit, slot);
+    }
+
+    private static <T> CompactPatchLayout<T> createLayout(Class<T> type, List<Property> properties, MethodHandle constructor, boolean isRecord) {
+        long omittableCount = properties.stream().filter(property -> property.bit() >= 0).count();
+        if (omittableCount == 0) throw new IllegalArgumentException(type.getName() + " does not have Omittable properties");
+        if (omittableCount > MAX_OMITTABLE_PROPERTIES) throw new IllegalArgumentException(type.getName() + " has more than " + MAX_OMITTABLE_PROPERTIES + " Omittable properties");
+
+        return new CompactPatchLayout<>(type, properties.toArray(new Property[0]), constructor, isRecord);
+    }
+
+    /**
+     * Returns the class of the instances.
+     *
+     * @return  the class of the instances
+     *
+     * @since   2.1.0
+     */
+    public Class<T> getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the names of the {@code Omittable} properties in the order of their indices.
+     *
+     * @return  the names of the {@code Omittable} properties
+     *
+     * @since   2.1.0
+     */
+    public List<String> getOmittablePropertyNames() {
+        return List.of(this.omittableNames);
+    }
+
+    /**
+     * Returns the index of the {@code Omittable} property with the given name.
+     *
+     * @param name  the name of the property
+     *
+     * @return  the index of the property
+     *
+     * @throws IllegalArgumentException if the class does not have an {@code Omittable} property with the given name
+     *
+     * @since   2.1.0
+     */
+    public int indexOf(String name) {
+        Integer index = this.omittableIndices.get(name);
+        if (index == null) throw new IllegalArgumentException(this.type.getName() + " does not have an Omittable property named " + name);
+
+        return index;
+    }
+
+    /**
+     * Returns the compact representation of the given instance.
+     *
+     * <p>An {@code Omittable} property that is {@code null} is packed as {@link Omittable#absent() absent}.</p>
+     *
+     * @param instance  the instance to pack
+     *
+     * @return  the compact representation of the instance
+     *
+     * @since   2.1.0
+     */
+    public CompactPatch<T> pack(T instance) {
+        long presentMask = 0L;
+        long nullMask = 0L;
+
+        for (Property property : this.properties) {
+            if (property.bit() < 0) continue;
+
+            if (property.read(instance) instanceof Omittable.Present<?> present) {
+                presentMask |= (1L << property.bit());
+                if (present.value() == null) nullMask |= (1L << property.bit());
+            }
+        }
+
+        @Nullable Object[] values = new Object[this.plainPropertyCount + Long.bitCount(presentMask & ~nullMask)];
+        int cursor = this.plainPropertyCount;
+
+        for (Property property : this.properties) {
+            if (property.bit() < 0) {
+                values[property.slot()] = property.read(instance);
+            } else if ((presentMask & ~nullMask & (1L << property.bit())) != 0L) {
+                values[cursor++] = ((Omittable.Present<?>) property.read(instance)).value();
+            }
+        }
+
+        return new CompactPatch<>(this, presentMask, nullMask, values);
+    }
+
+    /**
+     * Creates an instance from the given compact representation.
+     *
+     * @param patch the compact representation of the instance
+     *
+     * @return  the new instance
+     *
+     * @throws IllegalArgumentException if the compact representation was created using a different layout
+     *
+     * @since   2.1.0
+     */
+    public T unpack(CompactPatch<T> patch) {
+        if (patch.getLayout() != this) throw new IllegalArgumentException("Compact patch for " + patch.getLayout().getType().getName() + " does not match layout for " + this.type.getName());
+
+        try {
+            if (this.isRecord) {
+                @Nullable Object[] arguments = new Object[this.properties.length];
+                for (int index = 0; index < this.properties.length; index++) arguments[index] = valueOf(patch, this.properties[index]);
+
+                return this.type.cast((Object) this.constructor.invokeExact(arguments));
+            }
+
+            Object instance = (Object) this.constructor.invokeExact();
+            for (Property property : this.properties) property.write(instance, valueOf(patch, property));
+
+            return this.type.cast(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to instantiate " + this.type.getName(), t);
+        }
+    }
+
+    private @Nullable Object valueOf(CompactPatch<T> patch, Property property) {
+        return (property.bit() < 0) ? patch.getPlainValue(property.slot()) : patch.get(property.bit());
+    }
+
+    /**
+     * Returns the index of the value of the {@code Omittable} property with the given index in the dense array of values
+     * of a compact representation.
+     *
+     * @param presentMask   the bitmask of present properties
+     * @param nullMask      the bitmask of present properties with a {@code null} value
+     * @param index         the index of the property
+     *
+     * @return  the index of the value
+     */
+    int valueIndex(long presentMask, long nullMask, int index) {
+        return this.plainPropertyCount + Long.bitCount(presentMask & ~nullMask & ((1L << index) - 1));
+    }
+
+    /**
+     * Returns the number of {@code Omittable} properties.
+     *
+     * @return  the number of {@code Omittable} properties
+     */
+    int omittablePropertyCount() {
+        return this.omittableNames.length;
+    }
+
+    /**
+     * A property of the class.
+     *
+     * @param name      the name of the property
+     * @param getter    the getter for the property
+     * @param setter    the setter for the property, or {@code null} if the class is a record
+     * @param bit       the index of the property if it is an {@code Omittable}, or {@code -1}
+     * @param slot      the index of the value of the property in the dense array of values if it is not an
+     *                  {@code Omittable}, or {@code -1}
+     */
+    private record Property(String name, MethodHandle getter, @Nullable MethodHandle setter, int bit, int slot) {
+
+        @Nullable Object read(Object instance) {
+            try {
+                return (Object) this.getter.invokeExact(instance);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to read property " + this.name, t);
+            }
+        }
+
+        void write(Object instance, @Nullable Object value) throws Throwable {
+            MethodHandle setter = this.setter;
+            if (setter != null) setter.invokeExact(instance, value);
+        }
+
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.patch;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.OmittableConverter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies the present {@link Omittable} properties of patch objects (e.g., the bodies of {@code PATCH} requests) to
+ * target objects.
+ *
+ * <p>Each {@code Omittable} property of a patch that is present is applied to the
+ * target property with the same name. Absent properties, and properties without a counterpart in the target, are
+ * ignored. Values are converted to the declared type of {@code Omittable} target properties using an
+ * {@link OmittableConverter}, and to the declared type of other target properties using the {@link ConversionService}.
+ * </p>
+ *
+ * <p>The properties of patches are read using the accessors of records and the public getters of other classes.
+ * Targets that are records are copied, since records cannot be modified. Other targets are modified in place using
+ * their public setters, or using public single-argument methods named after the property (as commonly found in
+ * builders) if there is no setter.</p>
+ *
+ * <p>The accessors required to apply patches of one class to targets of another class are resolved once per pair of
+ * classes and invoked as {@link java.lang.invoke.MethodHandle method handles}.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittablePatchApplier {
+
+    private final ConversionService conversionService;
+
+    private final OmittableConverter omittableConverter;
+
+    private final Map<PatchPlanKey, PatchPlan> patchPlans = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link OmittablePatchApplier}.
+     *
+     * @param conversionService the conversion service to use for converting values
+     *
+     * @since   2.1.0
+     */
+    public OmittablePatchApplier(ConversionService conversionService) {
+        this(conversionService, new OmittableConverter(conversionService));
+    }
+
+    /**
+     * Creates a new {@link OmittablePatchApplier}.
+     *
+     * @param conversionService     the conversion service to use for converting values for non-{@code Omittable} target
+     *                              properties
+     * @param omittableConverter    the converter to use for converting values for {@code Omittable} target properties
+     *
+     * @since   2.1.0
+     */
+    public OmittablePatchApplier(ConversionService conversionService, OmittableConverter omittableConverter) {
+        this.conversionService = conversionService;
+        this.omittableConverter = omittableConverter;
+    }
+
+    /**
+     * Applies the present {@code Omittable} properties of the given patch to the given target.
+     *
+     * <p>If the target is a record, a copy of the target with the patch applied is returned. If no property of the patch
+     * is present, the target itself is returned. Otherwise, the target is modified in place and returned.</p>
+     *
+     * @param <T>       the type of the target
+     * @param patch     the patch to apply
+     * @param target    the target to apply the patch to
+     *
+     * @return  the patched target
+     *
+     * @throws IllegalArgumentException if the patch does not have {@code Omittable} properties, or if the target is a
+     *                                  record without an accessible canonical constructor
+     * @throws ConversionException      if a value cannot be converted to the type of its target property
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T apply(Object patch, T target) {
+        PatchPlan plan = getPatchPlan(patch.getClass(), target.getClass());
+        PatchPlan.Mapping[] mappings = plan.mappings();
+
+        if (plan.isRecord()) {
+            @Nullable Object[] values = null;
+
+            for (PatchPlan.Mapping mapping : mappings) {
+                if (!(mapping.read(patch) instanceof Omittable.Present<?> property)) continue;
+
+                /* Only read the target if there is something to apply. */
+                if (values == null) values = plan.readComponents(target);
+                values[mapping.index()] = convert(mapping, property);
+            }
+
+            return (values != null) ? (T) plan.instantiate(values) : target;
+        }
+
+        for (PatchPlan.Mapping mapping : mappings) {
+            if (!(mapping.read(patch) instanceof Omittable.Present<?> property)) continue;
+
+            mapping.write(target, convert(mapping, property));
+        }
+
+        return target;
+    }
+
+    private @Nullable Object convert(PatchPlan.Mapping mapping, Omittable.Present<?> property) {
+        if (mapping.isTargetOmittable()) {
+            return mapping.isAssignable() ? property : this.omittableConverter.convert(property, mapping.patchType(), mapping.targetType());
+        }
+
+        Object value = property.value();
+
+        /* null cannot be assigned to primitives. The conversion service is used to report a consistent error. */
+        if (mapping.isAssignable() && (value != null || !mapping.targetType().isPrimitive())) return value;
+
+        TypeDescriptor sourceType = mapping.patchValueType();
+        if (sourceType == null) sourceType = TypeDescriptor.forObject(value);
+
+        return this.conversionService.convert(value, sourceType, mapping.targetType());
+    }
+
+    private PatchPlan getPatchPlan(Class<?> patchType, Class<?> targetType) {
+        return this.patchPlans.computeIfAbsent(new PatchPlanKey(patchType, targetType), key -> PatchPlan.create(key.patchType(), key.targetType()));
+    }
+
+    private record PatchPlanKey(Class<?> patchType, Class<?> targetType) {}
+
+}
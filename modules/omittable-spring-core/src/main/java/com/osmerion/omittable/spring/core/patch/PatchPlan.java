@@ -0,0 +1,314 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.patch;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.introspect.OmittablePropertyIntrospector;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The information required to apply instances of a patch class to instances of a target class that is computed once
+ * per pair of classes.
+ *
+ * <p>The {@link Omittable} properties of the patch class are read using the accessors of records and the public
+ * getters of other classes. The properties of target records are copied into a new instance using the canonical
+ * constructor. The properties of other target classes are set using public setters, or using public single-argument
+ * methods named after the property (as commonly found in builders) if there is no setter.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+final class PatchPlan {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Mapping[] mappings;
+
+    private final MethodHandle @Nullable [] recordAccessors;
+
+    private final @Nullable MethodHandle recordConstructor;
+
+    private PatchPlan(Mapping[] mappings, MethodHandle @Nullable [] recordAccessors, @Nullable MethodHandle recordConstructor) {
+        this.mappings = mappings;
+        this.recordAccessors = recordAccessors;
+        this.recordConstructor = recordConstructor;
+    }
+
+    /**
+     * Creates the plan for applying instances of the given patch class to instances of the given target class.
+     *
+     * @param patchType     the class of the patches
+     * @param targetType    the class of the targets
+     *
+     * @return  the plan
+     *
+     * @throws IllegalArgumentException if the patch class does not have {@code Omittable} properties, or if the target
+     *                                  class is a record without an accessible canonical constructor
+     */
+    static PatchPlan create(Class<?> patchType, Class<?> targetType) {
+        Map<String, Method> getters = OmittablePropertyIntrospector.findOmittableGetters(patchType);
+        if (getters.isEmpty()) throw new IllegalArgumentException(patchType.getName() + " does not have Omittable properties");
+
+        try {
+            return targetType.isRecord()
+                ? createForRecord(getters, targetType)
+                : createForBean(getters, targetType);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot apply " + patchType.getName() + " to " + targetType.getName(), e);
+        }
+    }
+
+    private static PatchPlan createForRecord(Map<String, Method> getters, Class<?> targetType) throws IllegalAccessException {
+        RecordComponent[] components = targetType.getRecordComponents();
+
+        Constructor<?> constructor;
+        try {
+            constructor = OmittablePropertyIntrospector.getCanonicalConstructor(targetType);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(targetType.getName() + " does not have an accessible canonical constructor", e);
+        }
+
+        List<Mapping> mappings = new ArrayList<>();
+        MethodHandle[] accessors = new MethodHandle[components.length];
+
+        for (int index = 0; index < components.length; index++) {
+            Method accessor = components[index].getAccessor();
+            ReflectionUtils.makeAccessible(accessor);
+            accessors[index] = MethodHandles.lookup().unreflect(accessor).asType(GETTER_TYPE);
+
+            Method getter = getters.get(components[index].getName());
+            if (getter == null) continue;
+
+            mappings.add(createMapping(getter, new TypeDescriptor(MethodParameter.forExecutable(constructor, index)), index, null));
+        }
+
+        MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+            .asSpreader(Object[].class, components.length)
+            .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return new PatchPlan(mappings.toArray(new Mapping[0]), accessors, handle);
+    }
+
+    private static PatchPlan createForBean(Map<String, Method> getters, Class<?> targetType) throws IllegalAccessException {
+        Map<String, List<Method>> setters = new HashMap<>();
+        Map<String, List<Method>> fluentSetters = new HashMap<>();
+
+        for (Method method : targetType.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getParameterCount() != 1) continue;
+
+            String name = method.getName();
+            if (name.length() > 3 && name.startsWith("set")) {
+                setters.computeIfAbsent(StringUtils.uncapitalizeAsProperty(name.substring(3)), key -> new ArrayList<>()).add(method);
+            } else if (getters.containsKey(name) && method.getDeclaringClass() != Object.class) {
+                fluentSetters.computeIfAbsent(name, key -> new ArrayList<>()).add(method);
+            }
+        }
+
+        List<Mapping> mappings = new ArrayList<>();
+
+        for (Map.Entry<String, Method> entry : getters.entrySet()) {
+            Method getter = entry.getValue();
+
+            List<Method> candidates = setters.getOrDefault(entry.getKey(), fluentSetters.get(entry.getKey()));
+            if (candidates == null) continue;
+
+            Method setter = selectSetter(getter, candidates);
+            ReflectionUtils.makeAccessible(setter);
+
+            MethodHandle handle = MethodHandles.lookup().unreflect(setter).asType(SETTER_TYPE);
+            mappings.add(createMapping(getter, new TypeDescriptor(MethodParameter.forExecutable(setter, 0)), -1, handle));
+        }
+
+        return new PatchPlan(mappings.toArray(new Mapping[0]), null, null);
+    }
+
+    /* Prefers overloads that accept the patch property as-is, then overloads that accept its value as-is. */
+    private static Method selectSetter(Method getter, List<Method> candidates) {
+        if (candidates.size() == 1) return candidates.get(0);
+
+        ResolvableType patchType = ResolvableType.forMethodReturnType(getter);
+        ResolvableType valueType = patchType.getGeneric();
+
+        return candidates.stream()
+            .sorted(Comparator.comparing((Method method) -> method.getParameterTypes()[0].getName()))
+            .min(Comparator.comparingInt((Method method) -> {
+                ResolvableType parameterType = ResolvableType.forMethodParameter(method, 0);
+                if (parameterType.isAssignableFrom(patchType)) return 0;
+                if (ClassUtils.resolvePrimitiveIfNecessary(parameterType.toClass()).isAssignableFrom(valueType.toClass())) return 1;
+                return 2;
+            }))
+            .orElseThrow();
+    }
+
+    private static Mapping createMapping(Method getter, TypeDescriptor targetType, int index, @Nullable MethodHandle setter) throws IllegalAccessException {
+        ReflectionUtils.makeAccessible(getter);
+        MethodHandle handle = MethodHandles.lookup().unreflect(getter).asType(GETTER_TYPE);
+
+        TypeDescriptor patchType = new TypeDescriptor(MethodParameter.forExecutable(getter, -1));
+        TypeDescriptor patchValueType = patchType.getResolvableType().hasGenerics()
+            ? new TypeDescriptor(patchType.getResolvableType().getGeneric(), null, patchType.getAnnotations())
+            : null;
+
+        boolean isTargetOmittable = targetType.getType() == Omittable.class;
+        boolean isAssignable;
+
+        if (isTargetOmittable) {
+            isAssignable = targetType.getResolvableType().isAssignableFrom(patchType.getResolvableType());
+        } else if (patchValueType == null) {
+            isAssignable = false;
+        } else if (targetType.isPrimitive()) {
+            isAssignable = ClassUtils.resolvePrimitiveIfNecessary(targetType.getType()) == patchValueType.getType();
+        } else {
+            isAssignable = targetType.getResolvableType().isAssignableFrom(patchValueType.getResolvableType());
+        }
+
+        return new Mapping(handle, patchType, patchValueType, index, setter, targetType, isTargetOmittable, isAssignable);
+    }
+
+    /**
+     * Returns the mappings from the properties of the patch class to the properties of the target class.
+     *
+     * @return  the mappings
+     */
+    Mapping[] mappings() {
+        return this.mappings;
+    }
+
+    /**
+     * Returns whether the target class is a record.
+     *
+     * @return  whether the target class is a record
+     */
+    boolean isRecord() {
+        return this.recordConstructor != null;
+    }
+
+    /**
+     * Returns the values of the components of the given target record.
+     *
+     * @param target    the target record
+     *
+     * @return  the values of the components
+     */
+    @Nullable Object[] readComponents(Object target) {
+        MethodHandle[] accessors = this.recordAccessors;
+        if (accessors == null) throw new IllegalStateException("Target is not a record");
+
+        try {
+            @Nullable Object[] values = new Object[accessors.length];
+            for (int index = 0; index < accessors.length; index++) values[index] = (Object) accessors[index].invokeExact(target);
+
+            return values;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to read record components", t);
+        }
+    }
+
+    /**
+     * Creates a new instance of the target record from the given component values.
+     *
+     * @param values    the values of the components
+     *
+     * @return  the new instance
+     */
+    Object instantiate(@Nullable Object[] values) {
+        MethodHandle constructor = this.recordConstructor;
+        if (constructor == null) throw new IllegalStateException("Target is not a record");
+
+        try {
+            return (Object) constructor.invokeExact(values);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to instantiate record", t);
+        }
+    }
+
+    /**
+     * A mapping from an {@code Omittable} property of the patch class to a property of the target class.
+     *
+     * @param getter                the getter for the patch property
+     * @param patchType             the declared type of the patch property
+     * @param patchValueType        the type of the value of the patch property, or {@code null} if unknown
+     * @param index                 the index of the target property's record component, or {@code -1} if the target is
+     *                              not a record
+     * @param setter                the setter for the target property, or {@code null} if the target is a record
+     * @param targetType            the declared type of the target property
+     * @param isTargetOmittable     whether the target property is an {@code Omittable}
+     * @param isAssignable          whether the patch property (for {@code Omittable} target properties) or its values
+     *                              (for other target properties) can be assigned without conversion
+     */
+    record Mapping(
+        MethodHandle getter,
+        TypeDescriptor patchType,
+        @Nullable TypeDescriptor patchValueType,
+        int index,
+        @Nullable MethodHandle setter,
+        TypeDescriptor targetType,
+        boolean isTargetOmittable,
+        boolean isAssignable
+    ) {
+
+        @Nullable Omittable<?> read(Object patch) {
+            try {
+                return (Omittable<?>) (Object) this.getter.invokeExact(patch);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to read patch property", t);
+            }
+        }
+
+        void write(Object target, @Nullable Object value) {
+            MethodHandle setter = this.setter;
+            if (setter == null) throw new IllegalStateException("Target is a record");
+
+            try {
+                setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set target property", t);
+            }
+        }
+
+    }
+
+}
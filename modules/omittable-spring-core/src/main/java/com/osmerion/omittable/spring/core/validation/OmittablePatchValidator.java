@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.validation;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.introspect.OmittablePropertyIntrospector;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link Validator} that validates only the present properties of objects with {@link Omittable} properties (e.g.,
+ * the DTOs of partial updates).
+ *
+ * <p>Objects are validated property by property using the delegate validator. Constrained {@code Omittable} properties
+ * that are absent are skipped entirely, while all other constrained properties are validated. The constrained
+ * properties of a class and the accessors used to check their presence are computed once per class. Thus, validating
+ * an object only costs as much as validating the properties that have actually been submitted.</p>
+ *
+ * <p>Since class-level constraints and cascaded validation ({@code @Valid}) are not applied when validating single
+ * properties, objects of classes with class-level constraints or cascaded properties are validated as a whole by the
+ * delegate validator instead. If an {@link OmittableValueExtractor} is registered with the delegate validator, the
+ * constraints of absent values are still skipped in this case.</p>
+ *
+ * <p>Validating single properties, validating values, and validating executables is delegated as-is.</p>
+ *
+ * <p>This class requires {@code jakarta.validation:jakarta.validation-api} to be on the classpath.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittablePatchValidator implements Validator {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Validator delegate;
+
+    private final Map<Class<?>, ValidationPlan> validationPlans = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link OmittablePatchValidator}.
+     *
+     * @param delegate  the validator to delegate to
+     *
+     * @since   2.1.0
+     */
+    public OmittablePatchValidator(Validator delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Validates the constrained properties of the given object, skipping absent {@link Omittable} properties.
+     *
+     * @param object    the object to validate
+     * @param groups    the groups to validate
+     *
+     * @return  the constraint violations, or an empty set if there are none
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        ValidationPlan plan = getValidationPlan(object.getClass());
+
+        ConstrainedProperty[] properties = plan.properties;
+        if (properties == null) return this.delegate.validate(object, groups);
+
+        Set<ConstraintViolation<T>> violations = null;
+
+        try {
+            for (ConstrainedProperty property : properties) {
+                MethodHandle accessor = property.accessor();
+                if (accessor != null && (Object) accessor.invokeExact((Object) object) instanceof Omittable.Absent) continue;
+
+                Set<ConstraintViolation<T>> propertyViolations = this.delegate.validateProperty(object, property.name(), groups);
+                if (propertyViolations.isEmpty()) continue;
+
+                if (violations == null) violations = new LinkedHashSet<>();
+                violations.addAll(propertyViolations);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to access property", t);
+        }
+
+        return (violations != null) ? violations : Collections.emptySet();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+        return this.delegate.validateProperty(object, propertyName, groups);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, @Nullable Object value, Class<?>... groups) {
+        return this.delegate.validateValue(beanType, propertyName, value, groups);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+        return this.delegate.getConstraintsForClass(clazz);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return (type.isInstance(this)) ? type.cast(this) : this.delegate.unwrap(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public ExecutableValidator forExecutables() {
+        return this.delegate.forExecutables();
+    }
+
+    private ValidationPlan getValidationPlan(Class<?> type) {
+        ValidationPlan plan = this.validationPlans.get(type);
+        if (plan == null) plan = this.validationPlans.computeIfAbsent(type, this::createValidationPlan);
+
+        return plan;
+    }
+
+    private ValidationPlan createValidationPlan(Class<?> type) {
+        BeanDescriptor descriptor = this.delegate.getConstraintsForClass(type);
+        if (descriptor.hasConstraints()) return ValidationPlan.WHOLE;
+
+        Set<PropertyDescriptor> propertyDescriptors = descriptor.getConstrainedProperties();
+        List<ConstrainedProperty> properties = new ArrayList<>(propertyDescriptors.size());
+        Map<String, Method> getters = OmittablePropertyIntrospector.findOmittableGetters(type);
+
+        for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
+            if (propertyDescriptor.isCascaded() || hasCascadedElements(propertyDescriptor.getConstrainedContainerElementTypes())) {
+                return ValidationPlan.WHOLE;
+            }
+
+            MethodHandle accessor = (propertyDescriptor.getElementClass() == Omittable.class)
+                ? findAccessor(type, propertyDescriptor.getPropertyName(), getters.get(propertyDescriptor.getPropertyName()))
+                : null;
+
+            properties.add(new ConstrainedProperty(propertyDescriptor.getPropertyName(), accessor));
+        }
+
+        return new ValidationPlan(properties.toArray(new ConstrainedProperty[0]));
+    }
+
+    private static boolean hasCascadedElements(Set<ContainerElementTypeDescriptor> descriptors) {
+        for (ContainerElementTypeDescriptor descriptor : descriptors) {
+            if (descriptor.isCascaded() || hasCascadedElements(descriptor.getConstrainedContainerElementTypes())) return true;
+        }
+
+        return false;
+    }
+
+    /*
+     * Finds an accessor for the property with the given name to check its presence, falling back to the field of the
+     * property if it does not have a getter. Properties without an accessible getter or field are always validated.
+     */
+    private static @Nullable MethodHandle findAccessor(Class<?> type, String name, @Nullable Method getter) {
+        try {
+            if (getter != null) return unreflect(getter);
+
+            Field field = ReflectionUtils.findField(type, name, Omittable.class);
+            if (field != null && !Modifier.isStatic(field.getModifiers())) {
+                ReflectionUtils.makeAccessible(field);
+                return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            /* Inaccessible (e.g., in a module that is not open to this module). */
+        }
+
+        return null;
+    }
+
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        ReflectionUtils.makeAccessible(method);
+        return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+    }
+
+    /**
+     * The information required to validate the present properties of objects of a class that is computed once per
+     * class.
+     */
+    private static final class ValidationPlan {
+
+        /** The plan for classes that are validated as a whole. */
+        static final ValidationPlan WHOLE = new ValidationPlan(null);
+
+        /** The constrained properties, or {@code null} if objects of the class are validated as a whole. */
+        final ConstrainedProperty @Nullable [] properties;
+
+        ValidationPlan(ConstrainedProperty @Nullable [] properties) {
+            this.properties = properties;
+        }
+
+    }
+
+    /**
+     * A constrained property.
+     *
+     * @param name      the name of the property
+     * @param accessor  the accessor for the value of an {@code Omittable} property, or {@code null} if the property is
+     *                  always validated
+     */
+    private record ConstrainedProperty(String name, @Nullable MethodHandle accessor) {}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.validation;
+
+import com.osmerion.omittable.Omittable;
+import jakarta.validation.Configuration;
+import jakarta.validation.valueextraction.ExtractedValue;
+import jakarta.validation.valueextraction.UnwrapByDefault;
+import jakarta.validation.valueextraction.ValueExtractor;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.function.Consumer;
+
+/**
+ * A Jakarta Validation {@link ValueExtractor} for {@link Omittable}.
+ *
+ * <p>Constraints on the type argument of an {@code Omittable} (e.g., {@code Omittable<@Size(max = 64) String>}) and,
+ * since the extractor unwraps by default, constraints on {@code Omittable} properties themselves (e.g.,
+ * {@code @NotNull Omittable<String>}) are validated against the wrapped value. The wrapped value of an absent
+ * {@code Omittable} is never extracted, and thus, the constraints of absent values are skipped without running their
+ * constraint validators. A present {@code null} value is extracted as {@code null}.</p>
+ *
+ * <p>The extractor must be registered with the validator configuration. For a {@link LocalValidatorFactoryBean},
+ * {@link #registerWith(LocalValidatorFactoryBean)} and {@link #registerWith(LocalValidatorFactoryBean, Consumer)} may be
+ * used.</p>
+ *
+ * <p>This class requires {@code jakarta.validation:jakarta.validation-api} to be on the classpath.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@UnwrapByDefault
+public final class OmittableValueExtractor implements ValueExtractor<Omittable<@ExtractedValue ?>> {
+
+    /**
+     * Registers a new {@link OmittableValueExtractor} with the validator configuration of the given factory bean.
+     *
+     * <p>This sets the {@link LocalValidatorFactoryBean#setConfigurationInitializer(Consumer) configuration initializer}
+     * of the factory bean. Since the factory bean does not expose a previously configured initializer, it is replaced.
+     * Use {@link #registerWith(LocalValidatorFactoryBean, Consumer)} to register the extractor alongside another
+     * initializer. This method must be called before the factory bean is initialized.</p>
+     *
+     * <p>This method requires {@code org.springframework:spring-context} to be on the classpath.</p>
+     *
+     * @param factoryBean   the factory bean to register the extractor with
+     *
+     * @since   2.1.0
+     */
+    public static void registerWith(LocalValidatorFactoryBean factoryBean) {
+        factoryBean.setConfigurationInitializer(OmittableValueExtractor::addTo);
+    }
+
+    /**
+     * Registers a new {@link OmittableValueExtractor} with the validator configuration of the given factory bean,
+     * composed with the given configuration initializer.
+     *
+     * <p>This sets the {@link LocalValidatorFactoryBean#setConfigurationInitializer(Consumer) configuration initializer}
+     * of the factory bean to an initializer that registers the extractor before invoking the given initializer. Thus,
+     * the given initializer may still register its own extractor for {@code Omittable}. This method must be called
+     * before the factory bean is initialized.</p>
+     *
+     * <p>This method requires {@code org.springframework:spring-context} to be on the classpath.</p>
+     *
+     * @param factoryBean   the factory bean to register the extractor with
+     * @param initializer   the configuration initializer to invoke after the extractor is registered
+     *
+     * @since   2.1.0
+     */
+    public static void registerWith(LocalValidatorFactoryBean factoryBean, Consumer<Configuration<?>> initializer) {
+        factoryBean.setConfigurationInitializer(configuration -> {
+            addTo(configuration);
+            initializer.accept(configuration);
+        });
+    }
+
+    private static void addTo(Configuration<?> configuration) {
+        configuration.addValueExtractor(new OmittableValueExtractor());
+    }
+
+    /**
+     * Creates a new {@link OmittableValueExtractor}.
+     *
+     * @since   2.1.0
+     */
+    public OmittableValueExtractor() {}
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public void extractValues(Omittable<?> originalValue, ValueReceiver receiver) {
+        if (originalValue instanceof Omittable.Present<?> present) receiver.value(null, present.value());
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.aot;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.ResolvableType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittableReflectionHints} and {@link OmittableRuntimeHints}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableReflectionHintsTest {
+
+    public record UserId(long value) {
+
+        public static UserId valueOf(String value) {
+            return new UserId(Long.parseLong(value));
+        }
+
+    }
+
+    public record Address(Omittable<String> street, Omittable<UserId> owner) {}
+
+    public record UserPatch(Omittable<String> name, Omittable<List<Address>> addresses, Omittable<UserPatch> parent) {}
+
+    public static final class BeanPatch {
+
+        private Omittable<UserId> id = Omittable.absent();
+
+        public Omittable<UserId> getId() {
+            return this.id;
+        }
+
+        public void setId(Omittable<UserId> id) {
+            this.id = id;
+        }
+
+    }
+
+    @Test
+    public void testRegisterOmittableType_ValueType() {
+        RuntimeHints hints = new RuntimeHints();
+        OmittableReflectionHints.registerOmittableType(hints.reflection(), ResolvableType.forClassWithGenerics(Omittable.class, UserId.class));
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(UserId.class)
+            .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+    }
+
+    @Test
+    public void testRegisterOmittableType_ElementType() {
+        RuntimeHints hints = new RuntimeHints();
+        ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, UserId.class);
+        OmittableReflectionHints.registerOmittableType(hints.reflection(), ResolvableType.forClassWithGenerics(Omittable.class, listType));
+        OmittableReflectionHints.registerOmittableType(hints.reflection(), ResolvableType.forClassWithGenerics(Omittable.class, Address[].class));
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(UserId.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Address.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(List.class)).rejects(hints);
+    }
+
+    @Test
+    public void testRegisterOmittableType_NotOmittable() {
+        RuntimeHints hints = new RuntimeHints();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> OmittableReflectionHints.registerOmittableType(hints.reflection(), ResolvableType.forClass(UserId.class)));
+    }
+
+    @Test
+    public void testRegisterBindingType_Record() {
+        RuntimeHints hints = new RuntimeHints();
+        OmittableReflectionHints.registerBindingType(hints.reflection(), UserPatch.class);
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(UserPatch.class)
+            .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Address.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(UserId.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(String.class)).rejects(hints);
+    }
+
+    @Test
+    public void testRegisterBindingType_Bean() {
+        RuntimeHints hints = new RuntimeHints();
+        OmittableReflectionHints.registerBindingType(hints.reflection(), BeanPatch.class);
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(BeanPatch.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(UserId.class)).accepts(hints);
+    }
+
+    @Test
+    public void testRuntimeHints() {
+        RuntimeHints hints = new RuntimeHints();
+        new OmittableRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(Omittable.Present.class)
+            .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Omittable.Absent.class)).accepts(hints);
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.bind;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittableParameterBinder}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableParameterBinderTest {
+
+    private final OmittableParameterBinder binder = new OmittableParameterBinder(new DefaultConversionService());
+
+    public record UserFilter(
+        Omittable<String> name,
+        Omittable<Long> age,
+        Omittable<UUID> id,
+        Omittable<List<Long>> groups,
+        int page
+    ) {}
+
+    public static final class BeanFilter {
+
+        private Omittable<String> name = Omittable.of("initial");
+
+        private String comment = "initial";
+
+        public Omittable<String> getName() {
+            return this.name;
+        }
+
+        public void setName(Omittable<String> name) {
+            this.name = name;
+        }
+
+        public String getComment() {
+            return this.comment;
+        }
+
+        public void setComment(String comment) {
+            this.comment = comment;
+        }
+
+    }
+
+    public static final class OverloadedBeanFilter {
+
+        private Omittable<Long> age = Omittable.absent();
+
+        public Omittable<Long> getAge() {
+            return this.age;
+        }
+
+        public void setAge(Omittable<Long> age) {
+            this.age = age;
+        }
+
+        public void setAge(long age) {
+            throw new UnsupportedOperationException();
+        }
+
+        public OverloadedBeanFilter setAge(String age) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    public record NoOmittables(String name) {}
+
+    @Test
+    public void testCanBind() {
+        assertThat(this.binder.canBind(UserFilter.class)).isTrue();
+        assertThat(this.binder.canBind(BeanFilter.class)).isTrue();
+        assertThat(this.binder.canBind(NoOmittables.class)).isFalse();
+        assertThat(this.binder.canBind(String.class)).isFalse();
+        assertThat(this.binder.canBind(Map.class)).isFalse();
+        assertThat(this.binder.canBind(Omittable.class)).isFalse();
+    }
+
+    @Test
+    public void testBind_Absent() {
+        UserFilter filter = bind(UserFilter.class, Map.of());
+        assertThat(filter).isEqualTo(new UserFilter(Omittable.absent(), Omittable.absent(), Omittable.absent(), Omittable.absent(), 0));
+    }
+
+    @Test
+    public void testBind_Present() {
+        UUID id = UUID.randomUUID();
+        UserFilter filter = bind(UserFilter.class, Map.of(
+            "name", new String[] { "Jane" },
+            "age", "42",
+            "id", List.of(id.toString()),
+            "groups[]", new String[] { "1", "2" },
+            "page", "3"
+        ));
+
+        assertThat(filter).isEqualTo(new UserFilter(Omittable.of("Jane"), Omittable.of(42L), Omittable.of(id), Omittable.of(List.of(1L, 2L)), 3));
+    }
+
+    @Test
+    public void testBind_Empty() {
+        UserFilter filter = bind(UserFilter.class, Map.of("name", "", "age", ""));
+
+        assertThat(filter.name()).isEqualTo(Omittable.of(""));
+        assertThat(filter.age()).isEqualTo(Omittable.of(null));
+    }
+
+    @Test
+    public void testBind_Bean() {
+        BeanFilter absent = bind(BeanFilter.class, Map.of());
+        assertThat(absent.getName()).isEqualTo(Omittable.absent());
+        assertThat(absent.getComment()).isEqualTo("initial");
+
+        BeanFilter present = bind(BeanFilter.class, Map.of("name", "Jane", "comment", "Hello"));
+        assertThat(present.getName()).isEqualTo(Omittable.of("Jane"));
+        assertThat(present.getComment()).isEqualTo("Hello");
+    }
+
+    @Test
+    public void testBind_ConversionFailure() {
+        assertThatExceptionOfType(ConversionFailedException.class).isThrownBy(() -> bind(UserFilter.class, Map.of("age", "not a number")));
+    }
+
+    @Test
+    public void testBind_ConversionFailureHandled() {
+        List<String> failures = new ArrayList<>();
+        UserFilter filter = this.binder.bind(
+            UserFilter.class,
+            Map.of("name", "Jane", "age", "not a number", "page", "first")::get,
+            (name, rawValue, e) -> failures.add(name + "=" + rawValue)
+        );
+
+        assertThat(failures).containsExactlyInAnyOrder("age=not a number", "page=first");
+        assertThat(filter).isEqualTo(new UserFilter(Omittable.of("Jane"), Omittable.absent(), Omittable.absent(), Omittable.absent(), 0));
+    }
+
+    @Test
+    public void testBind_OverloadedSetters() {
+        OverloadedBeanFilter filter = bind(OverloadedBeanFilter.class, Map.of("age", "42"));
+        assertThat(filter.getAge()).isEqualTo(Omittable.of(42L));
+    }
+
+    @Test
+    public void testBind_Unsupported() {
+        assertThatIllegalArgumentException().isThrownBy(() -> bind(String.class, Map.of()));
+    }
+
+    private <T> T bind(Class<T> type, Map<String, ? extends @Nullable Object> parameters) {
+        return this.binder.bind(type, parameters::get);
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.cache;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittableCacheManager}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableCacheManagerTest {
+
+    private final ConcurrentMapCacheManager targetCacheManager = new ConcurrentMapCacheManager("users");
+
+    private final OmittableCacheManager cacheManager = new OmittableCacheManager(this.targetCacheManager);
+
+    @Test
+    public void testGetCache() {
+        Cache cache = this.cacheManager.getCache("users");
+
+        assertThat(cache).isInstanceOf(OmittableCache.class).isSameAs(this.cacheManager.getCache("users"));
+        assertThat(cache.getNativeCache()).isSameAs(this.targetCacheManager.getCache("users").getNativeCache());
+        assertThat(this.cacheManager.getCache("unknown")).isNull();
+        assertThat(this.cacheManager.getCacheNames()).containsExactly("users");
+    }
+
+    @Test
+    public void testGetCache_Absent() {
+        this.cacheManager.getCache("users").put("key", Omittable.absent());
+
+        assertThat(this.targetCacheManager.getCache("users").get("key", Object.class)).isSameAs(AbsentValue.INSTANCE);
+    }
+
+}
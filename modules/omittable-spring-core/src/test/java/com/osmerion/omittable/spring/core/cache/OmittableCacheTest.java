@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.cache;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittableCache}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableCacheTest {
+
+    private final ConcurrentMapCache targetCache = new ConcurrentMapCache("test");
+
+    private final OmittableCache cache = new OmittableCache(this.targetCache);
+
+    @Test
+    public void testPut_Absent() {
+        this.cache.put("key", Omittable.absent());
+
+        assertThat(this.targetCache.get("key", Object.class)).isSameAs(AbsentValue.INSTANCE);
+        assertThat(this.cache.get("key", Omittable.class)).isSameAs(Omittable.absent());
+
+        Cache.ValueWrapper wrapper = this.cache.get("key");
+        assertThat(wrapper).isNotNull().isSameAs(this.cache.get("key"));
+        assertThat(wrapper.get()).isSameAs(Omittable.absent());
+    }
+
+    @Test
+    public void testPut_Present() {
+        this.cache.put("key", Omittable.of(null));
+
+        assertThat(this.cache.get("key", Omittable.class)).isEqualTo(Omittable.of(null));
+        assertThat(this.cache.get("missing")).isNull();
+    }
+
+    @Test
+    public void testGet_ValueLoader() {
+        Omittable<String> loaded = this.cache.get("key", Omittable::absent);
+        assertThat(loaded).isSameAs(Omittable.absent());
+        assertThat(this.targetCache.get("key", Object.class)).isSameAs(AbsentValue.INSTANCE);
+
+        Omittable<String> cached = this.cache.get("key", () -> Omittable.of("foo"));
+        assertThat(cached).isSameAs(Omittable.absent());
+    }
+
+    @Test
+    public void testGet_WrongType() {
+        this.cache.put("key", Omittable.absent());
+
+        assertThatIllegalStateException().isThrownBy(() -> this.cache.get("key", String.class));
+    }
+
+    @Test
+    public void testPutIfAbsent() {
+        assertThat(this.cache.putIfAbsent("key", Omittable.absent())).isNull();
+        assertThat(this.cache.putIfAbsent("key", Omittable.of("foo"))).isNotNull().extracting(Cache.ValueWrapper::get).isSameAs(Omittable.absent());
+    }
+
+    @Test
+    public void testStoreByValue() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("test");
+        cacheManager.setStoreByValue(true);
+
+        OmittableCache cache = new OmittableCache(cacheManager.getCache("test"));
+
+        cache.put("key", Omittable.absent());
+
+        assertThat(cache.get("key", Omittable.class)).isSameAs(Omittable.absent());
+    }
+
+    @Test
+    public void testRetrieve() {
+        this.cache.put("key", Omittable.absent());
+
+        assertThat(this.cache.retrieve("key")).isNotNull().succeedsWithin(Duration.ZERO)
+            .isInstanceOfSatisfying(Cache.ValueWrapper.class, it -> assertThat(it.get()).isSameAs(Omittable.absent()));
+        assertThat(this.cache.retrieve("other", () -> CompletableFuture.completedFuture(Omittable.absent())).join()).isSameAs(Omittable.absent());
+        assertThat(this.targetCache.get("other", Object.class)).isSameAs(AbsentValue.INSTANCE);
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.cache;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittableKeyGenerator}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableKeyGeneratorTest {
+
+    @Test
+    public void testGenerateKey_Simple() {
+        assertThat(OmittableKeyGenerator.generateKey()).isSameAs(SimpleKey.EMPTY);
+        assertThat(OmittableKeyGenerator.generateKey("foo")).isEqualTo("foo");
+        assertThat(OmittableKeyGenerator.generateKey("foo", 42)).isEqualTo(new SimpleKey("foo", 42));
+    }
+
+    @Test
+    public void testGenerateKey_SingleOmittable() {
+        assertThat(OmittableKeyGenerator.generateKey(Omittable.absent())).isSameAs(OmittableKeyGenerator.generateKey(Omittable.absent()));
+        assertThat(OmittableKeyGenerator.generateKey(Omittable.of(null))).isSameAs(OmittableKeyGenerator.generateKey(Omittable.of(null)));
+
+        assertThat(OmittableKeyGenerator.generateKey(Omittable.of("foo")))
+            .isEqualTo(OmittableKeyGenerator.generateKey(Omittable.of("foo")))
+            .hasSameHashCodeAs(OmittableKeyGenerator.generateKey(Omittable.of("foo")))
+            .isNotEqualTo(OmittableKeyGenerator.generateKey("foo"));
+    }
+
+    @Test
+    public void testGenerateKey_Distinct() {
+        Object absent = OmittableKeyGenerator.generateKey(Omittable.absent(), 1);
+        Object presentNull = OmittableKeyGenerator.generateKey(Omittable.of(null), 1);
+        Object present = OmittableKeyGenerator.generateKey(Omittable.of("foo"), 1);
+        Object plainNull = OmittableKeyGenerator.generateKey(null, 1);
+        Object plain = OmittableKeyGenerator.generateKey("foo", 1);
+
+        assertThat(absent).isNotEqualTo(presentNull).isNotEqualTo(present).isNotEqualTo(plainNull).isNotEqualTo(plain);
+        assertThat(presentNull).isNotEqualTo(present).isNotEqualTo(plainNull).isNotEqualTo(plain);
+        assertThat(present).isNotEqualTo(plainNull).isNotEqualTo(plain);
+
+        assertThat(OmittableKeyGenerator.generateKey(Omittable.of("foo"), 1)).isEqualTo(present).hasSameHashCodeAs(present);
+        assertThat(OmittableKeyGenerator.generateKey(Omittable.absent(), 1)).isEqualTo(absent).hasSameHashCodeAs(absent);
+    }
+
+    @Test
+    public void testGenerateKey_Arrays() {
+        Object key = OmittableKeyGenerator.generateKey(Omittable.of(new long[] { 1L, 2L }), "foo");
+
+        assertThat(OmittableKeyGenerator.generateKey(Omittable.of(new long[] { 1L, 2L }), "foo")).isEqualTo(key).hasSameHashCodeAs(key);
+        assertThat(OmittableKeyGenerator.generateKey(Omittable.of(new long[] { 1L, 3L }), "foo")).isNotEqualTo(key);
+    }
+
+    @Test
+    public void testGenerateKey_Serialization() throws Exception {
+        Object key = OmittableKeyGenerator.generateKey(Omittable.absent(), Omittable.of("foo"), 42);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(key);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(in.readObject()).isEqualTo(key).hasSameHashCodeAs(key);
+        }
+    }
+
+    @Test
+    public void testToString() {
+        assertThat(OmittableKeyGenerator.generateKey(Omittable.absent(), Omittable.of("foo"), 42)).hasToString("OmittableKey [<absent>, <foo>, 42]");
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.convert;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.test.AllocationBudget;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.lang.annotation.Annotation;
+
+import static com.osmerion.omittable.spring.core.test.AllocationBudget.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CachedOmittables}.
+ *
+ * @author  Leon Linhart
+ */
+public final class CachedOmittablesTest {
+
+    private enum Color { RED, GREEN }
+
+    @Test
+    public void testOf_Cached() {
+        assertThat(CachedOmittables.of(null)).isSameAs(CachedOmittables.of(null)).isEqualTo(Omittable.of(null));
+        assertThat(CachedOmittables.of(true)).isSameAs(CachedOmittables.of(Boolean.TRUE)).isEqualTo(Omittable.of(true));
+        assertThat(CachedOmittables.of(false)).isSameAs(CachedOmittables.of(Boolean.FALSE)).isEqualTo(Omittable.of(false));
+        assertThat(CachedOmittables.of(-128)).isSameAs(CachedOmittables.of(-128)).isEqualTo(Omittable.of(-128));
+        assertThat(CachedOmittables.of(127)).isSameAs(CachedOmittables.of(127)).isEqualTo(Omittable.of(127));
+        assertThat(CachedOmittables.of(42L)).isSameAs(CachedOmittables.of(42L)).isEqualTo(Omittable.of(42L));
+        assertThat(CachedOmittables.of("")).isSameAs(CachedOmittables.of(new String())).isEqualTo(Omittable.of(""));
+        assertThat(CachedOmittables.of(Color.GREEN)).isSameAs(CachedOmittables.of(Color.GREEN)).isEqualTo(Omittable.of(Color.GREEN));
+    }
+
+    @Test
+    public void testOf_Uncached() {
+        assertThat(CachedOmittables.of(128)).isEqualTo(Omittable.of(128));
+        assertThat(CachedOmittables.of(-129L)).isEqualTo(Omittable.of(-129L));
+        assertThat(CachedOmittables.of("foo")).isEqualTo(Omittable.of("foo"));
+        assertThat(CachedOmittables.of((short) 1)).isEqualTo(Omittable.of((short) 1));
+    }
+
+    @Test
+    @Tag(AllocationBudget.TAG)
+    public void testConvert_NoWrapperAllocations() {
+        DefaultConversionService conversionService = new DefaultConversionService();
+        OmittableValueConverter booleans = OmittableValueConverter.create(conversionService, omittableOf(Boolean.class));
+        OmittableValueConverter integers = OmittableValueConverter.create(conversionService, omittableOf(Integer.class));
+        OmittableValueConverter colors = OmittableValueConverter.create(conversionService, omittableOf(Color.class));
+
+        assertAllocationFree("cached conversions", () -> {
+            if (booleans.convert("true") != CachedOmittables.of(true)) fail("Unexpected instance");
+            if (integers.convert("25") != CachedOmittables.of(25)) fail("Unexpected instance");
+            return colors.convert("RED");
+        });
+
+        assertThat(colors.convert("RED")).isSameAs(CachedOmittables.of(Color.RED));
+    }
+
+    private static TypeDescriptor omittableOf(Class<?> type) {
+        return new TypeDescriptor(ResolvableType.forClassWithGenerics(Omittable.class, type), Omittable.class, new Annotation[0]);
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.convert;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.test.AllocationBudget;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+import static com.osmerion.omittable.spring.core.test.AllocationBudget.*;
+
+/**
+ * Allocation budgets for {@link OmittableConverter#convert(Object, TypeDescriptor, TypeDescriptor)}.
+ *
+ * <p>The budgets reflect the allocations that are inherent to each case (e.g., the converted value and the
+ * {@link Omittable} wrapping it) on HotSpot with the C2 compiler. If a change exceeds a budget, the additional
+ * allocations should be avoided rather than the budget increased.</p>
+ *
+ * @author  Leon Linhart
+ */
+@Tag(AllocationBudget.TAG)
+public final class OmittableConverterAllocationTest {
+
+    private static final TypeDescriptor OMITTABLE_STRING = omittableOf(ResolvableType.forClass(String.class));
+
+    private static final TypeDescriptor OMITTABLE_LONG = omittableOf(ResolvableType.forClass(Long.class));
+
+    private static final TypeDescriptor OMITTABLE_STRING_ARRAY = omittableOf(ResolvableType.forClass(String[].class));
+
+    private static final TypeDescriptor OMITTABLE_LIST_OF_LONG = omittableOf(ResolvableType.forClassWithGenerics(List.class, Long.class));
+
+    private final OmittableConverter converter = new OmittableConverter(new DefaultConversionService());
+
+    @Test
+    public void testConvert_Absent() {
+        Omittable<String> source = Omittable.absent();
+        assertAllocationFree("absent conversion", () -> this.converter.convert(source, OMITTABLE_STRING, OMITTABLE_LONG));
+    }
+
+    @Test
+    public void testConvert_SameType() {
+        Omittable<String> source = Omittable.of("value");
+
+        /* The source is returned as is. */
+        assertAllocationFree("same-type conversion", () -> this.converter.convert(source, OMITTABLE_STRING, OMITTABLE_STRING));
+    }
+
+    @Test
+    public void testConvert_Converted() {
+        Omittable<String> source = Omittable.of("123456");
+
+        /* The Long and the Omittable. */
+        assertAllocatesAtMost("converting conversion", 40, () -> this.converter.convert(source, OMITTABLE_STRING, OMITTABLE_LONG));
+    }
+
+    @Test
+    public void testConvert_MultiValue() {
+        Omittable<String[]> source = Omittable.of(new String[] { "1", "2", "3" });
+
+        /*
+         * The list and its backing array, the Omittable, and (depending on inlining) the conversion service's converter
+         * cache key. Small Long values are cached.
+         */
+        assertAllocatesAtMost("multi-value conversion", 72, () -> this.converter.convert(source, OMITTABLE_STRING_ARRAY, OMITTABLE_LIST_OF_LONG));
+    }
+
+    private static TypeDescriptor omittableOf(ResolvableType type) {
+        return new TypeDescriptor(ResolvableType.forClassWithGenerics(Omittable.class, type), Omittable.class, new Annotation[0]);
+    }
+
+}
@@ -16,12 +16,21 @@
 package com.osmerion.omittable.spring.core.convert;
 
 import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.metrics.MicrometerOmittableMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -76,4 +85,198 @@ public final class OmittableConverterTest {
             .isEqualTo(Omittable.of(UUID.fromString("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc")));
     }
 
+    @Test
+    public void testConvert_NonGenericTarget() {
+        ConversionService conversionService = mock(ConversionService.class);
+        OmittableConverter converter = new OmittableConverter(conversionService);
+
+        Omittable<String> source = Omittable.of("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc");
+
+        assertThat(converter.convert(source, OMITTABLE_STRING, TypeDescriptor.valueOf(String.class)))
+            .isSameAs(source);
+
+        verifyNoInteractions(conversionService);
+    }
+
+    @Test
+    public void testConvert_ReusesConversionPlan() {
+        ConversionService conversionService = mock(ConversionService.class);
+        OmittableConverter converter = new OmittableConverter(conversionService, new ValueParserRegistry(), 16);
+
+        when(conversionService.convert(any(), any(), any()))
+            .thenReturn(UUID.fromString("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc"));
+
+        TypeDescriptor otherOmittableUUID = new TypeDescriptor(
+            ResolvableType.forClassWithGenerics(Omittable.class, UUID.class),
+            Omittable.class,
+            new Annotation[0]
+        );
+
+        converter.convert(Omittable.of("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc"), OMITTABLE_STRING, OMITTABLE_UUID);
+        converter.convert(Omittable.of("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc"), OMITTABLE_STRING, otherOmittableUUID);
+
+        ArgumentCaptor<TypeDescriptor> sourceTypes = ArgumentCaptor.forClass(TypeDescriptor.class);
+        ArgumentCaptor<TypeDescriptor> targetTypes = ArgumentCaptor.forClass(TypeDescriptor.class);
+        verify(conversionService, times(2)).convert(any(), sourceTypes.capture(), targetTypes.capture());
+
+        assertThat(sourceTypes.getAllValues().get(1)).isSameAs(sourceTypes.getAllValues().get(0));
+        assertThat(targetTypes.getAllValues().get(1)).isSameAs(targetTypes.getAllValues().get(0));
+        assertThat(targetTypes.getAllValues().get(0).getType()).isEqualTo(UUID.class);
+    }
+
+    @Test
+    public void testConvert_DistinguishesTargetGenerics() {
+        ConversionService conversionService = mock(ConversionService.class);
+        OmittableConverter converter = new OmittableConverter(conversionService);
+
+        TypeDescriptor omittableLong = new TypeDescriptor(
+            ResolvableType.forClassWithGenerics(Omittable.class, Long.class),
+            Omittable.class,
+            new Annotation[0]
+        );
+
+        when(conversionService.convert(eq("42"), any(), argThat(it -> it != null && it.getType() == Long.class)))
+            .thenReturn(42L);
+        when(conversionService.convert(eq("42"), any(), argThat(it -> it != null && it.getType() == String.class)))
+            .thenReturn("42");
+
+        assertThat(converter.convert(Omittable.of("42"), OMITTABLE_STRING, omittableLong))
+            .isEqualTo(Omittable.of(42L));
+
+        assertThat(converter.convert(Omittable.of("42"), OMITTABLE_STRING, OMITTABLE_STRING))
+            .isEqualTo(Omittable.of("42"));
+    }
+
+    @Test
+    public void testConvert_Parser() {
+        ConversionService conversionService = mock(ConversionService.class);
+        OmittableConverter converter = new OmittableConverter(conversionService);
+
+        assertThat(converter.convert(Omittable.of("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc"), OMITTABLE_STRING, OMITTABLE_UUID))
+            .isEqualTo(Omittable.of(UUID.fromString("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc")));
+
+        verifyNoInteractions(conversionService);
+    }
+
+    @Test
+    public void testConvert_ParserFallback() {
+        ConversionService conversionService = mock(ConversionService.class);
+        OmittableConverter converter = new OmittableConverter(conversionService);
+
+        when(conversionService.convert(eq(" c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc "), any(), any()))
+            .thenReturn(UUID.fromString("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc"));
+
+        assertThat(converter.convert(Omittable.of(" c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc "), OMITTABLE_STRING, OMITTABLE_UUID))
+            .isEqualTo(Omittable.of(UUID.fromString("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc")));
+    }
+
+    @Test
+    public void testConvert_MultiValue() {
+        OmittableConverter converter = new OmittableConverter(DefaultConversionService.getSharedInstance());
+
+        TypeDescriptor omittableStringArray = new TypeDescriptor(
+            ResolvableType.forClassWithGenerics(Omittable.class, String[].class),
+            Omittable.class,
+            new Annotation[0]
+        );
+
+        TypeDescriptor omittableListOfLong = new TypeDescriptor(
+            ResolvableType.forClassWithGenerics(Omittable.class, ResolvableType.forClassWithGenerics(List.class, Long.class)),
+            Omittable.class,
+            new Annotation[0]
+        );
+
+        assertThat(converter.convert(Omittable.of(new String[] { "1", "2" }), omittableStringArray, omittableListOfLong))
+            .isEqualTo(Omittable.of(List.of(1L, 2L)));
+    }
+
+    @Test
+    public void testConvert_AlreadyConverted() {
+        ConversionService conversionService = mock(ConversionService.class);
+        OmittableConverter converter = new OmittableConverter(conversionService);
+
+        Omittable<UUID> source = Omittable.of(UUID.fromString("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc"));
+
+        assertThat(converter.convert(source, OMITTABLE_UUID, OMITTABLE_UUID))
+            .isSameAs(source);
+
+        verifyNoInteractions(conversionService);
+    }
+
+    @Test
+    public void testConvert_AlreadyConvertedMultiValue() {
+        ConversionService conversionService = mock(ConversionService.class);
+        OmittableConverter converter = new OmittableConverter(conversionService);
+
+        TypeDescriptor omittableListOfLong = new TypeDescriptor(
+            ResolvableType.forClassWithGenerics(Omittable.class, ResolvableType.forClassWithGenerics(List.class, Long.class)),
+            Omittable.class,
+            new Annotation[0]
+        );
+
+        TypeDescriptor omittableLongArray = new TypeDescriptor(
+            ResolvableType.forClassWithGenerics(Omittable.class, Long[].class),
+            Omittable.class,
+            new Annotation[0]
+        );
+
+        Omittable<List<Long>> list = Omittable.of(new ArrayList<>(Arrays.asList(1L, null, 3L)));
+        assertThat(converter.convert(list, omittableListOfLong, omittableListOfLong))
+            .isSameAs(list);
+
+        Omittable<Long[]> array = Omittable.of(new Long[] { 1L, 2L });
+        assertThat(converter.convert(array, omittableLongArray, omittableLongArray))
+            .isSameAs(array);
+
+        verifyNoInteractions(conversionService);
+    }
+
+    @Test
+    public void testConvert_MultiValueWithElementsOfOtherType() {
+        OmittableConverter converter = new OmittableConverter(DefaultConversionService.getSharedInstance());
+
+        TypeDescriptor omittableListOfLong = new TypeDescriptor(
+            ResolvableType.forClassWithGenerics(Omittable.class, ResolvableType.forClassWithGenerics(List.class, Long.class)),
+            Omittable.class,
+            new Annotation[0]
+        );
+
+        /* The runtime type of the wrapped list is the same, but its elements still have to be converted. */
+        Omittable<List<Long>> converted = Omittable.of(new ArrayList<>(List.of(1L, 2L)));
+        Omittable<List<String>> unconverted = Omittable.of(new ArrayList<>(List.of("1", "2")));
+
+        assertThat(converter.convert(converted, omittableListOfLong, omittableListOfLong))
+            .isSameAs(converted);
+
+        assertThat(converter.convert(unconverted, omittableListOfLong, omittableListOfLong))
+            .isEqualTo(Omittable.of(List.of(1L, 2L)));
+    }
+
+    @Test
+    public void testConvert_RecordsMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        OmittableConverter converter = new OmittableConverter(DefaultConversionService.getSharedInstance());
+        converter.setMetrics(new MicrometerOmittableMetrics(registry));
+
+        converter.convert(Omittable.of("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc"), OMITTABLE_STRING, OMITTABLE_UUID);
+        converter.convert(Omittable.of("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc"), OMITTABLE_STRING, OMITTABLE_UUID);
+
+        assertThatThrownBy(() -> converter.convert(Omittable.of("invalid"), OMITTABLE_STRING, OMITTABLE_UUID))
+            .isInstanceOf(ConversionFailedException.class);
+
+        String target = OMITTABLE_UUID.getResolvableType().toString();
+
+        assertThat(registry.get(MicrometerOmittableMetrics.CONVERSION_TIMER).tag("target", target).timer().count())
+            .isEqualTo(3);
+
+        assertThat(registry.get(MicrometerOmittableMetrics.CONVERSION_FAILURE_COUNTER).tag("target", target).counter().count())
+            .isEqualTo(1);
+
+        assertThat(registry.get(MicrometerOmittableMetrics.CACHE_ACCESS_COUNTER).tag("cache", "omittable-converter").functionCounter().count())
+            .isEqualTo(3);
+
+        assertThat(registry.get(MicrometerOmittableMetrics.CACHE_MISS_COUNTER).tag("cache", "omittable-converter").functionCounter().count())
+            .isEqualTo(1);
+    }
+
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.convert;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.lang.annotation.Annotation;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittableValueConverter}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableValueConverterTest {
+
+    private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+
+    private static TypeDescriptor omittableOf(Class<?> type) {
+        return omittableOf(ResolvableType.forClass(type));
+    }
+
+    private static TypeDescriptor omittableOf(ResolvableType type) {
+        return new TypeDescriptor(ResolvableType.forClassWithGenerics(Omittable.class, type), Omittable.class, new Annotation[0]);
+    }
+
+    @Test
+    public void testGetElementType() {
+        OmittableValueConverter converter = OmittableValueConverter.create(CONVERSION_SERVICE, omittableOf(UUID.class));
+
+        assertThat(converter.getElementType().getType())
+            .isEqualTo(UUID.class);
+    }
+
+    @Test
+    public void testConvert_Null() {
+        OmittableValueConverter converter = OmittableValueConverter.create(CONVERSION_SERVICE, omittableOf(Long.class));
+
+        assertThat(converter.convert(null))
+            .isEqualTo(Omittable.of(null));
+    }
+
+    @Test
+    public void testConvert_String() {
+        OmittableValueConverter converter = OmittableValueConverter.create(CONVERSION_SERVICE, omittableOf(Long.class));
+
+        assertThat(converter.convert("42"))
+            .isEqualTo(Omittable.of(42L));
+    }
+
+    @Test
+    public void testConvert_StringArray() {
+        OmittableValueConverter converter = OmittableValueConverter.create(CONVERSION_SERVICE, omittableOf(String.class));
+
+        assertThat(converter.convert(new String[] { "foo", "bar" }))
+            .isEqualTo(Omittable.of("foo,bar"));
+    }
+
+    @Test
+    public void testConvert_List_CommaSeparated() {
+        OmittableValueConverter converter = OmittableValueConverter.create(CONVERSION_SERVICE, omittableOf(ResolvableType.forClassWithGenerics(List.class, Long.class)));
+
+        assertThat(converter.convert("1, 2,3"))
+            .isEqualTo(Omittable.of(List.of(1L, 2L, 3L)));
+
+        assertThat(converter.convert(""))
+            .isEqualTo(Omittable.of(List.of()));
+    }
+
+    @Test
+    public void testConvert_List_StringArray() {
+        OmittableValueConverter converter = OmittableValueConverter.create(CONVERSION_SERVICE, omittableOf(ResolvableType.forClassWithGenerics(List.class, Long.class)));
+
+        assertThat(converter.convert(new String[] { "1", "0x10" }))
+            .isEqualTo(Omittable.of(List.of(1L, 16L)));
+    }
+
+    @Test
+    public void testConvert_Set_List() {
+        OmittableValueConverter converter = OmittableValueConverter.create(CONVERSION_SERVICE, omittableOf(ResolvableType.forClassWithGenerics(Set.class, Integer.class)));
+
+        Omittable<?> result = converter.convert(List.of("1", "2", "1"));
+        assertThat(result.orElseThrow())
+            .isInstanceOf(LinkedHashSet.class)
+            .isEqualTo(Set.of(1, 2));
+    }
+
+    @Test
+    public void testConvert_Array() {
+        OmittableValueConverter converter = OmittableValueConverter.create(CONVERSION_SERVICE, omittableOf(UUID[].class));
+
+        assertThat((UUID[]) converter.convert("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc,0f1e48a5-8c4e-4c5e-9d0a-b1e2f6a3c4d5").orElseThrow())
+            .containsExactly(UUID.fromString("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc"), UUID.fromString("0f1e48a5-8c4e-4c5e-9d0a-b1e2f6a3c4d5"));
+    }
+
+    @Test
+    public void testConvert_PrimitiveArray() {
+        OmittableValueConverter converter = OmittableValueConverter.create(CONVERSION_SERVICE, omittableOf(int[].class));
+
+        assertThat((int[]) converter.convert(new String[] { "1", "2" }).orElseThrow())
+            .containsExactly(1, 2);
+    }
+
+    @Test
+    public void testConvert_StringArray_Identity() {
+        OmittableValueConverter converter = OmittableValueConverter.create(CONVERSION_SERVICE, omittableOf(String[].class));
+        String[] values = { "foo", "bar" };
+
+        assertThat(converter.convert(values).orElseThrow())
+            .isSameAs(values);
+    }
+
+}
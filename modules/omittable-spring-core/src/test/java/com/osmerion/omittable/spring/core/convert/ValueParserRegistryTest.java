@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.convert;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.lang.annotation.Annotation;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ValueParserRegistry}.
+ *
+ * @author  Leon Linhart
+ */
+public final class ValueParserRegistryTest {
+
+    private enum Color { RED, GREEN }
+
+    private static @org.jspecify.annotations.Nullable Object parse(Class<?> type, String text) {
+        ValueParser<?> parser = ValueParserRegistry.getSharedInstance().getParser(TypeDescriptor.valueOf(type));
+        assertThat(parser).isNotNull();
+
+        return parser.parse(text);
+    }
+
+    @Test
+    public void testInteger() {
+        assertThat(parse(Integer.class, "42")).isEqualTo(42);
+        assertThat(parse(Integer.class, "-2147483648")).isEqualTo(Integer.MIN_VALUE);
+        assertThat(parse(Integer.class, "2147483648")).isNull();
+        assertThat(parse(Integer.class, "0x10")).isNull();
+        assertThat(parse(Integer.class, " 42")).isNull();
+        assertThat(parse(Integer.class, "")).isNull();
+        assertThat(parse(Integer.class, "-")).isNull();
+    }
+
+    @Test
+    public void testLong() {
+        assertThat(parse(Long.class, "+9223372036854775807")).isEqualTo(Long.MAX_VALUE);
+        assertThat(parse(Long.class, "9223372036854775808")).isNull();
+        assertThat(parse(Long.class, "1.5")).isNull();
+    }
+
+    @Test
+    public void testBoolean() {
+        assertThat(parse(Boolean.class, "true")).isEqualTo(Boolean.TRUE);
+        assertThat(parse(Boolean.class, "false")).isEqualTo(Boolean.FALSE);
+        assertThat(parse(Boolean.class, "yes")).isNull();
+    }
+
+    @Test
+    public void testUUID() {
+        assertThat(parse(UUID.class, "c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc")).isEqualTo(UUID.fromString("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc"));
+        assertThat(parse(UUID.class, "c92ab1eb-b2bf-408b-b12c-b21fc1f55ddX")).isNull();
+        assertThat(parse(UUID.class, "c92ab1eb")).isNull();
+    }
+
+    @Test
+    public void testInstant() {
+        assertThat(parse(Instant.class, "2007-12-03T10:15:30Z")).isEqualTo(Instant.parse("2007-12-03T10:15:30Z"));
+        assertThat(parse(Instant.class, "1196676930000")).isNull();
+    }
+
+    @Test
+    public void testLocalDate() {
+        assertThat(parse(LocalDate.class, "2007-12-03")).isEqualTo(LocalDate.of(2007, 12, 3));
+        assertThat(parse(LocalDate.class, "2007-13-03")).isNull();
+        assertThat(parse(LocalDate.class, "12/3/07")).isNull();
+    }
+
+    @Test
+    public void testEnum() {
+        assertThat(parse(Color.class, "RED")).isEqualTo(Color.RED);
+        assertThat(parse(Color.class, "red")).isNull();
+    }
+
+    @Test
+    public void testEmptyRegistry() {
+        assertThat(new ValueParserRegistry().getParser(TypeDescriptor.valueOf(Long.class))).isNull();
+        assertThat(new ValueParserRegistry().getParser(TypeDescriptor.valueOf(Color.class))).isNull();
+    }
+
+    @Test
+    public void testCustomParser() {
+        ValueParserRegistry registry = new ValueParserRegistry();
+        registry.addParser(Long.class, text -> 7L);
+
+        ValueParser<?> parser = registry.getParser(TypeDescriptor.valueOf(Long.class));
+        assertThat(parser).isNotNull();
+        assertThat(parser.parse("42")).isEqualTo(7L);
+    }
+
+    @Test
+    public void testFormatAnnotation() throws Exception {
+        Annotation[] annotations = Holder.class.getDeclaredField("date").getAnnotations();
+        TypeDescriptor type = new TypeDescriptor(ResolvableType.forClass(LocalDate.class), null, annotations);
+
+        assertThat(ValueParserRegistry.getSharedInstance().getParser(type)).isNull();
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Holder {
+        @DateTimeFormat(pattern = "dd.MM.yyyy")
+        LocalDate date;
+    }
+
+}
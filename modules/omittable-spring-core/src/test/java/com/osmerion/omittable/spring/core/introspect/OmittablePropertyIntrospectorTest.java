@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.introspect;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittablePropertyIntrospector}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittablePropertyIntrospectorTest {
+
+    public record UserPatch(Omittable<String> name, int version) {}
+
+    public record CompactUserPatch(Omittable<String> name) {
+
+        public CompactUserPatch {}
+
+        public CompactUserPatch(String name) {
+            this(Omittable.of(name));
+        }
+
+    }
+
+    public static class OverloadedBean {
+
+        private Omittable<String> name = Omittable.absent();
+
+        private long age;
+
+        public Omittable<String> getName() {
+            return this.name;
+        }
+
+        public void setName(String name) {
+            this.name = Omittable.of(name);
+        }
+
+        public void setName(Omittable<String> name) {
+            this.name = name;
+        }
+
+        public long getAge() {
+            return this.age;
+        }
+
+        public void setAge(long age) {
+            this.age = age;
+        }
+
+        public void setAge(String age) {
+            this.age = Long.parseLong(age);
+        }
+
+        public boolean isActive() {
+            return true;
+        }
+
+        public OverloadedBean setComment(String comment) {
+            return this;
+        }
+
+        public static void setDefault(String value) {}
+
+    }
+
+    @Test
+    public void testIsBindable() {
+        assertThat(OmittablePropertyIntrospector.isBindable(UserPatch.class)).isTrue();
+        assertThat(OmittablePropertyIntrospector.isBindable(OverloadedBean.class)).isTrue();
+
+        assertThat(OmittablePropertyIntrospector.isBindable(int.class)).isFalse();
+        assertThat(OmittablePropertyIntrospector.isBindable(String.class)).isFalse();
+        assertThat(OmittablePropertyIntrospector.isBindable(String[].class)).isFalse();
+        assertThat(OmittablePropertyIntrospector.isBindable(List.class)).isFalse();
+        assertThat(OmittablePropertyIntrospector.isBindable(Map.class)).isFalse();
+        assertThat(OmittablePropertyIntrospector.isBindable(Omittable.class)).isFalse();
+    }
+
+    @Test
+    public void testGetCanonicalConstructor() throws Exception {
+        assertThat(OmittablePropertyIntrospector.getCanonicalConstructor(UserPatch.class).getParameterTypes())
+            .containsExactly(Omittable.class, int.class);
+
+        assertThat(OmittablePropertyIntrospector.getCanonicalConstructor(CompactUserPatch.class).getParameterTypes())
+            .containsExactly(Omittable.class);
+    }
+
+    @Test
+    public void testGetCanonicalConstructor_NotARecord() {
+        assertThatThrownBy(() -> OmittablePropertyIntrospector.getCanonicalConstructor(OverloadedBean.class))
+            .isInstanceOf(NoSuchMethodException.class);
+    }
+
+    @Test
+    public void testFindGetters_Record() throws Exception {
+        assertThat(OmittablePropertyIntrospector.findGetters(UserPatch.class)).containsExactly(
+            entry("name", UserPatch.class.getMethod("name")),
+            entry("version", UserPatch.class.getMethod("version"))
+        );
+    }
+
+    @Test
+    public void testFindGetters_Bean() throws Exception {
+        assertThat(OmittablePropertyIntrospector.findGetters(OverloadedBean.class)).containsExactly(
+            entry("age", OverloadedBean.class.getMethod("getAge")),
+            entry("name", OverloadedBean.class.getMethod("getName")),
+            entry("active", OverloadedBean.class.getMethod("isActive"))
+        );
+    }
+
+    @Test
+    public void testFindOmittableGetters() throws Exception {
+        assertThat(OmittablePropertyIntrospector.findOmittableGetters(UserPatch.class))
+            .containsExactly(entry("name", UserPatch.class.getMethod("name")));
+
+        assertThat(OmittablePropertyIntrospector.findOmittableGetters(OverloadedBean.class))
+            .containsExactly(entry("name", OverloadedBean.class.getMethod("getName")));
+    }
+
+    @Test
+    public void testFindSetters() throws Exception {
+        Map<String, Method> setters = OmittablePropertyIntrospector.findSetters(OverloadedBean.class);
+
+        assertThat(setters).containsOnlyKeys("age", "name");
+        assertThat(setters.get("name")).isEqualTo(OverloadedBean.class.getMethod("setName", Omittable.class));
+        assertThat(setters.get("age")).isEqualTo(OverloadedBean.class.getMethod("setAge", long.class));
+    }
+
+}
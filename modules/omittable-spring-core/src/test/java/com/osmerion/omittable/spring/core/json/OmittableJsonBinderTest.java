@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.json;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.async.ByteArrayFeeder;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.core.json.JsonFactory;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittableJsonBinder}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableJsonBinderTest {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final OmittableJsonBinder binder = new OmittableJsonBinder(new DefaultConversionService());
+
+    public record UserPatch(
+        Omittable<String> name,
+        Omittable<Long> age,
+        Omittable<UUID> id,
+        Omittable<List<Long>> groups,
+        Omittable<Address> address,
+        Omittable<BigDecimal> balance,
+        int version
+    ) {}
+
+    public record Address(String street, Omittable<String> city) {}
+
+    public static final class BeanPatch {
+
+        private Omittable<String> name = Omittable.of("initial");
+
+        private String comment = "initial";
+
+        public Omittable<String> getName() {
+            return this.name;
+        }
+
+        public void setName(Omittable<String> name) {
+            this.name = name;
+        }
+
+        public String getComment() {
+            return this.comment;
+        }
+
+        public void setComment(String comment) {
+            this.comment = comment;
+        }
+
+    }
+
+    public static final class OverloadedBeanPatch {
+
+        private Omittable<String> name = Omittable.of("initial");
+
+        private int invocations;
+
+        public Omittable<String> getName() {
+            return this.name;
+        }
+
+        public void setName(Omittable<String> name) {
+            this.name = name;
+            this.invocations++;
+        }
+
+        public void setName(String name) {
+            this.name = Omittable.of(name);
+            this.invocations++;
+        }
+
+        public OverloadedBeanPatch setNickname(Omittable<String> nickname) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    public record NoOmittables(String name) {}
+
+    @Test
+    public void testCanBind() {
+        assertThat(this.binder.canBind(UserPatch.class)).isTrue();
+        assertThat(this.binder.canBind(BeanPatch.class)).isTrue();
+        assertThat(this.binder.canBind(NoOmittables.class)).isFalse();
+        assertThat(this.binder.canBind(String.class)).isFalse();
+        assertThat(this.binder.canBind(Map.class)).isFalse();
+        assertThat(this.binder.canBind(Omittable.class)).isFalse();
+    }
+
+    @Test
+    public void testBind_Absent() {
+        UserPatch patch = bind("{}", UserPatch.class);
+
+        assertThat(patch).isEqualTo(new UserPatch(
+            Omittable.absent(),
+            Omittable.absent(),
+            Omittable.absent(),
+            Omittable.absent(),
+            Omittable.absent(),
+            Omittable.absent(),
+            0
+        ));
+    }
+
+    @Test
+    public void testBind_Null() {
+        UserPatch patch = bind("{\"name\":null,\"age\":null,\"address\":null}", UserPatch.class);
+
+        assertThat(patch.name()).isEqualTo(Omittable.of(null));
+        assertThat(patch.age()).isEqualTo(Omittable.of(null));
+        assertThat(patch.address()).isEqualTo(Omittable.of(null));
+        assertThat(patch.id()).isEqualTo(Omittable.absent());
+    }
+
+    @Test
+    public void testBind_Present() {
+        UserPatch patch = bind("""
+            {
+                "name": "Jane",
+                "age": 42,
+                "id": "c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc",
+                "groups": [1, 2, 3],
+                "address": { "street": "Main Street", "unknown": [{}, 1] },
+                "balance": 0.10000000000000000001,
+                "version": 7
+            }
+            """, UserPatch.class);
+
+        assertThat(patch).isEqualTo(new UserPatch(
+            Omittable.of("Jane"),
+            Omittable.of(42L),
+            Omittable.of(UUID.fromString("c92ab1eb-b2bf-408b-b12c-b21fc1f55ddc")),
+            Omittable.of(List.of(1L, 2L, 3L)),
+            Omittable.of(new Address("Main Street", Omittable.absent())),
+            Omittable.of(new BigDecimal("0.10000000000000000001")),
+            7
+        ));
+    }
+
+    @Test
+    public void testBind_IgnoresUnknownProperties() {
+        UserPatch patch = bind("{\"unknown\":{\"name\":\"Jane\"},\"name\":\"John\"}", UserPatch.class);
+        assertThat(patch.name()).isEqualTo(Omittable.of("John"));
+    }
+
+    @Test
+    public void testBind_Bean() {
+        BeanPatch absent = bind("{}", BeanPatch.class);
+        assertThat(absent.getName()).isEqualTo(Omittable.absent());
+        assertThat(absent.getComment()).isEqualTo("initial");
+
+        BeanPatch present = bind("{\"name\":null,\"comment\":\"updated\"}", BeanPatch.class);
+        assertThat(present.getName()).isEqualTo(Omittable.of(null));
+        assertThat(present.getComment()).isEqualTo("updated");
+    }
+
+    @Test
+    public void testBind_OverloadedSetters() {
+        OverloadedBeanPatch absent = bind("{}", OverloadedBeanPatch.class);
+        assertThat(absent.getName()).isEqualTo(Omittable.absent());
+        assertThat(absent.invocations).isEqualTo(1);
+
+        OverloadedBeanPatch present = bind("{\"name\":\"Jane\",\"nickname\":\"J\"}", OverloadedBeanPatch.class);
+        assertThat(present.getName()).isEqualTo(Omittable.of("Jane"));
+        assertThat(present.invocations).isEqualTo(1);
+    }
+
+    @Test
+    public void testBind_NotAnObject() {
+        assertThatThrownBy(() -> bind("[]", UserPatch.class))
+            .isInstanceOf(JacksonException.class);
+    }
+
+    @Test
+    public void testBind_IncompleteInput() {
+        assertThatThrownBy(() -> bindIncomplete("{\"name\":\"Jane\"", UserPatch.class))
+            .isInstanceOf(StreamReadException.class);
+
+        assertThatThrownBy(() -> bindIncomplete("{\"groups\":[1,", UserPatch.class))
+            .isInstanceOf(StreamReadException.class);
+
+        assertThatThrownBy(() -> bindIncomplete("{\"address\":{\"street\":\"Main\"", UserPatch.class))
+            .isInstanceOf(StreamReadException.class);
+    }
+
+    @Test
+    public void testBind_Unsupported() {
+        assertThatThrownBy(() -> bind("{}", String.class))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private <T> T bind(String json, Class<T> type) {
+        try (JsonParser parser = JSON_FACTORY.createParser(ObjectReadContext.empty(), json)) {
+            return this.binder.bind(parser, type);
+        }
+    }
+
+    /* Binds the given input using a non-blocking parser that is not notified of the end of the input. */
+    private <T> T bindIncomplete(String json, Class<T> type) {
+        try (JsonParser parser = JSON_FACTORY.createNonBlockingByteArrayParser(ObjectReadContext.empty())) {
+            byte[] input = json.getBytes(StandardCharsets.UTF_8);
+            ((ByteArrayFeeder) parser.nonBlockingInputFeeder()).feedInput(input, 0, input.length);
+
+            return this.binder.bind(parser, type);
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.metrics;
+
+import com.osmerion.omittable.Omittable;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.lang.annotation.Annotation;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link MicrometerOmittableMetrics}.
+ *
+ * @author  Leon Linhart
+ */
+public final class MicrometerOmittableMetricsTest {
+
+    @Test
+    public void testResolution() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerOmittableMetrics metrics = new MicrometerOmittableMetrics(registry);
+
+        MethodParameter parameter = new MethodParameter(TestController.class.getDeclaredMethod("handle", Omittable.class), 0);
+        OmittableMetrics.ResolutionRecorder recorder = metrics.resolution(parameter, "userId");
+
+        recorder.recordSuccess(1_000, Omittable.absent());
+        recorder.recordSuccess(1_000, Omittable.absent());
+        recorder.recordSuccess(1_000, Omittable.of("value"));
+        recorder.recordSuccess(1_000, Omittable.of(null));
+        recorder.recordFailure(1_000, new IllegalArgumentException());
+
+        assertThat(registry.get(MicrometerOmittableMetrics.RESOLUTION_TIMER).tag("method", "TestController#handle").tag("parameter", "userId").timer().count())
+            .isEqualTo(5);
+
+        assertThat(registry.get(MicrometerOmittableMetrics.RESOLUTION_OUTCOME_COUNTER).tag("outcome", "absent").counter().count())
+            .isEqualTo(2);
+
+        assertThat(registry.get(MicrometerOmittableMetrics.RESOLUTION_OUTCOME_COUNTER).tag("outcome", "present").counter().count())
+            .isEqualTo(1);
+
+        assertThat(registry.get(MicrometerOmittableMetrics.RESOLUTION_OUTCOME_COUNTER).tag("outcome", "null").counter().count())
+            .isEqualTo(1);
+
+        assertThat(registry.get(MicrometerOmittableMetrics.RESOLUTION_FAILURE_COUNTER).tag("exception", "IllegalArgumentException").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    public void testConversion() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerOmittableMetrics metrics = new MicrometerOmittableMetrics(registry);
+
+        TypeDescriptor targetType = new TypeDescriptor(
+            ResolvableType.forClassWithGenerics(Omittable.class, Long.class),
+            Omittable.class,
+            new Annotation[0]
+        );
+
+        OmittableMetrics.ConversionRecorder recorder = metrics.conversion(targetType);
+        recorder.recordSuccess(1_000);
+        recorder.recordFailure(1_000, new IllegalStateException());
+
+        String target = targetType.getResolvableType().toString();
+
+        assertThat(registry.get(MicrometerOmittableMetrics.CONVERSION_TIMER).tag("target", target).timer().count())
+            .isEqualTo(2);
+
+        assertThat(registry.get(MicrometerOmittableMetrics.CONVERSION_FAILURE_COUNTER).tag("target", target).tag("exception", "IllegalStateException").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    public void testCache() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerOmittableMetrics metrics = new MicrometerOmittableMetrics(registry);
+
+        assertThat(metrics.cache("test")).isSameAs(metrics.cache("test"));
+        assertThat(registry.get(MicrometerOmittableMetrics.CACHE_HIT_RATIO_GAUGE).tag("cache", "test").gauge().value())
+            .isNaN();
+
+        OmittableMetrics.CacheRecorder recorder = metrics.cache("test");
+        for (int i = 0; i < 4; i++) recorder.recordAccess();
+        recorder.recordMiss();
+
+        assertThat(registry.get(MicrometerOmittableMetrics.CACHE_ACCESS_COUNTER).tag("cache", "test").functionCounter().count())
+            .isEqualTo(4);
+
+        assertThat(registry.get(MicrometerOmittableMetrics.CACHE_MISS_COUNTER).tag("cache", "test").functionCounter().count())
+            .isEqualTo(1);
+
+        assertThat(registry.get(MicrometerOmittableMetrics.CACHE_HIT_RATIO_GAUGE).tag("cache", "test").gauge().value())
+            .isEqualTo(0.75);
+    }
+
+    @SuppressWarnings("unused")
+    private static final class TestController {
+        void handle(Omittable<String> userId) {}
+    }
+
+}
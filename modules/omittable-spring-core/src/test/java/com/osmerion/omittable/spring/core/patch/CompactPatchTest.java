@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.patch;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CompactPatchLayout} and {@link CompactPatch}.
+ *
+ * @author  Leon Linhart
+ */
+public final class CompactPatchTest {
+
+    public record UserPatch(Omittable<String> name, long version, Omittable<String> email, Omittable<Integer> age, String comment) {}
+
+    public static final class BeanPatch {
+
+        private Omittable<String> name = Omittable.absent();
+
+        private Omittable<List<String>> tags = Omittable.absent();
+
+        private boolean dryRun;
+
+        public Omittable<String> getName() {
+            return this.name;
+        }
+
+        public void setName(Omittable<String> name) {
+            this.name = name;
+        }
+
+        public Omittable<List<String>> getTags() {
+            return this.tags;
+        }
+
+        public void setTags(Omittable<List<String>> tags) {
+            this.tags = tags;
+        }
+
+        public boolean isDryRun() {
+            return this.dryRun;
+        }
+
+        public void setDryRun(boolean dryRun) {
+            this.dryRun = dryRun;
+        }
+
+    }
+
+    public record NoOmittables(String name) {}
+
+    @Test
+    public void testOf_Cached() {
+        assertThat(CompactPatchLayout.of(UserPatch.class)).isSameAs(CompactPatchLayout.of(UserPatch.class));
+        assertThat(CompactPatchLayout.of(UserPatch.class).getOmittablePropertyNames()).containsExactly("name", "email", "age");
+        assertThat(CompactPatchLayout.of(BeanPatch.class).getOmittablePropertyNames()).containsExactly("name", "tags");
+    }
+
+    @Test
+    public void testOf_NoOmittableProperties() {
+        assertThatIllegalArgumentException().isThrownBy(() -> CompactPatchLayout.of(NoOmittables.class));
+    }
+
+    @Test
+    public void testPack_Record() {
+        CompactPatchLayout<UserPatch> layout = CompactPatchLayout.of(UserPatch.class);
+        CompactPatch<UserPatch> patch = layout.pack(new UserPatch(Omittable.absent(), 7L, Omittable.of(null), Omittable.of(42), "note"));
+
+        assertThat(patch.getPresentMask()).isEqualTo(0b110L);
+        assertThat(patch.getNullMask()).isEqualTo(0b010L);
+        assertThat(patch.get("name")).isEqualTo(Omittable.absent());
+        assertThat(patch.get("email")).isEqualTo(Omittable.of(null));
+        assertThat(patch.get("age")).isEqualTo(Omittable.of(42));
+        assertThat(patch.isPresent(0)).isFalse();
+        assertThat(patch.isPresent(2)).isTrue();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> patch.get("version"));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> patch.get(3));
+    }
+
+    @Test
+    public void testUnpack_Record() {
+        CompactPatchLayout<UserPatch> layout = CompactPatchLayout.of(UserPatch.class);
+
+        for (UserPatch original : List.of(
+            new UserPatch(Omittable.absent(), 7L, Omittable.of(null), Omittable.of(42), "note"),
+            new UserPatch(Omittable.of("Jane"), 0L, Omittable.of("jane@example.com"), Omittable.absent(), null),
+            new UserPatch(Omittable.absent(), 1L, Omittable.absent(), Omittable.absent(), "")
+        )) {
+            CompactPatch<UserPatch> patch = layout.pack(original);
+
+            assertThat(patch.unpack()).isEqualTo(original);
+            assertThat(layout.pack(patch.unpack())).isEqualTo(patch);
+        }
+    }
+
+    @Test
+    public void testUnpack_Bean() {
+        BeanPatch original = new BeanPatch();
+        original.setTags(Omittable.of(List.of("a", "b")));
+        original.setDryRun(true);
+
+        CompactPatch<BeanPatch> patch = CompactPatchLayout.of(BeanPatch.class).pack(original);
+        BeanPatch unpacked = patch.unpack();
+
+        assertThat(patch.getPresentMask()).isEqualTo(0b10L);
+        assertThat(unpacked.getName()).isEqualTo(Omittable.absent());
+        assertThat(unpacked.getTags()).isEqualTo(Omittable.of(List.of("a", "b")));
+        assertThat(unpacked.isDryRun()).isTrue();
+    }
+
+    @Test
+    public void testUnpack_LayoutMismatch() {
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        CompactPatchLayout<UserPatch> layout = (CompactPatchLayout) CompactPatchLayout.of(BeanPatch.class);
+        CompactPatch<UserPatch> patch = CompactPatchLayout.of(UserPatch.class).pack(new UserPatch(Omittable.absent(), 0L, Omittable.absent(), Omittable.absent(), null));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> layout.unpack(patch));
+    }
+
+    @Test
+    public void testToString() {
+        CompactPatch<UserPatch> patch = CompactPatchLayout.of(UserPatch.class).pack(new UserPatch(Omittable.of("Jane"), 0L, Omittable.absent(), Omittable.of(null), null));
+        assertThat(patch.toString()).isEqualTo("CompactPatch[name=" + Omittable.of("Jane") + ", email=" + Omittable.absent() + ", age=" + Omittable.of(null) + "]");
+    }
+
+}
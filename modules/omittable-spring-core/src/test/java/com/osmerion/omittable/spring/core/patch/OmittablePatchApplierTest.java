@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.patch;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittablePatchApplier}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittablePatchApplierTest {
+
+    private final OmittablePatchApplier applier = new OmittablePatchApplier(new DefaultConversionService());
+
+    public record UserPatch(Omittable<String> name, Omittable<String> age, Omittable<String> email, Omittable<List<String>> groups) {}
+
+    public record User(String name, int age, String email, Omittable<List<Long>> groups) {}
+
+    public static final class UserEntity {
+
+        private String name = "initial";
+
+        private int age = 1;
+
+        private String email = "initial@example.com";
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return this.age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public String getEmail() {
+            return this.email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+    }
+
+    public static final class UserBuilder {
+
+        private String name = "initial";
+
+        private long age;
+
+        public UserBuilder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public UserBuilder age(long age) {
+            this.age = age;
+            return this;
+        }
+
+    }
+
+    public static final class BeanPatch {
+
+        public Omittable<String> getName() {
+            return Omittable.of("Jane");
+        }
+
+        public Omittable<String> getEmail() {
+            return Omittable.absent();
+        }
+
+    }
+
+    public record NoOmittables(String name) {}
+
+    @Test
+    public void testApply_Bean() {
+        UserEntity target = new UserEntity();
+        UserEntity result = this.applier.apply(new UserPatch(Omittable.of("Jane"), Omittable.of("42"), Omittable.absent(), Omittable.absent()), target);
+
+        assertThat(result).isSameAs(target);
+        assertThat(target.getName()).isEqualTo("Jane");
+        assertThat(target.getAge()).isEqualTo(42);
+        assertThat(target.getEmail()).isEqualTo("initial@example.com");
+    }
+
+    @Test
+    public void testApply_Bean_Null() {
+        UserEntity target = new UserEntity();
+        this.applier.apply(new UserPatch(Omittable.absent(), Omittable.absent(), Omittable.of(null), Omittable.absent()), target);
+
+        assertThat(target.getName()).isEqualTo("initial");
+        assertThat(target.getEmail()).isNull();
+    }
+
+    @Test
+    public void testApply_Bean_NullToPrimitive() {
+        UserEntity target = new UserEntity();
+
+        assertThatExceptionOfType(ConversionFailedException.class)
+            .isThrownBy(() -> this.applier.apply(new UserPatch(Omittable.absent(), Omittable.of(null), Omittable.absent(), Omittable.absent()), target));
+    }
+
+    @Test
+    public void testApply_BeanPatch() {
+        UserEntity target = new UserEntity();
+        this.applier.apply(new BeanPatch(), target);
+
+        assertThat(target.getName()).isEqualTo("Jane");
+        assertThat(target.getEmail()).isEqualTo("initial@example.com");
+    }
+
+    @Test
+    public void testApply_Builder() {
+        UserBuilder builder = new UserBuilder();
+        this.applier.apply(new UserPatch(Omittable.absent(), Omittable.of("42"), Omittable.of("jane@example.com"), Omittable.absent()), builder);
+
+        assertThat(builder.name).isEqualTo("initial");
+        assertThat(builder.age).isEqualTo(42L);
+    }
+
+    @Test
+    public void testApply_Record() {
+        User target = new User("initial", 1, "initial@example.com", Omittable.absent());
+        User result = this.applier.apply(new UserPatch(Omittable.of("Jane"), Omittable.absent(), Omittable.of(null), Omittable.of(List.of("1", "2"))), target);
+
+        assertThat(result).isEqualTo(new User("Jane", 1, null, Omittable.of(List.of(1L, 2L))));
+        assertThat(target.name()).isEqualTo("initial");
+    }
+
+    @Test
+    public void testApply_Record_NothingPresent() {
+        User target = new User("initial", 1, "initial@example.com", Omittable.absent());
+        User result = this.applier.apply(new UserPatch(Omittable.absent(), Omittable.absent(), Omittable.absent(), Omittable.absent()), target);
+
+        assertThat(result).isSameAs(target);
+    }
+
+    @Test
+    public void testApply_ConversionFailure() {
+        assertThatExceptionOfType(ConversionFailedException.class)
+            .isThrownBy(() -> this.applier.apply(new UserPatch(Omittable.absent(), Omittable.of("not a number"), Omittable.absent(), Omittable.absent()), new UserEntity()));
+    }
+
+    @Test
+    public void testApply_NoOmittableProperties() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> this.applier.apply(new NoOmittables("Jane"), new UserEntity()));
+    }
+
+}
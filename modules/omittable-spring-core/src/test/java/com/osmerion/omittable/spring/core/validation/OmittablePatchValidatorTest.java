@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.validation;
+
+import com.osmerion.omittable.Omittable;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittablePatchValidator}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittablePatchValidatorTest {
+
+    public record UserPatch(
+        @NotNull Omittable<@Size(max = 4) String> name,
+        @NotNull Omittable<String> email,
+        @NotBlank String reason
+    ) {}
+
+    public static final class BeanPatch {
+
+        @NotNull
+        private Omittable<@Size(max = 4) String> name = Omittable.absent();
+
+        public Omittable<String> getName() {
+            return this.name;
+        }
+
+        public void setName(Omittable<String> name) {
+            this.name = name;
+        }
+
+    }
+
+    public record Address(@NotBlank String city) {}
+
+    public record CascadedPatch(@NotNull Omittable<String> name, @Valid Address address) {}
+
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = RejectingValidator.class)
+    public @interface Rejected {
+
+        String message() default "rejected";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+    }
+
+    public static final class RejectingValidator implements ConstraintValidator<Rejected, Object> {
+
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            return false;
+        }
+
+    }
+
+    @Rejected
+    public record ClassConstrainedPatch(@NotNull Omittable<String> name) {}
+
+    private final ValidatorFactory validatorFactory = Validation.byDefaultProvider()
+        .configure()
+        .addValueExtractor(new OmittableValueExtractor())
+        .buildValidatorFactory();
+
+    private final OmittablePatchValidator validator = new OmittablePatchValidator(this.validatorFactory.getValidator());
+
+    @AfterEach
+    public void tearDown() {
+        this.validatorFactory.close();
+    }
+
+    @Test
+    public void testValidate_Present() {
+        Set<ConstraintViolation<UserPatch>> violations = this.validator.validate(new UserPatch(Omittable.of("Jonathan"), Omittable.of(null), ""));
+
+        assertThat(violations).extracting(it -> it.getPropertyPath().toString()).containsExactlyInAnyOrder("name", "email", "reason");
+    }
+
+    @Test
+    public void testValidate_Absent() {
+        Set<ConstraintViolation<UserPatch>> violations = this.validator.validate(new UserPatch(Omittable.absent(), Omittable.absent(), "Typo"));
+
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    public void testValidate_Bean() {
+        BeanPatch patch = new BeanPatch();
+        assertThat(this.validator.validate(patch)).isEmpty();
+
+        patch.setName(Omittable.of("Jonathan"));
+        assertThat(this.validator.validate(patch)).extracting(it -> it.getPropertyPath().toString()).containsExactly("name");
+    }
+
+    @Test
+    public void testValidate_Cascaded() {
+        Set<ConstraintViolation<CascadedPatch>> violations = this.validator.validate(new CascadedPatch(Omittable.absent(), new Address("")));
+
+        assertThat(violations).extracting(it -> it.getPropertyPath().toString()).containsExactly("address.city");
+    }
+
+    @Test
+    public void testValidate_ClassConstraints() {
+        Set<ConstraintViolation<ClassConstrainedPatch>> violations = this.validator.validate(new ClassConstrainedPatch(Omittable.absent()));
+
+        assertThat(violations).extracting(it -> it.getPropertyPath().toString()).containsExactly("");
+    }
+
+    @Test
+    public void testUnwrap() {
+        assertThat(this.validator.unwrap(OmittablePatchValidator.class)).isSameAs(this.validator);
+    }
+
+}
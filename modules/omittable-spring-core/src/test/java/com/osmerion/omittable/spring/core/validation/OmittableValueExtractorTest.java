@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.validation;
+
+import com.osmerion.omittable.Omittable;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittableValueExtractor}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableValueExtractorTest {
+
+    static final AtomicInteger VALIDATIONS = new AtomicInteger();
+
+    @Target({ ElementType.FIELD, ElementType.TYPE_USE })
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = CountingValidator.class)
+    public @interface Counted {
+
+        String message() default "counted";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+    }
+
+    public static final class CountingValidator implements ConstraintValidator<Counted, Object> {
+
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            VALIDATIONS.incrementAndGet();
+            return true;
+        }
+
+    }
+
+    public record UserPatch(
+        Omittable<@Size(max = 4) String> name,
+        @NotNull Omittable<String> email,
+        Omittable<@Counted String> comment
+    ) {}
+
+    private final LocalValidatorFactoryBean factoryBean = createFactoryBean();
+
+    @AfterEach
+    public void tearDown() {
+        this.factoryBean.close();
+    }
+
+    @Test
+    public void testExtractValues_Present() {
+        Set<ConstraintViolation<UserPatch>> violations = validator().validate(new UserPatch(Omittable.of("Jonathan"), Omittable.of(null), Omittable.absent()));
+
+        assertThat(violations).extracting(it -> it.getPropertyPath().toString()).containsExactlyInAnyOrder("name", "email");
+    }
+
+    @Test
+    public void testExtractValues_Valid() {
+        assertThat(validator().validate(new UserPatch(Omittable.of("Jane"), Omittable.of("jane@example.com"), Omittable.of("Hi")))).isEmpty();
+    }
+
+    @Test
+    public void testExtractValues_Absent() {
+        int validations = VALIDATIONS.get();
+
+        assertThat(validator().validate(new UserPatch(Omittable.absent(), Omittable.absent(), Omittable.absent()))).isEmpty();
+        assertThat(VALIDATIONS.get()).isEqualTo(validations);
+
+        assertThat(validator().validate(new UserPatch(Omittable.absent(), Omittable.absent(), Omittable.of("Hi")))).isEmpty();
+        assertThat(VALIDATIONS.get()).isEqualTo(validations + 1);
+    }
+
+    @Test
+    public void testRegisterWith_Initializer() {
+        AtomicInteger initializations = new AtomicInteger();
+
+        LocalValidatorFactoryBean factoryBean = new LocalValidatorFactoryBean();
+        OmittableValueExtractor.registerWith(factoryBean, configuration -> initializations.incrementAndGet());
+        factoryBean.afterPropertiesSet();
+
+        try {
+            assertThat(initializations).hasValue(1);
+            assertThat(factoryBean.getValidator().validate(new UserPatch(Omittable.of("Jonathan"), Omittable.of("jane@example.com"), Omittable.absent()))).hasSize(1);
+        } finally {
+            factoryBean.close();
+        }
+    }
+
+    private Validator validator() {
+        return this.factoryBean.getValidator();
+    }
+
+    private static LocalValidatorFactoryBean createFactoryBean() {
+        LocalValidatorFactoryBean factoryBean = new LocalValidatorFactoryBean();
+        OmittableValueExtractor.registerWith(factoryBean);
+        factoryBean.afterPropertiesSet();
+
+        return factoryBean;
+    }
+
+}
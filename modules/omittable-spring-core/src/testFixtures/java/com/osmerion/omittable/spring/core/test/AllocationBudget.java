@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.core.test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+/**
+ * Measures the number of bytes allocated by an operation to guard hot paths against allocation regressions.
+ *
+ * <p>The operation is warmed up before it is measured so that the JIT compiler has a chance to apply escape analysis.
+ * Since compilation happens in the background, the operation is measured repeatedly and the lowest result is used.</p>
+ *
+ * <p>The exact number of bytes allocated by an operation depends on the JVM (e.g., object layout and compressed
+ * pointers) and on the decisions of its JIT compiler (e.g., inlining and escape analysis). Thus, budgets are upper
+ * bounds that are exceeded only if an operation allocates at least one additional object per call on average, and an
+ * operation is considered allocation-free if it allocates less than the smallest possible object per call on average. Measurements are skipped if the JVM does not support
+ * measuring thread allocations or does not have a JIT compiler (e.g., when running with {@code -Xint}).</p>
+ *
+ * <p>Tests that use this class should be tagged with {@value #TAG} so that they can be excluded from test runs on
+ * unusual JVMs.</p>
+ *
+ * @author  Leon Linhart
+ */
+public final class AllocationBudget {
+
+    /**
+     * The tag of tests that measure allocations.
+     */
+    public static final String TAG = "allocation";
+
+    private static final int WARMUP_ITERATIONS = 500_000;
+
+    private static final int MEASURED_ITERATIONS = 200_000;
+
+    private static final int MEASUREMENTS = 10;
+
+    /* The smallest possible object (i.e. an object header) takes up 16 bytes on 64-bit HotSpot JVMs without compact object headers. */
+    private static final int MIN_OBJECT_SIZE = 16;
+
+    @SuppressWarnings("unused")
+    private static Object sink;
+
+    private AllocationBudget() {}
+
+    /**
+     * Asserts that the given operation does not allocate.
+     *
+     * @param description   a description of the operation
+     * @param operation     the operation to measure
+     */
+    public static void assertAllocationFree(String description, Supplier<?> operation) {
+        double bytesPerCall = measure(operation);
+
+        assertThat(bytesPerCall)
+            .as("Bytes allocated per call by %s", description)
+            .isLessThan(MIN_OBJECT_SIZE);
+    }
+
+    /**
+     * Asserts that the given operation allocates at most {@code budget} bytes per call on average.
+     *
+     * <p>The budget is exceeded if the operation allocates at least the size of the smallest possible object in addition
+     * to the budget.</p>
+     *
+     * @param description   a description of the operation
+     * @param budget        the allocation budget per call in bytes
+     * @param operation     the operation to measure
+     */
+    public static void assertAllocatesAtMost(String description, long budget, Supplier<?> operation) {
+        double bytesPerCall = measure(operation);
+
+        assertThat(bytesPerCall)
+            .as("Bytes allocated per call by %s", description)
+            .isLessThan(budget + MIN_OBJECT_SIZE);
+    }
+
+    /**
+     * Returns the average number of bytes allocated per call by the given operation.
+     *
+     * @param operation the operation to measure
+     *
+     * @return  the average number of bytes allocated per call
+     */
+    public static double measure(Supplier<?> operation) {
+        assumeTrue(
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported(),
+            "Measuring thread allocations is not supported by this JVM"
+        );
+
+        assumeTrue(ManagementFactory.getCompilationMXBean() != null, "Allocation budgets require a JIT compiler");
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) sink = operation.get();
+
+        long minAllocatedBytes = Long.MAX_VALUE;
+        for (int measurement = 0; measurement < MEASUREMENTS; measurement++) {
+            long before = threadMXBean.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) sink = operation.get();
+            long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+            minAllocatedBytes = Math.min(minAllocatedBytes, allocatedBytes);
+        }
+
+        return (double) minAllocatedBytes / MEASURED_ITERATIONS;
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.jdbc;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.introspect.OmittablePropertyIntrospector;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The {@link Omittable} properties of a class and the columns they are mapped to.
+ *
+ * <p>The properties of records are read using their accessors in declaration order. The properties of other classes
+ * are read using their public getters in the order of the names of the getters. Since bitmasks over the properties are
+ * stored in a {@code long}, a class may have at most 64 {@code Omittable} properties.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+final class OmittableColumns {
+
+    /** The maximum number of {@code Omittable} properties of a class. */
+    static final int MAX_PROPERTIES = Long.SIZE;
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<?> type;
+
+    private final String[] columns;
+
+    private final MethodHandle[] getters;
+
+    private OmittableColumns(Class<?> type, String[] columns, MethodHandle[] getters) {
+        this.type = type;
+        this.columns = columns;
+        this.getters = getters;
+    }
+
+    /**
+     * Resolves the {@code Omittable} properties of the given class.
+     *
+     * @param type          the class
+     * @param columnNames   the function that maps property names to column names
+     *
+     * @return  the {@code Omittable} properties of the class and their columns
+     *
+     * @throws IllegalArgumentException if the class does not have {@code Omittable} properties or has more than 64 of
+     *                                  them
+     */
+    static OmittableColumns of(Class<?> type, Function<String, String> columnNames) {
+        Map<String, Method> getters = OmittablePropertyIntrospector.findOmittableGetters(type);
+        if (getters.isEmpty()) throw new IllegalArgumentException(type.getName() + " does not have Omittable properties");
+        if (getters.size() > MAX_PROPERTIES) throw new IllegalArgumentException(type.getName() + " has more than " + MAX_PROPERTIES + " Omittable properties");
+
+        String[] columns = new String[getters.size()];
+        MethodHandle[] handles = new MethodHandle[getters.size()];
+
+        int index = 0;
+        for (Map.Entry<String, Method> entry : getters.entrySet()) {
+            String propertyName = entry.getKey();
+            Method getter = entry.getValue();
+
+            ReflectionUtils.makeAccessible(getter);
+            columns[index] = columnNames.apply(propertyName);
+
+            try {
+                handles[index] = MethodHandles.lookup().unreflect(getter).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Cannot read " + type.getName() + "." + propertyName, e);
+            }
+
+            index++;
+        }
+
+        return new OmittableColumns(type, columns, handles);
+    }
+
+    /**
+     * Returns the class that declares the properties.
+     *
+     * @return  the class that declares the properties
+     */
+    Class<?> type() {
+        return this.type;
+    }
+
+    /**
+     * Returns the number of properties.
+     *
+     * @return  the number of properties
+     */
+    int size() {
+        return this.getters.length;
+    }
+
+    /**
+     * Returns the name of the column that the property with the given index is mapped to.
+     *
+     * @param index the index of the property
+     *
+     * @return  the name of the column
+     */
+    String column(int index) {
+        return this.columns[index];
+    }
+
+    /**
+     * Reads the property with the given index of the given instance.
+     *
+     * @param index     the index of the property
+     * @param instance  the instance to read from
+     *
+     * @return  the value of the property, or {@code null} if the property is {@code null}
+     */
+    @Nullable Omittable<?> read(int index, Object instance) {
+        try {
+            return (Omittable<?>) (Object) this.getters[index].invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to read property of " + this.type.getName(), t);
+        }
+    }
+
+    /**
+     * Reads the value of the present property with the given index of the given instance.
+     *
+     * @param index     the index of the property
+     * @param instance  the instance to read from
+     *
+     * @return  the value of the property
+     *
+     * @throws IllegalStateException    if the property is not present
+     */
+    @Nullable Object readPresentValue(int index, Object instance) {
+        if (!(read(index, instance) instanceof Omittable.Present<?> present)) {
+            throw new IllegalStateException("Property of " + this.type.getName() + " for column " + this.columns[index] + " is no longer present");
+        }
+
+        return present.value();
+    }
+
+    /**
+     * Returns the bitmask of the present properties of the given instance.
+     *
+     * @param instance  the instance to read from
+     *
+     * @return  the bitmask of the present properties
+     */
+    long getPresenceMask(Object instance) {
+        long mask = 0L;
+        for (int index = 0; index < this.getters.length; index++) {
+            if (read(index, instance) instanceof Omittable.Present<?>) mask |= (1L << index);
+        }
+
+        return mask;
+    }
+
+    /**
+     * Returns whether the given bitmask only has bits set that correspond to a property.
+     *
+     * @param mask  the mask to check
+     *
+     * @return  whether the mask is valid
+     */
+    boolean isValidMask(long mask) {
+        return this.getters.length == MAX_PROPERTIES || (mask >>> this.getters.length) == 0L;
+    }
+
+}
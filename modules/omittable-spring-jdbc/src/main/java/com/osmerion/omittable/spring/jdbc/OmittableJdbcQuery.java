@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.jdbc;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.ConcurrentLruCache;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Executes queries that are filtered by objects with {@link Omittable} properties (e.g., the filters of search
+ * endpoints that are bound from {@code Omittable} request parameters).
+ *
+ * <p>Each {@code Omittable} property of the filter class is mapped to a column. Absent properties are left out of the
+ * query. A present {@code null} value becomes an {@code IS NULL} predicate, and other present values become
+ * {@code column = ?} predicates with the value bound as a parameter. The predicates are combined using {@code AND} and
+ * appended to the {@code SELECT} statement as a {@code WHERE} clause, followed by an optional suffix (e.g., an
+ * {@code ORDER BY} clause).</p>
+ *
+ * <p>The shape of a filter is the combination of its present and its {@code null} properties. The SQL statement and the
+ * layout of its parameters are generated once per shape and cached. Thus, filters of the same shape always use an
+ * identical SQL string, which lets the database and the JDBC driver reuse prepared statements and query plans.</p>
+ *
+ * <p>The properties of filters are read using the accessors of records and the public getters of other classes. A
+ * filter class may have at most 64 {@code Omittable} properties. The {@code SELECT} statement, the suffix, and the
+ * names of the columns are embedded into the SQL statements as-is and must not be derived from untrusted input.</p>
+ *
+ * @param <T>   the type of the filters
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ *
+ * @see OmittableJdbcUpdater
+ */
+public final class OmittableJdbcQuery<T> {
+
+    private static final int DEFAULT_CACHE_CAPACITY = 256;
+
+    private final OmittableColumns columns;
+
+    private final String selectSql;
+
+    private final String suffixSql;
+
+    private final ConcurrentLruCache<QueryShape, FilterQuery> queries;
+
+    /**
+     * Creates a new {@link OmittableJdbcQuery}.
+     *
+     * <p>Property names are mapped to column names by converting them from camel case to snake case (e.g.,
+     * {@code firstName} is mapped to {@code first_name}).</p>
+     *
+     * @param filterType    the class of the filters
+     * @param selectSql     the {@code SELECT} statement without a {@code WHERE} clause
+     *
+     * @throws IllegalArgumentException if the filter class does not have {@code Omittable} properties or has more than
+     *                                  64 of them
+     *
+     * @since   2.1.0
+     */
+    public OmittableJdbcQuery(Class<T> filterType, String selectSql) {
+        this(filterType, selectSql, "", JdbcUtils::convertPropertyNameToUnderscoreName, DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link OmittableJdbcQuery}.
+     *
+     * <p>At most {@code cacheCapacity} statements are retained. The least recently used statements are evicted first.
+     * </p>
+     *
+     * @param filterType    the class of the filters
+     * @param selectSql     the {@code SELECT} statement without a {@code WHERE} clause
+     * @param suffixSql     the clauses to append after the {@code WHERE} clause (e.g., {@code ORDER BY id}), or an
+     *                      empty string
+     * @param columnNames   the function that maps property names to column names
+     * @param cacheCapacity the maximum number of cached statements
+     *
+     * @throws IllegalArgumentException if the filter class does not have {@code Omittable} properties or has more than
+     *                                  64 of them, or if {@code cacheCapacity} is negative
+     *
+     * @since   2.1.0
+     */
+    public OmittableJdbcQuery(Class<T> filterType, String selectSql, String suffixSql, Function<String, String> columnNames, int cacheCapacity) {
+        this.columns = OmittableColumns.of(filterType, columnNames);
+        this.selectSql = selectSql;
+        this.suffixSql = suffixSql;
+        this.queries = new ConcurrentLruCache<>(cacheCapacity, this::createQuery);
+    }
+
+    /**
+     * Returns the SQL statement that is used to query with the given filter.
+     *
+     * @param filter    the filter
+     *
+     * @return  the SQL statement
+     *
+     * @since   2.1.0
+     */
+    public String getSql(T filter) {
+        return this.queries.get(getShape(filter)).sql();
+    }
+
+    /**
+     * Queries the rows that match the given filter and maps each row to a result object.
+     *
+     * @param <R>               the type of the result objects
+     * @param jdbcOperations    the JDBC operations to execute the query with
+     * @param filter            the filter
+     * @param rowMapper         the mapper to map rows with
+     *
+     * @return  the result objects
+     *
+     * @since   2.1.0
+     */
+    public <R> List<R> query(JdbcOperations jdbcOperations, T filter, RowMapper<R> rowMapper) {
+        FilterQuery query = this.queries.get(getShape(filter));
+        return jdbcOperations.query(query.sql(), ps -> setValues(ps, query, filter), rowMapper);
+    }
+
+    /**
+     * Queries the rows that match the given filter and extracts a result from them.
+     *
+     * @param <R>               the type of the result
+     * @param jdbcOperations    the JDBC operations to execute the query with
+     * @param filter            the filter
+     * @param extractor         the extractor to extract the result with
+     *
+     * @return  the result
+     *
+     * @since   2.1.0
+     */
+    public <R> @Nullable R query(JdbcOperations jdbcOperations, T filter, ResultSetExtractor<R> extractor) {
+        FilterQuery query = this.queries.get(getShape(filter));
+        return jdbcOperations.query(query.sql(), ps -> setValues(ps, query, filter), extractor);
+    }
+
+    private QueryShape getShape(T filter) {
+        long presentMask = 0L;
+        long nullMask = 0L;
+
+        for (int index = 0; index < this.columns.size(); index++) {
+            if (this.columns.read(index, filter) instanceof Omittable.Present<?> present) {
+                presentMask |= (1L << index);
+                if (present.value() == null) nullMask |= (1L << index);
+            }
+        }
+
+        return new QueryShape(presentMask, nullMask);
+    }
+
+    private void setValues(PreparedStatement ps, FilterQuery query, T filter) throws SQLException {
+        int[] propertyIndices = query.propertyIndices();
+
+        for (int i = 0; i < propertyIndices.length; i++) {
+            Object value = this.columns.readPresentValue(propertyIndices[i], filter);
+            StatementCreatorUtils.setParameterValue(ps, i + 1, SqlTypeValue.TYPE_UNKNOWN, value);
+        }
+    }
+
+    /**
+     * The shape of a filter.
+     *
+     * @param presentMask   the bitmask of present properties
+     * @param nullMask      the bitmask of present properties with a {@code null} value
+     */
+    private record QueryShape(long presentMask, long nullMask) {}
+
+    /**
+     * A query for a shape of filters.
+     *
+     * @param sql               the SQL statement
+     * @param propertyIndices   the indices of the properties whose values are bound to the parameters of the statement
+     *                          in order
+     */
+    private record FilterQuery(String sql, int[] propertyIndices) {}
+
+    private FilterQuery createQuery(QueryShape shape) {
+        StringBuilder sql = new StringBuilder(this.selectSql);
+        int[] propertyIndices = new int[Long.bitCount(shape.presentMask() & ~shape.nullMask())];
+
+        long mask = shape.presentMask();
+        for (int i = 0, parameterIndex = 0; mask != 0L; i++, mask &= (mask - 1)) {
+            int propertyIndex = Long.numberOfTrailingZeros(mask);
+            sql.append((i == 0) ? " WHERE " : " AND ").append(this.columns.column(propertyIndex));
+
+            if ((shape.nullMask() & (1L << propertyIndex)) != 0L) {
+                sql.append(" IS NULL");
+            } else {
+                sql.append(" = ?");
+                propertyIndices[parameterIndex++] = propertyIndex;
+            }
+        }
+
+        if (!this.suffixSql.isEmpty()) sql.append(' ').append(this.suffixSql);
+        return new FilterQuery(sql.toString(), propertyIndices);
+    }
+
+}
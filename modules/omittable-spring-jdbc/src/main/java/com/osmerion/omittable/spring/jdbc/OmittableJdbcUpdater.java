@@ -0,0 +1,307 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.jdbc;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.ConcurrentLruCache;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Executes partial updates of database rows that are described by patch objects with {@link Omittable} properties.
+ *
+ * <p>Each {@code Omittable} property of the patch class is mapped to a column of the table. An {@code UPDATE} statement
+ * sets only the columns whose properties are present in a patch. A present {@code null} value sets the column to
+ * {@code NULL}. The rows to update are identified by the values of the key columns that are passed alongside the
+ * patches.</p>
+ *
+ * <p>The combination of present properties of a patch is encoded as a bitmask (see {@link #getPresenceMask(Object)}).
+ * The SQL statement and the layout of its parameters are generated once per mask and cached. Thus, patches with the
+ * same combination of present properties always use an identical SQL string, which lets the database and the JDBC
+ * driver reuse prepared statements. {@link #batchUpdate(JdbcOperations, Map)} groups patches by mask and executes each
+ * group as a single JDBC batch.</p>
+ *
+ * <p>The properties of patches are read using the accessors of records and the public getters of other classes. Since
+ * masks are stored in a {@code long}, a patch class may have at most 64 {@code Omittable} properties. The names of the
+ * table and the columns are embedded into the SQL statements as-is and must not be derived from untrusted input.</p>
+ *
+ * @param <T>   the type of the patches
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableJdbcUpdater<T> {
+
+    private static final int DEFAULT_CACHE_CAPACITY = 256;
+
+    private final OmittableColumns columns;
+
+    private final String tableName;
+
+    private final List<String> keyColumns;
+
+    private final ConcurrentLruCache<Long, UpdateStatement> statements;
+
+    /**
+     * Creates a new {@link OmittableJdbcUpdater}.
+     *
+     * <p>Property names are mapped to column names by converting them from camel case to snake case (e.g.,
+     * {@code firstName} is mapped to {@code first_name}).</p>
+     *
+     * @param patchType     the class of the patches
+     * @param tableName     the name of the table to update
+     * @param keyColumns    the names of the columns that identify a row
+     *
+     * @throws IllegalArgumentException if the patch class does not have {@code Omittable} properties or has more than
+     *                                  64 of them, or if no key columns are specified
+     *
+     * @since   2.1.0
+     */
+    public OmittableJdbcUpdater(Class<T> patchType, String tableName, String... keyColumns) {
+        this(patchType, tableName, JdbcUtils::convertPropertyNameToUnderscoreName, DEFAULT_CACHE_CAPACITY, keyColumns);
+    }
+
+    /**
+     * Creates a new {@link OmittableJdbcUpdater}.
+     *
+     * <p>At most {@code cacheCapacity} statements are retained. The least recently used statements are evicted first.
+     * </p>
+     *
+     * @param patchType     the class of the patches
+     * @param tableName     the name of the table to update
+     * @param columnNames   the function that maps property names to column names
+     * @param cacheCapacity the maximum number of cached statements
+     * @param keyColumns    the names of the columns that identify a row
+     *
+     * @throws IllegalArgumentException if the patch class does not have {@code Omittable} properties or has more than
+     *                                  64 of them, if no key columns are specified, or if {@code cacheCapacity} is
+     *                                  negative
+     *
+     * @since   2.1.0
+     */
+    public OmittableJdbcUpdater(Class<T> patchType, String tableName, Function<String, String> columnNames, int cacheCapacity, String... keyColumns) {
+        if (keyColumns.length == 0) throw new IllegalArgumentException("At least one key column is required");
+
+        this.columns = OmittableColumns.of(patchType, columnNames);
+        this.tableName = tableName;
+        this.keyColumns = List.of(keyColumns);
+        this.statements = new ConcurrentLruCache<>(cacheCapacity, this::createStatement);
+    }
+
+    /**
+     * Returns the bitmask of the present properties of the given patch.
+     *
+     * <p>Bit {@code i} of the mask is set if, and only if, the {@code i}-th {@code Omittable} property of the patch is
+     * present. The properties of records are numbered in declaration order, and the properties of other classes are
+     * numbered in the order of the names of their getters.</p>
+     *
+     * @param patch the patch
+     *
+     * @return  the bitmask of the present properties
+     *
+     * @since   2.1.0
+     */
+    public long getPresenceMask(T patch) {
+        return this.columns.getPresenceMask(patch);
+    }
+
+    /**
+     * Returns the SQL statement that is used to apply patches with the given bitmask of present properties.
+     *
+     * @param presenceMask  the bitmask of present properties
+     *
+     * @return  the SQL statement
+     *
+     * @throws IllegalArgumentException if the mask is zero or has bits set that do not correspond to a property
+     *
+     * @since   2.1.0
+     */
+    public String getSql(long presenceMask) {
+        return this.statements.get(presenceMask).sql();
+    }
+
+    /**
+     * Applies the given patch to the row that is identified by the given key values.
+     *
+     * <p>If no property of the patch is present, no statement is executed.</p>
+     *
+     * @param jdbcOperations    the JDBC operations to execute the statement with
+     * @param patch             the patch to apply
+     * @param keyValues         the values of the key columns in the order of the key columns
+     *
+     * @return  the number of updated rows
+     *
+     * @throws IllegalArgumentException if the number of key values does not match the number of key columns
+     *
+     * @since   2.1.0
+     */
+    public int update(JdbcOperations jdbcOperations, T patch, Object... keyValues) {
+        checkKeyValues(keyValues);
+
+        long mask = getPresenceMask(patch);
+        if (mask == 0L) return 0;
+
+        UpdateStatement statement = this.statements.get(mask);
+        return jdbcOperations.update(statement.sql(), ps -> setValues(ps, statement, patch, keyValues));
+    }
+
+    /**
+     * Applies each of the given patches to the row that is identified by its key.
+     *
+     * <p>For tables with a single key column, keys are the values of the key column. For tables with multiple key
+     * columns, keys must be {@code Object[]} arrays or {@link List lists} of the values of the key columns in the order
+     * of the key columns.</p>
+     *
+     * <p>Patches are grouped by their bitmask of present properties, and each group is executed as a single JDBC batch.
+     * Patches without present properties are skipped.</p>
+     *
+     * @param jdbcOperations    the JDBC operations to execute the statements with
+     * @param patches           the patches to apply by the keys of the rows to apply them to
+     *
+     * @return  the number of updated rows for each patch in iteration order of the map (which may be
+     *          {@link java.sql.Statement#SUCCESS_NO_INFO} if the number is unknown)
+     *
+     * @throws IllegalArgumentException if a key does not match the key columns
+     *
+     * @since   2.1.0
+     */
+    public int[] batchUpdate(JdbcOperations jdbcOperations, Map<?, ? extends T> patches) {
+        int[] updateCounts = new int[patches.size()];
+
+        List<@Nullable Object[]> keys = new ArrayList<>(patches.size());
+        List<T> values = new ArrayList<>(patches.size());
+        Map<Long, List<Integer>> indicesByMask = new LinkedHashMap<>();
+
+        for (Map.Entry<?, ? extends T> entry : patches.entrySet()) {
+            int index = values.size();
+            keys.add(toKeyValues(entry.getKey()));
+            values.add(entry.getValue());
+
+            long mask = getPresenceMask(entry.getValue());
+            if (mask != 0L) indicesByMask.computeIfAbsent(mask, key -> new ArrayList<>()).add(index);
+        }
+
+        for (Map.Entry<Long, List<Integer>> group : indicesByMask.entrySet()) {
+            UpdateStatement statement = this.statements.get(group.getKey());
+            List<Integer> indices = group.getValue();
+
+            int[] groupCounts = jdbcOperations.batchUpdate(statement.sql(), new BatchPreparedStatementSetter() {
+
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int index = indices.get(i);
+                    OmittableJdbcUpdater.this.setValues(ps, statement, values.get(index), keys.get(index));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return indices.size();
+                }
+
+            });
+
+            for (int i = 0; i < groupCounts.length; i++) updateCounts[indices.get(i)] = groupCounts[i];
+        }
+
+        return updateCounts;
+    }
+
+    private @Nullable Object[] toKeyValues(@Nullable Object key) {
+        @Nullable Object[] keyValues;
+        if (this.keyColumns.size() == 1) {
+            keyValues = new Object[] { key };
+        } else if (key instanceof Object[] array) {
+            keyValues = array;
+        } else if (key instanceof List<?> list) {
+            keyValues = list.toArray();
+        } else {
+            throw new IllegalArgumentException("Expected values for key columns " + this.keyColumns + " but got: " + key);
+        }
+
+        checkKeyValues(keyValues);
+        return keyValues;
+    }
+
+    private void checkKeyValues(@Nullable Object[] keyValues) {
+        if (keyValues.length != this.keyColumns.size()) {
+            throw new IllegalArgumentException("Expected values for key columns " + this.keyColumns + " but got: " + Arrays.toString(keyValues));
+        }
+    }
+
+    private void setValues(PreparedStatement ps, UpdateStatement statement, T patch, @Nullable Object[] keyValues) throws SQLException {
+        int[] propertyIndices = statement.propertyIndices();
+        int parameterIndex = 1;
+
+        for (int propertyIndex : propertyIndices) {
+            Object value = this.columns.readPresentValue(propertyIndex, patch);
+            StatementCreatorUtils.setParameterValue(ps, parameterIndex++, SqlTypeValue.TYPE_UNKNOWN, value);
+        }
+
+        for (Object keyValue : keyValues) {
+            StatementCreatorUtils.setParameterValue(ps, parameterIndex++, SqlTypeValue.TYPE_UNKNOWN, keyValue);
+        }
+    }
+
+    /**
+     * An {@code UPDATE} statement for a bitmask of present properties.
+     *
+     * @param sql               the SQL statement
+     * @param propertyIndices   the indices of the properties whose values are bound to the parameters of the
+     *                          {@code SET} clause in order
+     */
+    private record UpdateStatement(String sql, int[] propertyIndices) {}
+
+    private UpdateStatement createStatement(Long presenceMask) {
+        long mask = presenceMask;
+        if (mask == 0L || !this.columns.isValidMask(mask)) {
+            throw new IllegalArgumentException("Invalid presence mask for " + this.columns.type().getName() + ": " + Long.toBinaryString(mask));
+        }
+
+        int[] propertyIndices = new int[Long.bitCount(mask)];
+        StringBuilder sql = new StringBuilder("UPDATE ").append(this.tableName).append(" SET ");
+
+        for (int i = 0; mask != 0L; i++, mask &= (mask - 1)) {
+            int propertyIndex = Long.numberOfTrailingZeros(mask);
+            if (i > 0) sql.append(", ");
+
+            sql.append(this.columns.column(propertyIndex)).append(" = ?");
+            propertyIndices[i] = propertyIndex;
+        }
+
+        sql.append(" WHERE ");
+        for (int i = 0; i < this.keyColumns.size(); i++) {
+            if (i > 0) sql.append(" AND ");
+            sql.append(this.keyColumns.get(i)).append(" = ?");
+        }
+
+        return new UpdateStatement(sql.toString(), propertyIndices);
+    }
+
+}
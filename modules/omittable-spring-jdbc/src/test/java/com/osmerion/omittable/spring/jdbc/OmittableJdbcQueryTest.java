@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.jdbc;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittableJdbcQuery}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableJdbcQueryTest {
+
+    public record UserFilter(Omittable<String> name, Omittable<String> email, Omittable<Integer> age) {}
+
+    private EmbeddedDatabase database;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private final OmittableJdbcQuery<UserFilter> query = new OmittableJdbcQuery<>(
+        UserFilter.class,
+        "SELECT name FROM users",
+        "ORDER BY id",
+        JdbcUtils::convertPropertyNameToUnderscoreName,
+        16
+    );
+
+    @BeforeEach
+    public void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+
+        this.jdbcTemplate = new JdbcTemplate(this.database);
+        this.jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, name VARCHAR(64), email VARCHAR(64), age INT)");
+        this.jdbcTemplate.update("INSERT INTO users VALUES (1, 'Jane', 'jane@example.com', 30)");
+        this.jdbcTemplate.update("INSERT INTO users VALUES (2, 'John', NULL, 30)");
+        this.jdbcTemplate.update("INSERT INTO users VALUES (3, 'Jack', NULL, 40)");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.database.shutdown();
+    }
+
+    @Test
+    public void testGetSql() {
+        assertThat(this.query.getSql(new UserFilter(Omittable.absent(), Omittable.absent(), Omittable.absent())))
+            .isEqualTo("SELECT name FROM users ORDER BY id");
+        assertThat(this.query.getSql(new UserFilter(Omittable.of("Jane"), Omittable.absent(), Omittable.of(30))))
+            .isEqualTo("SELECT name FROM users WHERE name = ? AND age = ? ORDER BY id");
+        assertThat(this.query.getSql(new UserFilter(Omittable.absent(), Omittable.of(null), Omittable.of(30))))
+            .isEqualTo("SELECT name FROM users WHERE email IS NULL AND age = ? ORDER BY id");
+    }
+
+    @Test
+    public void testGetSql_Cached() {
+        String sql = this.query.getSql(new UserFilter(Omittable.of("Jane"), Omittable.absent(), Omittable.absent()));
+        assertThat(this.query.getSql(new UserFilter(Omittable.of("John"), Omittable.absent(), Omittable.absent()))).isSameAs(sql);
+        assertThat(this.query.getSql(new UserFilter(Omittable.of(null), Omittable.absent(), Omittable.absent()))).isNotEqualTo(sql);
+    }
+
+    @Test
+    public void testQuery() {
+        assertThat(this.query.query(this.jdbcTemplate, new UserFilter(Omittable.absent(), Omittable.absent(), Omittable.absent()), (rs, row) -> rs.getString(1)))
+            .containsExactly("Jane", "John", "Jack");
+        assertThat(this.query.query(this.jdbcTemplate, new UserFilter(Omittable.absent(), Omittable.absent(), Omittable.of(30)), (rs, row) -> rs.getString(1)))
+            .containsExactly("Jane", "John");
+        assertThat(this.query.query(this.jdbcTemplate, new UserFilter(Omittable.absent(), Omittable.of(null), Omittable.of(30)), (rs, row) -> rs.getString(1)))
+            .containsExactly("John");
+        assertThat(this.query.query(this.jdbcTemplate, new UserFilter(Omittable.of("Jack"), Omittable.of(null), Omittable.absent()), (rs, row) -> rs.getString(1)))
+            .containsExactly("Jack");
+    }
+
+    @Test
+    public void testQuery_ResultSetExtractor() {
+        OmittableJdbcQuery<UserFilter> countQuery = new OmittableJdbcQuery<>(UserFilter.class, "SELECT COUNT(*) FROM users");
+
+        Long count = countQuery.query(this.jdbcTemplate, new UserFilter(Omittable.absent(), Omittable.of(null), Omittable.absent()), rs -> rs.next() ? rs.getLong(1) : null);
+        assertThat(count).isEqualTo(2L);
+    }
+
+}
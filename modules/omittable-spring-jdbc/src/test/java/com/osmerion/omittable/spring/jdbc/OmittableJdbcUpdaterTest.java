@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.jdbc;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OmittableJdbcUpdater}.
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableJdbcUpdaterTest {
+
+    public record UserPatch(Omittable<String> name, Omittable<String> email, Omittable<Integer> age) {}
+
+    public static final class BeanPatch {
+
+        private Omittable<String> displayName = Omittable.absent();
+
+        public Omittable<String> getDisplayName() {
+            return this.displayName;
+        }
+
+        public void setDisplayName(Omittable<String> displayName) {
+            this.displayName = displayName;
+        }
+
+    }
+
+    public record NoOmittables(String name) {}
+
+    private EmbeddedDatabase database;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private final OmittableJdbcUpdater<UserPatch> updater = new OmittableJdbcUpdater<>(UserPatch.class, "users", "id");
+
+    @BeforeEach
+    public void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+
+        this.jdbcTemplate = new JdbcTemplate(this.database);
+        this.jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, tenant VARCHAR(16), name VARCHAR(64), email VARCHAR(64), age INT, display_name VARCHAR(64))");
+
+        for (long id = 1; id <= 4; id++) {
+            this.jdbcTemplate.update("INSERT INTO users VALUES (?, 'a', ?, ?, 30, NULL)", id, "user" + id, "user" + id + "@example.com");
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.database.shutdown();
+    }
+
+    @Test
+    public void testGetPresenceMask() {
+        assertThat(this.updater.getPresenceMask(new UserPatch(Omittable.absent(), Omittable.absent(), Omittable.absent()))).isEqualTo(0b000L);
+        assertThat(this.updater.getPresenceMask(new UserPatch(Omittable.of("Jane"), Omittable.absent(), Omittable.of(null)))).isEqualTo(0b101L);
+        assertThat(this.updater.getPresenceMask(new UserPatch(Omittable.of("Jane"), Omittable.of(null), Omittable.of(42)))).isEqualTo(0b111L);
+    }
+
+    @Test
+    public void testGetSql() {
+        assertThat(this.updater.getSql(0b101L)).isEqualTo("UPDATE users SET name = ?, age = ? WHERE id = ?");
+        assertThat(this.updater.getSql(0b101L)).isSameAs(this.updater.getSql(0b101L));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> this.updater.getSql(0L));
+        assertThatIllegalArgumentException().isThrownBy(() -> this.updater.getSql(0b1000L));
+    }
+
+    @Test
+    public void testGetSql_CompositeKey() {
+        OmittableJdbcUpdater<BeanPatch> updater = new OmittableJdbcUpdater<>(BeanPatch.class, "users", "tenant", "id");
+        assertThat(updater.getSql(0b1L)).isEqualTo("UPDATE users SET display_name = ? WHERE tenant = ? AND id = ?");
+    }
+
+    @Test
+    public void testUpdate() {
+        int count = this.updater.update(this.jdbcTemplate, new UserPatch(Omittable.of("Jane"), Omittable.of(null), Omittable.absent()), 1L);
+
+        assertThat(count).isEqualTo(1);
+        assertThat(this.jdbcTemplate.queryForMap("SELECT name, email, age FROM users WHERE id = 1"))
+            .containsEntry("NAME", "Jane")
+            .containsEntry("EMAIL", null)
+            .containsEntry("AGE", 30);
+        assertThat(this.jdbcTemplate.queryForObject("SELECT name FROM users WHERE id = 2", String.class)).isEqualTo("user2");
+    }
+
+    @Test
+    public void testUpdate_NothingPresent() {
+        int count = this.updater.update(this.jdbcTemplate, new UserPatch(Omittable.absent(), Omittable.absent(), Omittable.absent()), 1L);
+        assertThat(count).isZero();
+    }
+
+    @Test
+    public void testUpdate_InvalidKey() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> this.updater.update(this.jdbcTemplate, new UserPatch(Omittable.of("Jane"), Omittable.absent(), Omittable.absent()), 1L, 2L));
+    }
+
+    @Test
+    public void testUpdate_Bean_CompositeKey() {
+        OmittableJdbcUpdater<BeanPatch> updater = new OmittableJdbcUpdater<>(BeanPatch.class, "users", "tenant", "id");
+
+        BeanPatch patch = new BeanPatch();
+        patch.setDisplayName(Omittable.of("Jane Doe"));
+
+        assertThat(updater.update(this.jdbcTemplate, patch, "a", 3L)).isEqualTo(1);
+        assertThat(updater.update(this.jdbcTemplate, patch, "b", 4L)).isZero();
+        assertThat(this.jdbcTemplate.queryForObject("SELECT display_name FROM users WHERE id = 3", String.class)).isEqualTo("Jane Doe");
+    }
+
+    @Test
+    public void testBatchUpdate() {
+        List<String> statements = new ArrayList<>();
+        JdbcTemplate recordingTemplate = new JdbcTemplate(this.database) {
+
+            @Override
+            public int[] batchUpdate(String sql, BatchPreparedStatementSetter pss) {
+                statements.add(sql + " x" + pss.getBatchSize());
+                return super.batchUpdate(sql, pss);
+            }
+
+        };
+
+        Map<Long, UserPatch> patches = new LinkedHashMap<>();
+        patches.put(1L, new UserPatch(Omittable.of("Jane"), Omittable.absent(), Omittable.absent()));
+        patches.put(2L, new UserPatch(Omittable.absent(), Omittable.absent(), Omittable.of(42)));
+        patches.put(3L, new UserPatch(Omittable.of("John"), Omittable.absent(), Omittable.absent()));
+        patches.put(4L, new UserPatch(Omittable.absent(), Omittable.absent(), Omittable.absent()));
+        patches.put(5L, new UserPatch(Omittable.of("Nobody"), Omittable.absent(), Omittable.absent()));
+
+        int[] counts = this.updater.batchUpdate(recordingTemplate, patches);
+
+        assertThat(counts).containsExactly(1, 1, 1, 0, 0);
+        assertThat(statements).containsExactly(
+            "UPDATE users SET name = ? WHERE id = ? x3",
+            "UPDATE users SET age = ? WHERE id = ? x1"
+        );
+        assertThat(this.jdbcTemplate.queryForList("SELECT name FROM users ORDER BY id", String.class)).containsExactly("Jane", "user2", "John", "user4");
+        assertThat(this.jdbcTemplate.queryForObject("SELECT age FROM users WHERE id = 2", Integer.class)).isEqualTo(42);
+    }
+
+    @Test
+    public void testBatchUpdate_CompositeKey() {
+        OmittableJdbcUpdater<BeanPatch> updater = new OmittableJdbcUpdater<>(BeanPatch.class, "users", "tenant", "id");
+
+        BeanPatch patch = new BeanPatch();
+        patch.setDisplayName(Omittable.of("Jane Doe"));
+
+        int[] counts = updater.batchUpdate(this.jdbcTemplate, Map.of(List.of("a", 1L), patch));
+
+        assertThat(counts).containsExactly(1);
+        assertThatIllegalArgumentException().isThrownBy(() -> updater.batchUpdate(this.jdbcTemplate, Map.of(1L, patch)));
+    }
+
+    @Test
+    public void testNew_NoOmittableProperties() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new OmittableJdbcUpdater<>(NoOmittables.class, "users", "id"));
+    }
+
+    @Test
+    public void testNew_NoKeyColumns() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new OmittableJdbcUpdater<>(UserPatch.class, "users"));
+    }
+
+}
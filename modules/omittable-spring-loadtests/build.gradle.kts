@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+plugins {
+    id("com.osmerion.java-base-conventions")
+    java
+    `jvm-test-suite`
+}
+
+testing {
+    suites {
+        register<JvmTestSuite>("loadTest") {
+            useJUnitJupiter()
+
+            dependencies {
+                implementation(project(":omittable-spring-boot"))
+                implementation(project(":omittable-spring-webflux"))
+                implementation(project(":omittable-spring-webmvc"))
+
+                implementation(platform(buildDeps.spring.boot.dependencies))
+                implementation(buildDeps.spring.boot.starter.test)
+                implementation(buildDeps.spring.boot.starter.web)
+                implementation(buildDeps.spring.boot.starter.webflux)
+            }
+
+            targets.configureEach {
+                testTask.configure {
+                    // Load tests measure the environment they run in and should never be considered up-to-date.
+                    outputs.upToDateWhen { false }
+
+                    testLogging.showStandardStreams = true
+                    systemProperties(providers.systemPropertiesPrefixedBy("loadtest.").get())
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * The base class for the load tests of a web stack.
+ *
+ * <p>Each {@link LoadTestScenario scenario} is verified with a single request and warmed up before any scenario is put
+ * under load by a {@link LoadGenerator}. The results are printed as a table once all scenarios have been run.</p>
+ *
+ * @author  Leon Linhart
+ */
+abstract class AbstractLoadTest {
+
+    /**
+     * Returns a human-readable name of the web stack under test.
+     *
+     * @return  the name of the web stack
+     */
+    abstract String getName();
+
+    /**
+     * Starts the application under test on an ephemeral port.
+     *
+     * @return  the started application context
+     */
+    abstract ConfigurableApplicationContext startApplication();
+
+    @Test
+    public void testLoad() throws Exception {
+        try (ConfigurableApplicationContext context = startApplication(); LoadGenerator generator = LoadGenerator.fromSystemProperties()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            List<LoadTestResult> results = new ArrayList<>();
+
+            /* All scenarios are warmed up before the first measurement to not penalize the scenarios that run first. */
+            for (LoadTestScenario scenario : LoadTestScenario.values()) {
+                URI uri = getUri(port, scenario);
+
+                HttpResponse<String> response = generator.send(uri);
+                assertThat(response.statusCode()).as(scenario.name()).isEqualTo(200);
+                assertThat(response.body()).as(scenario.name()).isEqualTo(scenario.getExpectedBody());
+
+                generator.warmUp(uri);
+            }
+
+            for (LoadTestScenario scenario : LoadTestScenario.values()) {
+                results.add(generator.run(scenario.name().toLowerCase(Locale.ROOT), getUri(port, scenario)));
+            }
+
+            System.out.println(LoadTestResult.format(
+                String.format(Locale.ROOT, "%s - %d connections, %s per scenario", getName(), generator.getConcurrency(), generator.getDuration()),
+                results
+            ));
+
+            assertThat(results).allSatisfy(result -> {
+                assertThat(result.getErrors()).as(result.getScenario()).isZero();
+                assertThat(result.getRequests()).as(result.getScenario()).isPositive();
+            });
+        }
+    }
+
+    private static URI getUri(int port, LoadTestScenario scenario) {
+        return URI.create("http://localhost:" + port + scenario.getPath());
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A closed-loop HTTP load generator.
+ *
+ * <p>A fixed number of workers sends {@code GET} requests over HTTP/1.1 keep-alive connections. Each worker sends its
+ * next request as soon as the response to the previous one has been received. Requests sent while {@link #warmUp(URI)
+ * warming up} are discarded, and the latency of every successful request sent during a {@link #run(String, URI) run}
+ * is recorded.</p>
+ *
+ * <p>The generator is configured using the following system properties:</p>
+ *
+ * <ul>
+ * <li>{@code loadtest.concurrency} - the number of concurrent workers (default: {@code 16})</li>
+ * <li>{@code loadtest.warmup} - the ISO-8601 duration of the warmup per URI (default: {@code PT5S})</li>
+ * <li>{@code loadtest.duration} - the ISO-8601 duration of the measurement per URI (default: {@code PT10S})</li>
+ * </ul>
+ *
+ * @author  Leon Linhart
+ */
+final class LoadGenerator implements AutoCloseable {
+
+    static LoadGenerator fromSystemProperties() {
+        return new LoadGenerator(
+            Integer.getInteger("loadtest.concurrency", 16),
+            Duration.parse(System.getProperty("loadtest.warmup", "PT5S")),
+            Duration.parse(System.getProperty("loadtest.duration", "PT10S"))
+        );
+    }
+
+    private final HttpClient client;
+
+    private final ExecutorService workers;
+
+    private final int concurrency;
+
+    private final Duration warmup;
+
+    private final Duration duration;
+
+    LoadGenerator(int concurrency, Duration warmup, Duration duration) {
+        if (concurrency < 1) throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+        this.workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "load-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    int getConcurrency() {
+        return this.concurrency;
+    }
+
+    Duration getDuration() {
+        return this.duration;
+    }
+
+    /**
+     * Sends a single request and returns the response body.
+     *
+     * @param uri   the URI to request
+     *
+     * @return  the response
+     */
+    HttpResponse<String> send(URI uri) throws IOException, InterruptedException {
+        return this.client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Puts the given URI under load for the configured warmup duration and discards the results.
+     *
+     * @param uri   the URI to request
+     */
+    void warmUp(URI uri) throws InterruptedException {
+        if (!this.warmup.isZero()) drive(HttpRequest.newBuilder(uri).GET().build(), this.warmup);
+    }
+
+    /**
+     * Puts the given URI under load for the configured measurement duration.
+     *
+     * @param scenario  the name of the scenario
+     * @param uri       the URI to request
+     *
+     * @return  the result of the measurement
+     */
+    LoadTestResult run(String scenario, URI uri) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+
+        long start = System.nanoTime();
+        List<Worker> workers = drive(request, this.duration);
+        long elapsed = System.nanoTime() - start;
+
+        long errors = 0;
+        int count = 0;
+        for (Worker worker : workers) {
+            errors += worker.errors;
+            count += worker.count;
+        }
+
+        long[] latencies = new long[count];
+        int offset = 0;
+        for (Worker worker : workers) {
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            offset += worker.count;
+        }
+
+        Arrays.sort(latencies);
+        return new LoadTestResult(scenario, latencies, errors, Duration.ofNanos(elapsed));
+    }
+
+    private List<Worker> drive(HttpRequest request, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<Worker> workers = new ArrayList<>(this.concurrency);
+        for (int i = 0; i < this.concurrency; i++) workers.add(new Worker(request, deadline));
+
+        for (Future<Worker> future : this.workers.invokeAll(workers)) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+                if (cause instanceof Error error) throw error;
+
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        return workers;
+    }
+
+    @Override
+    public void close() {
+        this.workers.shutdownNow();
+    }
+
+    private final class Worker implements Callable<Worker> {
+
+        private final HttpRequest request;
+
+        private final long deadline;
+
+        private long[] latencies = new long[4096];
+
+        private int count;
+
+        private long errors;
+
+        Worker(HttpRequest request, long deadline) {
+            this.request = request;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public Worker call() throws InterruptedException {
+            long now = System.nanoTime();
+
+            while (now - this.deadline < 0) {
+                boolean success;
+
+                try {
+                    HttpResponse<Void> response = LoadGenerator.this.client.send(this.request, HttpResponse.BodyHandlers.discarding());
+                    success = (response.statusCode() == 200);
+                } catch (IOException e) {
+                    success = false;
+                }
+
+                long end = System.nanoTime();
+
+                if (success) {
+                    if (this.count == this.latencies.length) this.latencies = Arrays.copyOf(this.latencies, this.count * 2);
+                    this.latencies[this.count++] = end - now;
+                } else {
+                    this.errors++;
+                }
+
+                now = end;
+            }
+
+            return this;
+        }
+
+    }
+
+}
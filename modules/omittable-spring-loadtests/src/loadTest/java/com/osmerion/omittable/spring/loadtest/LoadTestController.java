@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.loadtest;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+/**
+ * The handlers under load.
+ *
+ * <p>The same endpoint is implemented with {@code Omittable}, {@code Optional}, and {@code @Nullable} request parameters
+ * to compare the cost of binding {@code Omittable} parameters against the alternatives supported by Spring. The
+ * controller is shared by the Spring MVC and Spring WebFlux applications.</p>
+ *
+ * @author  Leon Linhart
+ */
+@RestController
+public class LoadTestController {
+
+    private static final String ABSENT = "absent";
+
+    @GetMapping("/omittable")
+    public String getOmittable(@RequestParam("id") Omittable<Long> id, @RequestParam("name") Omittable<String> name) {
+        return describe(id) + ":" + describe(name);
+    }
+
+    @GetMapping("/optional")
+    public String getOptional(@RequestParam("id") Optional<Long> id, @RequestParam("name") Optional<String> name) {
+        return id.map(String::valueOf).orElse(ABSENT) + ":" + name.orElse(ABSENT);
+    }
+
+    @GetMapping("/nullable")
+    public String getNullable(@RequestParam(name = "id", required = false) @Nullable Long id, @RequestParam(name = "name", required = false) @Nullable String name) {
+        return ((id != null) ? String.valueOf(id) : ABSENT) + ":" + ((name != null) ? name : ABSENT);
+    }
+
+    private static String describe(Omittable<?> omittable) {
+        return (omittable instanceof Omittable.Present<?> present) ? String.valueOf(present.value()) : ABSENT;
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The result of the measurement phase of a {@link LoadGenerator} run.
+ *
+ * @author  Leon Linhart
+ */
+final class LoadTestResult {
+
+    private static final double[] PERCENTILES = { 0.5, 0.9, 0.99, 0.999 };
+
+    private final String scenario;
+
+    private final long[] latencies;
+
+    private final long errors;
+
+    private final Duration elapsed;
+
+    /**
+     * Creates a new {@link LoadTestResult}.
+     *
+     * @param scenario  the name of the scenario
+     * @param latencies the sorted latencies of all successful requests in nanoseconds
+     * @param errors    the number of failed requests
+     * @param elapsed   the duration of the measurement phase
+     */
+    LoadTestResult(String scenario, long[] latencies, long errors, Duration elapsed) {
+        this.scenario = scenario;
+        this.latencies = latencies;
+        this.errors = errors;
+        this.elapsed = elapsed;
+    }
+
+    String getScenario() {
+        return this.scenario;
+    }
+
+    long getRequests() {
+        return this.latencies.length;
+    }
+
+    long getErrors() {
+        return this.errors;
+    }
+
+    /**
+     * Returns the number of successful requests per second.
+     *
+     * @return  the throughput
+     */
+    double getThroughput() {
+        return this.latencies.length / (this.elapsed.toNanos() / 1_000_000_000.0D);
+    }
+
+    /**
+     * Returns the latency at the given percentile using the nearest-rank method.
+     *
+     * @param percentile    the percentile in {@code (0, 1]}
+     *
+     * @return  the latency in nanoseconds, or {@code 0} if no request succeeded
+     */
+    long getLatency(double percentile) {
+        if (this.latencies.length == 0) return 0;
+
+        int rank = (int) Math.ceil(percentile * this.latencies.length);
+        return this.latencies[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Formats the given results as a table.
+     *
+     * @param title     the title of the table
+     * @param results   the results to format
+     *
+     * @return  the formatted table
+     */
+    static String format(String title, List<LoadTestResult> results) {
+        StringBuilder sb = new StringBuilder(title).append(System.lineSeparator());
+        sb.append(String.format(Locale.ROOT, "%-20s %10s %8s %12s %10s %10s %10s %10s %10s%n", "scenario", "requests", "errors", "req/s", "p50 (us)", "p90 (us)", "p99 (us)", "p99.9 (us)", "max (us)"));
+
+        for (LoadTestResult result : results) {
+            sb.append(String.format(Locale.ROOT, "%-20s %10d %8d %12.1f", result.scenario, result.getRequests(), result.errors, result.getThroughput()));
+            for (double percentile : PERCENTILES) sb.append(String.format(Locale.ROOT, " %10.1f", result.getLatency(percentile) / 1_000.0D));
+            sb.append(String.format(Locale.ROOT, " %10.1f%n", result.getLatency(1.0D) / 1_000.0D));
+        }
+
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.loadtest;
+
+/**
+ * The requests sent by the load tests.
+ *
+ * <p>Each binding style of the {@link LoadTestController} is requested with all parameters present and with all
+ * parameters absent.</p>
+ *
+ * @author  Leon Linhart
+ */
+enum LoadTestScenario {
+    OMITTABLE_PRESENT("/omittable?id=42&name=Jane", "42:Jane"),
+    OMITTABLE_ABSENT("/omittable", "absent:absent"),
+    OPTIONAL_PRESENT("/optional?id=42&name=Jane", "42:Jane"),
+    OPTIONAL_ABSENT("/optional", "absent:absent"),
+    NULLABLE_PRESENT("/nullable?id=42&name=Jane", "42:Jane"),
+    NULLABLE_ABSENT("/nullable", "absent:absent");
+
+    private final String path;
+
+    private final String expectedBody;
+
+    LoadTestScenario(String path, String expectedBody) {
+        this.path = path;
+        this.expectedBody = expectedBody;
+    }
+
+    String getPath() {
+        return this.path;
+    }
+
+    String getExpectedBody() {
+        return this.expectedBody;
+    }
+
+}
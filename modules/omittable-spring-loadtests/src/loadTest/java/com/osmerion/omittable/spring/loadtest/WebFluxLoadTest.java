@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.loadtest;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.reactor.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Load tests for a Spring WebFlux application running on Reactor Netty.
+ *
+ * @author  Leon Linhart
+ */
+public final class WebFluxLoadTest extends AbstractLoadTest {
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    @Import(LoadTestController.class)
+    static class Application {
+
+        @Bean
+        NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+            return new NettyReactiveWebServerFactory();
+        }
+
+    }
+
+    @Override
+    String getName() {
+        return "Spring WebFlux (Reactor Netty)";
+    }
+
+    @Override
+    ConfigurableApplicationContext startApplication() {
+        return new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.REACTIVE)
+            .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=warn")
+            .run();
+    }
+
+}
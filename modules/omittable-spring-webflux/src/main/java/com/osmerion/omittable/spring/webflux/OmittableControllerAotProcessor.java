@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.aot.OmittableReflectionHints;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link BeanRegistrationAotProcessor} that registers the reflection hints for the {@link Omittable} parameters of
+ * the handler methods of controllers.
+ *
+ * <p>The wrapped types of {@code Omittable} parameters (including reactive-wrapped ones) and the types of request
+ * bodies and model attributes are introspected once during AOT processing, and the types that request parameter
+ * resolution, JSON binding, and model attribute binding reflect on are registered. Thus, handler methods with
+ * {@code Omittable} parameters work in native images without further configuration.</p>
+ *
+ * <p>This processor is registered in {@code META-INF/spring/aot.factories} and thus applied automatically during AOT
+ * processing.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+final class OmittableControllerAotProcessor implements BeanRegistrationAotProcessor {
+
+    @Override
+    public @Nullable BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+        Class<?> beanClass = ClassUtils.getUserClass(registeredBean.getBeanClass());
+        if (!AnnotatedElementUtils.hasAnnotation(beanClass, Controller.class)) return null;
+
+        Set<Method> handlerMethods = MethodIntrospector.selectMethods(
+            beanClass,
+            (MethodIntrospector.MetadataLookup<Boolean>) method -> AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class) ? Boolean.TRUE : null
+        ).keySet();
+
+        ReactiveAdapterRegistry adapterRegistry = ReactiveAdapterRegistry.getSharedInstance();
+        List<ResolvableType> omittableTypes = new ArrayList<>();
+        List<Class<?>> bodyTypes = new ArrayList<>();
+
+        for (Method method : handlerMethods) {
+            for (int index = 0; index < method.getParameterCount(); index++) {
+                MethodParameter parameter = new MethodParameter(method, index);
+                if (adapterRegistry.getAdapter(parameter.getParameterType()) != null) parameter = parameter.nested();
+
+                if (parameter.getNestedParameterType() == Omittable.class) {
+                    omittableTypes.add(ResolvableType.forMethodParameter(parameter));
+                } else if (parameter.hasParameterAnnotation(RequestBody.class) || parameter.hasParameterAnnotation(ModelAttribute.class)) {
+                    bodyTypes.add(parameter.getNestedParameterType());
+                }
+            }
+        }
+
+        if (omittableTypes.isEmpty() && bodyTypes.isEmpty()) return null;
+
+        return (generationContext, beanRegistrationCode) -> {
+            ReflectionHints hints = generationContext.getRuntimeHints().reflection();
+            omittableTypes.forEach(type -> OmittableReflectionHints.registerOmittableType(hints, type));
+            bodyTypes.forEach(type -> OmittableReflectionHints.registerBindingType(hints, type));
+        };
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.http.HttpCookie;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * A {@link HandlerMethodArgumentResolver} that resolves {@link Omittable} {@link CookieValue cookie values}.
+ *
+ * <p>Cookies are looked up by name in the cookies of the request, which are parsed once per request. If the declared
+ * type is {@link HttpCookie}, the cookie itself is wrapped. Otherwise, the cookie value is wrapped. By default,
+ * conversion to the declared type is left to the {@link org.springframework.web.bind.WebDataBinder WebDataBinder}. If a
+ * {@link ConversionService} is configured, the values are converted to the declared type by the resolver directly
+ * instead.</p>
+ *
+ * <p>Resolutions may be instrumented by {@link #setMetrics(OmittableMetrics) configuring} {@link OmittableMetrics}.
+ * </p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableCookieValueMethodArgumentResolver extends AbstractOmittableNamedValueArgumentResolver {
+
+    private static final String CACHE_NAME = "omittable-cookie-value";
+
+    /**
+     * Create a new {@link OmittableCookieValueMethodArgumentResolver} instance that leaves the conversion of
+     * values to the data binder.
+     *
+     * @param factory  a bean factory to use for resolving {@code ${...}} placeholder
+     *                 and {@code #{...}} SpEL expressions in default values, or {@code null} if default
+     *                 values are not expected to contain expressions
+     * @param registry for checking reactive type wrappers
+     *
+     * @since   2.1.0
+     */
+    public OmittableCookieValueMethodArgumentResolver(@Nullable ConfigurableBeanFactory factory, ReactiveAdapterRegistry registry) {
+        this(factory, registry, null);
+    }
+
+    /**
+     * Create a new {@link OmittableCookieValueMethodArgumentResolver} instance.
+     *
+     * @param factory           a bean factory to use for resolving {@code ${...}} placeholder
+     *                          and {@code #{...}} SpEL expressions in default values, or {@code null} if default
+     *                          values are not expected to contain expressions
+     * @param registry          for checking reactive type wrappers
+     * @param conversionService the conversion service to use to convert values to the declared type, or {@code null}
+     *                          to leave conversion to the data binder
+     *
+     * @since   2.1.0
+     */
+    public OmittableCookieValueMethodArgumentResolver(
+        @Nullable ConfigurableBeanFactory factory,
+        ReactiveAdapterRegistry registry,
+        @Nullable ConversionService conversionService
+    ) {
+        this(factory, registry, conversionService, ValueParserRegistry.getSharedInstance());
+    }
+
+    /**
+     * Create a new {@link OmittableCookieValueMethodArgumentResolver} instance.
+     *
+     * @param factory           a bean factory to use for resolving {@code ${...}} placeholder
+     *                          and {@code #{...}} SpEL expressions in default values, or {@code null} if default
+     *                          values are not expected to contain expressions
+     * @param registry          for checking reactive type wrappers
+     * @param conversionService the conversion service to use to convert values to the declared type, or {@code null}
+     *                          to leave conversion to the data binder
+     * @param parserRegistry    the registry of parsers to use for parsing values if a conversion service is configured
+     *
+     * @since   2.1.0
+     */
+    public OmittableCookieValueMethodArgumentResolver(
+        @Nullable ConfigurableBeanFactory factory,
+        ReactiveAdapterRegistry registry,
+        @Nullable ConversionService conversionService,
+        ValueParserRegistry parserRegistry
+    ) {
+        super(CookieValue.class, CACHE_NAME, factory, registry, conversionService, parserRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    protected NamedValueInfo createNamedValueInfo(MethodParameter parameter) {
+        CookieValue ann = parameter.getParameterAnnotation(CookieValue.class);
+        Assert.state(ann != null, "No CookieValue annotation");
+
+        return new NamedValueInfo(ann.name(), false, ann.defaultValue());
+    }
+
+    @Override
+    @Nullable Object resolveValue(ResolutionPlan plan, MethodParameter parameter, ServerWebExchange exchange) {
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst(plan.name());
+        if (cookie == null) return null;
+
+        return (HttpCookie.class.isAssignableFrom(plan.valueType()) ? cookie : cookie.getValue());
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.json.OmittableJsonBinder;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.TokenStreamFactory;
+import tools.jackson.core.json.JsonFactory;
+
+import java.util.Map;
+
+/**
+ * A {@link Decoder} that decodes JSON request bodies into objects with {@link Omittable} properties.
+ *
+ * <p>The body is bound token by token using an {@link OmittableJsonBinder}. A property that is missing from the body
+ * is bound as {@link Omittable#absent()}, while a property with an explicit {@code null} value is bound as a present
+ * {@code null}. Only classes with at least one {@code Omittable} property are decoded by this decoder. Thus, it should
+ * be registered as a custom codec so that it takes precedence over the default JSON decoder.</p>
+ *
+ * <p>For {@code application/x-ndjson} bodies decoded to a {@link Flux}, each line is bound to a separate object as soon
+ * as it has been received. Lines are requested from the body as the objects are requested downstream. Thus, decoding
+ * respects backpressure and arbitrarily long streams of objects can be processed without buffering the entire body.
+ * Use {@link PatchBatches} to group the decoded objects into batches for downstream processing. Other bodies are
+ * aggregated up to the {@link #setMaxInMemorySize(int) maximum in-memory size} before they are bound. For NDJSON
+ * bodies, this limit applies to each line.</p>
+ *
+ * <p>This class requires {@code tools.jackson.core:jackson-core} to be on the classpath.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableJsonDecoder extends AbstractDataBufferDecoder<Object> {
+
+    private static final ResolvableType STRING_TYPE = ResolvableType.forClass(String.class);
+
+    private final OmittableJsonBinder binder;
+
+    private final TokenStreamFactory jsonFactory;
+
+    private final StringDecoder lineDecoder = StringDecoder.allMimeTypes();
+
+    /**
+     * Creates a new {@link OmittableJsonDecoder}.
+     *
+     * @param binder    the binder to bind request bodies with
+     *
+     * @since   2.1.0
+     */
+    public OmittableJsonDecoder(OmittableJsonBinder binder) {
+        this(binder, new JsonFactory());
+    }
+
+    /**
+     * Creates a new {@link OmittableJsonDecoder}.
+     *
+     * @param binder        the binder to bind request bodies with
+     * @param jsonFactory   the factory to create JSON parsers with
+     *
+     * @since   2.1.0
+     */
+    public OmittableJsonDecoder(OmittableJsonBinder binder, TokenStreamFactory jsonFactory) {
+        super(
+            MediaType.APPLICATION_JSON,
+            new MediaType("application", "merge-patch+json"),
+            new MediaType("application", "*+json"),
+            MediaType.APPLICATION_NDJSON
+        );
+        this.binder = binder;
+        this.jsonFactory = jsonFactory;
+        this.lineDecoder.setMaxInMemorySize(getMaxInMemorySize());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>For {@code application/x-ndjson} bodies, the limit applies to each line.</p>
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public void setMaxInMemorySize(int byteCount) {
+        super.setMaxInMemorySize(byteCount);
+        this.lineDecoder.setMaxInMemorySize(byteCount);
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        return super.canDecode(elementType, mimeType) && this.binder.canBind(elementType.toClass());
+    }
+
+    @Override
+    public Flux<Object> decode(
+        Publisher<DataBuffer> input,
+        ResolvableType elementType,
+        @Nullable MimeType mimeType,
+        @Nullable Map<String, Object> hints
+    ) {
+        if (mimeType != null && MediaType.APPLICATION_NDJSON.isCompatibleWith(mimeType)) {
+            Class<?> type = elementType.toClass();
+
+            return this.lineDecoder.decode(input, STRING_TYPE, mimeType, hints)
+                .filter(StringUtils::hasText)
+                .map(line -> bind(line, type));
+        }
+
+        /* Other bodies are a single JSON object. Thus, the input is aggregated instead of decoding each buffer separately. */
+        return decodeToMono(input, elementType, mimeType, hints).flux();
+    }
+
+    @Override
+    public Object decode(
+        DataBuffer buffer,
+        ResolvableType targetType,
+        @Nullable MimeType mimeType,
+        @Nullable Map<String, Object> hints
+    ) throws DecodingException {
+        try (JsonParser parser = this.jsonFactory.createParser(ObjectReadContext.empty(), buffer.asInputStream(true))) {
+            return this.binder.bind(parser, targetType.toClass());
+        } catch (JacksonException | ConversionException | IllegalArgumentException e) {
+            throw new DecodingException("JSON decoding error: " + e.getMessage(), e);
+        }
+    }
+
+    private Object bind(String line, Class<?> type) {
+        try (JsonParser parser = this.jsonFactory.createParser(ObjectReadContext.empty(), line)) {
+            return this.binder.bind(parser, type);
+        } catch (JacksonException | ConversionException | IllegalArgumentException e) {
+            throw new DecodingException("JSON decoding error: " + e.getMessage(), e);
+        }
+    }
+
+}
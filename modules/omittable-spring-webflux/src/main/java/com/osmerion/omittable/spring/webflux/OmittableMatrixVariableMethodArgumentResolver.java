@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.util.Assert;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.MatrixVariable;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerErrorException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link HandlerMethodArgumentResolver} that resolves {@link Omittable} {@link MatrixVariable matrix variables}.
+ *
+ * <p>Matrix variables are looked up by name in the matrix variables exposed by the {@link HandlerMapping}, either in
+ * the path segment of the {@link MatrixVariable#pathVar() configured} path variable or in any path segment. A single
+ * value is wrapped as-is, and multiple values are wrapped as a list. By default, conversion to the declared type is
+ * left to the {@link org.springframework.web.bind.WebDataBinder WebDataBinder}. If a {@link ConversionService} is
+ * configured, the values are converted to the declared type by the resolver directly instead.</p>
+ *
+ * <p>Resolutions may be instrumented by {@link #setMetrics(OmittableMetrics) configuring} {@link OmittableMetrics}.
+ * </p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableMatrixVariableMethodArgumentResolver extends AbstractOmittableNamedValueArgumentResolver {
+
+    private static final String CACHE_NAME = "omittable-matrix-variable";
+
+    /**
+     * Create a new {@link OmittableMatrixVariableMethodArgumentResolver} instance that leaves the conversion of
+     * values to the data binder.
+     *
+     * @param factory  a bean factory to use for resolving {@code ${...}} placeholder
+     *                 and {@code #{...}} SpEL expressions in default values, or {@code null} if default
+     *                 values are not expected to contain expressions
+     * @param registry for checking reactive type wrappers
+     *
+     * @since   2.1.0
+     */
+    public OmittableMatrixVariableMethodArgumentResolver(@Nullable ConfigurableBeanFactory factory, ReactiveAdapterRegistry registry) {
+        this(factory, registry, null);
+    }
+
+    /**
+     * Create a new {@link OmittableMatrixVariableMethodArgumentResolver} instance.
+     *
+     * @param factory           a bean factory to use for resolving {@code ${...}} placeholder
+     *                          and {@code #{...}} SpEL expressions in default values, or {@code null} if default
+     *                          values are not expected to contain expressions
+     * @param registry          for checking reactive type wrappers
+     * @param conversionService the conversion service to use to convert values to the declared type, or {@code null}
+     *                          to leave conversion to the data binder
+     *
+     * @since   2.1.0
+     */
+    public OmittableMatrixVariableMethodArgumentResolver(
+        @Nullable ConfigurableBeanFactory factory,
+        ReactiveAdapterRegistry registry,
+        @Nullable ConversionService conversionService
+    ) {
+        this(factory, registry, conversionService, ValueParserRegistry.getSharedInstance());
+    }
+
+    /**
+     * Create a new {@link OmittableMatrixVariableMethodArgumentResolver} instance.
+     *
+     * @param factory           a bean factory to use for resolving {@code ${...}} placeholder
+     *                          and {@code #{...}} SpEL expressions in default values, or {@code null} if default
+     *                          values are not expected to contain expressions
+     * @param registry          for checking reactive type wrappers
+     * @param conversionService the conversion service to use to convert values to the declared type, or {@code null}
+     *                          to leave conversion to the data binder
+     * @param parserRegistry    the registry of parsers to use for parsing values if a conversion service is configured
+     *
+     * @since   2.1.0
+     */
+    public OmittableMatrixVariableMethodArgumentResolver(
+        @Nullable ConfigurableBeanFactory factory,
+        ReactiveAdapterRegistry registry,
+        @Nullable ConversionService conversionService,
+        ValueParserRegistry parserRegistry
+    ) {
+        super(MatrixVariable.class, CACHE_NAME, factory, registry, conversionService, parserRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    protected NamedValueInfo createNamedValueInfo(MethodParameter parameter) {
+        MatrixVariable ann = parameter.getParameterAnnotation(MatrixVariable.class);
+        Assert.state(ann != null, "No MatrixVariable annotation");
+
+        return new NamedValueInfo(ann.name(), false, ann.defaultValue());
+    }
+
+    @Override
+    @Nullable Object resolveValue(ResolutionPlan plan, MethodParameter parameter, ServerWebExchange exchange) {
+        Map<String, MultiValueMap<String, String>> pathParameters = exchange.getAttribute(HandlerMapping.MATRIX_VARIABLES_ATTRIBUTE);
+        if (pathParameters == null || pathParameters.isEmpty()) return null;
+
+        MatrixVariable ann = parameter.getParameterAnnotation(MatrixVariable.class);
+        Assert.state(ann != null, "No MatrixVariable annotation");
+
+        List<String> paramValues = null;
+
+        if (!ann.pathVar().equals(ValueConstants.DEFAULT_NONE)) {
+            MultiValueMap<String, String> params = pathParameters.get(ann.pathVar());
+            if (params != null) paramValues = params.get(plan.name());
+        } else {
+            for (MultiValueMap<String, String> params : pathParameters.values()) {
+                List<String> values = params.get(plan.name());
+                if (values == null) continue;
+
+                if (paramValues != null) {
+                    throw new ServerErrorException(
+                        "Found more than one match for URI path parameter '" + plan.name() + "' for parameter type [" +
+                        parameter.getNestedParameterType().getName() + "]. Use 'pathVar' attribute to disambiguate.",
+                        parameter,
+                        null
+                    );
+                }
+
+                paramValues = values;
+            }
+        }
+
+        if (paramValues == null) return null;
+        return (paramValues.size() == 1 ? paramValues.get(0) : paramValues);
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.bind.OmittableParameterBinder;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.Conventions;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.bind.support.WebExchangeDataBinder;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link HandlerMethodArgumentResolver} that binds request parameters to {@link ModelAttribute model attributes}
+ * with {@link Omittable} properties.
+ *
+ * <p>Parameters annotated with {@code @ModelAttribute} and parameters of non-simple types without any annotations are
+ * supported if their type has at least one {@code Omittable} property. Reactive type wrappers are not supported.
+ * Request parameters are bound using an {@link OmittableParameterBinder}. Thus, a property without a matching request
+ * parameter is bound as {@link Omittable#absent()}, and the values of present properties are converted to their
+ * declared types directly. Other parameters are left to Spring's
+ * {@link org.springframework.web.reactive.result.method.annotation.ModelAttributeMethodArgumentResolver
+ * ModelAttributeMethodArgumentResolver}, which has to be registered after this resolver.</p>
+ *
+ * <p>Like Spring's resolver, this resolver creates a {@link WebExchangeDataBinder} for the bound object using the
+ * {@link BindingContext}. Values that cannot be converted are recorded as field errors in its {@link BindingResult},
+ * and the object is validated if the parameter is annotated with {@code @Valid} or {@code @Validated}. If there are
+ * errors, a {@link WebExchangeBindException} is emitted unless the parameter is followed by an {@link Errors} or
+ * {@code BindingResult} parameter. The bound object and its {@code BindingResult} are added to the model under the
+ * name of the model attribute.</p>
+ *
+ * <p>Parameters are looked up in the query parameters and in the body of {@code application/x-www-form-urlencoded}
+ * requests. The body is read without blocking via {@link ServerWebExchange#getFormData()}. Values for the same
+ * parameter from both sources are combined in the order query parameters, form data.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableModelAttributeMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final OmittableParameterBinder binder;
+
+    /**
+     * Creates a new {@link OmittableModelAttributeMethodArgumentResolver} instance.
+     *
+     * @param conversionService the conversion service to use to convert parameter values to the declared types
+     *
+     * @since   2.1.0
+     */
+    public OmittableModelAttributeMethodArgumentResolver(ConversionService conversionService) {
+        this(conversionService, ValueParserRegistry.getSharedInstance());
+    }
+
+    /**
+     * Creates a new {@link OmittableModelAttributeMethodArgumentResolver} instance.
+     *
+     * @param conversionService the conversion service to use to convert parameter values to the declared types
+     * @param parserRegistry    the registry of parsers to use for parsing the values of {@code Omittable} properties
+     *
+     * @since   2.1.0
+     */
+    public OmittableModelAttributeMethodArgumentResolver(ConversionService conversionService, ValueParserRegistry parserRegistry) {
+        this.binder = new OmittableParameterBinder(conversionService, parserRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+
+        boolean isModelAttribute = parameter.hasParameterAnnotation(ModelAttribute.class)
+            || (!parameter.hasParameterAnnotations() && !BeanUtils.isSimpleProperty(type));
+
+        return isModelAttribute && this.binder.canBind(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public Mono<Object> resolveArgument(MethodParameter parameter, BindingContext bindingContext, ServerWebExchange exchange) {
+        String name = getAttributeName(parameter);
+        MultiValueMap<String, String> queryParams = exchange.getRequest().getQueryParams();
+
+        /* Arguments are resolved concurrently. Thus, the BindingResult is published to a following Errors argument early. */
+        Sinks.One<BindingResult> bindingResultSink = Sinks.one();
+        Map<String, Object> model = bindingContext.getModel().asMap();
+        model.put(BindingResult.MODEL_KEY_PREFIX + name, bindingResultSink.asMono());
+
+        return exchange.getFormData().flatMap(formData -> {
+            List<TypeMismatchException> failures = new ArrayList<>();
+            Object attribute = this.binder.bind(parameter.getParameterType(), property -> getValues(property, queryParams, formData), (property, rawValue, e) -> {
+                TypeMismatchException failure = new TypeMismatchException(rawValue, e.getTargetType().getType(), e);
+                failure.initPropertyName(property);
+                failures.add(failure);
+            });
+
+            WebExchangeDataBinder binder = bindingContext.createDataBinder(exchange, attribute, name);
+            BindingResult bindingResult = binder.getBindingResult();
+
+            for (TypeMismatchException failure : failures) {
+                binder.getBindingErrorProcessor().processPropertyAccessException(failure, bindingResult);
+            }
+
+            validateIfApplicable(binder, parameter);
+
+            if (bindingResult.hasErrors() && isBindExceptionRequired(parameter)) {
+                return Mono.error(new WebExchangeBindException(parameter, bindingResult));
+            }
+
+            model.put(BindingResult.MODEL_KEY_PREFIX + name, bindingResult);
+            model.put(name, attribute);
+            bindingResultSink.tryEmitValue(bindingResult);
+
+            return Mono.just(attribute);
+        });
+    }
+
+    private static void validateIfApplicable(WebExchangeDataBinder binder, MethodParameter parameter) {
+        for (Annotation annotation : parameter.getParameterAnnotations()) {
+            Object[] validationHints = ValidationAnnotationUtils.determineValidationHints(annotation);
+
+            if (validationHints != null) {
+                binder.validate(validationHints);
+                break;
+            }
+        }
+    }
+
+    private static boolean isBindExceptionRequired(MethodParameter parameter) {
+        int index = parameter.getParameterIndex();
+        Class<?>[] parameterTypes = parameter.getExecutable().getParameterTypes();
+
+        return parameterTypes.length <= index + 1 || !Errors.class.isAssignableFrom(parameterTypes[index + 1]);
+    }
+
+    private static @Nullable List<String> getValues(String name, MultiValueMap<String, String> queryParams, MultiValueMap<String, String> formData) {
+        List<String> queryValues = queryParams.get(name);
+        List<String> formValues = formData.get(name);
+
+        /* Avoid copying in the common case that the parameter is only present in a single source. */
+        if (formValues == null) return queryValues;
+        if (queryValues == null) return formValues;
+
+        List<String> values = new ArrayList<>(queryValues.size() + formValues.size());
+        values.addAll(queryValues);
+        values.addAll(formValues);
+
+        return values;
+    }
+
+    private static String getAttributeName(MethodParameter parameter) {
+        ModelAttribute annotation = parameter.getParameterAnnotation(ModelAttribute.class);
+        String name = (annotation != null) ? annotation.value() : null;
+
+        return StringUtils.hasText(name) ? name : Conventions.getVariableNameForParameter(parameter);
+    }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.http.codec.multipart.FormFieldPart;
+import org.springframework.http.codec.multipart.Part;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.AbstractNamedValueArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link HandlerMethodArgumentResolver} that resolves {@link Omittable} {@link RequestParam request parameters} from
+ * the query parameters, the form data, and the multipart data of a request.
+ *
+ * <p>Unlike {@link OmittableRequestParamMethodArgumentResolver}, which only considers the query parameters, this
+ * resolver also considers the parameters submitted in the body of {@code application/x-www-form-urlencoded} and
+ * {@code multipart/form-data} requests. The body is read without blocking via {@link ServerWebExchange#getFormData()}
+ * and {@link ServerWebExchange#getMultipartData()}. Since the exchange caches the decoded body, it is decoded at most
+ * once per exchange and the result is shared by all parameters of a handler method. For requests with other content
+ * types, the body is not read.</p>
+ *
+ * <p>Values for the same parameter from multiple sources are combined in the order query parameters, form data,
+ * multipart data. Form field parts are resolved to their value, while other parts (such as file uploads) are resolved
+ * as-is.</p>
+ *
+ * <p>By default, the raw parameter values are wrapped as-is and conversion to the declared type is left to the
+ * {@link org.springframework.web.bind.WebDataBinder WebDataBinder}. If a {@link ConversionService} is configured, the
+ * values are converted to the declared type by the resolver directly instead. Values of common types are parsed using
+ * the parsers from a {@link ValueParserRegistry} without going through the conversion service. Values that cannot be
+ * converted are reported as a {@link org.springframework.web.server.ServerWebInputException ServerWebInputException},
+ * just like conversion failures in the data binder.</p>
+ *
+ * <p>Resolutions may be instrumented by {@link #setMetrics(OmittableMetrics) configuring} {@link OmittableMetrics}.
+ * </p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableRequestParamFormDataMethodArgumentResolver extends AbstractNamedValueArgumentResolver {
+
+    private final RequestParamResolutionPlans resolutionPlans;
+
+    /**
+     * Create a new {@link OmittableRequestParamFormDataMethodArgumentResolver} instance.
+     *
+     * @param factory  a bean factory to use for resolving {@code ${...}} placeholder
+     *                 and {@code #{...}} SpEL expressions in default values, or {@code null} if default
+     *                 values are not expected to contain expressions
+     * @param registry for checking reactive type wrappers
+     *
+     * @since   2.1.0
+     */
+    public OmittableRequestParamFormDataMethodArgumentResolver(
+        @Nullable ConfigurableBeanFactory factory,
+        ReactiveAdapterRegistry registry
+    ) {
+        this(factory, registry, null);
+    }
+
+    /**
+     * Create a new {@link OmittableRequestParamFormDataMethodArgumentResolver} instance.
+     *
+     * @param factory           a bean factory to use for resolving {@code ${...}} placeholder
+     *                          and {@code #{...}} SpEL expressions in default values, or {@code null} if default
+     *                          values are not expected to contain expressions
+     * @param registry          for checking reactive type wrappers
+     * @param conversionService the conversion service to use to convert parameter values to the declared type, or
+     *                          {@code null} to leave conversion to the data binder
+     *
+     * @since   2.1.0
+     */
+    public OmittableRequestParamFormDataMethodArgumentResolver(
+        @Nullable ConfigurableBeanFactory factory,
+        ReactiveAdapterRegistry registry,
+        @Nullable ConversionService conversionService
+    ) {
+        this(factory, registry, conversionService, ValueParserRegistry.getSharedInstance());
+    }
+
+    /**
+     * Create a new {@link OmittableRequestParamFormDataMethodArgumentResolver} instance.
+     *
+     * @param factory           a bean factory to use for resolving {@code ${...}} placeholder
+     *                          and {@code #{...}} SpEL expressions in default values, or {@code null} if default
+     *                          values are not expected to contain expressions
+     * @param registry          for checking reactive type wrappers
+     * @param conversionService the conversion service to use to convert parameter values to the declared type, or
+     *                          {@code null} to leave conversion to the data binder
+     * @param parserRegistry    the registry of parsers to use for parsing parameter values if a conversion service is
+     *                          configured
+     *
+     * @since   2.1.0
+     */
+    public OmittableRequestParamFormDataMethodArgumentResolver(
+        @Nullable ConfigurableBeanFactory factory,
+        ReactiveAdapterRegistry registry,
+        @Nullable ConversionService conversionService,
+        ValueParserRegistry parserRegistry
+    ) {
+        super(factory, registry);
+        this.resolutionPlans = new RequestParamResolutionPlans(conversionService, parserRegistry);
+    }
+
+    /**
+     * Sets the metrics to record resolutions and accesses to the resolution plan cache with.
+     *
+     * <p>Resolutions are timed and their outcomes are counted per handler method parameter. This property should be
+     * configured before the resolver is used.</p>
+     *
+     * @param metrics   the metrics to record to, or {@code null} to disable recording
+     *
+     * @since   2.1.0
+     */
+    public void setMetrics(@Nullable OmittableMetrics metrics) {
+        this.resolutionPlans.setMetrics(metrics);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        /* Check the annotation first to leave unannotated reactive-wrapped parameters to other resolvers. */
+        return checkAnnotatedParamNoReactiveWrapper(parameter, RequestParam.class, this::singleParam)
+            && checkParameterTypeNoReactiveWrapper(parameter, it -> it.equals(Omittable.class));
+    }
+
+    private boolean singleParam(RequestParam requestParam, Class<?> type) {
+        return !Map.class.isAssignableFrom(type) || StringUtils.hasText(requestParam.name());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    protected NamedValueInfo createNamedValueInfo(MethodParameter parameter) {
+        RequestParam ann = parameter.getParameterAnnotation(RequestParam.class);
+        return (ann != null ? new RequestParamNamedValueInfo(ann) : new RequestParamNamedValueInfo());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    protected Mono<Object> resolveName(String name, MethodParameter parameter, ServerWebExchange exchange) {
+        RequestParamResolutionPlans.Plan plan = this.resolutionPlans.get(name, parameter);
+        MultiValueMap<String, String> queryParams = exchange.getRequest().getQueryParams();
+
+        return Mono.zip(exchange.getFormData(), exchange.getMultipartData(), (formData, multipartData) -> {
+            /* Only the resolution from the decoded data is recorded. Reading the body is not attributed to a parameter. */
+            OmittableMetrics.ResolutionRecorder recorder = plan.recorder();
+            if (recorder == null) return resolve(plan, queryParams, formData, multipartData);
+
+            long start = System.nanoTime();
+            try {
+                Omittable<?> result = resolve(plan, queryParams, formData, multipartData);
+                recorder.recordSuccess(System.nanoTime() - start, result);
+                return result;
+            } catch (RuntimeException e) {
+                recorder.recordFailure(System.nanoTime() - start, e);
+                throw e;
+            }
+        });
+    }
+
+    private static Omittable<?> resolve(
+        RequestParamResolutionPlans.Plan plan,
+        MultiValueMap<String, String> queryParams,
+        MultiValueMap<String, String> formData,
+        MultiValueMap<String, Part> multipartData
+    ) {
+        List<?> values = getValues(plan.name(), queryParams, formData, multipartData);
+        if (values == null) {
+            values = getValues(plan.arrayName(), queryParams, formData, multipartData);
+            if (values == null) return Omittable.absent();
+        }
+
+        return plan.resolve(values);
+    }
+
+    private static @Nullable List<?> getValues(
+        String name,
+        MultiValueMap<String, String> queryParams,
+        MultiValueMap<String, String> formData,
+        MultiValueMap<String, Part> multipartData
+    ) {
+        List<String> queryValues = queryParams.get(name);
+        List<String> formValues = formData.get(name);
+        List<Part> parts = multipartData.get(name);
+
+        /* Avoid copying in the common case that the parameter is only present in a single source without parts. */
+        if (parts == null) {
+            if (formValues == null) return queryValues;
+            if (queryValues == null) return formValues;
+        }
+
+        List<Object> values = new ArrayList<>(size(queryValues) + size(formValues) + size(parts));
+        if (queryValues != null) values.addAll(queryValues);
+        if (formValues != null) values.addAll(formValues);
+
+        if (parts != null) {
+            for (Part part : parts) {
+                values.add(part instanceof FormFieldPart formFieldPart ? formFieldPart.value() : part);
+            }
+        }
+
+        return values;
+    }
+
+    private static int size(@Nullable List<?> list) {
+        return (list != null ? list.size() : 0);
+    }
+
+    private static final class RequestParamNamedValueInfo extends NamedValueInfo {
+
+        public RequestParamNamedValueInfo() {
+            super("", false, ValueConstants.DEFAULT_NONE);
+        }
+
+        public RequestParamNamedValueInfo(RequestParam annotation) {
+            super(annotation.name(), false, annotation.defaultValue());
+        }
+
+    }
+
+}
@@ -16,11 +16,13 @@
 package com.osmerion.omittable.spring.webflux;
 
 import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ReactiveAdapterRegistry;
-import org.springframework.util.MultiValueMap;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ValueConstants;
@@ -28,18 +30,29 @@ import org.springframework.web.reactive.result.method.HandlerMethodArgumentResol
 import org.springframework.web.reactive.result.method.annotation.AbstractNamedValueSyncArgumentResolver;
 import org.springframework.web.server.ServerWebExchange;
 
-import java.util.List;
 import java.util.Map;
 
 /**
  * A {@link HandlerMethodArgumentResolver} that resolves {@link Omittable} {@link RequestParam request parameters}.
  *
+ * <p>By default, the raw parameter values are wrapped as-is and conversion to the declared type is left to the
+ * {@link org.springframework.web.bind.WebDataBinder WebDataBinder}. If a {@link ConversionService} is configured, the
+ * values are converted to the declared type by the resolver directly instead. Values of common types are parsed using
+ * the parsers from a {@link ValueParserRegistry} without going through the conversion service. Values that cannot be
+ * converted are reported as a {@link org.springframework.web.server.ServerWebInputException ServerWebInputException},
+ * just like conversion failures in the data binder.</p>
+ *
+ * <p>Resolutions may be instrumented by {@link #setMetrics(OmittableMetrics) configuring} {@link OmittableMetrics}.
+ * </p>
+ *
  * @since   0.2.0
  *
  * @author  Leon Linhart
  */
 public final class OmittableRequestParamMethodArgumentResolver extends AbstractNamedValueSyncArgumentResolver {
 
+    private final RequestParamResolutionPlans resolutionPlans;
+
     /**
      * Create a new {@link OmittableRequestParamMethodArgumentResolver} instance.
      *
@@ -53,8 +66,66 @@ public final class OmittableRequestParamMethodArgumentResolver extends AbstractN
     public OmittableRequestParamMethodArgumentResolver(
         @Nullable ConfigurableBeanFactory factory,
         ReactiveAdapterRegistry registry
+    ) {
+        this(factory, registry, null);
+    }
+
+    /**
+     * Create a new {@link OmittableRequestParamMethodArgumentResolver} instance.
+     *
+     * @param factory           a bean factory to use for resolving {@code ${...}} placeholder
+     *                          and {@code #{...}} SpEL expressions in default values, or {@code null} if default
+     *                          values are not expected to contain expressions
+     * @param registry          for checking reactive type wrappers
+     * @param conversionService the conversion service to use to convert parameter values to the declared type, or
+     *                          {@code null} to leave conversion to the data binder
+     *
+     * @since   2.1.0
+     */
+    public OmittableRequestParamMethodArgumentResolver(
+        @Nullable ConfigurableBeanFactory factory,
+        ReactiveAdapterRegistry registry,
+        @Nullable ConversionService conversionService
+    ) {
+        this(factory, registry, conversionService, ValueParserRegistry.getSharedInstance());
+    }
+
+    /**
+     * Create a new {@link OmittableRequestParamMethodArgumentResolver} instance.
+     *
+     * @param factory           a bean factory to use for resolving {@code ${...}} placeholder
+     *                          and {@code #{...}} SpEL expressions in default values, or {@code null} if default
+     *                          values are not expected to contain expressions
+     * @param registry          for checking reactive type wrappers
+     * @param conversionService the conversion service to use to convert parameter values to the declared type, or
+     *                          {@code null} to leave conversion to the data binder
+     * @param parserRegistry    the registry of parsers to use for parsing parameter values if a conversion service is
+     *                          configured
+     *
+     * @since   2.1.0
+     */
+    public OmittableRequestParamMethodArgumentResolver(
+        @Nullable ConfigurableBeanFactory factory,
+        ReactiveAdapterRegistry registry,
+        @Nullable ConversionService conversionService,
+        ValueParserRegistry parserRegistry
     ) {
         super(factory, registry);
+        this.resolutionPlans = new RequestParamResolutionPlans(conversionService, parserRegistry);
+    }
+
+    /**
+     * Sets the metrics to record resolutions and accesses to the resolution plan cache with.
+     *
+     * <p>Resolutions are timed and their outcomes are counted per handler method parameter. This property should be
+     * configured before the resolver is used.</p>
+     *
+     * @param metrics   the metrics to record to, or {@code null} to disable recording
+     *
+     * @since   2.1.0
+     */
+    public void setMetrics(@Nullable OmittableMetrics metrics) {
+        this.resolutionPlans.setMetrics(metrics);
     }
 
     /**
@@ -64,8 +135,9 @@ public final class OmittableRequestParamMethodArgumentResolver extends AbstractN
      */
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
-        return checkParameterTypeNoReactiveWrapper(parameter, it -> it.equals(Omittable.class))
-            && checkAnnotatedParamNoReactiveWrapper(parameter, RequestParam.class, this::singleParam);
+        /* Check the annotation first to leave unannotated reactive-wrapped parameters to other resolvers. */
+        return checkAnnotatedParamNoReactiveWrapper(parameter, RequestParam.class, this::singleParam)
+            && checkParameterTypeNoReactiveWrapper(parameter, it -> it.equals(Omittable.class));
     }
 
     private boolean singleParam(RequestParam requestParam, Class<?> type) {
@@ -90,15 +162,20 @@ public final class OmittableRequestParamMethodArgumentResolver extends AbstractN
      */
     @Override
     protected Object resolveNamedValue(String name, MethodParameter param, ServerWebExchange exchange) {
-        MultiValueMap<String, String> queryParams = exchange.getRequest().getQueryParams();
+        RequestParamResolutionPlans.Plan plan = this.resolutionPlans.get(name, param);
 
-        List<String> paramValues = queryParams.get(name);
-        if (paramValues == null) {
-            paramValues = queryParams.get(name + "[]");
-            if (paramValues == null) return Omittable.absent();
-        }
+        OmittableMetrics.ResolutionRecorder recorder = plan.recorder();
+        if (recorder == null) return plan.resolveQueryParameter(exchange);
 
-        return Omittable.of(paramValues.size() == 1 ? paramValues.get(0) : paramValues);
+        long start = System.nanoTime();
+        try {
+            Omittable<?> result = plan.resolveQueryParameter(exchange);
+            recorder.recordSuccess(System.nanoTime() - start, result);
+            return result;
+        } catch (RuntimeException e) {
+            recorder.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
     }
 
     private static final class RequestParamNamedValueInfo extends NamedValueInfo {
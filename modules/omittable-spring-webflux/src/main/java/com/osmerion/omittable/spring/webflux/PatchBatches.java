@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Utilities for grouping streams of partial updates into batches for downstream processing (e.g., batched database
+ * writes).
+ *
+ * <p>The returned publishers respect backpressure: patches are only requested from the source as batches are requested
+ * downstream.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ *
+ * @see OmittableJsonDecoder
+ */
+public final class PatchBatches {
+
+    private PatchBatches() {}
+
+    /**
+     * Groups the given patches into batches of the given size. The last batch may be smaller.
+     *
+     * @param <T>       the type of the patches
+     * @param patches   the patches to group
+     * @param batchSize the maximum number of patches per batch
+     *
+     * @return  a publisher of the batches
+     *
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     *
+     * @since   2.1.0
+     */
+    public static <T> Flux<List<T>> of(Flux<T> patches, int batchSize) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        return patches.buffer(batchSize);
+    }
+
+    /**
+     * Groups the given patches into batches of the given size, emitting smaller batches if no batch was completed within
+     * the given time.
+     *
+     * <p>This is useful for slow streams where waiting for full batches would delay the processing of the received
+     * patches.</p>
+     *
+     * @param <T>       the type of the patches
+     * @param patches   the patches to group
+     * @param batchSize the maximum number of patches per batch
+     * @param maxWait   the maximum time to wait for a batch to be completed
+     *
+     * @return  a publisher of the batches
+     *
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     *
+     * @since   2.1.0
+     */
+    public static <T> Flux<List<T>> of(Flux<T> patches, int batchSize, Duration maxWait) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        return patches.bufferTimeout(batchSize, maxWait, true);
+    }
+
+}
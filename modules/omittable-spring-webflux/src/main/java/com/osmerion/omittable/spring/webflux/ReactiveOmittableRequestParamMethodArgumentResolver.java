@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link HandlerMethodArgumentResolver} that resolves {@link Omittable} request parameters wrapped in a deferred
+ * single-value reactive type (e.g., {@code Mono<Omittable<T>>}).
+ *
+ * <p>Parameters are resolved lazily: The parameter values are looked up in the query parameters and converted to the
+ * declared type only when the reactive wrapper is subscribed to. Thus, no conversion work is done for requests that
+ * are handled without using the parameter (e.g., after failed authorization checks). Each subscription resolves the
+ * parameter again. Otherwise, parameters are resolved with the same semantics as by the
+ * {@link OmittableRequestParamMethodArgumentResolver}, and values are converted using the {@link ConversionService}
+ * and the parsers from a {@link ValueParserRegistry}. Values that cannot be converted are signaled as a
+ * {@link org.springframework.web.server.ServerWebInputException ServerWebInputException}.</p>
+ *
+ * <p>Only {@link org.springframework.core.ReactiveTypeDescriptor#isDeferred() deferred} reactive types are supported.
+ * Eager types, such as {@link java.util.concurrent.CompletableFuture CompletableFuture}, would subscribe to the value
+ * immediately when adapted, which defeats lazy resolution.</p>
+ *
+ * <p>Spring's {@link org.springframework.web.reactive.result.method.annotation.RequestParamMethodArgumentResolver}
+ * rejects {@link RequestParam @RequestParam} parameters with reactive wrappers before custom resolvers are consulted.
+ * Thus, reactive-wrapped {@code Omittable} parameters must not be annotated with {@code @RequestParam}. The name of
+ * the request parameter is the name of the method parameter, which requires compiling with {@code -parameters}.</p>
+ *
+ * <p>Resolutions may be instrumented by {@link #setMetrics(OmittableMetrics) configuring} {@link OmittableMetrics}.
+ * </p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class ReactiveOmittableRequestParamMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final ReactiveAdapterRegistry adapterRegistry;
+
+    private final RequestParamResolutionPlans resolutionPlans;
+
+    /**
+     * Creates a new {@link ReactiveOmittableRequestParamMethodArgumentResolver} instance.
+     *
+     * @param adapterRegistry   the registry of adapters for reactive types
+     * @param conversionService the conversion service to use to convert parameter values to the declared type
+     *
+     * @since   2.1.0
+     */
+    public ReactiveOmittableRequestParamMethodArgumentResolver(ReactiveAdapterRegistry adapterRegistry, ConversionService conversionService) {
+        this(adapterRegistry, conversionService, ValueParserRegistry.getSharedInstance());
+    }
+
+    /**
+     * Creates a new {@link ReactiveOmittableRequestParamMethodArgumentResolver} instance.
+     *
+     * @param adapterRegistry   the registry of adapters for reactive types
+     * @param conversionService the conversion service to use to convert parameter values to the declared type
+     * @param parserRegistry    the registry of parsers to use for parsing parameter values
+     *
+     * @since   2.1.0
+     */
+    public ReactiveOmittableRequestParamMethodArgumentResolver(
+        ReactiveAdapterRegistry adapterRegistry,
+        ConversionService conversionService,
+        ValueParserRegistry parserRegistry
+    ) {
+        this.adapterRegistry = adapterRegistry;
+        this.resolutionPlans = new RequestParamResolutionPlans(conversionService, parserRegistry);
+    }
+
+    /**
+     * Sets the metrics to record resolutions and accesses to the resolution plan cache with.
+     *
+     * <p>Resolutions are timed and their outcomes are counted per handler method parameter when the reactive wrapper is
+     * subscribed to. This property should be configured before the resolver is used.</p>
+     *
+     * @param metrics   the metrics to record to, or {@code null} to disable recording
+     *
+     * @since   2.1.0
+     */
+    public void setMetrics(@Nullable OmittableMetrics metrics) {
+        this.resolutionPlans.setMetrics(metrics);
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        ReactiveAdapter adapter = this.adapterRegistry.getAdapter(parameter.getParameterType());
+
+        return adapter != null && adapter.getDescriptor().isDeferred() && !adapter.isMultiValue() && !adapter.isNoValue()
+            && !parameter.hasParameterAnnotation(RequestParam.class)
+            && parameter.nested().getNestedParameterType() == Omittable.class;
+    }
+
+    @Override
+    public Mono<Object> resolveArgument(MethodParameter parameter, BindingContext bindingContext, ServerWebExchange exchange) {
+        ReactiveAdapter adapter = this.adapterRegistry.getAdapter(parameter.getParameterType());
+        if (adapter == null) throw new IllegalStateException("Unsupported parameter type: " + parameter.getGenericParameterType());
+
+        String name = parameter.getParameterName();
+        if (name == null) {
+            throw new IllegalArgumentException(
+                "Name for argument of type [" + parameter.getGenericParameterType() + "] not available, and parameter " +
+                "name information not found in class file either. Ensure that the compiler uses the '-parameters' flag."
+            );
+        }
+
+        RequestParamResolutionPlans.Plan plan = this.resolutionPlans.get(name, parameter.nested());
+        Mono<Omittable<?>> value = Mono.fromSupplier(() -> resolve(plan, exchange));
+
+        return Mono.just(adapter.fromPublisher(value));
+    }
+
+    private static Omittable<?> resolve(RequestParamResolutionPlans.Plan plan, ServerWebExchange exchange) {
+        OmittableMetrics.ResolutionRecorder recorder = plan.recorder();
+        if (recorder == null) return plan.resolveQueryParameter(exchange);
+
+        long start = System.nanoTime();
+        try {
+            Omittable<?> result = plan.resolveQueryParameter(exchange);
+            recorder.recordSuccess(System.nanoTime() - start, result);
+            return result;
+        } catch (RuntimeException e) {
+            recorder.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.CachedOmittables;
+import com.osmerion.omittable.spring.core.convert.OmittableValueConverter;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of the {@link Plan resolution plans} for {@link Omittable} request parameters shared by the resolvers in this
+ * package.
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+final class RequestParamResolutionPlans {
+
+    private static final String CACHE_NAME = "omittable-request-param";
+
+    private final @Nullable ConversionService conversionService;
+
+    private final ValueParserRegistry parserRegistry;
+
+    private final Map<MethodParameter, Plan> cache = new ConcurrentHashMap<>(256);
+
+    private @Nullable OmittableMetrics metrics;
+
+    private OmittableMetrics.@Nullable CacheRecorder cacheRecorder;
+
+    RequestParamResolutionPlans(@Nullable ConversionService conversionService, ValueParserRegistry parserRegistry) {
+        this.conversionService = conversionService;
+        this.parserRegistry = parserRegistry;
+    }
+
+    /**
+     * Sets the metrics to record resolutions and cache accesses with, and discards all cached plans.
+     *
+     * @param metrics   the metrics to record to, or {@code null} to disable recording
+     */
+    void setMetrics(@Nullable OmittableMetrics metrics) {
+        this.metrics = metrics;
+        this.cacheRecorder = (metrics != null) ? metrics.cache(CACHE_NAME) : null;
+        this.cache.clear();
+    }
+
+    /**
+     * Returns the resolution plan for the given parameter, computing it on first use.
+     *
+     * @param name      the resolved name of the request parameter
+     * @param parameter the method parameter
+     *
+     * @return  the resolution plan
+     */
+    Plan get(String name, MethodParameter parameter) {
+        OmittableMetrics.CacheRecorder cacheRecorder = this.cacheRecorder;
+        if (cacheRecorder != null) cacheRecorder.recordAccess();
+
+        Plan plan = this.cache.get(parameter);
+        if (plan == null) {
+            if (cacheRecorder != null) cacheRecorder.recordMiss();
+
+            OmittableValueConverter converter = (this.conversionService != null)
+                ? OmittableValueConverter.create(this.conversionService, this.parserRegistry, new TypeDescriptor(parameter))
+                : null;
+
+            OmittableMetrics metrics = this.metrics;
+            OmittableMetrics.ResolutionRecorder recorder = (metrics != null) ? metrics.resolution(parameter, name) : null;
+
+            plan = new Plan(name, name + "[]", parameter, converter, recorder, new ConcurrentHashMap<>());
+            this.cache.put(parameter, plan);
+        }
+
+        return plan.withName(name);
+    }
+
+    /**
+     * The information required to resolve a parameter that is computed once per {@link MethodParameter}.
+     *
+     * @param name      the name of the request parameter
+     * @param arrayName the alternative name of the request parameter using the {@code []} suffix convention
+     * @param parameter the method parameter
+     * @param converter the converter for the parameter values, or {@code null} if conversion is left to the binder
+     * @param recorder  the recorder for resolutions of the parameter, or {@code null} if resolutions are not recorded
+     * @param renamedPlans  the plans of the parameter for other names, shared by all plans of the parameter
+     */
+    record Plan(
+        String name,
+        String arrayName,
+        MethodParameter parameter,
+        @Nullable OmittableValueConverter converter,
+        OmittableMetrics.@Nullable ResolutionRecorder recorder,
+        Map<String, Plan> renamedPlans
+    ) {
+
+        /* Bounds the number of plans that are retained for names that are evaluated from dynamic expressions. */
+        private static final int MAX_RENAMED_PLANS = 16;
+
+        /**
+         * Returns the plan of the parameter for the given name.
+         *
+         * <p>The name may be resolved from a placeholder or expression that evaluated to a different value than when
+         * the plan was created. Plans for such names are cached as well.</p>
+         *
+         * @param name  the resolved name of the request parameter
+         *
+         * @return  the plan for the given name
+         */
+        Plan withName(String name) {
+            if (this.name.equals(name)) return this;
+
+            Plan plan = this.renamedPlans.get(name);
+            if (plan != null) return plan;
+
+            plan = new Plan(name, name + "[]", this.parameter, this.converter, this.recorder, this.renamedPlans);
+            if (this.renamedPlans.size() < MAX_RENAMED_PLANS) this.renamedPlans.putIfAbsent(name, plan);
+
+            return plan;
+        }
+
+        /**
+         * Wraps the given parameter values in an {@link Omittable}, converting them if a converter is available.
+         *
+         * @param values the values of the parameter
+         *
+         * @return  the resolved {@code Omittable}
+         *
+         * @throws org.springframework.web.server.ServerWebInputException if the values cannot be converted
+         */
+        Omittable<?> resolve(List<?> values) {
+            Object value = values.size() == 1 ? values.get(0) : values;
+            if (this.converter == null) return CachedOmittables.of(value);
+
+            return NamedValueConversions.convert(this.converter, value, this.parameter);
+        }
+
+        /**
+         * Resolves the parameter from the query parameters of the given exchange.
+         *
+         * @param exchange  the exchange
+         *
+         * @return  the resolved {@code Omittable}
+         */
+        Omittable<?> resolveQueryParameter(ServerWebExchange exchange) {
+            MultiValueMap<String, String> queryParams = exchange.getRequest().getQueryParams();
+
+            List<String> paramValues = queryParams.get(this.name);
+            if (paramValues == null) {
+                paramValues = queryParams.get(this.arrayName);
+                if (paramValues == null) return Omittable.absent();
+            }
+
+            return resolve(paramValues);
+        }
+
+    }
+
+}
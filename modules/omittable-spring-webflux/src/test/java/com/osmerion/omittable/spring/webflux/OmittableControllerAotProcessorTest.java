@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.javapoet.ClassName;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class OmittableControllerAotProcessorTest {
+
+    private final OmittableControllerAotProcessor processor = new OmittableControllerAotProcessor();
+
+    record UserId(long value) {}
+
+    record Tag(String value) {}
+
+    record Filter(String value) {}
+
+    record UserPatch(Omittable<String> name, Omittable<Tag> tag) {}
+
+    @Test
+    @DisplayName("Should register hints for the types of Omittable parameters and request bodies")
+    void processController() {
+        RuntimeHints hints = process(TestController.class);
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UserId.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UserPatch.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Tag.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Filter.class).test(hints));
+    }
+
+    @Test
+    @DisplayName("Should ignore beans that are not controllers")
+    void processOtherBean() {
+        assertNull(processAheadOfTime(TestService.class));
+    }
+
+    @Test
+    @DisplayName("Should ignore controllers without Omittable parameters or request bodies")
+    void processPlainController() {
+        assertNull(processAheadOfTime(PlainController.class));
+    }
+
+    private RuntimeHints process(Class<?> beanClass) {
+        BeanRegistrationAotContribution contribution = processAheadOfTime(beanClass);
+        assertNotNull(contribution);
+
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+            new ClassNameGenerator(ClassName.get("com.example", "Test")),
+            new InMemoryGeneratedFiles()
+        );
+        contribution.applyTo(generationContext, mock(BeanRegistrationCode.class));
+
+        return generationContext.getRuntimeHints();
+    }
+
+    private BeanRegistrationAotContribution processAheadOfTime(Class<?> beanClass) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("bean", new RootBeanDefinition(beanClass));
+
+        return processor.processAheadOfTime(RegisteredBean.of(beanFactory, "bean"));
+    }
+
+    @RestController
+    @SuppressWarnings("unused")
+    static class TestController {
+
+        @GetMapping("/users")
+        List<String> getUsers(@RequestParam("id") Omittable<List<UserId>> id, Mono<Omittable<Filter>> filter) { return List.of(); }
+
+        @PatchMapping("/users")
+        Mono<Void> patchUser(@RequestBody Mono<UserPatch> patch) { return Mono.empty(); }
+
+    }
+
+    @RestController
+    @SuppressWarnings("unused")
+    static class PlainController {
+
+        @GetMapping("/users")
+        List<String> getUsers(@RequestParam("id") String id) { return List.of(); }
+
+    }
+
+    @SuppressWarnings("unused")
+    static class TestService {
+
+        void patchUser(Omittable<UserId> id) {}
+
+    }
+
+}
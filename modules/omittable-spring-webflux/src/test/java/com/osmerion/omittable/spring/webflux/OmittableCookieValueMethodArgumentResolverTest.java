@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.http.HttpCookie;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.bind.annotation.CookieValue;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmittableCookieValueMethodArgumentResolverTest {
+
+    private OmittableCookieValueMethodArgumentResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new OmittableCookieValueMethodArgumentResolver(null, ReactiveAdapterRegistry.getSharedInstance());
+    }
+
+    @Test
+    @DisplayName("Should support Omittable parameters annotated with @CookieValue")
+    void supportsParameter() throws Exception {
+        assertTrue(resolver.supportsParameter(getParam("testSupported", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNoAnnotation", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNotOmittable", String.class)));
+    }
+
+    @Test
+    @DisplayName("Should resolve to Omittable.absent() when cookie is missing")
+    void resolveAbsent() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+
+        assertEquals(Omittable.absent(), resolver.resolveNamedValue("session", param, MockServerWebExchange.from(MockServerHttpRequest.get("/").build())));
+        assertEquals(Omittable.absent(), resolver.resolveNamedValue("session", param, MockServerWebExchange.from(MockServerHttpRequest.get("/").cookie(new HttpCookie("other", "abc")).build())));
+    }
+
+    @Test
+    @DisplayName("Should resolve the cookie value")
+    void resolveValue() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/").cookie(new HttpCookie("other", "abc"), new HttpCookie("session", "def")).build());
+
+        assertEquals(Omittable.of("def"), resolver.resolveNamedValue("session", getParam("testSupported", Omittable.class), exchange));
+    }
+
+    @Test
+    @DisplayName("Should resolve the cookie itself if the declared type is HttpCookie")
+    void resolveCookie() throws Exception {
+        HttpCookie cookie = new HttpCookie("session", "abc");
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/").cookie(cookie).build());
+
+        assertEquals(Omittable.of(cookie), resolver.resolveNamedValue("session", getParam("testCookie", Omittable.class), exchange));
+    }
+
+    @Test
+    @DisplayName("Should convert values when a ConversionService is configured")
+    void resolveConverted() throws Exception {
+        OmittableCookieValueMethodArgumentResolver resolver = new OmittableCookieValueMethodArgumentResolver(null, ReactiveAdapterRegistry.getSharedInstance(), DefaultConversionService.getSharedInstance());
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/").cookie(new HttpCookie("visits", "42")).build());
+
+        assertEquals(Omittable.of(42), resolver.resolveNamedValue("visits", getParam("testInteger", Omittable.class), exchange));
+    }
+
+    // --- Helpers ---
+
+    private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
+        Method method = TestController.class.getDeclaredMethod(methodName, types);
+        return new MethodParameter(method, 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestController {
+        void testSupported(@CookieValue("session") Omittable<String> session) {}
+        void testNoAnnotation(Omittable<String> session) {}
+        void testNotOmittable(@CookieValue("session") String session) {}
+        void testCookie(@CookieValue("session") Omittable<HttpCookie> session) {}
+        void testInteger(@CookieValue("visits") Omittable<Integer> visits) {}
+    }
+
+}
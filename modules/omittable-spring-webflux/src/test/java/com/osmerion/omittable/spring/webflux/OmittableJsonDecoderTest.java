@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.json.OmittableJsonBinder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmittableJsonDecoderTest {
+
+    private final OmittableJsonDecoder decoder = new OmittableJsonDecoder(new OmittableJsonBinder(new DefaultConversionService()));
+
+    record UserPatch(Omittable<String> name, Omittable<Long> age) {}
+
+    record User(String name) {}
+
+    @Test
+    @DisplayName("Should only decode classes with Omittable properties")
+    void canDecode() {
+        assertTrue(decoder.canDecode(ResolvableType.forClass(UserPatch.class), MediaType.APPLICATION_JSON));
+        assertTrue(decoder.canDecode(ResolvableType.forClass(UserPatch.class), MediaType.parseMediaType("application/merge-patch+json")));
+        assertFalse(decoder.canDecode(ResolvableType.forClass(UserPatch.class), MediaType.APPLICATION_XML));
+        assertFalse(decoder.canDecode(ResolvableType.forClass(User.class), MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should distinguish missing properties from explicit nulls")
+    void decode() {
+        assertEquals(new UserPatch(Omittable.absent(), Omittable.of(null)), decode("{\"age\":", "null}"));
+        assertEquals(new UserPatch(Omittable.of("Jane"), Omittable.of(42L)), decode("{\"name\":\"Ja", "ne\",\"age\":42}"));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed bodies")
+    void decodeMalformed() {
+        assertThrows(DecodingException.class, () -> decode("{\"name\":"));
+        assertThrows(DecodingException.class, () -> decode("{\"age\":\"not a number\"}"));
+    }
+
+    @Test
+    @DisplayName("Should decode each NDJSON line separately")
+    void decodeNdjson() {
+        List<Object> patches = decodeNdjson(Flux.just("{\"name\":\"Ja", "ne\"}\n\n{\"age\"", ":42}\r\n{}"))
+            .collectList()
+            .block();
+
+        assertEquals(List.of(
+            new UserPatch(Omittable.of("Jane"), Omittable.absent()),
+            new UserPatch(Omittable.absent(), Omittable.of(42L)),
+            new UserPatch(Omittable.absent(), Omittable.absent())
+        ), patches);
+    }
+
+    @Test
+    @DisplayName("Should decode NDJSON incrementally")
+    void decodeNdjsonIncrementally() {
+        AtomicInteger emitted = new AtomicInteger();
+        /* An infinite body. (Fusion is disabled as for network sources; clearing a fused infinite source never returns.) */
+        Flux<String> lines = Flux.<String>generate(sink -> sink.next("{\"age\":" + emitted.incrementAndGet() + "}\n")).hide();
+
+        List<Object> patches = decodeNdjson(lines).take(3).collectList().block();
+
+        assertEquals(List.of(
+            new UserPatch(Omittable.absent(), Omittable.of(1L)),
+            new UserPatch(Omittable.absent(), Omittable.of(2L)),
+            new UserPatch(Omittable.absent(), Omittable.of(3L))
+        ), patches);
+        assertTrue(emitted.get() < 1024, "Requested " + emitted.get() + " lines for 3 patches");
+    }
+
+    @Test
+    @DisplayName("Should reject malformed NDJSON lines")
+    void decodeNdjsonMalformed() {
+        Flux<Object> patches = decodeNdjson(Flux.just("{\"age\":1}\n{\"age\":\"x\"}\n"));
+        assertThrows(DecodingException.class, patches::blockLast);
+    }
+
+    private Flux<Object> decodeNdjson(Flux<String> chunks) {
+        Flux<DataBuffer> body = chunks.map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+        return decoder.decode(body, ResolvableType.forClass(UserPatch.class), MediaType.APPLICATION_NDJSON, Map.of());
+    }
+
+    private Object decode(String... chunks) {
+        Flux<DataBuffer> body = Flux.fromArray(chunks)
+            .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+
+        return decoder.decodeToMono(body, ResolvableType.forClass(UserPatch.class), MediaType.APPLICATION_JSON, Map.of()).block();
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.MatrixVariable;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerErrorException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmittableMatrixVariableMethodArgumentResolverTest {
+
+    private OmittableMatrixVariableMethodArgumentResolver resolver;
+
+    private MockServerWebExchange exchange;
+
+    private Map<String, MultiValueMap<String, String>> matrixVariables;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new OmittableMatrixVariableMethodArgumentResolver(null, ReactiveAdapterRegistry.getSharedInstance());
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/").build());
+        matrixVariables = new LinkedHashMap<>();
+        exchange.getAttributes().put(HandlerMapping.MATRIX_VARIABLES_ATTRIBUTE, matrixVariables);
+    }
+
+    @Test
+    @DisplayName("Should support Omittable parameters annotated with @MatrixVariable")
+    void supportsParameter() throws Exception {
+        assertTrue(resolver.supportsParameter(getParam("testSupported", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNoAnnotation", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNotOmittable", String.class)));
+    }
+
+    @Test
+    @DisplayName("Should resolve to Omittable.absent() when the matrix variable is missing")
+    void resolveAbsent() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+
+        assertEquals(Omittable.absent(), resolver.resolveNamedValue("color", param, MockServerWebExchange.from(MockServerHttpRequest.get("/").build())));
+        assertEquals(Omittable.absent(), resolver.resolveNamedValue("color", param, exchange));
+
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("year", List.of("2012"))));
+        assertEquals(Omittable.absent(), resolver.resolveNamedValue("color", param, exchange));
+    }
+
+    @Test
+    @DisplayName("Should resolve single and multiple values from any path segment")
+    void resolveValues() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("color", List.of("red"))));
+
+        assertEquals(Omittable.of("red"), resolver.resolveNamedValue("color", param, exchange));
+
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("color", List.of("red", "blue"))));
+        assertEquals(Omittable.of(List.of("red", "blue")), resolver.resolveNamedValue("color", param, exchange));
+    }
+
+    @Test
+    @DisplayName("Should resolve values from the configured path variable")
+    void resolvePathVar() throws Exception {
+        MethodParameter param = getParam("testPathVar", Omittable.class);
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("color", List.of("red"))));
+
+        assertEquals(Omittable.absent(), resolver.resolveNamedValue("color", param, exchange));
+
+        matrixVariables.put("bikes", new LinkedMultiValueMap<>(Map.of("color", List.of("blue"))));
+        assertEquals(Omittable.of("blue"), resolver.resolveNamedValue("color", param, exchange));
+    }
+
+    @Test
+    @DisplayName("Should reject ambiguous matrix variables")
+    void resolveAmbiguous() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("color", List.of("red"))));
+        matrixVariables.put("bikes", new LinkedMultiValueMap<>(Map.of("color", List.of("blue"))));
+
+        ServerErrorException e = assertThrows(ServerErrorException.class, () -> resolver.resolveNamedValue("color", param, exchange));
+        assertTrue(e.getReason().contains("URI path parameter 'color'"), e.getReason());
+    }
+
+    @Test
+    @DisplayName("Should not reject matrix variables that are disambiguated by the path variable")
+    void resolveAmbiguousPathVar() throws Exception {
+        MethodParameter param = getParam("testPathVar", Omittable.class);
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("color", List.of("red"))));
+        matrixVariables.put("bikes", new LinkedMultiValueMap<>(Map.of("color", List.of("blue"))));
+
+        assertEquals(Omittable.of("blue"), resolver.resolveNamedValue("color", param, exchange));
+    }
+
+    @Test
+    @DisplayName("Should convert values when a ConversionService is configured")
+    void resolveConverted() throws Exception {
+        OmittableMatrixVariableMethodArgumentResolver resolver = new OmittableMatrixVariableMethodArgumentResolver(null, ReactiveAdapterRegistry.getSharedInstance(), DefaultConversionService.getSharedInstance());
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("year", List.of("2012", "2013"))));
+
+        assertEquals(Omittable.of(List.of(2012, 2013)), resolver.resolveNamedValue("year", getParam("testList", Omittable.class), exchange));
+    }
+
+    @Test
+    @DisplayName("Should report values that cannot be converted as bad input")
+    void resolveInvalid() throws Exception {
+        OmittableMatrixVariableMethodArgumentResolver resolver = new OmittableMatrixVariableMethodArgumentResolver(null, ReactiveAdapterRegistry.getSharedInstance(), DefaultConversionService.getSharedInstance());
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("year", List.of("abc"))));
+
+        ServerWebInputException e = assertThrows(ServerWebInputException.class, () -> resolver.resolveNamedValue("year", getParam("testList", Omittable.class), exchange));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    // --- Helpers ---
+
+    private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
+        Method method = TestController.class.getDeclaredMethod(methodName, types);
+        return new MethodParameter(method, 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestController {
+        void testSupported(@MatrixVariable("color") Omittable<String> color) {}
+        void testNoAnnotation(Omittable<String> color) {}
+        void testNotOmittable(@MatrixVariable("color") String color) {}
+        void testPathVar(@MatrixVariable(name = "color", pathVar = "bikes") Omittable<String> color) {}
+        void testList(@MatrixVariable("year") Omittable<List<Integer>> year) {}
+    }
+
+}
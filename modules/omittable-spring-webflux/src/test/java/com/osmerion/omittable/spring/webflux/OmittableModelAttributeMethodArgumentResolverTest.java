@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import jakarta.validation.Valid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.Validator;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.BindingContext;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmittableModelAttributeMethodArgumentResolverTest {
+
+    private final OmittableModelAttributeMethodArgumentResolver resolver = new OmittableModelAttributeMethodArgumentResolver(DefaultConversionService.getSharedInstance());
+
+    public record UserFilter(Omittable<String> name, Omittable<Long> age, Omittable<List<Long>> groups) {}
+
+    public record User(String name) {}
+
+    @Test
+    @DisplayName("Should support model attributes with Omittable properties")
+    void supportsParameter() throws Exception {
+        assertTrue(resolver.supportsParameter(getParam("testAnnotated", UserFilter.class)));
+        assertTrue(resolver.supportsParameter(getParam("testNoAnnotation", UserFilter.class)));
+        assertFalse(resolver.supportsParameter(getParam("testReactive", Mono.class)));
+        assertFalse(resolver.supportsParameter(getParam("testRequestBody", UserFilter.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNoOmittables", User.class)));
+        assertFalse(resolver.supportsParameter(getParam("testOmittable", Omittable.class)));
+    }
+
+    @Test
+    @DisplayName("Should bind missing parameters as Omittable.absent()")
+    void resolveAbsent() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/?name=Jane").build());
+
+        assertEquals(new UserFilter(Omittable.of("Jane"), Omittable.absent(), Omittable.absent()), resolve("testAnnotated", exchange, new BindingContext()));
+    }
+
+    @Test
+    @DisplayName("Should combine query parameters and form data")
+    void resolveFormData() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/?groups=1")
+            .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+            .body("age=42&groups=2"));
+
+        assertEquals(new UserFilter(Omittable.absent(), Omittable.of(42L), Omittable.of(List.of(1L, 2L))), resolve("testAnnotated", exchange, new BindingContext()));
+    }
+
+    @Test
+    @DisplayName("Should report conversion failures as field errors")
+    void resolveConversionFailure() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/?age=x").build());
+
+        WebExchangeBindException e = assertThrows(WebExchangeBindException.class, () -> resolve("testAnnotated", exchange, newBindingContext()));
+
+        FieldError error = e.getBindingResult().getFieldError("age");
+        assertNotNull(error);
+        assertEquals("typeMismatch", error.getCode());
+        assertEquals("x", error.getRejectedValue());
+    }
+
+    @Test
+    @DisplayName("Should validate @Valid model attributes")
+    void resolveValid() throws Exception {
+        MockServerWebExchange invalid = MockServerWebExchange.from(MockServerHttpRequest.get("/?name=").build());
+
+        WebExchangeBindException e = assertThrows(WebExchangeBindException.class, () -> resolve("testValid", invalid, newBindingContext()));
+        assertEquals("blank", e.getBindingResult().getGlobalError().getCode());
+
+        MockServerWebExchange valid = MockServerWebExchange.from(MockServerHttpRequest.get("/?name=Jane").build());
+        assertEquals(new UserFilter(Omittable.of("Jane"), Omittable.absent(), Omittable.absent()), resolve("testValid", valid, newBindingContext()));
+
+        MockServerWebExchange unvalidated = MockServerWebExchange.from(MockServerHttpRequest.get("/?name=").build());
+        assertEquals(new UserFilter(Omittable.of(""), Omittable.absent(), Omittable.absent()), resolve("testAnnotated", unvalidated, newBindingContext()));
+    }
+
+    @Test
+    @DisplayName("Should add errors to a BindingResult parameter instead of failing")
+    void resolveBindingResult() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/?name=&age=x").build());
+        BindingContext bindingContext = newBindingContext();
+
+        Object result = resolve("testBindingResult", exchange, bindingContext);
+
+        assertEquals(new UserFilter(Omittable.of(""), Omittable.absent(), Omittable.absent()), result);
+
+        BindingResult bindingResult = (BindingResult) bindingContext.getModel().getAttribute(BindingResult.MODEL_KEY_PREFIX + "filter");
+        assertNotNull(bindingResult);
+        assertSame(result, bindingResult.getTarget());
+        assertEquals(2, bindingResult.getErrorCount());
+        assertEquals("typeMismatch", bindingResult.getFieldError("age").getCode());
+        assertEquals("blank", bindingResult.getGlobalError().getCode());
+    }
+
+    @Test
+    @DisplayName("Should add the bound object to the model")
+    void resolveModel() throws Exception {
+        BindingContext bindingContext = new BindingContext();
+
+        Object named = resolve("testAnnotated", MockServerWebExchange.from(MockServerHttpRequest.get("/").build()), bindingContext);
+        Object unnamed = resolve("testNoAnnotation", MockServerWebExchange.from(MockServerHttpRequest.get("/").build()), bindingContext);
+
+        assertSame(named, bindingContext.getModel().getAttribute("filter"));
+        assertSame(unnamed, bindingContext.getModel().getAttribute("userFilter"));
+    }
+
+    // --- Helpers ---
+
+    private Object resolve(String methodName, MockServerWebExchange exchange, BindingContext bindingContext) throws Exception {
+        Method method = ReflectionUtils.findMethod(TestController.class, methodName, (Class<?>[]) null);
+        return resolver.resolveArgument(new MethodParameter(method, 0), bindingContext, exchange).block();
+    }
+
+    private static BindingContext newBindingContext() {
+        ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setValidator(new NameValidator());
+
+        return new BindingContext(initializer);
+    }
+
+    /** Rejects filters with a blank name. */
+    private static final class NameValidator implements Validator {
+
+        @Override
+        public boolean supports(Class<?> type) {
+            return type == UserFilter.class;
+        }
+
+        @Override
+        public void validate(Object target, Errors errors) {
+            if (((UserFilter) target).name() instanceof Omittable.Present<String> name && name.value().isBlank()) {
+                errors.reject("blank");
+            }
+        }
+
+    }
+
+    private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
+        Method method = TestController.class.getDeclaredMethod(methodName, types);
+        return new MethodParameter(method, 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestController {
+        void testAnnotated(@ModelAttribute("filter") UserFilter filter) {}
+        void testValid(@Valid @ModelAttribute("filter") UserFilter filter) {}
+        void testBindingResult(@Validated @ModelAttribute("filter") UserFilter filter, BindingResult result) {}
+        void testNoAnnotation(UserFilter filter) {}
+        void testReactive(Mono<UserFilter> filter) {}
+        void testRequestBody(@RequestBody UserFilter filter) {}
+        void testNoOmittables(User user) {}
+        void testOmittable(Omittable<String> name) {}
+    }
+
+}
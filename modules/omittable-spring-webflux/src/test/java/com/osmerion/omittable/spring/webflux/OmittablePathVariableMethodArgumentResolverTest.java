@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmittablePathVariableMethodArgumentResolverTest {
+
+    private OmittablePathVariableMethodArgumentResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new OmittablePathVariableMethodArgumentResolver(null, ReactiveAdapterRegistry.getSharedInstance());
+    }
+
+    @Test
+    @DisplayName("Should support Omittable parameters annotated with @PathVariable")
+    void supportsParameter() throws Exception {
+        assertTrue(resolver.supportsParameter(getParam("testSupported", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNoAnnotation", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNotOmittable", String.class)));
+    }
+
+    @Test
+    @DisplayName("Should resolve to Omittable.absent() when the pattern does not declare the variable")
+    void resolveAbsent() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+
+        assertEquals(Omittable.absent(), resolver.resolveNamedValue("id", param, MockServerWebExchange.from(MockServerHttpRequest.get("/").build())));
+        assertEquals(Omittable.absent(), resolver.resolveNamedValue("id", param, exchange(Map.of("other", "abc"))));
+    }
+
+    @Test
+    @DisplayName("Should resolve the URI template variable")
+    void resolveValue() throws Exception {
+        assertEquals(Omittable.of("abc"), resolver.resolveNamedValue("id", getParam("testSupported", Omittable.class), exchange(Map.of("id", "abc"))));
+    }
+
+    @Test
+    @DisplayName("Should convert values when a ConversionService is configured")
+    void resolveConverted() throws Exception {
+        OmittablePathVariableMethodArgumentResolver resolver = new OmittablePathVariableMethodArgumentResolver(null, ReactiveAdapterRegistry.getSharedInstance(), DefaultConversionService.getSharedInstance());
+
+        assertEquals(Omittable.of(123L), resolver.resolveNamedValue("id", getParam("testLong", Omittable.class), exchange(Map.of("id", "123"))));
+    }
+
+    @Test
+    @DisplayName("Should report values that cannot be converted as bad input")
+    void resolveInvalid() throws Exception {
+        OmittablePathVariableMethodArgumentResolver resolver = new OmittablePathVariableMethodArgumentResolver(null, ReactiveAdapterRegistry.getSharedInstance(), DefaultConversionService.getSharedInstance());
+
+        ServerWebInputException e = assertThrows(ServerWebInputException.class, () -> resolver.resolveNamedValue("id", getParam("testLong", Omittable.class), exchange(Map.of("id", "abc"))));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    // --- Helpers ---
+
+    private static MockServerWebExchange exchange(Map<String, String> uriTemplateVariables) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/").build());
+        exchange.getAttributes().put(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, uriTemplateVariables);
+        return exchange;
+    }
+
+    private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
+        Method method = TestController.class.getDeclaredMethod(methodName, types);
+        return new MethodParameter(method, 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestController {
+        void testSupported(@PathVariable("id") Omittable<String> id) {}
+        void testNoAnnotation(Omittable<String> id) {}
+        void testNotOmittable(@PathVariable("id") String id) {}
+        void testLong(@PathVariable("id") Omittable<Long> id) {}
+    }
+
+}
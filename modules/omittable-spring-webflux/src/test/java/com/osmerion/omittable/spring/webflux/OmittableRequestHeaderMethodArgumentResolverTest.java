@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.metrics.MicrometerOmittableMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmittableRequestHeaderMethodArgumentResolverTest {
+
+    private OmittableRequestHeaderMethodArgumentResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new OmittableRequestHeaderMethodArgumentResolver(null, ReactiveAdapterRegistry.getSharedInstance());
+    }
+
+    @Test
+    @DisplayName("Should support Omittable parameters annotated with @RequestHeader")
+    void supportsParameter() throws Exception {
+        assertTrue(resolver.supportsParameter(getParam("testSupported", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNoAnnotation", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNotOmittable", String.class)));
+    }
+
+    @Test
+    @DisplayName("Should resolve to Omittable.absent() when header is missing")
+    void resolveAbsent() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/").build());
+
+        assertEquals(Omittable.absent(), resolver.resolveNamedValue("X-Trace", getParam("testSupported", Omittable.class), exchange));
+    }
+
+    @Test
+    @DisplayName("Should resolve single and multiple header values")
+    void resolveValues() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/").header("X-Trace", "abc").build());
+        assertEquals(Omittable.of("abc"), resolver.resolveNamedValue("X-Trace", param, exchange));
+
+        MockServerWebExchange multiExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/").header("X-Trace", "abc", "def").build());
+        assertEquals(Omittable.of(List.of("abc", "def")), resolver.resolveNamedValue("X-Trace", param, multiExchange));
+    }
+
+    @Test
+    @DisplayName("Should convert values when a ConversionService is configured")
+    void resolveConverted() throws Exception {
+        OmittableRequestHeaderMethodArgumentResolver resolver = new OmittableRequestHeaderMethodArgumentResolver(null, ReactiveAdapterRegistry.getSharedInstance(), DefaultConversionService.getSharedInstance());
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/").header("X-Version", "3").build());
+        assertEquals(Omittable.of(3L), resolver.resolveNamedValue("X-Version", getParam("testLong", Omittable.class), exchange));
+
+        MockServerWebExchange listExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/").header("X-Version", "3", "4").build());
+        assertEquals(Omittable.of(List.of(3L, 4L)), resolver.resolveNamedValue("X-Version", getParam("testList", Omittable.class), listExchange));
+    }
+
+    @Test
+    @DisplayName("Should record resolutions when metrics are configured")
+    void resolveRecordsMetrics() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        OmittableRequestHeaderMethodArgumentResolver resolver = new OmittableRequestHeaderMethodArgumentResolver(null, ReactiveAdapterRegistry.getSharedInstance(), DefaultConversionService.getSharedInstance());
+        resolver.setMetrics(new MicrometerOmittableMetrics(registry));
+        MethodParameter param = getParam("testLong", Omittable.class);
+
+        resolver.resolveNamedValue("X-Version", param, MockServerWebExchange.from(MockServerHttpRequest.get("/").header("X-Version", "3").build()));
+        resolver.resolveNamedValue("X-Version", param, MockServerWebExchange.from(MockServerHttpRequest.get("/").build()));
+
+        MockServerWebExchange invalidExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/").header("X-Version", "invalid").build());
+        assertThrows(ServerWebInputException.class, () -> resolver.resolveNamedValue("X-Version", param, invalidExchange));
+
+        assertEquals(3, registry.get(MicrometerOmittableMetrics.RESOLUTION_TIMER).tag("parameter", "X-Version").timer().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_OUTCOME_COUNTER).tag("outcome", "present").counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_OUTCOME_COUNTER).tag("outcome", "absent").counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_FAILURE_COUNTER).counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.CACHE_MISS_COUNTER).tag("cache", "omittable-request-header").functionCounter().count());
+    }
+
+    // --- Helpers ---
+
+    private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
+        Method method = TestController.class.getDeclaredMethod(methodName, types);
+        return new MethodParameter(method, 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestController {
+        void testSupported(@RequestHeader("X-Trace") Omittable<String> trace) {}
+        void testNoAnnotation(Omittable<String> trace) {}
+        void testNotOmittable(@RequestHeader("X-Trace") String trace) {}
+        void testLong(@RequestHeader("X-Version") Omittable<Long> version) {}
+        void testList(@RequestHeader("X-Version") Omittable<List<Long>> version) {}
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmittableRequestParamFormDataMethodArgumentResolverTest {
+
+    private static final String BOUNDARY = "omittable-boundary";
+
+    private OmittableRequestParamFormDataMethodArgumentResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new OmittableRequestParamFormDataMethodArgumentResolver(
+            null,
+            ReactiveAdapterRegistry.getSharedInstance(),
+            DefaultConversionService.getSharedInstance()
+        );
+    }
+
+    @Test
+    @DisplayName("Should support Omittable parameters annotated with @RequestParam")
+    void supportsParameter() throws Exception {
+        assertTrue(resolver.supportsParameter(getParam("testSupported", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNoAnnotation", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNotOmittable", String.class)));
+    }
+
+    @Test
+    @DisplayName("Should resolve to Omittable.absent() when parameter is missing")
+    void resolveAbsent() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+        MockServerWebExchange exchange = MockServerWebExchange.from(formRequest("otherId=1"));
+
+        assertEquals(Omittable.absent(), resolver.resolveName("userId", param, exchange).block());
+    }
+
+    @Test
+    @DisplayName("Should resolve query parameters of requests without a body")
+    void resolveQueryParam() throws Exception {
+        MethodParameter param = getParam("testLong", Omittable.class);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/?userId=123").build());
+
+        assertEquals(Omittable.of(123L), resolver.resolveName("userId", param, exchange).block());
+    }
+
+    @Test
+    @DisplayName("Should resolve form data parameters")
+    void resolveFormData() throws Exception {
+        MethodParameter param = getParam("testLong", Omittable.class);
+        MockServerWebExchange exchange = MockServerWebExchange.from(formRequest("userId=123"));
+
+        assertEquals(Omittable.of(123L), resolver.resolveName("userId", param, exchange).block());
+    }
+
+    @Test
+    @DisplayName("Should resolve form data parameters using the '[]' suffix")
+    void resolveFormDataArraySuffix() throws Exception {
+        MethodParameter param = getParam("testList", Omittable.class);
+        MockServerWebExchange exchange = MockServerWebExchange.from(formRequest("userId%5B%5D=123&userId%5B%5D=456"));
+
+        assertEquals(Omittable.of(List.of(123L, 456L)), resolver.resolveName("userId", param, exchange).block());
+    }
+
+    @Test
+    @DisplayName("Should combine values from the query parameters and the form data")
+    void resolveQueryAndFormData() throws Exception {
+        MethodParameter param = getParam("testList", Omittable.class);
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.post("/?userId=123")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body("userId=456")
+        );
+
+        assertEquals(Omittable.of(List.of(123L, 456L)), resolver.resolveName("userId", param, exchange).block());
+    }
+
+    @Test
+    @DisplayName("Should resolve multipart form fields and files")
+    void resolveMultipartData() throws Exception {
+        String body = "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"userId\"\r\n"
+            + "\r\n"
+            + "123\r\n"
+            + "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"test.txt\"\r\n"
+            + "Content-Type: text/plain\r\n"
+            + "\r\n"
+            + "content\r\n"
+            + "--" + BOUNDARY + "--\r\n";
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.post("/")
+                .contentType(new MediaType(MediaType.MULTIPART_FORM_DATA, Map.of("boundary", BOUNDARY)))
+                .body(body)
+        );
+
+        assertEquals(Omittable.of(123L), resolver.resolveName("userId", getParam("testLong", Omittable.class), exchange).block());
+
+        Object file = resolver.resolveName("file", getParam("testFile", Omittable.class), exchange).block();
+        FilePart filePart = assertInstanceOf(FilePart.class, assertInstanceOf(Omittable.Present.class, file).value());
+        assertEquals("test.txt", filePart.filename());
+    }
+
+    @Test
+    @DisplayName("Should read the body only once per exchange")
+    void resolveReadsBodyOnce() throws Exception {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Flux<DataBuffer> body = Flux.defer(() -> {
+            subscriptions.incrementAndGet();
+            return Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("userId=123&otherId=456".getBytes(StandardCharsets.UTF_8)));
+        });
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.post("/")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(body)
+        );
+
+        MethodParameter param = getParam("testLong", Omittable.class);
+        assertEquals(Omittable.of(123L), resolver.resolveName("userId", param, exchange).block());
+        assertEquals(Omittable.of(456L), resolver.resolveName("otherId", param, exchange).block());
+        assertEquals(1, subscriptions.get());
+    }
+
+    @Test
+    @DisplayName("Should wrap raw values when no ConversionService is configured")
+    void resolveUnconverted() throws Exception {
+        OmittableRequestParamFormDataMethodArgumentResolver resolver = new OmittableRequestParamFormDataMethodArgumentResolver(
+            null,
+            ReactiveAdapterRegistry.getSharedInstance()
+        );
+        MethodParameter param = getParam("testSupported", Omittable.class);
+
+        assertEquals(Omittable.of("123"), resolver.resolveName("userId", param, MockServerWebExchange.from(formRequest("userId=123"))).block());
+        assertEquals(
+            Omittable.of(List.of("123", "456")),
+            resolver.resolveName("userId", param, MockServerWebExchange.from(formRequest("userId=123&userId=456"))).block()
+        );
+    }
+
+    @Test
+    @DisplayName("Should report form data values that cannot be converted as invalid input")
+    void resolveInvalid() throws Exception {
+        MethodParameter param = getParam("testLong", Omittable.class);
+        MockServerWebExchange exchange = MockServerWebExchange.from(formRequest("userId=abc"));
+
+        assertThrows(ServerWebInputException.class, () -> resolver.resolveName("userId", param, exchange).block());
+    }
+
+    private static MockServerHttpRequest formRequest(String body) {
+        return MockServerHttpRequest.post("/")
+            .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+            .body(body);
+    }
+
+    // --- Helper logic to extract MethodParameters from a dummy controller ---
+
+    private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
+        Method method = TestController.class.getDeclaredMethod(methodName, types);
+        MethodParameter param = new MethodParameter(method, 0);
+        param.initParameterNameDiscovery(null);
+        return param;
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestController {
+        void testSupported(@RequestParam(name = "userId") Omittable<String> userId) {}
+        void testNoAnnotation(Omittable<String> userId) {}
+        void testNotOmittable(@RequestParam String userId) {}
+        void testLong(@RequestParam(name = "userId") Omittable<Long> userId) {}
+        void testList(@RequestParam(name = "userId") Omittable<List<Long>> userId) {}
+        void testFile(@RequestParam(name = "file") Omittable<FilePart> file) {}
+    }
+
+}
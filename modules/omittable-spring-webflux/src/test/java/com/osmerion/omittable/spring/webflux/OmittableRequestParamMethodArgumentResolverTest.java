@@ -16,15 +16,21 @@
 package com.osmerion.omittable.spring.webflux;
 
 import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.metrics.MicrometerOmittableMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Method;
 import java.util.List;
@@ -48,10 +54,12 @@ class OmittableRequestParamMethodArgumentResolverTest {
         MethodParameter supported = getParam("testSupported", Omittable.class);
         MethodParameter noAnnotation = getParam("testNoAnnotation", Omittable.class);
         MethodParameter notOmittable = getParam("testNotOmittable", String.class);
+        MethodParameter reactiveNoAnnotation = getParam("testReactiveNoAnnotation", Mono.class);
 
         assertTrue(resolver.supportsParameter(supported));
         assertFalse(resolver.supportsParameter(noAnnotation));
         assertFalse(resolver.supportsParameter(notOmittable));
+        assertFalse(resolver.supportsParameter(reactiveNoAnnotation));
     }
 
     @Test
@@ -105,6 +113,111 @@ class OmittableRequestParamMethodArgumentResolverTest {
         assertEquals(Omittable.of(List.of("123", "456")), result);
     }
 
+    @Test
+    @DisplayName("Should convert values when a ConversionService is configured")
+    void resolveConverted() throws Exception {
+        OmittableRequestParamMethodArgumentResolver resolver = new OmittableRequestParamMethodArgumentResolver(
+            null,
+            ReactiveAdapterRegistry.getSharedInstance(),
+            DefaultConversionService.getSharedInstance()
+        );
+        MethodParameter param = getParam("testLong", Omittable.class);
+
+        assertEquals(
+            Omittable.of(123L),
+            resolver.resolveNamedValue("userId", param, MockServerWebExchange.from(MockServerHttpRequest.get("/?userId=123").build()))
+        );
+
+        assertEquals(
+            Omittable.of(456L),
+            resolver.resolveNamedValue("userId", param, MockServerWebExchange.from(MockServerHttpRequest.get("/?userId[]=456").build()))
+        );
+
+        assertEquals(
+            Omittable.absent(),
+            resolver.resolveNamedValue("userId", param, MockServerWebExchange.from(MockServerHttpRequest.get("/").build()))
+        );
+    }
+
+    @Test
+    @DisplayName("Should convert multiple values to a List when a ConversionService is configured")
+    void resolveConvertedList() throws Exception {
+        OmittableRequestParamMethodArgumentResolver resolver = new OmittableRequestParamMethodArgumentResolver(
+            null,
+            ReactiveAdapterRegistry.getSharedInstance(),
+            DefaultConversionService.getSharedInstance()
+        );
+        MethodParameter param = getParam("testList", Omittable.class);
+
+        assertEquals(
+            Omittable.of(List.of(123L, 456L)),
+            resolver.resolveNamedValue("userId", param, MockServerWebExchange.from(MockServerHttpRequest.get("/?userId[]=123&userId[]=456").build()))
+        );
+
+        assertEquals(
+            Omittable.of(List.of(123L, 456L)),
+            resolver.resolveNamedValue("userId", param, MockServerWebExchange.from(MockServerHttpRequest.get("/?userId=123,456").build()))
+        );
+    }
+
+    @Test
+    @DisplayName("Should report values that cannot be converted as invalid input")
+    void resolveInvalid() throws Exception {
+        OmittableRequestParamMethodArgumentResolver resolver = new OmittableRequestParamMethodArgumentResolver(
+            null,
+            ReactiveAdapterRegistry.getSharedInstance(),
+            DefaultConversionService.getSharedInstance()
+        );
+        MethodParameter param = getParam("testLong", Omittable.class);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/?userId=abc").build());
+
+        ServerWebInputException e = assertThrows(ServerWebInputException.class, () -> resolver.resolveNamedValue("userId", param, exchange));
+        assertEquals(400, e.getStatusCode().value());
+        assertEquals(param, e.getMethodParameter());
+
+        MethodParameter listParam = getParam("testList", Omittable.class);
+        MockServerWebExchange listExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/?userId=123&userId=abc").build());
+        assertThrows(ServerWebInputException.class, () -> resolver.resolveNamedValue("userId", listParam, listExchange));
+    }
+
+    @Test
+    @DisplayName("Should honor a name that differs from the cached one")
+    void resolveDifferentName() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/?userId=123&otherId[]=456").build()
+        );
+
+        assertEquals(Omittable.of("123"), resolver.resolveNamedValue("userId", param, exchange));
+        assertEquals(Omittable.of("456"), resolver.resolveNamedValue("otherId", param, exchange));
+    }
+
+    @Test
+    @DisplayName("Should record resolutions when metrics are configured")
+    void resolveRecordsMetrics() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        OmittableRequestParamMethodArgumentResolver resolver = new OmittableRequestParamMethodArgumentResolver(
+            null,
+            ReactiveAdapterRegistry.getSharedInstance(),
+            DefaultConversionService.getSharedInstance()
+        );
+        resolver.setMetrics(new MicrometerOmittableMetrics(registry));
+        MethodParameter param = getParam("testLong", Omittable.class);
+
+        resolver.resolveNamedValue("userId", param, MockServerWebExchange.from(MockServerHttpRequest.get("/?userId=123").build()));
+        resolver.resolveNamedValue("userId", param, MockServerWebExchange.from(MockServerHttpRequest.get("/").build()));
+
+        MockServerWebExchange invalidExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/?userId=invalid").build());
+        assertThrows(ServerWebInputException.class, () -> resolver.resolveNamedValue("userId", param, invalidExchange));
+
+        assertEquals(3, registry.get(MicrometerOmittableMetrics.RESOLUTION_TIMER).tag("parameter", "userId").timer().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_OUTCOME_COUNTER).tag("outcome", "present").counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_OUTCOME_COUNTER).tag("outcome", "absent").counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_FAILURE_COUNTER).counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.CACHE_MISS_COUNTER).functionCounter().count());
+        assertEquals(3, registry.get(MicrometerOmittableMetrics.CACHE_ACCESS_COUNTER).functionCounter().count());
+    }
+
     // --- Helper logic to extract MethodParameters from a dummy controller ---
 
     private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
@@ -119,6 +232,9 @@ class OmittableRequestParamMethodArgumentResolverTest {
         void testSupported(@RequestParam(name = "userId") Omittable<String> userId) {}
         void testNoAnnotation(Omittable<String> userId) {}
         void testNotOmittable(@RequestParam String userId) {}
+        void testReactiveNoAnnotation(Mono<Omittable<String>> userId) {}
+        void testLong(@RequestParam(name = "userId") Omittable<Long> userId) {}
+        void testList(@RequestParam(name = "userId") Omittable<List<Long>> userId) {}
     }
 
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatchBatchesTest {
+
+    @Test
+    @DisplayName("Should group patches into batches of the given size")
+    void of() {
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), PatchBatches.of(Flux.range(1, 5), 2).collectList().block());
+    }
+
+    @Test
+    @DisplayName("Should only request patches for requested batches")
+    void ofBackpressure() {
+        AtomicLong requested = new AtomicLong();
+        Flux<Integer> patches = Flux.range(1, 1_000).doOnRequest(requested::addAndGet);
+
+        assertEquals(List.of(List.of(1, 2, 3)), PatchBatches.of(patches, 3).take(1).collectList().block());
+        assertTrue(requested.get() < 1_000, "Requested " + requested.get() + " patches for a single batch");
+    }
+
+    @Test
+    @DisplayName("Should emit incomplete batches after the maximum wait time")
+    void ofMaxWait() {
+        Flux<Integer> patches = Flux.concat(Flux.just(1, 2), Flux.just(3).delaySubscription(Duration.ofMillis(500)));
+
+        assertEquals(List.of(List.of(1, 2), List.of(3)), PatchBatches.of(patches, 10, Duration.ofMillis(50)).collectList().block());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive batch sizes")
+    void ofInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> PatchBatches.of(Flux.just(1), 0));
+        assertThrows(IllegalArgumentException.class, () -> PatchBatches.of(Flux.just(1), -1, Duration.ofSeconds(1)));
+    }
+
+}
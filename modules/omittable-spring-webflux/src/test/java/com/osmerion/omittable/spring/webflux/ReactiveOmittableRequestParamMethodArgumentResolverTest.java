@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.metrics.MicrometerOmittableMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveOmittableRequestParamMethodArgumentResolverTest {
+
+    private final ReactiveOmittableRequestParamMethodArgumentResolver resolver = new ReactiveOmittableRequestParamMethodArgumentResolver(
+        ReactiveAdapterRegistry.getSharedInstance(),
+        DefaultConversionService.getSharedInstance()
+    );
+
+    record UserId(long value) {}
+
+    @Test
+    @DisplayName("Should support unannotated deferred single-value reactive Omittable parameters")
+    void supportsParameter() throws Exception {
+        assertTrue(resolver.supportsParameter(getParam("testMono", Mono.class)));
+        assertFalse(resolver.supportsParameter(getParam("testFuture", CompletableFuture.class)));
+        assertFalse(resolver.supportsParameter(getParam("testFlux", Flux.class)));
+        assertFalse(resolver.supportsParameter(getParam("testAnnotated", Mono.class)));
+        assertFalse(resolver.supportsParameter(getParam("testMonoNotOmittable", Mono.class)));
+        assertFalse(resolver.supportsParameter(getParam("testPlain", Omittable.class)));
+    }
+
+    @Test
+    @DisplayName("Should resolve to Omittable.absent() when parameter is missing")
+    void resolveAbsent() throws Exception {
+        assertEquals(Omittable.absent(), resolve("testMono", Mono.class, "/").block());
+    }
+
+    @Test
+    @DisplayName("Should convert values to the declared type")
+    void resolveConverted() throws Exception {
+        assertEquals(Omittable.of(123L), resolve("testMono", Mono.class, "/?userId=123").block());
+        assertEquals(Omittable.of(List.of(123L, 456L)), resolve("testMonoList", Mono.class, "/?userId[]=123&userId[]=456").block());
+    }
+
+    @Test
+    @DisplayName("Should defer conversion until the value is subscribed to")
+    void resolveLazily() throws Exception {
+        AtomicInteger conversions = new AtomicInteger();
+        DefaultConversionService conversionService = new DefaultConversionService();
+        conversionService.addConverter(String.class, UserId.class, source -> {
+            conversions.incrementAndGet();
+            return new UserId(Long.parseLong(source));
+        });
+
+        ReactiveOmittableRequestParamMethodArgumentResolver resolver = new ReactiveOmittableRequestParamMethodArgumentResolver(
+            ReactiveAdapterRegistry.getSharedInstance(),
+            conversionService
+        );
+        MethodParameter param = getParam("testMonoUserId", Mono.class);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/?userId=123").build());
+
+        Mono<?> value = assertInstanceOf(Mono.class, resolver.resolveArgument(param, new BindingContext(), exchange).block());
+        assertEquals(0, conversions.get());
+
+        assertEquals(Omittable.of(new UserId(123L)), value.block());
+        assertEquals(1, conversions.get());
+    }
+
+    @Test
+    @DisplayName("Should signal conversion failures when the value is subscribed to")
+    void resolveInvalid() throws Exception {
+        Mono<?> value = resolve("testMono", Mono.class, "/?userId=invalid");
+
+        ServerWebInputException e = assertThrows(ServerWebInputException.class, value::block);
+        assertEquals(400, e.getStatusCode().value());
+        assertEquals("testMono", assertInstanceOf(MethodParameter.class, e.getMethodParameter()).getExecutable().getName());
+    }
+
+    @Test
+    @DisplayName("Should record resolutions when the value is subscribed to")
+    void resolveRecordsMetrics() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        resolver.setMetrics(new MicrometerOmittableMetrics(registry));
+
+        Mono<?> unused = resolve("testMono", Mono.class, "/?userId=123");
+        assertEquals(0, registry.get(MicrometerOmittableMetrics.RESOLUTION_TIMER).timer().count());
+
+        resolve("testMono", Mono.class, "/?userId=123").block();
+        resolve("testMono", Mono.class, "/").block();
+        assertThrows(ServerWebInputException.class, resolve("testMono", Mono.class, "/?userId=invalid")::block);
+
+        assertEquals(3, registry.get(MicrometerOmittableMetrics.RESOLUTION_TIMER).tag("parameter", "userId").timer().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_OUTCOME_COUNTER).tag("outcome", "present").counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_OUTCOME_COUNTER).tag("outcome", "absent").counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_FAILURE_COUNTER).counter().count());
+    }
+
+    private Mono<?> resolve(String methodName, Class<?> type, String uri) throws NoSuchMethodException {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri).build());
+        Object result = resolver.resolveArgument(getParam(methodName, type), new BindingContext(), exchange).block();
+
+        return assertInstanceOf(Mono.class, result);
+    }
+
+    private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
+        Method method = TestController.class.getDeclaredMethod(methodName, types);
+        MethodParameter param = new MethodParameter(method, 0);
+        param.initParameterNameDiscovery(new DefaultParameterNameDiscoverer());
+        return param;
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestController {
+        void testMono(Mono<Omittable<Long>> userId) {}
+        void testMonoList(Mono<Omittable<List<Long>>> userId) {}
+        void testMonoUserId(Mono<Omittable<UserId>> userId) {}
+        void testFuture(CompletableFuture<Omittable<Long>> userId) {}
+        void testFlux(Flux<Omittable<Long>> userId) {}
+        void testAnnotated(@RequestParam Mono<Omittable<Long>> userId) {}
+        void testMonoNotOmittable(Mono<Long> userId) {}
+        void testPlain(Omittable<Long> userId) {}
+    }
+
+}
@@ -31,10 +31,14 @@ testing {
 
             dependencies {
                 implementation(project())
+                implementation(testFixtures(project(":omittable-spring-core")))
 
                 implementation(platform(buildDeps.spring.boot.dependencies))
                 implementation(buildDeps.mockito.core)
+                implementation(libs.jackson.core)
+                implementation(libs.micrometer.core)
                 implementation(buildDeps.spring.boot.starter.test)
+                implementation(buildDeps.spring.boot.starter.validation)
                 implementation(buildDeps.spring.boot.starter.web)
             }
         }
@@ -54,4 +58,7 @@ publishing {
 dependencies {
     api(project(":omittable-spring-core"))
     api(libs.spring.webmvc)
+
+    compileOnly(libs.jackson.core)
+    compileOnly(libs.jakarta.servlet.api)
 }
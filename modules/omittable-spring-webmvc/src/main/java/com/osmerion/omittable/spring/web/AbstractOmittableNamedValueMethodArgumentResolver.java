@@ -0,0 +1,217 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.CachedOmittables;
+import com.osmerion.omittable.spring.core.convert.OmittableValueConverter;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.annotation.AbstractNamedValueMethodArgumentResolver;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The base class for the resolvers of {@link Omittable} named values (other than request parameters).
+ *
+ * <p>Subclasses look up the raw value of a named value straight from the request. The raw value is then wrapped, or
+ * converted to the declared type if a {@link ConversionService} is configured, using a resolution plan that is computed
+ * once per {@link MethodParameter}. Values that cannot be converted are reported as a
+ * {@link org.springframework.web.method.annotation.MethodArgumentTypeMismatchException MethodArgumentTypeMismatchException}
+ * like Spring's resolvers do.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+abstract class AbstractOmittableNamedValueMethodArgumentResolver extends AbstractNamedValueMethodArgumentResolver {
+
+    private final Class<? extends Annotation> annotationType;
+
+    private final String cacheName;
+
+    private final @Nullable ConversionService conversionService;
+
+    private final ValueParserRegistry parserRegistry;
+
+    private final Map<MethodParameter, ResolutionPlan> resolutionPlanCache = new ConcurrentHashMap<>(256);
+
+    private @Nullable OmittableMetrics metrics;
+
+    private OmittableMetrics.@Nullable CacheRecorder cacheRecorder;
+
+    AbstractOmittableNamedValueMethodArgumentResolver(
+        Class<? extends Annotation> annotationType,
+        String cacheName,
+        @Nullable ConversionService conversionService,
+        ValueParserRegistry parserRegistry
+    ) {
+        this.annotationType = annotationType;
+        this.cacheName = cacheName;
+        this.conversionService = conversionService;
+        this.parserRegistry = parserRegistry;
+    }
+
+    /**
+     * Sets the metrics to record resolutions and accesses to the resolution plan cache with.
+     *
+     * <p>Resolutions are timed and their outcomes are counted per handler method parameter. This property should be
+     * configured before the resolver is used.</p>
+     *
+     * @param metrics   the metrics to record to, or {@code null} to disable recording
+     *
+     * @since   2.1.0
+     */
+    public void setMetrics(@Nullable OmittableMetrics metrics) {
+        this.metrics = metrics;
+        this.cacheRecorder = (metrics != null) ? metrics.cache(this.cacheName) : null;
+
+        /* Cached plans hold recorders of the previous metrics. */
+        this.resolutionPlanCache.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType().equals(Omittable.class)
+            && parameter.hasParameterAnnotation(this.annotationType);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    protected final Object resolveName(String name, MethodParameter parameter, NativeWebRequest request) throws Exception {
+        ResolutionPlan plan = getResolutionPlan(name, parameter);
+
+        OmittableMetrics.ResolutionRecorder recorder = plan.recorder;
+        if (recorder == null) return resolve(plan, parameter, request);
+
+        long start = System.nanoTime();
+        try {
+            Omittable<?> result = resolve(plan, parameter, request);
+            recorder.recordSuccess(System.nanoTime() - start, result);
+            return result;
+        } catch (Exception e) {
+            recorder.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    private Omittable<?> resolve(ResolutionPlan plan, MethodParameter parameter, NativeWebRequest request) throws Exception {
+        Object value = resolveValue(plan, parameter, request);
+        if (value == null) return Omittable.absent();
+
+        if (plan.converter == null) return CachedOmittables.of(value);
+        return NamedValueConversions.convert(plan.converter, value, plan.name, parameter);
+    }
+
+    /**
+     * Looks up the raw value of a named value in the given request.
+     *
+     * @param plan      the resolution plan of the parameter
+     * @param parameter the method parameter
+     * @param request   the current request
+     *
+     * @return  the raw value, or {@code null} if the named value is absent
+     *
+     * @throws Exception    if the value cannot be looked up
+     */
+    abstract @Nullable Object resolveValue(ResolutionPlan plan, MethodParameter parameter, NativeWebRequest request) throws Exception;
+
+    private ResolutionPlan getResolutionPlan(String name, MethodParameter parameter) {
+        OmittableMetrics.CacheRecorder cacheRecorder = this.cacheRecorder;
+        if (cacheRecorder != null) cacheRecorder.recordAccess();
+
+        ResolutionPlan plan = this.resolutionPlanCache.get(parameter);
+        if (plan == null) {
+            if (cacheRecorder != null) cacheRecorder.recordMiss();
+
+            OmittableValueConverter converter = (this.conversionService != null)
+                ? OmittableValueConverter.create(this.conversionService, this.parserRegistry, new TypeDescriptor(parameter))
+                : null;
+
+            OmittableMetrics metrics = this.metrics;
+            OmittableMetrics.ResolutionRecorder recorder = (metrics != null) ? metrics.resolution(parameter, name) : null;
+
+            Class<?> valueType = ResolvableType.forMethodParameter(parameter).getGeneric().resolve(Object.class);
+
+            plan = new ResolutionPlan(name, valueType, converter, recorder, new ConcurrentHashMap<>());
+            this.resolutionPlanCache.put(parameter, plan);
+        }
+
+        return plan.withName(name);
+    }
+
+    /**
+     * The information required to resolve a parameter that is computed once per {@link MethodParameter}.
+     *
+     * @param name      the name of the named value
+     * @param valueType the declared type of the wrapped value, or {@code Object} if it cannot be resolved
+     * @param converter the converter for the raw values, or {@code null} if conversion is left to the binder
+     * @param recorder  the recorder for resolutions of the parameter, or {@code null} if resolutions are not recorded
+     * @param renamedPlans  the plans of the parameter for other names, shared by all plans of the parameter
+     */
+    record ResolutionPlan(
+        String name,
+        Class<?> valueType,
+        @Nullable OmittableValueConverter converter,
+        OmittableMetrics.@Nullable ResolutionRecorder recorder,
+        Map<String, ResolutionPlan> renamedPlans
+    ) {
+
+        /* Bounds the number of plans that are retained for names that are evaluated from dynamic expressions. */
+        private static final int MAX_RENAMED_PLANS = 16;
+
+        /**
+         * Returns the plan of the parameter for the given name.
+         *
+         * <p>The name may be resolved from a placeholder or expression that evaluated to a different value than when
+         * the plan was created. Plans for such names are cached as well.</p>
+         *
+         * @param name  the resolved name of the named value
+         *
+         * @return  the plan for the given name
+         */
+        ResolutionPlan withName(String name) {
+            if (this.name.equals(name)) return this;
+
+            ResolutionPlan plan = this.renamedPlans.get(name);
+            if (plan != null) return plan;
+
+            plan = new ResolutionPlan(name, this.valueType, this.converter, this.recorder, this.renamedPlans);
+            if (this.renamedPlans.size() < MAX_RENAMED_PLANS) this.renamedPlans.putIfAbsent(name, plan);
+
+            return plan;
+        }
+
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.OmittableValueConverter;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConverterNotFoundException;
+import org.springframework.web.method.annotation.MethodArgumentConversionNotSupportedException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+/**
+ * Converts raw named values to the declared type of an {@link Omittable} handler method parameter.
+ *
+ * <p>Conversion failures are reported the same way as by Spring's
+ * {@link org.springframework.web.method.annotation.AbstractNamedValueMethodArgumentResolver}: Values that cannot be
+ * converted cause a {@link MethodArgumentTypeMismatchException} (i.e. a {@code 400 Bad Request} response), while
+ * missing converters cause a {@link MethodArgumentConversionNotSupportedException}.</p>
+ *
+ * @author  Leon Linhart
+ */
+final class NamedValueConversions {
+
+    /**
+     * Converts the given raw value using the given converter.
+     *
+     * @param converter the converter for the parameter
+     * @param value     the raw value
+     * @param name      the name of the named value
+     * @param parameter the method parameter
+     *
+     * @return  the converted {@code Omittable}
+     *
+     * @throws MethodArgumentTypeMismatchException          if the value cannot be converted
+     * @throws MethodArgumentConversionNotSupportedException if no suitable converter is available
+     */
+    static Omittable<?> convert(OmittableValueConverter converter, Object value, String name, MethodParameter parameter) {
+        try {
+            return converter.convert(value);
+        } catch (ConverterNotFoundException e) {
+            throw new MethodArgumentConversionNotSupportedException(value, parameter.getParameterType(), name, parameter, e);
+        } catch (ConversionException e) {
+            throw new MethodArgumentTypeMismatchException(value, parameter.getParameterType(), name, parameter, e);
+        }
+    }
+
+    private NamedValueConversions() {}
+
+}
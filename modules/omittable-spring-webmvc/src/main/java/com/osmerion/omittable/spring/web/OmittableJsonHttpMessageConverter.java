@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.json.OmittableJsonBinder;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.TokenStreamFactory;
+import tools.jackson.core.json.JsonFactory;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * An {@link HttpMessageConverter} that reads JSON request bodies into objects with {@link Omittable} properties.
+ *
+ * <p>The body is bound token by token using an {@link OmittableJsonBinder}. A property that is missing from the body
+ * is bound as {@link Omittable#absent()}, while a property with an explicit {@code null} value is bound as a present
+ * {@code null}. Only classes with at least one {@code Omittable} property are read by this converter. Thus, it should
+ * be registered ahead of the default JSON converter.</p>
+ *
+ * <p>This converter only supports reading. This class requires {@code tools.jackson.core:jackson-core} to be on the
+ * classpath.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableJsonHttpMessageConverter implements HttpMessageConverter<Object> {
+
+    /**
+     * The media type for JSON merge patch documents ({@code application/merge-patch+json}).
+     *
+     * @since   2.1.0
+     */
+    public static final MediaType APPLICATION_MERGE_PATCH_JSON = new MediaType("application", "merge-patch+json");
+
+    private static final List<MediaType> SUPPORTED_MEDIA_TYPES = List.of(
+        MediaType.APPLICATION_JSON,
+        APPLICATION_MERGE_PATCH_JSON,
+        new MediaType("application", "*+json")
+    );
+
+    private final OmittableJsonBinder binder;
+
+    private final TokenStreamFactory jsonFactory;
+
+    /**
+     * Creates a new {@link OmittableJsonHttpMessageConverter}.
+     *
+     * @param binder    the binder to bind request bodies with
+     *
+     * @since   2.1.0
+     */
+    public OmittableJsonHttpMessageConverter(OmittableJsonBinder binder) {
+        this(binder, new JsonFactory());
+    }
+
+    /**
+     * Creates a new {@link OmittableJsonHttpMessageConverter}.
+     *
+     * @param binder        the binder to bind request bodies with
+     * @param jsonFactory   the factory to create JSON parsers with
+     *
+     * @since   2.1.0
+     */
+    public OmittableJsonHttpMessageConverter(OmittableJsonBinder binder, TokenStreamFactory jsonFactory) {
+        this.binder = binder;
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return this.binder.canBind(clazz) && isSupported(mediaType);
+    }
+
+    private static boolean isSupported(@Nullable MediaType mediaType) {
+        if (mediaType == null) return true;
+
+        for (MediaType supportedMediaType : SUPPORTED_MEDIA_TYPES) {
+            if (supportedMediaType.includes(mediaType)) return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return SUPPORTED_MEDIA_TYPES;
+    }
+
+    @Override
+    public Object read(Class<?> clazz, HttpInputMessage inputMessage) throws IOException, HttpMessageNotReadableException {
+        try (JsonParser parser = this.jsonFactory.createParser(ObjectReadContext.empty(), inputMessage.getBody())) {
+            return this.binder.bind(parser, clazz);
+        } catch (JacksonException | ConversionException | IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException("Could not read JSON: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    public void write(Object object, @Nullable MediaType contentType, HttpOutputMessage outputMessage) {
+        /* Never called since canWrite always returns false. */
+        throw new HttpMessageNotWritableException("Cannot write " + object.getClass().getName() + " as JSON");
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.bind.OmittableParameterBinder;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.annotation.ModelFactory;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link HandlerMethodArgumentResolver} that binds request parameters to {@link ModelAttribute model attributes}
+ * with {@link Omittable} properties.
+ *
+ * <p>Parameters annotated with {@code @ModelAttribute} and parameters of non-simple types without any annotations are
+ * supported if their type has at least one {@code Omittable} property. Request parameters are bound using an
+ * {@link OmittableParameterBinder}. Thus, a property without a matching request parameter is bound as
+ * {@link Omittable#absent()}, and the values of present properties are converted to their declared types directly.
+ * Other parameters are left to Spring's
+ * {@link org.springframework.web.method.annotation.ModelAttributeMethodProcessor ModelAttributeMethodProcessor}, which
+ * has to be registered after this resolver.</p>
+ *
+ * <p>Like Spring's resolver, this resolver creates a {@link WebDataBinder} for the bound object using the
+ * {@link WebDataBinderFactory}. Values that cannot be converted are recorded as field errors in its
+ * {@link BindingResult}, and the object is validated if the parameter is annotated with {@code @Valid} or
+ * {@code @Validated}. If there are errors, a {@link MethodArgumentNotValidException} is thrown unless the parameter is
+ * followed by an {@link Errors} or {@code BindingResult} parameter. The bound object and its {@code BindingResult} are
+ * added to the model under the name of the model attribute.</p>
+ *
+ * <p>By default, parameters are looked up using {@link NativeWebRequest#getParameterValues(String)}, which includes
+ * form data from the request body. If {@link #setQueryStringOnly(boolean) query-string-only} resolution is enabled,
+ * parameters are looked up in the URI query string instead, and the request body is never touched.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableModelAttributeMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final OmittableParameterBinder binder;
+
+    private boolean queryStringOnly;
+
+    /**
+     * Creates a new {@link OmittableModelAttributeMethodArgumentResolver} instance.
+     *
+     * @param conversionService the conversion service to use to convert parameter values to the declared types
+     *
+     * @since   2.1.0
+     */
+    public OmittableModelAttributeMethodArgumentResolver(ConversionService conversionService) {
+        this(conversionService, ValueParserRegistry.getSharedInstance());
+    }
+
+    /**
+     * Creates a new {@link OmittableModelAttributeMethodArgumentResolver} instance.
+     *
+     * @param conversionService the conversion service to use to convert parameter values to the declared types
+     * @param parserRegistry    the registry of parsers to use for parsing the values of {@code Omittable} properties
+     *
+     * @since   2.1.0
+     */
+    public OmittableModelAttributeMethodArgumentResolver(ConversionService conversionService, ValueParserRegistry parserRegistry) {
+        this.binder = new OmittableParameterBinder(conversionService, parserRegistry);
+    }
+
+    /**
+     * Sets whether parameters are resolved from the URI query string only.
+     *
+     * <p>If enabled, form data in the request body is ignored, and the body is never read by this resolver. This
+     * property should be configured before the resolver is used.</p>
+     *
+     * @param queryStringOnly   whether parameters are resolved from the URI query string only
+     *
+     * @since   2.1.0
+     */
+    public void setQueryStringOnly(boolean queryStringOnly) {
+        this.queryStringOnly = queryStringOnly;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+
+        boolean isModelAttribute = parameter.hasParameterAnnotation(ModelAttribute.class)
+            || (!parameter.hasParameterAnnotations() && !BeanUtils.isSimpleProperty(type));
+
+        return isModelAttribute && this.binder.canBind(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    public Object resolveArgument(
+        MethodParameter parameter,
+        @Nullable ModelAndViewContainer mavContainer,
+        NativeWebRequest webRequest,
+        @Nullable WebDataBinderFactory binderFactory
+    ) throws Exception {
+        String name = ModelFactory.getNameForParameter(parameter);
+        HttpServletRequest servletRequest = this.queryStringOnly ? webRequest.getNativeRequest(HttpServletRequest.class) : null;
+
+        List<TypeMismatchException> failures = new ArrayList<>();
+        OmittableParameterBinder.ConversionFailureHandler failureHandler = (property, rawValue, e) -> {
+            TypeMismatchException failure = new TypeMismatchException(rawValue, e.getTargetType().getType(), e);
+            failure.initPropertyName(property);
+            failures.add(failure);
+        };
+
+        Object attribute = (servletRequest != null)
+            ? this.binder.bind(parameter.getParameterType(), property -> QueryStringParameters.getParameterValues(servletRequest.getQueryString(), property), failureHandler)
+            : this.binder.bind(parameter.getParameterType(), webRequest::getParameterValues, failureHandler);
+
+        WebDataBinder binder = (binderFactory != null) ? binderFactory.createBinder(webRequest, attribute, name) : new WebDataBinder(attribute, name);
+        BindingResult bindingResult = binder.getBindingResult();
+
+        for (TypeMismatchException failure : failures) {
+            binder.getBindingErrorProcessor().processPropertyAccessException(failure, bindingResult);
+        }
+
+        validateIfApplicable(binder, parameter);
+
+        if (bindingResult.hasErrors() && isBindExceptionRequired(parameter)) {
+            throw new MethodArgumentNotValidException(parameter, bindingResult);
+        }
+
+        if (mavContainer != null) {
+            Map<String, Object> bindingResultModel = bindingResult.getModel();
+            mavContainer.removeAttributes(bindingResultModel);
+            mavContainer.addAllAttributes(bindingResultModel);
+        }
+
+        return attribute;
+    }
+
+    private static void validateIfApplicable(WebDataBinder binder, MethodParameter parameter) {
+        for (Annotation annotation : parameter.getParameterAnnotations()) {
+            Object[] validationHints = ValidationAnnotationUtils.determineValidationHints(annotation);
+
+            if (validationHints != null) {
+                binder.validate(validationHints);
+                break;
+            }
+        }
+    }
+
+    private static boolean isBindExceptionRequired(MethodParameter parameter) {
+        int index = parameter.getParameterIndex();
+        Class<?>[] parameterTypes = parameter.getExecutable().getParameterTypes();
+
+        return parameterTypes.length <= index + 1 || !Errors.class.isAssignableFrom(parameterTypes[index + 1]);
+    }
+
+}
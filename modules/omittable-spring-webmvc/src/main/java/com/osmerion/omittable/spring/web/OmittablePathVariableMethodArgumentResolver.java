@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * A {@link HandlerMethodArgumentResolver} that resolves {@link Omittable} {@link PathVariable path variables}.
+ *
+ * <p>Path variables are looked up by name in the URI template variables exposed by the {@link HandlerMapping}. A path
+ * variable is absent if the matched pattern does not declare it, which allows a handler method to be mapped to
+ * patterns with and without optional path segments. By default, conversion to the declared type is left to the
+ * {@link org.springframework.web.bind.WebDataBinder WebDataBinder}. If a {@link ConversionService} is configured, the
+ * values are converted to the declared type by the resolver directly instead.</p>
+ *
+ * <p>Resolutions may be instrumented by {@link #setMetrics(OmittableMetrics) configuring} {@link OmittableMetrics}.
+ * </p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittablePathVariableMethodArgumentResolver extends AbstractOmittableNamedValueMethodArgumentResolver {
+
+    private static final String CACHE_NAME = "omittable-path-variable";
+
+    /**
+     * Creates a new {@link OmittablePathVariableMethodArgumentResolver} instance that leaves the conversion of
+     * values to the data binder.
+     *
+     * @since   2.1.0
+     */
+    public OmittablePathVariableMethodArgumentResolver() {
+        this(null);
+    }
+
+    /**
+     * Creates a new {@link OmittablePathVariableMethodArgumentResolver} instance.
+     *
+     * @param conversionService the conversion service to use to convert values to the declared type, or {@code null}
+     *                          to leave conversion to the data binder
+     *
+     * @since   2.1.0
+     */
+    public OmittablePathVariableMethodArgumentResolver(@Nullable ConversionService conversionService) {
+        this(conversionService, ValueParserRegistry.getSharedInstance());
+    }
+
+    /**
+     * Creates a new {@link OmittablePathVariableMethodArgumentResolver} instance.
+     *
+     * @param conversionService the conversion service to use to convert values to the declared type, or {@code null}
+     *                          to leave conversion to the data binder
+     * @param parserRegistry    the registry of parsers to use for parsing values if a conversion service is configured
+     *
+     * @since   2.1.0
+     */
+    public OmittablePathVariableMethodArgumentResolver(@Nullable ConversionService conversionService, ValueParserRegistry parserRegistry) {
+        super(PathVariable.class, CACHE_NAME, conversionService, parserRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    protected NamedValueInfo createNamedValueInfo(MethodParameter parameter) {
+        PathVariable ann = parameter.getParameterAnnotation(PathVariable.class);
+        Assert.state(ann != null, "No PathVariable annotation");
+
+        return new NamedValueInfo(ann.name(), false, ValueConstants.DEFAULT_NONE);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Nullable Object resolveValue(ResolutionPlan plan, MethodParameter parameter, NativeWebRequest request) {
+        Map<String, String> uriTemplateVars = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return (uriTemplateVars != null ? uriTemplateVars.get(plan.name()) : null);
+    }
+
+}
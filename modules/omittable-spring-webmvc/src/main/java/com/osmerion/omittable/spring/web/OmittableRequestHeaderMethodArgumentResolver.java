@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+
+/**
+ * A {@link HandlerMethodArgumentResolver} that resolves {@link Omittable} {@link RequestHeader request headers}.
+ *
+ * <p>Header values are looked up by name using {@link NativeWebRequest#getHeaderValues(String)}. Other headers are
+ * never read, and no map of the request headers is created. A single header value is wrapped as-is, and multiple values
+ * are wrapped as an array. By default, conversion to the declared type is left to the
+ * {@link org.springframework.web.bind.WebDataBinder WebDataBinder}. If a {@link ConversionService} is configured, the
+ * values are converted to the declared type by the resolver directly instead.</p>
+ *
+ * <p>Resolutions may be instrumented by {@link #setMetrics(OmittableMetrics) configuring} {@link OmittableMetrics}.
+ * </p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableRequestHeaderMethodArgumentResolver extends AbstractOmittableNamedValueMethodArgumentResolver {
+
+    private static final String CACHE_NAME = "omittable-request-header";
+
+    /**
+     * Creates a new {@link OmittableRequestHeaderMethodArgumentResolver} instance that leaves the conversion of
+     * values to the data binder.
+     *
+     * @since   2.1.0
+     */
+    public OmittableRequestHeaderMethodArgumentResolver() {
+        this(null);
+    }
+
+    /**
+     * Creates a new {@link OmittableRequestHeaderMethodArgumentResolver} instance.
+     *
+     * @param conversionService the conversion service to use to convert values to the declared type, or {@code null}
+     *                          to leave conversion to the data binder
+     *
+     * @since   2.1.0
+     */
+    public OmittableRequestHeaderMethodArgumentResolver(@Nullable ConversionService conversionService) {
+        this(conversionService, ValueParserRegistry.getSharedInstance());
+    }
+
+    /**
+     * Creates a new {@link OmittableRequestHeaderMethodArgumentResolver} instance.
+     *
+     * @param conversionService the conversion service to use to convert values to the declared type, or {@code null}
+     *                          to leave conversion to the data binder
+     * @param parserRegistry    the registry of parsers to use for parsing values if a conversion service is configured
+     *
+     * @since   2.1.0
+     */
+    public OmittableRequestHeaderMethodArgumentResolver(@Nullable ConversionService conversionService, ValueParserRegistry parserRegistry) {
+        super(RequestHeader.class, CACHE_NAME, conversionService, parserRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   2.1.0
+     */
+    @Override
+    protected NamedValueInfo createNamedValueInfo(MethodParameter parameter) {
+        RequestHeader ann = parameter.getParameterAnnotation(RequestHeader.class);
+        Assert.state(ann != null, "No RequestHeader annotation");
+
+        return new NamedValueInfo(ann.name(), false, ann.defaultValue());
+    }
+
+    @Override
+    @Nullable Object resolveValue(ResolutionPlan plan, MethodParameter parameter, NativeWebRequest request) {
+        String[] headerValues = request.getHeaderValues(plan.name());
+        if (headerValues == null) return null;
+
+        return (headerValues.length == 1 ? headerValues[0] : headerValues);
+    }
+
+}
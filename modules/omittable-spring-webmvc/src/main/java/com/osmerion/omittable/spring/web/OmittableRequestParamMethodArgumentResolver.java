@@ -16,22 +16,134 @@
 package com.osmerion.omittable.spring.web;
 
 import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.CachedOmittables;
+import com.osmerion.omittable.spring.core.convert.OmittableValueConverter;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import com.osmerion.omittable.spring.core.metrics.OmittableMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import org.jspecify.annotations.Nullable;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ValueConstants;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.annotation.AbstractNamedValueMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A {@link HandlerMethodArgumentResolver} that resolves {@link Omittable} {@link RequestParam request parameters}.
  *
+ * <p>By default, the raw parameter values are wrapped as-is and conversion to the declared type is left to the
+ * {@link org.springframework.web.bind.WebDataBinder WebDataBinder}. If a {@link ConversionService} is configured, the
+ * values are converted to the declared type by the resolver directly instead. Values of common types are parsed using
+ * the parsers from a {@link ValueParserRegistry} without going through the conversion service. Values that cannot be
+ * converted are reported as a {@link org.springframework.web.method.annotation.MethodArgumentTypeMismatchException
+ * MethodArgumentTypeMismatchException}, just like conversion failures in the data binder.</p>
+ *
+ * <p>By default, parameters are looked up using {@link NativeWebRequest#getParameterValues(String)}, which includes
+ * form data from the request body. For form-encoded requests, this causes the servlet container to read and parse the
+ * entire body. If {@link #setQueryStringOnly(boolean) query-string-only} resolution is enabled, parameters are looked
+ * up in the URI query string instead, and the request body is never touched.</p>
+ *
+ * <p>Resolutions may be instrumented by {@link #setMetrics(OmittableMetrics) configuring} {@link OmittableMetrics}.
+ * </p>
+ *
  * @since   0.2.0
  *
  * @author  Leon Linhart
  */
 public final class OmittableRequestParamMethodArgumentResolver extends AbstractNamedValueMethodArgumentResolver {
 
+    private static final String CACHE_NAME = "omittable-request-param";
+
+    private final @Nullable ConversionService conversionService;
+
+    private final ValueParserRegistry parserRegistry;
+
+    private final Map<MethodParameter, ResolutionPlan> resolutionPlanCache = new ConcurrentHashMap<>(256);
+
+    private boolean queryStringOnly;
+
+    private @Nullable OmittableMetrics metrics;
+
+    private OmittableMetrics.@Nullable CacheRecorder cacheRecorder;
+
+    /**
+     * Creates a new {@link OmittableRequestParamMethodArgumentResolver} instance that leaves the conversion of
+     * parameter values to the data binder.
+     *
+     * @since   0.2.0
+     */
+    public OmittableRequestParamMethodArgumentResolver() {
+        this(null);
+    }
+
+    /**
+     * Creates a new {@link OmittableRequestParamMethodArgumentResolver} instance.
+     *
+     * @param conversionService the conversion service to use to convert parameter values to the declared type, or
+     *                          {@code null} to leave conversion to the data binder
+     *
+     * @since   2.1.0
+     */
+    public OmittableRequestParamMethodArgumentResolver(@Nullable ConversionService conversionService) {
+        this(conversionService, ValueParserRegistry.getSharedInstance());
+    }
+
+    /**
+     * Creates a new {@link OmittableRequestParamMethodArgumentResolver} instance.
+     *
+     * @param conversionService the conversion service to use to convert parameter values to the declared type, or
+     *                          {@code null} to leave conversion to the data binder
+     * @param parserRegistry    the registry of parsers to use for parsing parameter values if a conversion service is
+     *                          configured
+     *
+     * @since   2.1.0
+     */
+    public OmittableRequestParamMethodArgumentResolver(
+        @Nullable ConversionService conversionService,
+        ValueParserRegistry parserRegistry
+    ) {
+        this.conversionService = conversionService;
+        this.parserRegistry = parserRegistry;
+    }
+
+    /**
+     * Sets whether parameters are resolved from the URI query string only.
+     *
+     * <p>If enabled, form data in the request body is ignored, and the body is never read by this resolver. This
+     * property should be configured before the resolver is used.</p>
+     *
+     * @param queryStringOnly   whether parameters are resolved from the URI query string only
+     *
+     * @since   2.1.0
+     */
+    public void setQueryStringOnly(boolean queryStringOnly) {
+        this.queryStringOnly = queryStringOnly;
+    }
+
+    /**
+     * Sets the metrics to record resolutions and accesses to the resolution plan cache with.
+     *
+     * <p>Resolutions are timed and their outcomes are counted per handler method parameter. This property should be
+     * configured before the resolver is used.</p>
+     *
+     * @param metrics   the metrics to record to, or {@code null} to disable recording
+     *
+     * @since   2.1.0
+     */
+    public void setMetrics(@Nullable OmittableMetrics metrics) {
+        this.metrics = metrics;
+        this.cacheRecorder = (metrics != null) ? metrics.cache(CACHE_NAME) : null;
+
+        /* Cached plans hold recorders of the previous metrics. */
+        this.resolutionPlanCache.clear();
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -61,13 +173,108 @@ public final class OmittableRequestParamMethodArgumentResolver extends AbstractN
      */
     @Override
     protected Object resolveName(String name, MethodParameter parameter, NativeWebRequest request) {
-        String[] paramValues = request.getParameterValues(name);
+        ResolutionPlan plan = getResolutionPlan(name, parameter);
+
+        OmittableMetrics.ResolutionRecorder recorder = plan.recorder;
+        if (recorder == null) return resolve(plan, parameter, request);
+
+        long start = System.nanoTime();
+        try {
+            Omittable<?> result = resolve(plan, parameter, request);
+            recorder.recordSuccess(System.nanoTime() - start, result);
+            return result;
+        } catch (RuntimeException e) {
+            recorder.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    private Omittable<?> resolve(ResolutionPlan plan, MethodParameter parameter, NativeWebRequest request) {
+        String[] paramValues = getParameterValues(request, plan.name);
         if (paramValues == null) {
-            paramValues = request.getParameterValues(name + "[]");
+            paramValues = getParameterValues(request, plan.arrayName);
             if (paramValues == null) return Omittable.absent();
         }
 
-        return Omittable.of(paramValues.length == 1 ? paramValues[0] : paramValues);
+        Object value = paramValues.length == 1 ? paramValues[0] : paramValues;
+        if (plan.converter == null) return CachedOmittables.of(value);
+
+        return NamedValueConversions.convert(plan.converter, value, plan.name, parameter);
+    }
+
+    private String @Nullable [] getParameterValues(NativeWebRequest request, String name) {
+        if (this.queryStringOnly) {
+            HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+            if (servletRequest != null) return QueryStringParameters.getParameterValues(servletRequest.getQueryString(), name);
+        }
+
+        return request.getParameterValues(name);
+    }
+
+    private ResolutionPlan getResolutionPlan(String name, MethodParameter parameter) {
+        OmittableMetrics.CacheRecorder cacheRecorder = this.cacheRecorder;
+        if (cacheRecorder != null) cacheRecorder.recordAccess();
+
+        ResolutionPlan plan = this.resolutionPlanCache.get(parameter);
+        if (plan == null) {
+            if (cacheRecorder != null) cacheRecorder.recordMiss();
+
+            OmittableValueConverter converter = (this.conversionService != null)
+                ? OmittableValueConverter.create(this.conversionService, this.parserRegistry, new TypeDescriptor(parameter))
+                : null;
+
+            OmittableMetrics metrics = this.metrics;
+            OmittableMetrics.ResolutionRecorder recorder = (metrics != null) ? metrics.resolution(parameter, name) : null;
+
+            plan = new ResolutionPlan(name, name + "[]", converter, recorder, new ConcurrentHashMap<>());
+            this.resolutionPlanCache.put(parameter, plan);
+        }
+
+        return plan.withName(name);
+    }
+
+    /**
+     * The information required to resolve a parameter that is computed once per {@link MethodParameter}.
+     *
+     * @param name      the name of the request parameter
+     * @param arrayName the alternative name of the request parameter using the {@code []} suffix convention
+     * @param converter the converter for the parameter values, or {@code null} if conversion is left to the binder
+     * @param recorder  the recorder for resolutions of the parameter, or {@code null} if resolutions are not recorded
+     * @param renamedPlans  the plans of the parameter for other names, shared by all plans of the parameter
+     */
+    private record ResolutionPlan(
+        String name,
+        String arrayName,
+        @Nullable OmittableValueConverter converter,
+        OmittableMetrics.@Nullable ResolutionRecorder recorder,
+        Map<String, ResolutionPlan> renamedPlans
+    ) {
+
+        /* Bounds the number of plans that are retained for names that are evaluated from dynamic expressions. */
+        private static final int MAX_RENAMED_PLANS = 16;
+
+        /**
+         * Returns the plan of the parameter for the given name.
+         *
+         * <p>The name may be resolved from a placeholder or expression that evaluated to a different value than when
+         * the plan was created. Plans for such names are cached as well.</p>
+         *
+         * @param name  the resolved name of the request parameter
+         *
+         * @return  the plan for the given name
+         */
+        ResolutionPlan withName(String name) {
+            if (this.name.equals(name)) return this;
+
+            ResolutionPlan plan = this.renamedPlans.get(name);
+            if (plan != null) return plan;
+
+            plan = new ResolutionPlan(name, name + "[]", this.converter, this.recorder, this.renamedPlans);
+            if (this.renamedPlans.size() < MAX_RENAMED_PLANS) this.renamedPlans.putIfAbsent(name, plan);
+
+            return plan;
+        }
+
     }
 
     private static final class RequestParamNamedValueInfo extends NamedValueInfo {
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.convert.OmittableValueConverter;
+import com.osmerion.omittable.spring.core.convert.ValueParserRegistry;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.servlet.function.ServerRequest;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves {@link Omittable} request parameters of {@link ServerRequest functional endpoints}.
+ *
+ * <p>Parameters are resolved with the same semantics as by the {@link OmittableRequestParamMethodArgumentResolver}: A
+ * parameter that is missing from the request is resolved as {@link Omittable#absent()}. If a parameter is missing, its
+ * name with the {@code []} suffix is tried as well. A single value is converted to the requested type as-is, while
+ * multiple values are converted together (e.g., to a {@code List<T>}). Values are converted using a
+ * {@link ConversionService}, and values of common types are parsed using the parsers from a
+ * {@link ValueParserRegistry} without going through the conversion service.</p>
+ *
+ * <p>The converter for a requested type is created once and cached. The static methods of this class use a shared
+ * instance that is backed by the {@link DefaultConversionService#getSharedInstance() shared conversion service}.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableRequests {
+
+    private static final OmittableRequests SHARED_INSTANCE = new OmittableRequests(DefaultConversionService.getSharedInstance());
+
+    /**
+     * Returns a shared {@link OmittableRequests} instance that is backed by the
+     * {@link DefaultConversionService#getSharedInstance() shared conversion service}.
+     *
+     * @return  the shared instance
+     *
+     * @since   2.1.0
+     */
+    public static OmittableRequests getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * Resolves the request parameter with the given name from the query string of the given request using the
+     * {@link #getSharedInstance() shared instance}.
+     *
+     * @param <T>       the type of the parameter
+     * @param request   the request
+     * @param name      the name of the parameter
+     * @param type      the type to convert the parameter to
+     *
+     * @return  the resolved parameter
+     *
+     * @throws org.springframework.core.convert.ConversionException if the parameter cannot be converted
+     *
+     * @see #getQueryParam(ServerRequest, String, Class)
+     *
+     * @since   2.1.0
+     */
+    public static <T> Omittable<T> queryParam(ServerRequest request, String name, Class<T> type) {
+        return SHARED_INSTANCE.getQueryParam(request, name, type);
+    }
+
+    /**
+     * Resolves the request parameter with the given name from the given request using the
+     * {@link #getSharedInstance() shared instance}.
+     *
+     * @param <T>       the type of the parameter
+     * @param request   the request
+     * @param name      the name of the parameter
+     * @param type      the type to convert the parameter to
+     *
+     * @return  the resolved parameter
+     *
+     * @throws org.springframework.core.convert.ConversionException if the parameter cannot be converted
+     *
+     * @see #getParam(ServerRequest, String, Class)
+     *
+     * @since   2.1.0
+     */
+    public static <T> Omittable<T> param(ServerRequest request, String name, Class<T> type) {
+        return SHARED_INSTANCE.getParam(request, name, type);
+    }
+
+    private final ConversionService conversionService;
+
+    private final ValueParserRegistry parserRegistry;
+
+    private final Map<Class<?>, OmittableValueConverter> convertersByClass = new ConcurrentHashMap<>();
+
+    private final Map<ResolvableType, OmittableValueConverter> convertersByType = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link OmittableRequests} instance.
+     *
+     * @param conversionService the conversion service to use to convert parameter values
+     *
+     * @since   2.1.0
+     */
+    public OmittableRequests(ConversionService conversionService) {
+        this(conversionService, ValueParserRegistry.getSharedInstance());
+    }
+
+    /**
+     * Creates a new {@link OmittableRequests} instance.
+     *
+     * @param conversionService the conversion service to use to convert parameter values
+     * @param parserRegistry    the registry of parsers to use for parsing parameter values
+     *
+     * @since   2.1.0
+     */
+    public OmittableRequests(ConversionService conversionService, ValueParserRegistry parserRegistry) {
+        this.conversionService = conversionService;
+        this.parserRegistry = parserRegistry;
+    }
+
+    /**
+     * Resolves the request parameter with the given name from the query string of the given request.
+     *
+     * <p>Form data in the request body is ignored, and the body is never read.</p>
+     *
+     * @param <T>       the type of the parameter
+     * @param request   the request
+     * @param name      the name of the parameter
+     * @param type      the type to convert the parameter to
+     *
+     * @return  the resolved parameter
+     *
+     * @throws org.springframework.core.convert.ConversionException if the parameter cannot be converted
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Omittable<T> getQueryParam(ServerRequest request, String name, Class<T> type) {
+        return (Omittable<T>) resolve(getQueryParameterValues(request, name), getConverter(type));
+    }
+
+    /**
+     * Resolves the request parameter with the given name from the query string of the given request.
+     *
+     * <p>Form data in the request body is ignored, and the body is never read.</p>
+     *
+     * @param request   the request
+     * @param name      the name of the parameter
+     * @param type      the (generic) type to convert the parameter to
+     *
+     * @return  the resolved parameter
+     *
+     * @throws org.springframework.core.convert.ConversionException if the parameter cannot be converted
+     *
+     * @since   2.1.0
+     */
+    public Omittable<?> getQueryParam(ServerRequest request, String name, ResolvableType type) {
+        return resolve(getQueryParameterValues(request, name), getConverter(type));
+    }
+
+    /**
+     * Resolves the request parameter with the given name from the given request.
+     *
+     * <p>Parameters are looked up using {@link jakarta.servlet.ServletRequest#getParameterValues(String)}, which
+     * includes form data from the request body.</p>
+     *
+     * @param <T>       the type of the parameter
+     * @param request   the request
+     * @param name      the name of the parameter
+     * @param type      the type to convert the parameter to
+     *
+     * @return  the resolved parameter
+     *
+     * @throws org.springframework.core.convert.ConversionException if the parameter cannot be converted
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Omittable<T> getParam(ServerRequest request, String name, Class<T> type) {
+        return (Omittable<T>) resolve(getParameterValues(request, name), getConverter(type));
+    }
+
+    /**
+     * Resolves the request parameter with the given name from the given request.
+     *
+     * <p>Parameters are looked up using {@link jakarta.servlet.ServletRequest#getParameterValues(String)}, which
+     * includes form data from the request body.</p>
+     *
+     * @param request   the request
+     * @param name      the name of the parameter
+     * @param type      the (generic) type to convert the parameter to
+     *
+     * @return  the resolved parameter
+     *
+     * @throws org.springframework.core.convert.ConversionException if the parameter cannot be converted
+     *
+     * @since   2.1.0
+     */
+    public Omittable<?> getParam(ServerRequest request, String name, ResolvableType type) {
+        return resolve(getParameterValues(request, name), getConverter(type));
+    }
+
+    private static String @Nullable [] getQueryParameterValues(ServerRequest request, String name) {
+        String queryString = request.servletRequest().getQueryString();
+
+        String[] values = QueryStringParameters.getParameterValues(queryString, name);
+        return (values != null) ? values : QueryStringParameters.getParameterValues(queryString, name + "[]");
+    }
+
+    private static String @Nullable [] getParameterValues(ServerRequest request, String name) {
+        String[] values = request.servletRequest().getParameterValues(name);
+        return (values != null) ? values : request.servletRequest().getParameterValues(name + "[]");
+    }
+
+    private static Omittable<?> resolve(String @Nullable [] values, OmittableValueConverter converter) {
+        if (values == null) return Omittable.absent();
+        return converter.convert(values.length == 1 ? values[0] : values);
+    }
+
+    private OmittableValueConverter getConverter(Class<?> type) {
+        OmittableValueConverter converter = this.convertersByClass.get(type);
+        if (converter == null) converter = this.convertersByClass.computeIfAbsent(type, key -> createConverter(ResolvableType.forClass(ClassUtils.resolvePrimitiveIfNecessary(key))));
+
+        return converter;
+    }
+
+    private OmittableValueConverter getConverter(ResolvableType type) {
+        OmittableValueConverter converter = this.convertersByType.get(type);
+        if (converter == null) converter = this.convertersByType.computeIfAbsent(type, this::createConverter);
+
+        return converter;
+    }
+
+    private OmittableValueConverter createConverter(ResolvableType type) {
+        TypeDescriptor targetType = new TypeDescriptor(ResolvableType.forClassWithGenerics(Omittable.class, type), Omittable.class, new Annotation[0]);
+        return OmittableValueConverter.create(this.conversionService, this.parserRegistry, targetType);
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import org.jspecify.annotations.Nullable;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Looks up parameters in a raw (i.e. still encoded) URI query string.
+ *
+ * <p>The query string is scanned on every lookup instead of being parsed into a map. Only the names of parameters are
+ * compared, and only the values of matching parameters are extracted and decoded. Names and values are decoded as
+ * {@code application/x-www-form-urlencoded} UTF-8 text. Parameters that cannot be decoded are ignored, consistent with
+ * how servlet containers treat malformed query strings.</p>
+ *
+ * @author  Leon Linhart
+ */
+final class QueryStringParameters {
+
+    /**
+     * Returns the values of the parameter with the given name in the given query string.
+     *
+     * @param queryString   the raw query string, or {@code null}
+     * @param name          the (decoded) name of the parameter
+     *
+     * @return  the decoded values of the parameter, or {@code null} if the query string does not contain the parameter
+     */
+    static String @Nullable [] getParameterValues(@Nullable String queryString, String name) {
+        if (queryString == null || queryString.isEmpty()) return null;
+
+        int count = 0;
+        for (int start = 0; start <= queryString.length(); start = nextPair(queryString, start)) {
+            if (matchesName(queryString, start, name)) count++;
+        }
+
+        if (count == 0) return null;
+
+        String[] values = new String[count];
+        int index = 0;
+
+        for (int start = 0; start <= queryString.length(); start = nextPair(queryString, start)) {
+            if (!matchesName(queryString, start, name)) continue;
+
+            /* Malformed values are ignored. */
+            String value = extractValue(queryString, start);
+            if (value != null) values[index++] = value;
+        }
+
+        if (index == 0) return null;
+        if (index != values.length) values = Arrays.copyOf(values, index);
+
+        return values;
+    }
+
+    private static int nextPair(String queryString, int start) {
+        int end = queryString.indexOf('&', start);
+        return (end == -1) ? queryString.length() + 1 : end + 1;
+    }
+
+    private static int pairEnd(String queryString, int start) {
+        int end = queryString.indexOf('&', start);
+        return (end == -1) ? queryString.length() : end;
+    }
+
+    private static int nameEnd(String queryString, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (queryString.charAt(i) == '=') return i;
+        }
+
+        return end;
+    }
+
+    private static boolean matchesName(String queryString, int start, String name) {
+        int end = pairEnd(queryString, start);
+        int nameEnd = nameEnd(queryString, start, end);
+        if (nameEnd == start) return false;
+
+        boolean encoded = false;
+        for (int i = start; i < nameEnd; i++) {
+            char c = queryString.charAt(i);
+            if (c == '%' || c == '+') {
+                encoded = true;
+                break;
+            }
+        }
+
+        if (!encoded) return (nameEnd - start == name.length()) && queryString.regionMatches(start, name, 0, name.length());
+
+        String decodedName = decode(queryString, start, nameEnd);
+        return name.equals(decodedName);
+    }
+
+    private static @Nullable String extractValue(String queryString, int start) {
+        int end = pairEnd(queryString, start);
+        int nameEnd = nameEnd(queryString, start, end);
+        if (nameEnd == end) return "";
+
+        return decode(queryString, nameEnd + 1, end);
+    }
+
+    private static @Nullable String decode(String queryString, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = queryString.charAt(i);
+
+            if (c == '%' || c == '+') {
+                try {
+                    return URLDecoder.decode(queryString.substring(start, end), StandardCharsets.UTF_8);
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+        }
+
+        return queryString.substring(start, end);
+    }
+
+    private QueryStringParameters() {}
+
+}
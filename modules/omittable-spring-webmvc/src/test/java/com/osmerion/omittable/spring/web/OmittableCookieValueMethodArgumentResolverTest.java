@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmittableCookieValueMethodArgumentResolverTest {
+
+    private OmittableCookieValueMethodArgumentResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new OmittableCookieValueMethodArgumentResolver();
+    }
+
+    @Test
+    @DisplayName("Should support Omittable with @CookieValue")
+    void supportsParameter() throws Exception {
+        assertTrue(resolver.supportsParameter(getParam("testSupported", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNoAnnotation", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testWrongType", String.class)));
+    }
+
+    @Test
+    @DisplayName("Should return Omittable.absent() when cookie is missing")
+    void resolveAbsent() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+
+        assertEquals(Omittable.absent(), resolver.resolveName("session", param, new ServletWebRequest(new MockHttpServletRequest())));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("other", "abc"));
+        assertEquals(Omittable.absent(), resolver.resolveName("session", param, new ServletWebRequest(request)));
+    }
+
+    @Test
+    @DisplayName("Should resolve the decoded cookie value")
+    void resolveValue() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("other", "abc"), new Cookie("session", "a%20b"));
+
+        assertEquals(Omittable.of("a b"), resolver.resolveName("session", param, new ServletWebRequest(request)));
+    }
+
+    @Test
+    @DisplayName("Should resolve the cookie itself if the declared type is Cookie")
+    void resolveCookie() throws Exception {
+        MethodParameter param = getParam("testCookie", Omittable.class);
+        Cookie cookie = new Cookie("session", "abc");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookie);
+
+        assertEquals(Omittable.of(cookie), resolver.resolveName("session", param, new ServletWebRequest(request)));
+    }
+
+    @Test
+    @DisplayName("Should convert values when a ConversionService is configured")
+    void resolveConverted() throws Exception {
+        OmittableCookieValueMethodArgumentResolver resolver = new OmittableCookieValueMethodArgumentResolver(DefaultConversionService.getSharedInstance());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("visits", "42"));
+
+        assertEquals(Omittable.of(42), resolver.resolveName("visits", getParam("testInteger", Omittable.class), new ServletWebRequest(request)));
+    }
+
+    // --- Helpers ---
+
+    private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
+        Method method = TestController.class.getDeclaredMethod(methodName, types);
+        return new MethodParameter(method, 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestController {
+        void testSupported(@CookieValue("session") Omittable<String> session) {}
+        void testNoAnnotation(Omittable<String> session) {}
+        void testWrongType(@CookieValue("session") String session) {}
+        void testCookie(@CookieValue("session") Omittable<Cookie> session) {}
+        void testInteger(@CookieValue("visits") Omittable<Integer> visits) {}
+    }
+
+}
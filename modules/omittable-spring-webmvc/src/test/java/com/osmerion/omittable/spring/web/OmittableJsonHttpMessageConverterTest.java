@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.json.OmittableJsonBinder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmittableJsonHttpMessageConverterTest {
+
+    private final OmittableJsonHttpMessageConverter converter = new OmittableJsonHttpMessageConverter(
+        new OmittableJsonBinder(new DefaultConversionService())
+    );
+
+    record UserPatch(Omittable<String> name, Omittable<Long> age) {}
+
+    record User(String name) {}
+
+    @Test
+    @DisplayName("Should only read classes with Omittable properties")
+    void canRead() {
+        assertTrue(converter.canRead(UserPatch.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canRead(UserPatch.class, OmittableJsonHttpMessageConverter.APPLICATION_MERGE_PATCH_JSON));
+        assertTrue(converter.canRead(UserPatch.class, MediaType.valueOf("application/vnd.api+json")));
+        assertTrue(converter.canRead(UserPatch.class, null));
+        assertFalse(converter.canRead(UserPatch.class, MediaType.APPLICATION_XML));
+        assertFalse(converter.canRead(User.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(UserPatch.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should distinguish missing properties from explicit nulls")
+    void read() throws Exception {
+        assertEquals(new UserPatch(Omittable.absent(), Omittable.of(null)), read("{\"age\":null}"));
+        assertEquals(new UserPatch(Omittable.of("Jane"), Omittable.of(42L)), read("{\"name\":\"Jane\",\"age\":\"42\"}"));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed bodies")
+    void readMalformed() {
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"name\":"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"age\":\"not a number\"}"));
+    }
+
+    private Object read(String body) throws Exception {
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+        inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        return converter.read(UserPatch.class, inputMessage);
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.ServletRequestBindingException;
+import org.springframework.web.bind.annotation.MatrixVariable;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmittableMatrixVariableMethodArgumentResolverTest {
+
+    private OmittableMatrixVariableMethodArgumentResolver resolver;
+
+    private MockHttpServletRequest request;
+
+    private Map<String, MultiValueMap<String, String>> matrixVariables;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new OmittableMatrixVariableMethodArgumentResolver();
+        request = new MockHttpServletRequest();
+        matrixVariables = new LinkedHashMap<>();
+        request.setAttribute(HandlerMapping.MATRIX_VARIABLES_ATTRIBUTE, matrixVariables);
+    }
+
+    @Test
+    @DisplayName("Should support Omittable with @MatrixVariable")
+    void supportsParameter() throws Exception {
+        assertTrue(resolver.supportsParameter(getParam("testSupported", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNoAnnotation", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testWrongType", String.class)));
+    }
+
+    @Test
+    @DisplayName("Should return Omittable.absent() when the matrix variable is missing")
+    void resolveAbsent() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+
+        assertEquals(Omittable.absent(), resolver.resolveName("color", param, new ServletWebRequest(new MockHttpServletRequest())));
+        assertEquals(Omittable.absent(), resolver.resolveName("color", param, new ServletWebRequest(request)));
+
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("year", List.of("2012"))));
+        assertEquals(Omittable.absent(), resolver.resolveName("color", param, new ServletWebRequest(request)));
+    }
+
+    @Test
+    @DisplayName("Should resolve single and multiple values from any path segment")
+    void resolveValues() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("color", List.of("red"))));
+
+        assertEquals(Omittable.of("red"), resolver.resolveName("color", param, new ServletWebRequest(request)));
+
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("color", List.of("red", "blue"))));
+        assertEquals(Omittable.of(List.of("red", "blue")), resolver.resolveName("color", param, new ServletWebRequest(request)));
+    }
+
+    @Test
+    @DisplayName("Should resolve values from the configured path variable")
+    void resolvePathVar() throws Exception {
+        MethodParameter param = getParam("testPathVar", Omittable.class);
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("color", List.of("red"))));
+
+        assertEquals(Omittable.absent(), resolver.resolveName("color", param, new ServletWebRequest(request)));
+
+        matrixVariables.put("bikes", new LinkedMultiValueMap<>(Map.of("color", List.of("blue"))));
+        assertEquals(Omittable.of("blue"), resolver.resolveName("color", param, new ServletWebRequest(request)));
+    }
+
+    @Test
+    @DisplayName("Should reject ambiguous matrix variables")
+    void resolveAmbiguous() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("color", List.of("red"))));
+        matrixVariables.put("bikes", new LinkedMultiValueMap<>(Map.of("color", List.of("blue"))));
+
+        ServletRequestBindingException e = assertThrows(ServletRequestBindingException.class, () -> resolver.resolveName("color", param, new ServletWebRequest(request)));
+        assertTrue(e.getMessage().contains("URI path parameter 'color'"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should not reject matrix variables that are disambiguated by the path variable")
+    void resolveAmbiguousPathVar() throws Exception {
+        MethodParameter param = getParam("testPathVar", Omittable.class);
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("color", List.of("red"))));
+        matrixVariables.put("bikes", new LinkedMultiValueMap<>(Map.of("color", List.of("blue"))));
+
+        assertEquals(Omittable.of("blue"), resolver.resolveName("color", param, new ServletWebRequest(request)));
+    }
+
+    @Test
+    @DisplayName("Should convert values when a ConversionService is configured")
+    void resolveConverted() throws Exception {
+        OmittableMatrixVariableMethodArgumentResolver resolver = new OmittableMatrixVariableMethodArgumentResolver(DefaultConversionService.getSharedInstance());
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("year", List.of("2012", "2013"))));
+
+        assertEquals(Omittable.of(List.of(2012, 2013)), resolver.resolveName("year", getParam("testList", Omittable.class), new ServletWebRequest(request)));
+    }
+
+    @Test
+    @DisplayName("Should report values that cannot be converted as type mismatches")
+    void resolveInvalid() throws Exception {
+        OmittableMatrixVariableMethodArgumentResolver resolver = new OmittableMatrixVariableMethodArgumentResolver(DefaultConversionService.getSharedInstance());
+        matrixVariables.put("cars", new LinkedMultiValueMap<>(Map.of("year", List.of("abc"))));
+
+        MethodArgumentTypeMismatchException e = assertThrows(MethodArgumentTypeMismatchException.class, () -> resolver.resolveName("year", getParam("testList", Omittable.class), new ServletWebRequest(request)));
+        assertEquals("year", e.getName());
+    }
+
+    // --- Helpers ---
+
+    private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
+        Method method = TestController.class.getDeclaredMethod(methodName, types);
+        return new MethodParameter(method, 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestController {
+        void testSupported(@MatrixVariable("color") Omittable<String> color) {}
+        void testNoAnnotation(Omittable<String> color) {}
+        void testWrongType(@MatrixVariable("color") String color) {}
+        void testPathVar(@MatrixVariable(name = "color", pathVar = "bikes") Omittable<String> color) {}
+        void testList(@MatrixVariable("year") Omittable<List<Integer>> year) {}
+    }
+
+}
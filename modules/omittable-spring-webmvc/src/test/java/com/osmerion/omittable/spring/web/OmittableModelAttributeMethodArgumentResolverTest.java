@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.Validator;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OmittableModelAttributeMethodArgumentResolverTest {
+
+    private final OmittableModelAttributeMethodArgumentResolver resolver = new OmittableModelAttributeMethodArgumentResolver(DefaultConversionService.getSharedInstance());
+
+    private final WebDataBinderFactory binderFactory = (webRequest, target, objectName) -> {
+        WebDataBinder binder = new WebDataBinder(target, objectName);
+        binder.setValidator(new NameValidator());
+        return binder;
+    };
+
+    public record UserFilter(Omittable<String> name, Omittable<Long> age, Omittable<List<Long>> groups) {}
+
+    public record User(String name) {}
+
+    @Test
+    @DisplayName("Should support model attributes with Omittable properties")
+    void supportsParameter() throws Exception {
+        assertTrue(resolver.supportsParameter(getParam("testAnnotated", UserFilter.class)));
+        assertTrue(resolver.supportsParameter(getParam("testNoAnnotation", UserFilter.class)));
+        assertFalse(resolver.supportsParameter(getParam("testRequestBody", UserFilter.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNoOmittables", User.class)));
+        assertFalse(resolver.supportsParameter(getParam("testOmittable", Omittable.class)));
+    }
+
+    @Test
+    @DisplayName("Should bind missing parameters as Omittable.absent()")
+    void resolveAbsent() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("name", "Jane");
+
+        Object result = resolve("testAnnotated", request, null);
+
+        assertEquals(new UserFilter(Omittable.of("Jane"), Omittable.absent(), Omittable.absent()), result);
+    }
+
+    @Test
+    @DisplayName("Should convert present parameters")
+    void resolveConverted() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("age", "42");
+        request.addParameter("groups[]", "1", "2");
+
+        Object result = resolve("testAnnotated", request, null);
+
+        assertEquals(new UserFilter(Omittable.absent(), Omittable.of(42L), Omittable.of(List.of(1L, 2L))), result);
+    }
+
+    @Test
+    @DisplayName("Should report conversion failures as field errors")
+    void resolveConversionFailure() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("age", "not a number");
+
+        MethodArgumentNotValidException e = assertThrows(MethodArgumentNotValidException.class, () -> resolve("testAnnotated", request, null));
+
+        FieldError error = e.getBindingResult().getFieldError("age");
+        assertNotNull(error);
+        assertEquals("typeMismatch", error.getCode());
+        assertEquals("not a number", error.getRejectedValue());
+    }
+
+    @Test
+    @DisplayName("Should validate @Valid model attributes")
+    void resolveValid() throws Exception {
+        MockHttpServletRequest invalid = new MockHttpServletRequest();
+        invalid.addParameter("name", "");
+
+        MethodArgumentNotValidException e = assertThrows(MethodArgumentNotValidException.class, () -> resolve("testValid", invalid, null));
+        assertEquals("blank", e.getBindingResult().getGlobalError().getCode());
+
+        MockHttpServletRequest valid = new MockHttpServletRequest();
+        valid.addParameter("name", "Jane");
+
+        assertEquals(new UserFilter(Omittable.of("Jane"), Omittable.absent(), Omittable.absent()), resolve("testValid", valid, null));
+        assertEquals(new UserFilter(Omittable.of(""), Omittable.absent(), Omittable.absent()), resolve("testAnnotated", invalid, null));
+    }
+
+    @Test
+    @DisplayName("Should add errors to a BindingResult parameter instead of throwing")
+    void resolveBindingResult() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("name", "");
+        request.addParameter("age", "not a number");
+
+        ModelAndViewContainer mavContainer = new ModelAndViewContainer();
+        Object result = resolve("testBindingResult", request, mavContainer);
+
+        assertEquals(new UserFilter(Omittable.of(""), Omittable.absent(), Omittable.absent()), result);
+
+        BindingResult bindingResult = (BindingResult) mavContainer.getModel().get(BindingResult.MODEL_KEY_PREFIX + "filter");
+        assertNotNull(bindingResult);
+        assertSame(result, bindingResult.getTarget());
+        assertEquals(2, bindingResult.getErrorCount());
+        assertEquals("typeMismatch", bindingResult.getFieldError("age").getCode());
+        assertEquals("blank", bindingResult.getGlobalError().getCode());
+    }
+
+    @Test
+    @DisplayName("Should add the bound object to the model")
+    void resolveModel() throws Exception {
+        ModelAndViewContainer mavContainer = new ModelAndViewContainer();
+
+        Object named = resolve("testAnnotated", new MockHttpServletRequest(), mavContainer);
+        Object unnamed = resolve("testNoAnnotation", new MockHttpServletRequest(), mavContainer);
+
+        assertSame(named, mavContainer.getModel().get("filter"));
+        assertSame(unnamed, mavContainer.getModel().get("userFilter"));
+    }
+
+    @Test
+    @DisplayName("Should not read the request body in query-string-only mode")
+    void resolveQueryStringOnly() throws Exception {
+        resolver.setQueryStringOnly(true);
+
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getQueryString()).thenReturn("name=Jane&age=");
+
+        Object result = resolver.resolveArgument(getParam("testAnnotated", UserFilter.class), null, new ServletWebRequest(request), null);
+
+        assertEquals(new UserFilter(Omittable.of("Jane"), Omittable.of(null), Omittable.absent()), result);
+        verify(request, never()).getParameterValues(any());
+        verify(request, never()).getParameterMap();
+    }
+
+    // --- Helpers ---
+
+    private Object resolve(String methodName, MockHttpServletRequest request, ModelAndViewContainer mavContainer) throws Exception {
+        Method method = ReflectionUtils.findMethod(TestController.class, methodName, (Class<?>[]) null);
+        return resolver.resolveArgument(new MethodParameter(method, 0), mavContainer, new ServletWebRequest(request), binderFactory);
+    }
+
+    private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
+        Method method = TestController.class.getDeclaredMethod(methodName, types);
+        return new MethodParameter(method, 0);
+    }
+
+    /** Rejects filters with a blank name. */
+    private static final class NameValidator implements Validator {
+
+        @Override
+        public boolean supports(Class<?> type) {
+            return type == UserFilter.class;
+        }
+
+        @Override
+        public void validate(Object target, Errors errors) {
+            if (((UserFilter) target).name() instanceof Omittable.Present<String> name && name.value().isBlank()) {
+                errors.reject("blank");
+            }
+        }
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestController {
+        void testAnnotated(@ModelAttribute("filter") UserFilter filter) {}
+        void testValid(@Valid @ModelAttribute("filter") UserFilter filter) {}
+        void testBindingResult(@Validated @ModelAttribute("filter") UserFilter filter, BindingResult result) {}
+        void testNoAnnotation(UserFilter filter) {}
+        void testRequestBody(@RequestBody UserFilter filter) {}
+        void testNoOmittables(User user) {}
+        void testOmittable(Omittable<String> name) {}
+    }
+
+}
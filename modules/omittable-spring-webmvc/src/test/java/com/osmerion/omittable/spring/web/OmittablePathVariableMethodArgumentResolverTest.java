@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmittablePathVariableMethodArgumentResolverTest {
+
+    private OmittablePathVariableMethodArgumentResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new OmittablePathVariableMethodArgumentResolver();
+    }
+
+    @Test
+    @DisplayName("Should support Omittable with @PathVariable")
+    void supportsParameter() throws Exception {
+        assertTrue(resolver.supportsParameter(getParam("testSupported", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNoAnnotation", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testWrongType", String.class)));
+    }
+
+    @Test
+    @DisplayName("Should return Omittable.absent() when the pattern does not declare the variable")
+    void resolveAbsent() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+
+        assertEquals(Omittable.absent(), resolver.resolveName("id", param, new ServletWebRequest(new MockHttpServletRequest())));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("other", "abc"));
+        assertEquals(Omittable.absent(), resolver.resolveName("id", param, new ServletWebRequest(request)));
+    }
+
+    @Test
+    @DisplayName("Should resolve the URI template variable")
+    void resolveValue() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "abc"));
+
+        assertEquals(Omittable.of("abc"), resolver.resolveName("id", param, new ServletWebRequest(request)));
+    }
+
+    @Test
+    @DisplayName("Should convert values when a ConversionService is configured")
+    void resolveConverted() throws Exception {
+        OmittablePathVariableMethodArgumentResolver resolver = new OmittablePathVariableMethodArgumentResolver(DefaultConversionService.getSharedInstance());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "123"));
+
+        assertEquals(Omittable.of(123L), resolver.resolveName("id", getParam("testLong", Omittable.class), new ServletWebRequest(request)));
+    }
+
+    @Test
+    @DisplayName("Should report values that cannot be converted as type mismatches")
+    void resolveInvalid() throws Exception {
+        OmittablePathVariableMethodArgumentResolver resolver = new OmittablePathVariableMethodArgumentResolver(DefaultConversionService.getSharedInstance());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "abc"));
+
+        MethodArgumentTypeMismatchException e = assertThrows(MethodArgumentTypeMismatchException.class, () -> resolver.resolveName("id", getParam("testLong", Omittable.class), new ServletWebRequest(request)));
+        assertEquals("id", e.getName());
+        assertEquals("abc", e.getValue());
+    }
+
+    // --- Helpers ---
+
+    private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
+        Method method = TestController.class.getDeclaredMethod(methodName, types);
+        return new MethodParameter(method, 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestController {
+        void testSupported(@PathVariable("id") Omittable<String> id) {}
+        void testNoAnnotation(Omittable<String> id) {}
+        void testWrongType(@PathVariable("id") String id) {}
+        void testLong(@PathVariable("id") Omittable<Long> id) {}
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.metrics.MicrometerOmittableMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OmittableRequestHeaderMethodArgumentResolverTest {
+
+    private OmittableRequestHeaderMethodArgumentResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new OmittableRequestHeaderMethodArgumentResolver();
+    }
+
+    @Test
+    @DisplayName("Should support Omittable with @RequestHeader")
+    void supportsParameter() throws Exception {
+        assertTrue(resolver.supportsParameter(getParam("testSupported", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testNoAnnotation", Omittable.class)));
+        assertFalse(resolver.supportsParameter(getParam("testWrongType", String.class)));
+    }
+
+    @Test
+    @DisplayName("Should return Omittable.absent() when header is missing")
+    void resolveAbsent() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+        ServletWebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest());
+
+        assertEquals(Omittable.absent(), resolver.resolveName("X-Trace", param, webRequest));
+    }
+
+    @Test
+    @DisplayName("Should resolve single and multiple header values")
+    void resolveValues() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Trace", "abc");
+        assertEquals(Omittable.of("abc"), resolver.resolveName("X-Trace", param, new ServletWebRequest(request)));
+
+        MockHttpServletRequest multiRequest = new MockHttpServletRequest();
+        multiRequest.addHeader("X-Trace", "abc");
+        multiRequest.addHeader("X-Trace", "def");
+        Object result = resolver.resolveName("X-Trace", param, new ServletWebRequest(multiRequest));
+        assertArrayEquals(new String[]{"abc", "def"}, (String[]) ((Omittable<?>) result).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should only look up the requested header")
+    void resolveWithoutHeaderNames() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getHeaders("X-Trace")).thenReturn(Collections.enumeration(List.of("abc")));
+
+        assertEquals(Omittable.of("abc"), resolver.resolveName("X-Trace", param, new ServletWebRequest(request)));
+        verify(request, never()).getHeaderNames();
+    }
+
+    @Test
+    @DisplayName("Should convert values when a ConversionService is configured")
+    void resolveConverted() throws Exception {
+        OmittableRequestHeaderMethodArgumentResolver resolver = new OmittableRequestHeaderMethodArgumentResolver(DefaultConversionService.getSharedInstance());
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Version", "3");
+        assertEquals(Omittable.of(3L), resolver.resolveName("X-Version", getParam("testLong", Omittable.class), new ServletWebRequest(request)));
+
+        MockHttpServletRequest listRequest = new MockHttpServletRequest();
+        listRequest.addHeader("X-Version", "3");
+        listRequest.addHeader("X-Version", "4");
+        assertEquals(Omittable.of(List.of(3L, 4L)), resolver.resolveName("X-Version", getParam("testList", Omittable.class), new ServletWebRequest(listRequest)));
+    }
+
+    @Test
+    @DisplayName("Should record resolutions when metrics are configured")
+    void resolveRecordsMetrics() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        OmittableRequestHeaderMethodArgumentResolver resolver = new OmittableRequestHeaderMethodArgumentResolver(DefaultConversionService.getSharedInstance());
+        resolver.setMetrics(new MicrometerOmittableMetrics(registry));
+        MethodParameter param = getParam("testLong", Omittable.class);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Version", "3");
+        resolver.resolveName("X-Version", param, new ServletWebRequest(request));
+        resolver.resolveName("X-Version", param, new ServletWebRequest(new MockHttpServletRequest()));
+
+        MockHttpServletRequest invalidRequest = new MockHttpServletRequest();
+        invalidRequest.addHeader("X-Version", "invalid");
+        assertThrows(MethodArgumentTypeMismatchException.class, () -> resolver.resolveName("X-Version", param, new ServletWebRequest(invalidRequest)));
+
+        assertEquals(3, registry.get(MicrometerOmittableMetrics.RESOLUTION_TIMER).tag("parameter", "X-Version").timer().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_OUTCOME_COUNTER).tag("outcome", "present").counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_OUTCOME_COUNTER).tag("outcome", "absent").counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_FAILURE_COUNTER).counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.CACHE_MISS_COUNTER).tag("cache", "omittable-request-header").functionCounter().count());
+    }
+
+    // --- Helpers ---
+
+    private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
+        Method method = TestController.class.getDeclaredMethod(methodName, types);
+        return new MethodParameter(method, 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestController {
+        void testSupported(@RequestHeader("X-Trace") Omittable<String> trace) {}
+        void testNoAnnotation(Omittable<String> trace) {}
+        void testWrongType(@RequestHeader("X-Trace") String trace) {}
+        void testLong(@RequestHeader("X-Version") Omittable<Long> version) {}
+        void testList(@RequestHeader("X-Version") Omittable<List<Long>> version) {}
+    }
+
+}
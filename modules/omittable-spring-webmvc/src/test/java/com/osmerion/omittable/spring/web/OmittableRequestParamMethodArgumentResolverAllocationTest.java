@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.test.AllocationBudget;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static com.osmerion.omittable.spring.core.test.AllocationBudget.*;
+
+/**
+ * Allocation budgets for {@link OmittableRequestParamMethodArgumentResolver}.
+ *
+ * <p>The budgets reflect the allocations that are inherent to each case (e.g., the converted value and the
+ * {@link Omittable} wrapping it) on HotSpot with the C2 compiler. If a change exceeds a budget, the additional
+ * allocations should be avoided rather than the budget increased.</p>
+ *
+ * @author  Leon Linhart
+ */
+@Tag(AllocationBudget.TAG)
+class OmittableRequestParamMethodArgumentResolverAllocationTest {
+
+    private final OmittableRequestParamMethodArgumentResolver resolver = new OmittableRequestParamMethodArgumentResolver(new DefaultConversionService());
+
+    @Test
+    void resolveAbsent() throws Exception {
+        MethodParameter param = getParam("testLong");
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+
+        assertAllocationFree("absent resolution", () -> this.resolver.resolveName("userId", param, request));
+    }
+
+    @Test
+    void resolveRenamed() throws Exception {
+        MethodParameter param = getParam("testLong");
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+        this.resolver.resolveName("userId", param, request);
+
+        /* The name may differ from the one that the plan was created for (e.g., if it is resolved from a placeholder). */
+        assertAllocationFree("renamed absent resolution", () -> this.resolver.resolveName("otherId", param, request));
+    }
+
+    @Test
+    void resolveSameType() throws Exception {
+        OmittableRequestParamMethodArgumentResolver resolver = new OmittableRequestParamMethodArgumentResolver();
+        MethodParameter param = getParam("testString");
+        ServletWebRequest request = requestWithParameter("userId", "123456");
+
+        /* The Omittable. */
+        assertAllocatesAtMost("same-type resolution", 16, () -> resolver.resolveName("userId", param, request));
+    }
+
+    @Test
+    void resolveConverted() throws Exception {
+        MethodParameter param = getParam("testLong");
+        ServletWebRequest request = requestWithParameter("userId", "123456");
+
+        /* The Long and the Omittable. */
+        assertAllocatesAtMost("converting resolution", 40, () -> this.resolver.resolveName("userId", param, request));
+    }
+
+    @Test
+    void resolveMultiValue() throws Exception {
+        MethodParameter param = getParam("testList");
+        ServletWebRequest request = requestWithParameter("userId", "1", "2", "3");
+
+        /* The list and its backing array, and the Omittable. Small Long values are cached. */
+        assertAllocatesAtMost("multi-value resolution", 72, () -> this.resolver.resolveName("userId", param, request));
+    }
+
+    private static ServletWebRequest requestWithParameter(String name, String... values) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter(name, values);
+        return new ServletWebRequest(request);
+    }
+
+    private static MethodParameter getParam(String methodName) throws NoSuchMethodException {
+        return new MethodParameter(TestController.class.getDeclaredMethod(methodName, Omittable.class), 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestController {
+        void testString(@RequestParam(name = "userId") Omittable<String> userId) {}
+        void testLong(@RequestParam(name = "userId") Omittable<Long> userId) {}
+        void testList(@RequestParam(name = "userId") Omittable<List<Long>> userId) {}
+    }
+
+}
@@ -16,17 +16,25 @@
 package com.osmerion.omittable.spring.web;
 
 import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.core.metrics.MicrometerOmittableMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 class OmittableRequestParamMethodArgumentResolverTest {
 
@@ -103,6 +111,126 @@ class OmittableRequestParamMethodArgumentResolverTest {
         assertEquals(Omittable.of("abc"), result);
     }
 
+    @Test
+    @DisplayName("Should convert values when a ConversionService is configured")
+    void resolveConverted() throws Exception {
+        OmittableRequestParamMethodArgumentResolver resolver = new OmittableRequestParamMethodArgumentResolver(DefaultConversionService.getSharedInstance());
+        MethodParameter param = getParam("testLong", Omittable.class);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("userId", "123");
+        assertEquals(Omittable.of(123L), resolver.resolveName("userId", param, new ServletWebRequest(request)));
+
+        MockHttpServletRequest arrayRequest = new MockHttpServletRequest();
+        arrayRequest.addParameter("userId[]", "456");
+        assertEquals(Omittable.of(456L), resolver.resolveName("userId", param, new ServletWebRequest(arrayRequest)));
+
+        assertEquals(Omittable.absent(), resolver.resolveName("userId", param, new ServletWebRequest(new MockHttpServletRequest())));
+    }
+
+    @Test
+    @DisplayName("Should convert multiple values to a List when a ConversionService is configured")
+    void resolveConvertedList() throws Exception {
+        OmittableRequestParamMethodArgumentResolver resolver = new OmittableRequestParamMethodArgumentResolver(DefaultConversionService.getSharedInstance());
+        MethodParameter param = getParam("testList", Omittable.class);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("userId[]", "123", "456");
+        assertEquals(Omittable.of(List.of(123L, 456L)), resolver.resolveName("userId", param, new ServletWebRequest(request)));
+
+        MockHttpServletRequest csvRequest = new MockHttpServletRequest();
+        csvRequest.addParameter("userId", "123,456");
+        assertEquals(Omittable.of(List.of(123L, 456L)), resolver.resolveName("userId", param, new ServletWebRequest(csvRequest)));
+    }
+
+    @Test
+    @DisplayName("Should report values that cannot be converted as a type mismatch")
+    void resolveInvalid() throws Exception {
+        OmittableRequestParamMethodArgumentResolver resolver = new OmittableRequestParamMethodArgumentResolver(DefaultConversionService.getSharedInstance());
+        MethodParameter param = getParam("testLong", Omittable.class);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("userId", "abc");
+
+        MethodArgumentTypeMismatchException e = assertThrows(MethodArgumentTypeMismatchException.class, () -> resolver.resolveName("userId", param, new ServletWebRequest(request)));
+        assertEquals("userId", e.getName());
+        assertEquals("abc", e.getValue());
+        assertEquals(param, e.getParameter());
+
+        MockHttpServletRequest listRequest = new MockHttpServletRequest();
+        listRequest.addParameter("userId", "123", "abc");
+        MethodParameter listParam = getParam("testList", Omittable.class);
+        assertThrows(MethodArgumentTypeMismatchException.class, () -> resolver.resolveName("userId", listParam, new ServletWebRequest(listRequest)));
+    }
+
+    @Test
+    @DisplayName("Should honor a name that differs from the cached one")
+    void resolveDifferentName() throws Exception {
+        MethodParameter param = getParam("testSupported", Omittable.class);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("userId", "123");
+        request.addParameter("otherId[]", "456");
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+
+        assertEquals(Omittable.of("123"), resolver.resolveName("userId", param, webRequest));
+        assertEquals(Omittable.of("456"), resolver.resolveName("otherId", param, webRequest));
+    }
+
+    @Test
+    @DisplayName("Should only resolve from the query string if enabled")
+    void resolveQueryStringOnly() throws Exception {
+        resolver.setQueryStringOnly(true);
+        MethodParameter param = getParam("testSupported", Omittable.class);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+        request.setQueryString("userId[]=123");
+        request.addParameter("userId", "456");
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+
+        assertEquals(Omittable.of("123"), resolver.resolveName("userId", param, webRequest));
+    }
+
+    @Test
+    @DisplayName("Should not touch the request body if query-string-only resolution is enabled")
+    void resolveQueryStringOnlyWithoutBody() throws Exception {
+        resolver.setQueryStringOnly(true);
+        MethodParameter param = getParam("testSupported", Omittable.class);
+
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getQueryString()).thenReturn("other=1");
+
+        assertEquals(Omittable.absent(), resolver.resolveName("userId", param, new ServletWebRequest(request)));
+        verify(request, never()).getParameterValues(any());
+        verify(request, never()).getParameterMap();
+        verify(request, never()).getInputStream();
+        verify(request, never()).getReader();
+    }
+
+    @Test
+    @DisplayName("Should record resolutions when metrics are configured")
+    void resolveRecordsMetrics() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        OmittableRequestParamMethodArgumentResolver resolver = new OmittableRequestParamMethodArgumentResolver(DefaultConversionService.getSharedInstance());
+        resolver.setMetrics(new MicrometerOmittableMetrics(registry));
+        MethodParameter param = getParam("testLong", Omittable.class);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("userId", "123");
+        resolver.resolveName("userId", param, new ServletWebRequest(request));
+        resolver.resolveName("userId", param, new ServletWebRequest(new MockHttpServletRequest()));
+
+        MockHttpServletRequest invalidRequest = new MockHttpServletRequest();
+        invalidRequest.addParameter("userId", "invalid");
+        assertThrows(MethodArgumentTypeMismatchException.class, () -> resolver.resolveName("userId", param, new ServletWebRequest(invalidRequest)));
+
+        assertEquals(3, registry.get(MicrometerOmittableMetrics.RESOLUTION_TIMER).tag("parameter", "userId").timer().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_OUTCOME_COUNTER).tag("outcome", "present").counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_OUTCOME_COUNTER).tag("outcome", "absent").counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.RESOLUTION_FAILURE_COUNTER).counter().count());
+        assertEquals(1, registry.get(MicrometerOmittableMetrics.CACHE_MISS_COUNTER).functionCounter().count());
+        assertEquals(3, registry.get(MicrometerOmittableMetrics.CACHE_ACCESS_COUNTER).functionCounter().count());
+    }
+
     // --- Helpers ---
 
     private MethodParameter getParam(String methodName, Class<?>... types) throws NoSuchMethodException {
@@ -115,6 +243,8 @@ class OmittableRequestParamMethodArgumentResolverTest {
         void testSupported(@RequestParam(name = "userId") Omittable<String> userId) {}
         void testNoAnnotation(Omittable<String> userId) {}
         void testWrongType(@RequestParam String userId) {}
+        void testLong(@RequestParam(name = "userId") Omittable<Long> userId) {}
+        void testList(@RequestParam(name = "userId") Omittable<List<Long>> userId) {}
     }
 
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.function.ServerRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmittableRequestsTest {
+
+    @Test
+    @DisplayName("Should resolve query parameters with the semantics of the argument resolver")
+    void queryParam() {
+        ServerRequest request = request("id=42&tags[]=1&tags[]=2&name=");
+
+        assertEquals(Omittable.of(42L), OmittableRequests.queryParam(request, "id", Long.class));
+        assertEquals(Omittable.of(42L), OmittableRequests.queryParam(request, "id", long.class));
+        assertEquals(Omittable.of(""), OmittableRequests.queryParam(request, "name", String.class));
+        assertEquals(Omittable.absent(), OmittableRequests.queryParam(request, "missing", Long.class));
+        assertEquals(
+            Omittable.of(List.of(1L, 2L)),
+            OmittableRequests.getSharedInstance().getQueryParam(request, "tags", ResolvableType.forClassWithGenerics(List.class, Long.class))
+        );
+    }
+
+    @Test
+    @DisplayName("Should ignore form data when resolving query parameters")
+    void queryParamIgnoresFormData() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/");
+        servletRequest.addParameter("id", "42");
+
+        ServerRequest request = ServerRequest.create(servletRequest, List.of());
+
+        assertEquals(Omittable.absent(), OmittableRequests.queryParam(request, "id", Long.class));
+        assertEquals(Omittable.of(42L), OmittableRequests.param(request, "id", Long.class));
+    }
+
+    @Test
+    @DisplayName("Should convert values using the configured conversion service")
+    void customConversionService() {
+        DefaultConversionService conversionService = new DefaultConversionService();
+        conversionService.addConverter(String.class, StringBuilder.class, StringBuilder::new);
+
+        OmittableRequests requests = new OmittableRequests(conversionService);
+        Omittable<StringBuilder> result = requests.getQueryParam(request("name=Jane"), "name", StringBuilder.class);
+
+        assertEquals("Jane", result.orElseThrow().toString());
+    }
+
+    @Test
+    @DisplayName("Should propagate conversion failures")
+    void queryParamConversionFailure() {
+        assertThrows(ConversionFailedException.class, () -> OmittableRequests.queryParam(request("id=abc"), "id", Long.class));
+    }
+
+    private static ServerRequest request(String queryString) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/");
+        servletRequest.setQueryString(queryString);
+
+        return ServerRequest.create(servletRequest, List.of());
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryStringParametersTest {
+
+    @Test
+    @DisplayName("Should return null for missing parameters")
+    void missing() {
+        assertNull(QueryStringParameters.getParameterValues(null, "userId"));
+        assertNull(QueryStringParameters.getParameterValues("", "userId"));
+        assertNull(QueryStringParameters.getParameterValues("user=1&userIds=2&userI=3", "userId"));
+    }
+
+    @Test
+    @DisplayName("Should return all values of a parameter in order")
+    void values() {
+        assertArrayEquals(new String[] { "1" }, QueryStringParameters.getParameterValues("userId=1", "userId"));
+        assertArrayEquals(new String[] { "1", "3" }, QueryStringParameters.getParameterValues("userId=1&other=2&userId=3", "userId"));
+    }
+
+    @Test
+    @DisplayName("Should treat parameters without '=' as empty values")
+    void emptyValues() {
+        assertArrayEquals(new String[] { "", "" }, QueryStringParameters.getParameterValues("userId&other=2&userId=", "userId"));
+        assertArrayEquals(new String[] { "a=b" }, QueryStringParameters.getParameterValues("userId=a=b", "userId"));
+    }
+
+    @Test
+    @DisplayName("Should decode names and values")
+    void decoding() {
+        assertArrayEquals(new String[] { "a b", "\u00E4" }, QueryStringParameters.getParameterValues("userId%5B%5D=a+b&userId[]=%C3%A4", "userId[]"));
+    }
+
+    @Test
+    @DisplayName("Should ignore malformed values")
+    void malformed() {
+        assertArrayEquals(new String[] { "2" }, QueryStringParameters.getParameterValues("userId=%zz&userId=2", "userId"));
+        assertNull(QueryStringParameters.getParameterValues("userId=%zz", "userId"));
+    }
+
+}
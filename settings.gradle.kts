@@ -15,6 +15,7 @@
  */
 pluginManagement {
     plugins {
+        id("me.champeau.jmh") version "0.7.3"
         id("org.gradle.toolchains.foojay-resolver-convention") version "1.0.0"
     }
 
@@ -43,9 +44,21 @@ dependencyResolutionManagement {
 
 enableFeaturePreview("STABLE_CONFIGURATION_CACHE")
 
+include(":omittable-spring-benchmarks")
+project(":omittable-spring-benchmarks").projectDir = file("modules/omittable-spring-benchmarks")
+
+include(":omittable-spring-boot")
+project(":omittable-spring-boot").projectDir = file("modules/omittable-spring-boot")
+
 include(":omittable-spring-core")
 project(":omittable-spring-core").projectDir = file("modules/omittable-spring-core")
 
+include(":omittable-spring-jdbc")
+project(":omittable-spring-jdbc").projectDir = file("modules/omittable-spring-jdbc")
+
+include(":omittable-spring-loadtests")
+project(":omittable-spring-loadtests").projectDir = file("modules/omittable-spring-loadtests")
+
 include(":omittable-spring-webflux")
 project(":omittable-spring-webflux").projectDir = file("modules/omittable-spring-webflux")
 